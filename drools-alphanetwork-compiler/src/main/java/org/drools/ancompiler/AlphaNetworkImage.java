@@ -0,0 +1,198 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.ancompiler;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.drools.core.util.IoUtils;
+import org.kie.memorycompiler.KieMemoryCompiler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An image file storing the bytecode of the classes generated for the alpha network of a kbase, together
+ * with the fingerprint of the sources they have been compiled from and of the fact classes they are linked to.
+ * When a kbase with the same alpha network on the same fact classes is built again, the classes are defined
+ * straight from the memory mapped image, skipping the compilation.
+ *
+ * The layout of the file is: magic, version, length and bytes of the fingerprint, number of classes and,
+ * for each class, length and bytes of its name followed by length and bytes of its bytecode.
+ */
+public class AlphaNetworkImage {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlphaNetworkImage.class);
+
+    private static final int MAGIC = 0x414E4349;
+    private static final int VERSION = 1;
+
+    private final Path path;
+
+    public AlphaNetworkImage(String path) {
+        this.path = Paths.get(path);
+    }
+
+    /**
+     * Returns the classes compiled from the given sources, loading them from the image when it has been written
+     * for the same sources and fact classes, or compiling them and writing a new image otherwise.
+     */
+    public Map<String, Class<?>> compile(Map<String, String> classNameSourceMap, Collection<Class<?>> factClasses, ClassLoader classLoader) {
+        byte[] fingerprint = fingerprint(classNameSourceMap, factClasses);
+
+        Map<String, byte[]> byteCode = read(fingerprint);
+        if (byteCode == null) {
+            byteCode = KieMemoryCompiler.compileNoLoad(classNameSourceMap, classLoader);
+            write(fingerprint, byteCode);
+        } else {
+            logger.debug("Loaded {} compiled alpha network classes from {}", byteCode.size(), path);
+        }
+
+        KieMemoryCompiler.MemoryCompilerClassLoader memoryClassLoader = new KieMemoryCompiler.MemoryCompilerClassLoader(classLoader);
+        byteCode.forEach(memoryClassLoader::addCode);
+
+        Map<String, Class<?>> classes = new HashMap<>();
+        for (String className : byteCode.keySet()) {
+            try {
+                classes.put(className, memoryClassLoader.loadClass(className));
+            } catch (ClassNotFoundException e) {
+                throw new CouldNotCreateAlphaNetworkCompilerException(e);
+            }
+        }
+        return classes;
+    }
+
+    private Map<String, byte[]> read(byte[] fingerprint) {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || !Arrays.equals(readBytes(buffer), fingerprint)) {
+                logger.debug("The alpha network image {} doesn't match the current alpha network", path);
+                return null;
+            }
+            int size = buffer.getInt();
+            Map<String, byte[]> byteCode = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                byteCode.put(new String(readBytes(buffer), StandardCharsets.UTF_8), readBytes(buffer));
+            }
+            return byteCode;
+        } catch (IOException | BufferUnderflowException e) {
+            logger.warn("Unable to read the alpha network image " + path + ", the alpha network will be compiled again", e);
+            return null;
+        }
+    }
+
+    private static byte[] readBytes(MappedByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private void write(byte[] fingerprint, Map<String, byte[]> byteCode) {
+        try {
+            Path tmp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                writeBytes(out, fingerprint);
+                out.writeInt(byteCode.size());
+                for (Map.Entry<String, byte[]> entry : byteCode.entrySet()) {
+                    writeBytes(out, entry.getKey().getBytes(StandardCharsets.UTF_8));
+                    writeBytes(out, entry.getValue());
+                }
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warn("Unable to write the alpha network image " + path, e);
+        }
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static byte[] fingerprint(Map<String, String> classNameSourceMap, Collection<Class<?>> factClasses) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            // the sources are sorted by class name, so the fingerprint doesn't depend on the order of the map
+            for (Map.Entry<String, String> entry : new TreeMap<>(classNameSourceMap).entrySet()) {
+                digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            // the same sources compiled against a changed fact class could be linked to members it no longer has
+            Map<String, Class<?>> classes = new TreeMap<>();
+            for (Class<?> factClass : factClasses) {
+                for (Class<?> c = factClass; c != null && c != Object.class; c = c.getSuperclass()) {
+                    classes.put(c.getName(), c);
+                }
+            }
+            for (Class<?> c : classes.values()) {
+                digest.update(c.getName().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(classDigest(c));
+            }
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the bytecode of the given class, or the signatures of its members when its bytecode is not available
+     */
+    private static byte[] classDigest(Class<?> c) {
+        ClassLoader classLoader = c.getClassLoader() != null ? c.getClassLoader() : ClassLoader.getSystemClassLoader();
+        try (InputStream is = classLoader.getResourceAsStream(c.getName().replace('.', '/') + ".class")) {
+            if (is != null) {
+                return IoUtils.readBytesFromInputStream(is);
+            }
+        } catch (IOException e) {
+            logger.debug("Unable to read the bytecode of " + c.getName(), e);
+        }
+        StringBuilder signatures = new StringBuilder();
+        Stream.of(c.getDeclaredFields()).map(Field::toGenericString).sorted().forEach(f -> signatures.append(f).append('\n'));
+        Stream.of(c.getDeclaredMethods()).map(Method::toGenericString).sorted().forEach(m -> signatures.append(m).append('\n'));
+        Stream.of(c.getDeclaredConstructors()).map(Constructor::toGenericString).sorted().forEach(m -> signatures.append(m).append('\n'));
+        return signatures.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -23,6 +23,7 @@ import java.util.Map;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.PackageDeclaration;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import org.drools.core.base.ClassObjectType;
 import org.drools.core.reteoo.ObjectTypeNode;
 import org.drools.core.rule.IndexableConstraint;
 import org.drools.core.spi.InternalReadAccessor;
@@ -74,6 +75,10 @@ public class CompiledNetworkSources {
         return initClasses;
     }
 
+    public Class<?> getFactClass() {
+        return ((ClassObjectType) objectTypeNode.getObjectType()).getClassType();
+    }
+
     public CompiledNetwork createInstanceAndSet(Class<?> compiledNetworkClass) {
         CompiledNetwork compiledNetwork = newCompiledNetworkInstance(compiledNetworkClass);
         compiledNetwork.setStartingObjectTypeNode(objectTypeNode);
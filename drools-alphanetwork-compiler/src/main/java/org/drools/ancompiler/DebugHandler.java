@@ -16,6 +16,8 @@
 
 package org.drools.ancompiler;
 
+import java.util.List;
+
 import org.drools.core.reteoo.AlphaNode;
 import org.drools.core.reteoo.BetaNode;
 import org.drools.core.reteoo.LeftInputAdapterNode;
@@ -135,4 +137,14 @@ public class DebugHandler extends NetworkHandlerAdaptor {
     public void endRangeIndexedAlphaNode(AlphaNode alphaNode) {
         printNode(alphaNode);
     }
+
+    @Override
+    public void startNotEqualAlphaNodes(List<AlphaNode> alphaNodes) {
+        printNode(alphaNodes);
+    }
+
+    @Override
+    public void endNotEqualAlphaNodes(List<AlphaNode> alphaNodes) {
+        printNode(alphaNodes);
+    }
 }
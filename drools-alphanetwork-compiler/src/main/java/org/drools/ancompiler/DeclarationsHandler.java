@@ -32,6 +32,7 @@ import org.drools.core.reteoo.WindowNode;
 import org.drools.core.rule.ContextEntry;
 import org.drools.core.rule.IndexableConstraint;
 import org.drools.core.util.index.AlphaRangeIndex;
+import org.drools.core.util.index.SortedAlphaRangeIndex;
 
 /**
  * This handler is used to create the member declarations section of a generated subclass of a {@link CompiledNetwork}.
@@ -164,7 +165,7 @@ public class DeclarationsHandler extends AbstractCompilerHandler {
         String comment = firstNode.toString();
         String variableName = getRangeIndexVariableName(alphaRangeIndex, minId);
         rangeIndexDeclarationMap.put(variableName, alphaRangeIndex);
-        return PRIVATE_MODIFIER + " " + AlphaRangeIndex.class.getName() + " " + variableName + "; // including " + comment + " etc.";
+        return PRIVATE_MODIFIER + " " + SortedAlphaRangeIndex.class.getName() + " " + variableName + "; // including " + comment + " etc.";
     }
 
     public Map<String, AlphaRangeIndex> getRangeIndexDeclarationMap() {
@@ -16,8 +16,10 @@
 
 package org.drools.ancompiler;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.drools.compiler.kie.builder.impl.KieBaseUpdater;
 import org.drools.compiler.kie.builder.impl.KieBaseUpdaterOptions;
@@ -63,8 +65,11 @@ public class KieBaseUpdaterANC implements KieBaseUpdater {
     private void inMemoryUpdate(ClassLoader rootClassLoader, Rete rete) {
         Map<String, CompiledNetworkSources> compiledNetworkSourcesMap = ObjectTypeNodeCompiler.compiledNetworkSourceMap(rete);
         if (!compiledNetworkSourcesMap.isEmpty()) {
-            Map<String, Class<?>> compiledClasses = KieMemoryCompiler.compile(mapValues(compiledNetworkSourcesMap, CompiledNetworkSources::getSource),
-                                                                              rootClassLoader);
+            Map<String, String> sources = mapValues(compiledNetworkSourcesMap, CompiledNetworkSources::getSource);
+            String imagePath = rete.getRuleBase().getConfiguration().getAlphaNetworkImage();
+            Map<String, Class<?>> compiledClasses = imagePath == null ?
+                    KieMemoryCompiler.compile(sources, rootClassLoader) :
+                    new AlphaNetworkImage(imagePath).compile(sources, factClasses(compiledNetworkSourcesMap), rootClassLoader);
             // No need to clear previous sinks/ANC compiled instances
             // as they are removed by ReteOOBuilder.removeTerminalNode after standard KieBaseUpdaterImpl
             compiledNetworkSourcesMap.values().forEach(c -> {
@@ -74,6 +79,10 @@ public class KieBaseUpdaterANC implements KieBaseUpdater {
         }
     }
 
+    private static List<Class<?>> factClasses(Map<String, CompiledNetworkSources> compiledNetworkSourcesMap) {
+        return compiledNetworkSourcesMap.values().stream().map(CompiledNetworkSources::getFactClass).collect(Collectors.toList());
+    }
+
     private void loadFromKJar(ClassLoader rootClassLoader, Rete rete) {
         // There's not actual need to regenerate the source here but the indexableConstraint is parsed throughout the generation
         // It should be possible to get the indexable constraint without generating the full source
@@ -16,6 +16,8 @@
 
 package org.drools.ancompiler;
 
+import java.util.List;
+
 import org.drools.core.reteoo.AlphaNode;
 import org.drools.core.reteoo.BetaNode;
 import org.drools.core.reteoo.LeftInputAdapterNode;
@@ -112,4 +114,13 @@ public interface NetworkHandler {
     void startRangeIndexedAlphaNode(AlphaNode alphaNode);
 
     void endRangeIndexedAlphaNode(AlphaNode alphaNode);
+
+    /**
+     * Receive notification of a group of sibling alpha nodes checking that the same field is not equal to
+     * different literals. It is notified before the sibling sinks, which still include each node of the group
+     * notified as a non hashed alpha node.
+     */
+    void startNotEqualAlphaNodes(List<AlphaNode> alphaNodes);
+
+    void endNotEqualAlphaNodes(List<AlphaNode> alphaNodes);
 }
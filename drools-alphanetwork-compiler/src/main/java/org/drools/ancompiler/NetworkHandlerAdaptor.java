@@ -16,6 +16,8 @@
 
 package org.drools.ancompiler;
 
+import java.util.List;
+
 import com.github.javaparser.ast.Node;
 import com.github.javaparser.ast.expr.NameExpr;
 import org.drools.core.reteoo.AlphaNode;
@@ -125,6 +127,16 @@ public class NetworkHandlerAdaptor implements NetworkHandler {
         // do nothing
     }
 
+    @Override
+    public void startNotEqualAlphaNodes(List<AlphaNode> alphaNodes) {
+        // do nothing
+    }
+
+    @Override
+    public void endNotEqualAlphaNodes(List<AlphaNode> alphaNodes) {
+        // do nothing
+    }
+
     protected void replaceNameExpr(Node expression, String from, String to) {
         expression.findAll(NameExpr.class, n -> from.equals(n.toString())).forEach(c -> c.replace(new NameExpr(to)));
     }
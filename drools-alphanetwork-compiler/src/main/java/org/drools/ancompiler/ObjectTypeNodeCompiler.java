@@ -42,6 +42,7 @@ import org.drools.core.base.ClassObjectType;
 import org.drools.core.reteoo.ObjectTypeNode;
 import org.drools.core.reteoo.Rete;
 import org.drools.core.util.index.AlphaRangeIndex;
+import org.drools.core.util.index.SortedAlphaRangeIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -281,8 +282,13 @@ public class ObjectTypeNodeCompiler {
         }
 
         // Range Index
-        for (String variableName : rangeIndexDeclarationMap.keySet()) {
-            builder.append("this." + variableName + " = rangeIndexDeclarationMap.get(\"" + variableName + "\");");
+        for (Map.Entry<String, AlphaRangeIndex> entry : rangeIndexDeclarationMap.entrySet()) {
+            // the ids of the nodes are checked against the ones used to generate the positions of the switch on the matching nodes
+            String nodeIds = entry.getValue().getAllValues().stream()
+                    .map(alphaNode -> String.valueOf(alphaNode.getId()))
+                    .collect(Collectors.joining(", "));
+            builder.append("this." + entry.getKey() + " = new " + SortedAlphaRangeIndex.class.getCanonicalName() +
+                                   "(rangeIndexDeclarationMap.get(\"" + entry.getKey() + "\"), new int[] {" + nodeIds + "});");
             builder.append(NEWLINE);
         }
 
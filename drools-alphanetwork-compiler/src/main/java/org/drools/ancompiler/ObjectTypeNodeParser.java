@@ -16,12 +16,17 @@
 
 package org.drools.ancompiler;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.drools.core.reteoo.AlphaNode;
 import org.drools.core.reteoo.BetaNode;
@@ -39,6 +44,7 @@ import org.drools.core.reteoo.WindowNode;
 import org.drools.core.rule.IndexableConstraint;
 import org.drools.core.spi.AlphaNodeFieldConstraint;
 import org.drools.core.util.index.AlphaRangeIndex;
+import org.drools.core.util.index.IndexUtil.ConstraintType;
 
 /**
  * This class is used for reading an {@link ObjectTypeNode} using callbacks.
@@ -47,6 +53,7 @@ import org.drools.core.util.index.AlphaRangeIndex;
  * during parsing. The events include :
  * <li>ObjectTypeNode</li>
  * <li>Non-hashed and hashed AlphaNodes</li>
+ * <li>Range indexed AlphaNodes and groups of not equal AlphaNodes</li>
  * <li>BetaNodes</li>
  * <li>LeftInputAdapterNodes</li>
  * <p/>
@@ -108,7 +115,7 @@ public class ObjectTypeNodeParser {
             if(traverseHashedAlphaNodes) {
                 traverseSinkList(composite.getRangeIndexableSinks(), handler);
                 traverseSinkList(composite.getHashableSinks(), handler);
-                traverseSinkList(composite.getOthers(), handler);
+                traverseOtherSinkList(composite.getOthers(), handler);
                 traverseRangeIndexedAlphaNodes(composite.getRangeIndexMap(), handler);
                 traverseHashedAlphaNodes(composite.getHashedSinkMap(), handler);
             } else {
@@ -127,6 +134,68 @@ public class ObjectTypeNodeParser {
         }
     }
 
+    private void traverseOtherSinkList(List<? extends ObjectSinkNode> sinks, NetworkHandler handler) {
+        if (sinks == null) {
+            return;
+        }
+        Collection<List<AlphaNode>> notEqualAlphaNodes = getNotEqualAlphaNodeGroups(sinks);
+        notEqualAlphaNodes.forEach(handler::startNotEqualAlphaNodes);
+        traverseSinkList(sinks, handler);
+        notEqualAlphaNodes.forEach(handler::endNotEqualAlphaNodes);
+    }
+
+    /**
+     * Groups the sibling alpha nodes checking that the same field is not equal to different literals.
+     * Only the groups with at least 2 nodes are returned, since they can be evaluated reading the field only once.
+     */
+    static Collection<List<AlphaNode>> getNotEqualAlphaNodeGroups(List<? extends ObjectSinkNode> sinks) {
+        Map<Integer, List<AlphaNode>> groups = new LinkedHashMap<>();
+        Map<Integer, Set<Object>> literals = new HashMap<>();
+        for (ObjectSinkNode sink : sinks) {
+            if (sink.getType() != NodeTypeEnums.AlphaNode) {
+                continue;
+            }
+            AlphaNode alphaNode = (AlphaNode) sink;
+            Object literal = getInlinableNotEqualLiteral(alphaNode);
+            if (literal == null) {
+                continue;
+            }
+            int fieldIndex = ((IndexableConstraint) alphaNode.getConstraint()).getFieldExtractor().getIndex();
+            // a switch can't have duplicated labels, so the nodes with an already grouped literal are evaluated as usual
+            if (literals.computeIfAbsent(fieldIndex, k -> new HashSet<>()).add(literal)) {
+                groups.computeIfAbsent(fieldIndex, k -> new ArrayList<>()).add(alphaNode);
+            }
+        }
+        return groups.values().stream().filter(group -> group.size() > 1).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the literal of an alpha node checking that a String or int field is not equal to it,
+     * or null if the constraint of the node is anything else.
+     */
+    static Object getInlinableNotEqualLiteral(AlphaNode alphaNode) {
+        AlphaNodeFieldConstraint fieldConstraint = alphaNode.getConstraint();
+        if (!(fieldConstraint instanceof IndexableConstraint) || AbstractCompilerHandler.sinkCanBeInlined(alphaNode)) {
+            return null;
+        }
+        IndexableConstraint constraint = (IndexableConstraint) fieldConstraint;
+        if (constraint.getConstraintType() != ConstraintType.NOT_EQUAL || constraint.getField() == null || constraint.getField().isNull() ||
+                constraint.getFieldExtractor() == null || constraint.getFieldExtractor().getIndex() < 0) {
+            return null;
+        }
+        Class<?> fieldType = constraint.getFieldExtractor().getExtractToClass();
+        Object literal = constraint.getField().getValue();
+        if (fieldType == String.class && literal instanceof String) {
+            return literal;
+        }
+        if ((fieldType == int.class || fieldType == Integer.class) &&
+                (literal instanceof Integer || literal instanceof Long || literal instanceof Short || literal instanceof Byte)) {
+            long value = ((Number) literal).longValue();
+            return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? (int) value : null;
+        }
+        return null;
+    }
+
     private void traverseSinkList(ObjectSink[] sinks, NetworkHandler handler) {
         if (sinks != null) {
             for (ObjectSink sink : sinks) {
@@ -18,8 +18,14 @@ package org.drools.ancompiler;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -44,7 +50,7 @@ import com.github.javaparser.ast.expr.VariableDeclarationExpr;
 import com.github.javaparser.ast.stmt.BlockStmt;
 import com.github.javaparser.ast.stmt.BreakStmt;
 import com.github.javaparser.ast.stmt.ExpressionStmt;
-import com.github.javaparser.ast.stmt.ForEachStmt;
+import com.github.javaparser.ast.stmt.ForStmt;
 import com.github.javaparser.ast.stmt.IfStmt;
 import com.github.javaparser.ast.stmt.Statement;
 import com.github.javaparser.ast.stmt.SwitchEntry;
@@ -94,6 +100,10 @@ public abstract class PropagatorCompilerHandler extends AbstractCompilerHandler
     protected Deque<Node> currentStatement = new ArrayDeque<>();
     protected List<MethodDeclaration> extractedMethods = new ArrayList<>();
 
+    private final Deque<List<AlphaNode>> rangeIndexedAlphaNodes = new ArrayDeque<>();
+    private final Map<AlphaNode, String> notEqualExcludedVariables = new HashMap<>();
+    private final Set<Node> notEqualLookupSwitches = Collections.newSetFromMap(new IdentityHashMap<>());
+
     protected PropagatorCompilerHandler(boolean alphaNetContainsHashedField, String factClassName) {
         this.alphaNetContainsHashedField = alphaNetContainsHashedField;
         this.factClassName = factClassName;
@@ -138,9 +148,16 @@ public abstract class PropagatorCompilerHandler extends AbstractCompilerHandler
     @Override
     public void startNonHashedAlphaNode(AlphaNode alphaNode) {
 
-        IfStmt ifStatement = parseStatement("if (CONSTRAINT.isAllowed(handle, wm)) { }").asIfStmt();
+        final IfStmt ifStatement;
+        String notEqualExcludedVariableName = notEqualExcludedVariables.get(alphaNode);
+        if (notEqualExcludedVariableName != null) {
+            // the constraint has already been evaluated by the switch on the literals of its group
+            ifStatement = parseStatement(String.format("if (%s != %d) { }", notEqualExcludedVariableName, alphaNode.getId())).asIfStmt();
+        } else {
+            ifStatement = parseStatement("if (CONSTRAINT.isAllowed(handle, wm)) { }").asIfStmt();
 
-        replaceNameExpr(ifStatement, "CONSTRAINT", getVariableName(alphaNode));
+            replaceNameExpr(ifStatement, "CONSTRAINT", getVariableName(alphaNode));
+        }
 
         getCurrentBlockStatement().addStatement(ifStatement);
 
@@ -152,6 +169,48 @@ public abstract class PropagatorCompilerHandler extends AbstractCompilerHandler
         currentStatement.pop();
     }
 
+    @Override
+    public void startNotEqualAlphaNodes(List<AlphaNode> alphaNodes) {
+        int minId = alphaNodes.stream().mapToInt(AlphaNode::getId).min().orElseThrow(NoSuchElementException::new);
+        String excludedVariableName = "notEqualExcluded" + minId;
+        String valueVariableName = "notEqualValue" + minId;
+
+        // the field is read once and switched on the literals of the group, so at most one node of the group is not propagated
+        // int notEqualExcluded = -1;
+        // java.lang.Object notEqualValue = ((org.drools.core.rule.IndexableConstraint) constraint).getFieldExtractor().getValue(wm, handle.getObject());
+        // if (notEqualValue instanceof java.lang.String) {
+        //     switch ((java.lang.String) notEqualValue) { case "literal": notEqualExcluded = nodeId; break; ... }
+        // }
+        final BlockStmt currentBlockStatement = getCurrentBlockStatement();
+        currentBlockStatement.addStatement(parseStatement(String.format("int %s = -1;", excludedVariableName)));
+        currentBlockStatement.addStatement(parseStatement(String.format(
+                "java.lang.Object %s = ((%s) %s).getFieldExtractor().getValue(wm, handle.getObject());",
+                valueVariableName, IndexableConstraint.class.getCanonicalName(), getVariableName(alphaNodes.get(0)))));
+
+        String valueType = ObjectTypeNodeParser.getInlinableNotEqualLiteral(alphaNodes.get(0)).getClass().getCanonicalName();
+        IfStmt typeCheck = parseStatement(String.format("if (%1$s instanceof %2$s) { switch ((%2$s) %1$s) { } }", valueVariableName, valueType)).asIfStmt();
+        SwitchStmt switchStmt = typeCheck.findFirst(SwitchStmt.class)
+                .orElseThrow(() -> new CouldNotCreateAlphaNetworkCompilerException("Missing switch on " + valueVariableName));
+
+        for (AlphaNode alphaNode : alphaNodes) {
+            Object literal = ObjectTypeNodeParser.getInlinableNotEqualLiteral(alphaNode);
+            Expression label = literal instanceof String ? new StringLiteralExpr((String) literal) : parseExpression(literal.toString());
+            switchStmt.getEntries().add(new SwitchEntry()
+                                                .setLabels(nodeList(label))
+                                                .setStatements(nodeList(parseStatement(String.format("%s = %d;", excludedVariableName, alphaNode.getId())),
+                                                                        new BreakStmt())));
+            notEqualExcludedVariables.put(alphaNode, excludedVariableName);
+        }
+
+        currentBlockStatement.addStatement(typeCheck);
+        notEqualLookupSwitches.add(switchStmt);
+    }
+
+    @Override
+    public void endNotEqualAlphaNodes(List<AlphaNode> alphaNodes) {
+        alphaNodes.forEach(notEqualExcludedVariables::remove);
+    }
+
     @Override
     public void startHashedAlphaNodes(IndexableConstraint indexableConstraint) {
         final InternalReadAccessor fieldExtractor = indexableConstraint.getFieldExtractor();
@@ -231,33 +290,43 @@ public abstract class PropagatorCompilerHandler extends AbstractCompilerHandler
     @Override
     public void startRangeIndex(AlphaRangeIndex alphaRangeIndex) {
         String rangeIndexVariableName = getRangeIndexVariableName(alphaRangeIndex, getMinIdFromRangeIndex(alphaRangeIndex));
-        String matchingResultVariableName = rangeIndexVariableName + "_result";
-        String matchingNodeVariableName = matchingResultVariableName + "_node";
-
-        ExpressionStmt matchingResultVariable = localVariable(parseType("java.util.Collection<org.drools.core.reteoo.AlphaNode>"),
-                                                              matchingResultVariableName,
-                                                              new MethodCallExpr(new NameExpr(rangeIndexVariableName),
-                                                                                 "getMatchingAlphaNodes",
-                                                                                 nodeList(new MethodCallExpr(new NameExpr(FACT_HANDLE_PARAM_NAME), "getObject"))));
-
+        String valueVariableName = rangeIndexVariableName + "_value";
+        String positionVariableName = rangeIndexVariableName + "_position";
+        String endVariableName = rangeIndexVariableName + "_end";
+
+        // the matching nodes are in a contiguous range of positions of the index, so they are iterated without allocating any collection
+        // java.lang.Comparable rangeIndex_value = rangeIndex.getValue(handle.getObject());
+        // if (rangeIndex_value != null) {
+        //     for (int rangeIndex_position = rangeIndex.matchingStart(rangeIndex_value), rangeIndex_end = rangeIndex.matchingEnd(rangeIndex_value); rangeIndex_position < rangeIndex_end; rangeIndex_position++) {
+        //         switch (rangeIndex_position) { ... }
+        //     }
+        // }
         final BlockStmt currentBlockStatement = getCurrentBlockStatement();
-
-        currentBlockStatement.addStatement(matchingResultVariable);
-
-        BlockStmt body = new BlockStmt();
-        ForEachStmt forEachStmt = new ForEachStmt(new VariableDeclarationExpr(parseType("org.drools.core.reteoo.AlphaNode"), matchingNodeVariableName),
-                                                  new NameExpr(matchingResultVariableName), body);
-
-        currentBlockStatement.addStatement(forEachStmt);
-
-        SwitchStmt switchStatement = new SwitchStmt().setSelector(new MethodCallExpr(new NameExpr(matchingNodeVariableName), "getId"));
+        currentBlockStatement.addStatement(localVariable(parseType("java.lang.Comparable"),
+                                                         valueVariableName,
+                                                         new MethodCallExpr(new NameExpr(rangeIndexVariableName),
+                                                                            "getValue",
+                                                                            nodeList(new MethodCallExpr(new NameExpr(FACT_HANDLE_PARAM_NAME), "getObject")))));
+
+        IfStmt nullCheck = parseStatement(String.format(
+                "if (%1$s != null) { for (int %2$s = %3$s.matchingStart(%1$s), %4$s = %3$s.matchingEnd(%1$s); %2$s < %4$s; %2$s++) { } }",
+                valueVariableName, positionVariableName, rangeIndexVariableName, endVariableName)).asIfStmt();
+        currentBlockStatement.addStatement(nullCheck);
+
+        SwitchStmt switchStatement = new SwitchStmt().setSelector(new NameExpr(positionVariableName));
+        nullCheck.findFirst(ForStmt.class)
+                .orElseThrow(() -> new CouldNotCreateAlphaNetworkCompilerException("Missing loop on range index " + rangeIndexVariableName))
+                .getBody().asBlockStmt().addStatement(switchStatement);
+
+        this.rangeIndexedAlphaNodes.push(new ArrayList<>(alphaRangeIndex.getAllValues()));
         this.currentStatement.push(switchStatement);
-        body.addStatement(switchStatement);
     }
 
     @Override
     public void startRangeIndexedAlphaNode(AlphaNode alphaNode) {
-        SwitchEntry switchEntry = new SwitchEntry().setLabels(nodeList(new IntegerLiteralExpr(alphaNode.getId())));
+        // the label is the position of the node in the index, the same one returned by SortedAlphaRangeIndex
+        int position = rangeIndexedAlphaNodes.getFirst().indexOf(alphaNode);
+        SwitchEntry switchEntry = new SwitchEntry().setLabels(nodeList(new IntegerLiteralExpr(position)));
         addNewSwitchEntryToStack(switchEntry);
     }
 
@@ -285,6 +354,7 @@ public abstract class PropagatorCompilerHandler extends AbstractCompilerHandler
 
     @Override
     public void endRangeIndex(AlphaRangeIndex alphaRangeIndex) {
+        this.rangeIndexedAlphaNodes.pop();
         this.currentStatement.pop();
     }
 
@@ -342,6 +412,9 @@ public abstract class PropagatorCompilerHandler extends AbstractCompilerHandler
     private void partitionSwitchEntries() {
         this.allStatements
                 .findAll(SwitchEntry.class)
+                .stream()
+                // the lookups of the not equal literals only set a local variable, there's nothing to be extracted
+                .filter(switchEntry -> switchEntry.getParentNode().map(parent -> !notEqualLookupSwitches.contains(parent)).orElse(true))
                 .forEach(this::extractMethod);
     }
 
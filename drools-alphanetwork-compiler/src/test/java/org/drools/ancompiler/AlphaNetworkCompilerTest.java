@@ -31,8 +31,10 @@ import org.kie.api.builder.ReleaseId;
 import org.kie.api.builder.model.KieModuleModel;
 import org.kie.api.runtime.KieContainer;
 import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
 import org.kie.internal.builder.conf.AlphaNetworkCompilerOption;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -260,6 +262,64 @@ public class AlphaNetworkCompilerTest extends BaseModelTest {
         assertEquals(1, ksession.fireAllRules());
     }
 
+    @Test
+    public void testNotEqualConstraintsOnSameField() {
+        String str =
+                "import " + Person.class.getCanonicalName() + ";" +
+                "global java.util.List results;\n" +
+                "rule \"NotLuca\"\n" +
+                "when\n" +
+                "  Person( name != \"Luca\" ) \n" +
+                "then\n" +
+                "  results.add(drools.getRule().getName());\n" +
+                "end\n" +
+                "rule \"NotMario\"\n" +
+                "when\n" +
+                "  Person( name != \"Mario\" ) \n" +
+                "then\n" +
+                "  results.add(drools.getRule().getName());\n" +
+                "end\n" +
+                "rule \"NotMatteo\"\n" +
+                "when\n" +
+                "  Person( name != \"Matteo\" ) \n" +
+                "then\n" +
+                "  results.add(drools.getRule().getName());\n" +
+                "end\n" +
+                "rule \"NotMinusOne\"\n" +
+                "when\n" +
+                "  Person( age != -1 ) \n" +
+                "then\n" +
+                "  results.add(drools.getRule().getName());\n" +
+                "end\n" +
+                "rule \"NotForty\"\n" +
+                "when\n" +
+                "  Person( age != 40 ) \n" +
+                "then\n" +
+                "  results.add(drools.getRule().getName());\n" +
+                "end\n";
+
+        KieSession ksession = getKieSession(str);
+        List<String> results = new ArrayList<>();
+        ksession.setGlobal("results", results);
+
+        Person mario = new Person("Mario", 40);
+        FactHandle marioHandle = ksession.insert(mario);
+        ksession.fireAllRules();
+        assertThat(results).containsExactlyInAnyOrder("NotLuca", "NotMatteo", "NotMinusOne");
+        results.clear();
+
+        mario.setName("Luca");
+        mario.setAge(-1);
+        ksession.update(marioHandle, mario);
+        ksession.fireAllRules();
+        assertThat(results).containsExactlyInAnyOrder("NotMario", "NotMatteo", "NotForty");
+        results.clear();
+
+        ksession.insert(new Person(null, 10));
+        ksession.fireAllRules();
+        assertThat(results).containsExactlyInAnyOrder("NotLuca", "NotMario", "NotMatteo", "NotMinusOne", "NotForty");
+    }
+
     /*
         This generates the switch but not the inlining
      */
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.ancompiler;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.kie.memorycompiler.KieMemoryCompiler;
+import org.kie.memorycompiler.StoreClassLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AlphaNetworkImageTest {
+
+    private static final String CLASS_NAME = "org.drools.ancompiler.image.Greeter";
+    private static final String FACT_CLASS_NAME = "org.drools.ancompiler.image.Fact";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testClassesAreLoadedFromTheImage() throws Exception {
+        File image = new File(temporaryFolder.getRoot(), "anc.image");
+        Map<String, String> sources = greeterSource("Hello");
+
+        // the first run compiles the sources and writes the image
+        assertThat(greet(new AlphaNetworkImage(image.getPath()).compile(sources, Collections.emptyList(), getClass().getClassLoader()))).isEqualTo("Hello");
+        assertThat(image).exists();
+        byte[] written = Files.readAllBytes(image.toPath());
+
+        // the second run with the same sources reads the image without rewriting it
+        assertThat(greet(new AlphaNetworkImage(image.getPath()).compile(sources, Collections.emptyList(), getClass().getClassLoader()))).isEqualTo("Hello");
+        assertThat(Files.readAllBytes(image.toPath())).isEqualTo(written);
+
+        // a different network doesn't match the image, so it is compiled again and the image is replaced
+        assertThat(greet(new AlphaNetworkImage(image.getPath()).compile(greeterSource("Ciao"), Collections.emptyList(), getClass().getClassLoader()))).isEqualTo("Ciao");
+        assertThat(Files.readAllBytes(image.toPath())).isNotEqualTo(written);
+    }
+
+    @Test
+    public void testCorruptedImageIsIgnored() throws Exception {
+        File image = new File(temporaryFolder.getRoot(), "anc.image");
+        Files.write(image.toPath(), new byte[] { 0x41, 0x4E, 0x43, 0x49, 0, 0 });
+
+        assertThat(greet(new AlphaNetworkImage(image.getPath()).compile(greeterSource("Hello"), Collections.emptyList(), getClass().getClassLoader()))).isEqualTo("Hello");
+    }
+
+    @Test
+    public void testChangedFactClassIsCompiledAgain() throws Exception {
+        File image = new File(temporaryFolder.getRoot(), "anc.image");
+        Map<String, String> sources = Collections.singletonMap(CLASS_NAME,
+                                                               "package org.drools.ancompiler.image;\n" +
+                                                               "public class Greeter implements java.util.function.Supplier<String> {\n" +
+                                                               "    public String get() { return String.valueOf(new Fact().getValue()); }\n" +
+                                                               "}\n");
+
+        FactClassLoader stringFact = factClassLoader("public String getValue() { return \"Hello\"; }");
+        assertThat(greet(new AlphaNetworkImage(image.getPath()).compile(sources, stringFact.factClasses(), stringFact))).isEqualTo("Hello");
+
+        // the sources are the same, but the classes of the image are linked to a getter returning a String
+        FactClassLoader intFact = factClassLoader("public int getValue() { return 42; }");
+        assertThat(greet(new AlphaNetworkImage(image.getPath()).compile(sources, intFact.factClasses(), intFact))).isEqualTo("42");
+    }
+
+    private FactClassLoader factClassLoader(String getter) {
+        Map<String, String> factSource = Collections.singletonMap(FACT_CLASS_NAME,
+                                                                  "package org.drools.ancompiler.image;\n" +
+                                                                  "public class Fact {\n" +
+                                                                  "    " + getter + "\n" +
+                                                                  "}\n");
+        return new FactClassLoader(getClass().getClassLoader(), KieMemoryCompiler.compileNoLoad(factSource, getClass().getClassLoader()));
+    }
+
+    private static Map<String, String> greeterSource(String greeting) {
+        return Collections.singletonMap(CLASS_NAME,
+                                        "package org.drools.ancompiler.image;\n" +
+                                        "public class Greeter implements java.util.function.Supplier<String> {\n" +
+                                        "    public String get() { return \"" + greeting + "\"; }\n" +
+                                        "}\n");
+    }
+
+    private static String greet(Map<String, Class<?>> classes) throws Exception {
+        return ((Supplier<String>) classes.get(CLASS_NAME).getDeclaredConstructor().newInstance()).get();
+    }
+
+    /**
+     * Defines the compiled fact class and serves its bytecode, as the project class loader of a kbase does
+     */
+    private static class FactClassLoader extends ClassLoader implements StoreClassLoader {
+
+        private final Map<String, byte[]> store = new HashMap<>();
+
+        private FactClassLoader(ClassLoader parent, Map<String, byte[]> byteCode) {
+            super(parent);
+            byteCode.forEach((className, bytes) -> store.put(className.replace('.', '/') + ".class", bytes));
+        }
+
+        private List<Class<?>> factClasses() throws ClassNotFoundException {
+            return Collections.singletonList(loadClass(FACT_CLASS_NAME));
+        }
+
+        @Override
+        public Map<String, byte[]> getStore() {
+            return store;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] bytes = store.get(name.replace('.', '/') + ".class");
+            if (bytes == null) {
+                return super.findClass(name);
+            }
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+
+        @Override
+        public InputStream getResourceAsStream(String name) {
+            byte[] bytes = store.get(name);
+            return bytes != null ? new ByteArrayInputStream(bytes) : super.getResourceAsStream(name);
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.kie.api.KieBaseConfiguration;
 import org.kie.api.KieServices;
 import org.kie.api.runtime.KieContainer;
 import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
 import org.kie.internal.conf.AlphaRangeIndexThresholdOption;
 
 import static org.junit.Assert.assertEquals;
@@ -229,4 +230,59 @@ public class RangeIndexANCTest extends BaseModelTest {
         Assertions.assertThat(results).containsOnly("test1", "test2", "test3");
         results.clear();
     }
+
+    @Test
+    public void testBoundariesOnSameValue() {
+        final String drl = "package com.sample\n" +
+                           "import " + Person.class.getCanonicalName() + "\n" +
+                           "global java.util.List results;\n" +
+                           "rule lt\n when\n" +
+                           "   Person( age < 18 )\n" +
+                           "then\n" +
+                           "   results.add(drools.getRule().getName());" +
+                           "end\n" +
+                           "rule le\n when\n" +
+                           "   Person( age <= 18 )\n" +
+                           "then\n" +
+                           "   results.add(drools.getRule().getName());" +
+                           "end\n" +
+                           "rule ge\n when\n" +
+                           "   Person( age >= 18 )\n" +
+                           "then\n" +
+                           "   results.add(drools.getRule().getName());" +
+                           "end\n" +
+                           "rule gt\n when\n" +
+                           "   Person( age > 18 )\n" +
+                           "then\n" +
+                           "   results.add(drools.getRule().getName());" +
+                           "end\n" +
+                           "rule gt30\n when\n" +
+                           "   Person( age > 30 )\n" +
+                           "then\n" +
+                           "   results.add(drools.getRule().getName());" +
+                           "end\n";
+
+        final KieBase kbase = createKieBaseWithRangeIndexThresholdValue(drl, 3);
+        final KieSession ksession = kbase.newKieSession();
+
+        List<String> results = new ArrayList<>();
+        ksession.setGlobal("results", results);
+
+        Person person = new Person("John", 18);
+        FactHandle handle = ksession.insert(person);
+        ksession.fireAllRules();
+        Assertions.assertThat(results).containsOnly("le", "ge");
+        results.clear();
+
+        person.setAge(17);
+        ksession.update(handle, person);
+        ksession.fireAllRules();
+        Assertions.assertThat(results).containsOnly("lt", "le");
+        results.clear();
+
+        person.setAge(31);
+        ksession.update(handle, person);
+        ksession.fireAllRules();
+        Assertions.assertThat(results).containsOnly("ge", "gt", "gt30");
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.benchmarks.agenda;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.BenchmarkUtil;
+import org.drools.benchmarks.model.A;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Firing of the DefaultAgenda. Every fact activates all the rules, which only have an alpha constraint and an empty
+ * consequence, so the measured time is mostly spent evaluating the rules, queueing and firing the matches.
+ * With the salience parameter each rule has a different salience, so the rules have to be ordered in the agenda.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@State(Scope.Thread)
+@Warmup(iterations = 2000)
+@Measurement(iterations = 1000)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+public class AgendaFiringBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int rulesNumber;
+
+    @Param({"100", "1000"})
+    private int factsNumber;
+
+    @Param({"false", "true"})
+    private boolean salience;
+
+    private KieBase kieBase;
+
+    private KieSession kieSession;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        StringBuilder drl = new StringBuilder( "import " + A.class.getCanonicalName() + ";\n" );
+        for ( int i = 0; i < rulesNumber; i++ ) {
+            drl.append( "rule R" ).append( i );
+            if ( salience ) {
+                drl.append( " salience " ).append( i );
+            }
+            drl.append( " when\n" )
+               .append( "    A( value >= " ).append( -i ).append( " )\n" )
+               .append( "then\n" )
+               .append( "end\n" );
+        }
+        kieBase = BenchmarkUtil.buildKieBase( drl.toString() );
+    }
+
+    @Setup(Level.Iteration)
+    public void setupKieSession() {
+        kieSession = kieBase.newKieSession();
+        for ( int i = 0; i < factsNumber; i++ ) {
+            kieSession.insert( new A( i, i ) );
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void disposeKieSession() {
+        kieSession.dispose();
+    }
+
+    @Benchmark
+    public int fireAllRules() {
+        return kieSession.fireAllRules();
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.benchmarks.common;
+
+import org.kie.api.KieBase;
+import org.kie.api.conf.KieBaseOption;
+import org.kie.api.io.ResourceType;
+import org.kie.internal.utils.KieHelper;
+
+public final class BenchmarkUtil {
+
+    private BenchmarkUtil() { }
+
+    public static KieBase buildKieBase( String drl, KieBaseOption... options ) {
+        return new KieHelper().addContent( drl, ResourceType.DRL ).build( options );
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.benchmarks.phreak;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.BenchmarkUtil;
+import org.kie.api.KieBase;
+import org.kie.api.conf.KieBaseOption;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Base class of the benchmarks measuring a single operation on the working memory followed by the fireAllRules
+ * evaluating it through the network. Each iteration runs a single invocation on a fresh session, so the session
+ * can be prepared outside of the measured code: for updates and deletes the facts are already inserted and the rules
+ * already fired, so only the propagation of the operation is measured.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@State(Scope.Thread)
+@Warmup(iterations = 2000)
+@Measurement(iterations = 1000)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+public abstract class AbstractPhreakBenchmark {
+
+    public enum Operation {
+        INSERT, UPDATE, DELETE
+    }
+
+    @Param({"INSERT", "UPDATE", "DELETE"})
+    private Operation operation;
+
+    @Param({"100", "1000"})
+    protected int factsNumber;
+
+    private KieBase kieBase;
+
+    private KieSession kieSession;
+
+    private Object[] facts;
+
+    private FactHandle[] factHandles;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        kieBase = BenchmarkUtil.buildKieBase( getDrl(), getKieBaseOptions() );
+    }
+
+    @Setup(Level.Iteration)
+    public void setupKieSession() {
+        kieSession = kieBase.newKieSession();
+        facts = createFacts();
+        factHandles = new FactHandle[facts.length];
+        if ( operation != Operation.INSERT ) {
+            insertFacts();
+            kieSession.fireAllRules();
+        }
+        if ( operation == Operation.UPDATE ) {
+            for ( Object fact : facts ) {
+                modifyFact( fact );
+            }
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void disposeKieSession() {
+        kieSession.dispose();
+    }
+
+    @Benchmark
+    public int run() {
+        switch ( operation ) {
+            case INSERT:
+                insertFacts();
+                break;
+            case UPDATE:
+                for ( int i = 0; i < facts.length; i++ ) {
+                    kieSession.update( factHandles[i], facts[i] );
+                }
+                break;
+            case DELETE:
+                for ( FactHandle factHandle : factHandles ) {
+                    kieSession.delete( factHandle );
+                }
+                break;
+        }
+        return kieSession.fireAllRules();
+    }
+
+    private void insertFacts() {
+        for ( int i = 0; i < facts.length; i++ ) {
+            factHandles[i] = kieSession.insert( facts[i] );
+        }
+    }
+
+    protected KieBaseOption[] getKieBaseOptions() {
+        return new KieBaseOption[0];
+    }
+
+    protected abstract String getDrl();
+
+    protected abstract Object[] createFacts();
+
+    /**
+     * Changes the fact before it is updated in the session. The facts are modified outside of the measured code,
+     * so this only affects what the update has to propagate.
+     */
+    protected abstract void modifyFact( Object fact );
+}
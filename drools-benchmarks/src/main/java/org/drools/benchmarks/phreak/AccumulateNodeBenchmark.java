@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.benchmarks.phreak;
+
+import org.drools.benchmarks.model.A;
+import org.drools.benchmarks.model.B;
+
+/**
+ * Propagations through a PhreakAccumulateNode summing the values of the B with the same id of each A.
+ * There are 10 B for each A, so inserts, updates and deletes of the B go through the accumulate and reverse
+ * of the function on a group already containing other facts.
+ */
+public class AccumulateNodeBenchmark extends AbstractPhreakBenchmark {
+
+    private static final int GROUP_SIZE = 10;
+
+    @Override
+    protected String getDrl() {
+        return "import " + A.class.getCanonicalName() + ";\n" +
+               "import " + B.class.getCanonicalName() + ";\n" +
+               "rule R when\n" +
+               "    A( $id : id )\n" +
+               "    accumulate( B( id == $id, $v : value ); $sum : sum( $v ) )\n" +
+               "then\n" +
+               "end\n";
+    }
+
+    @Override
+    protected Object[] createFacts() {
+        int groups = Math.max( 1, factsNumber / GROUP_SIZE );
+        Object[] facts = new Object[groups + factsNumber];
+        for ( int i = 0; i < groups; i++ ) {
+            facts[i] = new A( i, i );
+        }
+        for ( int i = 0; i < factsNumber; i++ ) {
+            facts[groups + i] = new B( i % groups, i );
+        }
+        return facts;
+    }
+
+    @Override
+    protected void modifyFact( Object fact ) {
+        if ( fact instanceof B ) {
+            B b = (B) fact;
+            b.setValue( b.getValue() + 1 );
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.benchmarks.phreak;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.BenchmarkUtil;
+import org.drools.benchmarks.model.B;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of retracting the greatest value of a group from an accumulate, as a function of the size of the group.
+ * The max function can't reverse its current result, so it accumulates again the whole group, while the reversible
+ * functions keep the values sorted and only update them.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@State(Scope.Thread)
+@Warmup(iterations = 2000)
+@Measurement(iterations = 1000)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+public class AccumulateRetractionBenchmark {
+
+    @Param({"max", "reversibleMax", "median", "top10"})
+    private String function;
+
+    @Param({"100", "1000", "10000"})
+    private int groupSize;
+
+    private KieBase kieBase;
+
+    private KieSession kieSession;
+
+    private FactHandle greatest;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        String drl = "import " + B.class.getCanonicalName() + ";\n" +
+                     "rule R when\n" +
+                     "    accumulate( B( $v : value ); $result : " + function + "( $v ) )\n" +
+                     "then\n" +
+                     "end\n";
+        kieBase = BenchmarkUtil.buildKieBase( drl );
+    }
+
+    @Setup(Level.Iteration)
+    public void setupKieSession() {
+        kieSession = kieBase.newKieSession();
+        for ( int i = 0; i < groupSize; i++ ) {
+            greatest = kieSession.insert( new B( 0, i ) );
+        }
+        kieSession.fireAllRules();
+    }
+
+    @TearDown(Level.Iteration)
+    public void disposeKieSession() {
+        kieSession.dispose();
+    }
+
+    @Benchmark
+    public int retractGreatest() {
+        kieSession.delete( greatest );
+        return kieSession.fireAllRules();
+    }
+}
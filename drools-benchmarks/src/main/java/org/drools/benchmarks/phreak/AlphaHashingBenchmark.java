@@ -0,0 +1,69 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.benchmarks.phreak;
+
+import org.drools.benchmarks.model.A;
+import org.kie.api.conf.KieBaseOption;
+import org.kie.internal.conf.AlphaThresholdOption;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Propagations through the CompositeObjectSinkAdapter of an ObjectTypeNode having an alpha node for each rule,
+ * all constraining the same field with a different literal. The alpha nodes are hashed or evaluated one by one
+ * depending on the alphaHashing parameter.
+ */
+public class AlphaHashingBenchmark extends AbstractPhreakBenchmark {
+
+    @Param({"4", "16", "64"})
+    private int rulesNumber;
+
+    @Param({"true", "false"})
+    private boolean alphaHashing;
+
+    @Override
+    protected KieBaseOption[] getKieBaseOptions() {
+        // a threshold of 0 disables the hashing, while 1 hashes the alpha nodes whatever their number is
+        return new KieBaseOption[] { AlphaThresholdOption.get( alphaHashing ? 1 : 0 ) };
+    }
+
+    @Override
+    protected String getDrl() {
+        StringBuilder drl = new StringBuilder( "import " + A.class.getCanonicalName() + ";\n" );
+        for ( int i = 0; i < rulesNumber; i++ ) {
+            drl.append( "rule R" ).append( i ).append( " when\n" )
+               .append( "    A( id == " ).append( i ).append( " )\n" )
+               .append( "then\n" )
+               .append( "end\n" );
+        }
+        return drl.toString();
+    }
+
+    @Override
+    protected Object[] createFacts() {
+        Object[] facts = new Object[factsNumber];
+        for ( int i = 0; i < factsNumber; i++ ) {
+            facts[i] = new A( i % rulesNumber, i );
+        }
+        return facts;
+    }
+
+    @Override
+    protected void modifyFact( Object fact ) {
+        A a = (A) fact;
+        a.setId( ( a.getId() + 1 ) % rulesNumber );
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.benchmarks.phreak;
+
+import org.drools.benchmarks.model.A;
+import org.drools.benchmarks.model.B;
+
+/**
+ * Propagations through an indexed PhreakJoinNode. Each A joins with the B having the same id, the updates move
+ * every B in the bucket of the next A, so they go through both the left and the right memory.
+ */
+public class JoinNodeBenchmark extends AbstractPhreakBenchmark {
+
+    @Override
+    protected String getDrl() {
+        return "import " + A.class.getCanonicalName() + ";\n" +
+               "import " + B.class.getCanonicalName() + ";\n" +
+               "rule R when\n" +
+               "    A( $id : id, value >= 0 )\n" +
+               "    B( id == $id, value >= 0 )\n" +
+               "then\n" +
+               "end\n";
+    }
+
+    @Override
+    protected Object[] createFacts() {
+        Object[] facts = new Object[factsNumber * 2];
+        for ( int i = 0; i < factsNumber; i++ ) {
+            facts[i * 2] = new A( i, i );
+            facts[i * 2 + 1] = new B( i, i );
+        }
+        return facts;
+    }
+
+    @Override
+    protected void modifyFact( Object fact ) {
+        if ( fact instanceof A ) {
+            A a = (A) fact;
+            a.setValue( a.getValue() + 1 );
+        } else {
+            B b = (B) fact;
+            b.setId( ( b.getId() + 1 ) % factsNumber );
+        }
+    }
+}
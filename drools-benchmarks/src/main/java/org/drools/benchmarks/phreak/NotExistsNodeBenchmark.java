@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.benchmarks.phreak;
+
+import org.drools.benchmarks.model.A;
+import org.drools.benchmarks.model.B;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Propagations through an indexed PhreakNotNode or PhreakExistsNode. Only half of the A have a B with the same id
+ * and the updates move every B on the id of the next A, so each of them blocks and unblocks a left tuple.
+ */
+public class NotExistsNodeBenchmark extends AbstractPhreakBenchmark {
+
+    @Param({"not", "exists"})
+    private String existential;
+
+    @Override
+    protected String getDrl() {
+        return "import " + A.class.getCanonicalName() + ";\n" +
+               "import " + B.class.getCanonicalName() + ";\n" +
+               "rule R when\n" +
+               "    A( $id : id )\n" +
+               "    " + existential + " B( id == $id )\n" +
+               "then\n" +
+               "end\n";
+    }
+
+    @Override
+    protected Object[] createFacts() {
+        Object[] facts = new Object[factsNumber + factsNumber / 2];
+        for ( int i = 0; i < factsNumber; i++ ) {
+            facts[i] = new A( i, i );
+        }
+        for ( int i = 0; i < factsNumber / 2; i++ ) {
+            facts[factsNumber + i] = new B( i * 2, i );
+        }
+        return facts;
+    }
+
+    @Override
+    protected void modifyFact( Object fact ) {
+        if ( fact instanceof B ) {
+            B b = (B) fact;
+            b.setId( ( b.getId() + 1 ) % factsNumber );
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.benchmarks.phreak;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.BenchmarkUtil;
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.phreak.LockFreePropagationList;
+import org.drools.core.phreak.PropagationEntry;
+import org.drools.core.phreak.PropagationList;
+import org.drools.core.phreak.SynchronizedBypassPropagationList;
+import org.drools.core.phreak.SynchronizedPropagationList;
+import org.kie.api.runtime.KieSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of many threads inserting into a {@link PropagationList} while a single engine thread
+ * drains it, as it happens when a fireUntilHalt session is fed by multiple producers.
+ * The bypass list executes each entry right away through the agenda of an idle session, so nothing is left to
+ * drain and its numbers are the cost of going through the execution state machine of the session.
+ */
+@Fork(1)
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PropagationListBenchmark {
+
+    @Param({"SYNCHRONIZED", "SYNCHRONIZED_BYPASS", "LOCK_FREE"})
+    private String listType;
+
+    private KieSession kieSession;
+    private PropagationList propagationList;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        switch (listType) {
+            case "SYNCHRONIZED":
+                propagationList = new SynchronizedPropagationList( null );
+                break;
+            case "SYNCHRONIZED_BYPASS":
+                kieSession = BenchmarkUtil.buildKieBase( "" ).newKieSession();
+                propagationList = new SynchronizedBypassPropagationList( (ReteEvaluator) kieSession );
+                break;
+            case "LOCK_FREE":
+                propagationList = new LockFreePropagationList( null );
+                break;
+            default:
+                throw new IllegalArgumentException( listType );
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        propagationList.takeAll();
+        if (kieSession != null) {
+            kieSession.dispose();
+            kieSession = null;
+        }
+    }
+
+    @Benchmark
+    @Group("mpsc")
+    @GroupThreads(4)
+    public void produce() {
+        propagationList.addEntry( new NoopEntry() );
+    }
+
+    @Benchmark
+    @Group("mpsc")
+    @GroupThreads(1)
+    public int drain() {
+        int count = 0;
+        for (PropagationEntry entry = propagationList.takeAll(); entry != null; entry = entry.getNext()) {
+            count++;
+        }
+        return count;
+    }
+
+    private static class NoopEntry extends PropagationEntry.AbstractPropagationEntry {
+        @Override
+        public void execute( ReteEvaluator reteEvaluator ) { }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.benchmarks.session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.BenchmarkUtil;
+import org.drools.benchmarks.model.A;
+import org.drools.benchmarks.model.B;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bulk load of a fresh session, inserting the facts one by one or all together with insertAll.
+ * The facts alternate their types, so the insertAll benchmark also includes their grouping by type.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@State(Scope.Thread)
+@Warmup(iterations = 10)
+@Measurement(iterations = 10)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+public class BulkInsertBenchmark {
+
+    @Param({"10000", "100000"})
+    private int factsNumber;
+
+    private KieBase kieBase;
+    private KieSession kieSession;
+    private List<Object> facts;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        String drl = "import " + A.class.getCanonicalName() + ";\n" +
+                     "import " + B.class.getCanonicalName() + ";\n" +
+                     "rule R1 when\n" +
+                     "    A( $id : id, value > 10 )\n" +
+                     "    B( id == $id )\n" +
+                     "then\n" +
+                     "end\n" +
+                     "rule R2 when\n" +
+                     "    B( value < 5 )\n" +
+                     "then\n" +
+                     "end\n";
+        kieBase = BenchmarkUtil.buildKieBase( drl );
+    }
+
+    @Setup(Level.Iteration)
+    public void setupSession() {
+        kieSession = kieBase.newKieSession();
+        facts = new ArrayList<>( factsNumber );
+        for ( int i = 0; i < factsNumber; i++ ) {
+            facts.add( i % 2 == 0 ? new A( i / 2, i % 20 ) : new B( i / 2, i % 10 ) );
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownSession() {
+        kieSession.dispose();
+    }
+
+    @Benchmark
+    public int insertOneByOne() {
+        for ( Object fact : facts ) {
+            kieSession.insert( fact );
+        }
+        return kieSession.fireAllRules();
+    }
+
+    @Benchmark
+    public int insertAll() {
+        kieSession.insertAll( facts );
+        return kieSession.fireAllRules();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.benchmarks.session;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.BenchmarkUtil;
+import org.drools.benchmarks.model.A;
+import org.drools.benchmarks.model.B;
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.marshalling.Marshaller;
+import org.kie.api.runtime.KieSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Marshalling and unmarshalling with the protobuf marshaller of a session containing the given number of facts,
+ * half of them joined by a rule whose matches have already been fired. The unmarshalled session is disposed inside
+ * the measured code.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+public class MarshallingBenchmark {
+
+    @Param({"1000", "10000"})
+    private int factsNumber;
+
+    private Marshaller marshaller;
+
+    private KieSession kieSession;
+
+    private byte[] marshalledSession;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        String drl = "import " + A.class.getCanonicalName() + ";\n" +
+                     "import " + B.class.getCanonicalName() + ";\n" +
+                     "rule R when\n" +
+                     "    A( $id : id )\n" +
+                     "    B( id == $id )\n" +
+                     "then\n" +
+                     "end\n";
+        KieBase kieBase = BenchmarkUtil.buildKieBase( drl );
+        marshaller = KieServices.get().getMarshallers().newMarshaller( kieBase );
+
+        kieSession = kieBase.newKieSession();
+        for ( int i = 0; i < factsNumber / 2; i++ ) {
+            kieSession.insert( new A( i, i ) );
+            kieSession.insert( new B( i, i ) );
+        }
+        kieSession.fireAllRules();
+        marshalledSession = marshall();
+    }
+
+    @TearDown(Level.Trial)
+    public void dispose() {
+        kieSession.dispose();
+    }
+
+    @Benchmark
+    public byte[] marshall() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        marshaller.marshall( baos, kieSession );
+        return baos.toByteArray();
+    }
+
+    @Benchmark
+    public long unmarshall() throws IOException, ClassNotFoundException {
+        KieSession unmarshalledSession = marshaller.unmarshall( new ByteArrayInputStream( marshalledSession ) );
+        try {
+            return unmarshalledSession.getFactCount();
+        } finally {
+            unmarshalledSession.dispose();
+        }
+    }
+}
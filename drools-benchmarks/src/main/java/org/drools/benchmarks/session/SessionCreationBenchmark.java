@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.benchmarks.session;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.BenchmarkUtil;
+import org.drools.benchmarks.model.A;
+import org.drools.benchmarks.model.B;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creation of a KieSession from an already built KieBase. The first benchmark only creates and disposes
+ * the session, the second one also inserts a fact and fires it, so it includes the lazy initialization
+ * of the segment and path memories of the rules.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+public class SessionCreationBenchmark {
+
+    @Param({"10", "100"})
+    private int rulesNumber;
+
+    private KieBase kieBase;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        StringBuilder drl = new StringBuilder( "import " + A.class.getCanonicalName() + ";\n" +
+                                               "import " + B.class.getCanonicalName() + ";\n" );
+        for ( int i = 0; i < rulesNumber; i++ ) {
+            drl.append( "rule R" ).append( i ).append( " when\n" )
+               .append( "    A( $id : id, value > " ).append( i ).append( " )\n" )
+               .append( "    B( id == $id )\n" )
+               .append( "then\n" )
+               .append( "end\n" );
+        }
+        kieBase = BenchmarkUtil.buildKieBase( drl.toString() );
+    }
+
+    @Benchmark
+    public KieSession newKieSession() {
+        KieSession kieSession = kieBase.newKieSession();
+        kieSession.dispose();
+        return kieSession;
+    }
+
+    @Benchmark
+    public int newKieSessionAndFire() {
+        KieSession kieSession = kieBase.newKieSession();
+        try {
+            kieSession.insert( new A( 1, rulesNumber ) );
+            kieSession.insert( new B( 1, 1 ) );
+            return kieSession.fireAllRules();
+        } finally {
+            kieSession.dispose();
+        }
+    }
+}
@@ -16,9 +16,12 @@
 
 package org.drools.compiler.kie.builder.impl;
 
+import org.drools.core.RuleBaseConfiguration;
+import org.drools.core.impl.RuleBaseFactory;
 import org.drools.kiesession.session.AbstractKieSessionsPool;
 import org.drools.kiesession.session.StatefulSessionPool;
 import org.drools.kiesession.session.StatelessKnowledgeSessionImpl;
+import org.kie.api.builder.model.KieSessionModel;
 import org.kie.api.runtime.KieContainerSessionsPool;
 import org.kie.api.runtime.KieSession;
 import org.kie.api.runtime.KieSessionConfiguration;
@@ -31,6 +34,31 @@ public class KieContainerSessionsPoolImpl extends AbstractKieSessionsPool implem
     KieContainerSessionsPoolImpl( KieContainerImpl kContainer, int initialSize ) {
         super(initialSize);
         this.kContainer = kContainer;
+        if ( isPrewarm() ) {
+            prewarm();
+        }
+    }
+
+    private boolean isPrewarm() {
+        // the kbases of a container share the same configuration for the options not defined in the kmodule
+        RuleBaseConfiguration conf = (RuleBaseConfiguration) RuleBaseFactory.newKnowledgeBaseConfiguration( null, kContainer.getClassLoader() );
+        return conf.getSessionsPoolWarmUp().isPrewarm();
+    }
+
+    private void prewarm() {
+        for (String kBaseName : kContainer.getKieBaseNames()) {
+            for (String kSessionName : kContainer.getKieSessionNamesInKieBase( kBaseName )) {
+                KieSessionModel kSessionModel = kContainer.getKieSessionModel( kSessionName );
+                getPool( kSessionName, null, kSessionModel.getType() == KieSessionModel.KieSessionType.STATELESS );
+            }
+        }
+        // the sessions requested without a name are pooled apart
+        if ( kContainer.getKieProject().getDefaultKieSession() != null ) {
+            getPool( null, null, false );
+        }
+        if ( kContainer.getKieProject().getDefaultStatelessKieSession() != null ) {
+            getPool( null, null, true );
+        }
     }
 
     @Override
@@ -59,6 +59,7 @@ import org.drools.core.facttemplates.FactTemplateFieldExtractor;
 import org.drools.core.facttemplates.FactTemplateObjectType;
 import org.drools.core.reteoo.RuleTerminalNode.SortDeclarations;
 import org.drools.core.rule.Behavior;
+import org.drools.core.rule.HoppingTimeWindow;
 import org.drools.core.rule.Declaration;
 import org.drools.core.rule.Pattern;
 import org.drools.core.rule.PatternSource;
@@ -368,7 +369,14 @@ public class PatternBuilder implements RuleConditionBuilder<PatternDescr> {
     private void processBehaviors(RuleBuildContext context, PatternDescr patternDescr, Pattern pattern) {
         for (BehaviorDescr behaviorDescr : patternDescr.getBehaviors()) {
             if (pattern.getObjectType().isEvent()) {
-                Behavior window = createWindow(behaviorDescr);
+                Behavior window;
+                try {
+                    window = createWindow(behaviorDescr);
+                } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                    registerDescrBuildError(context, patternDescr,
+                                            "Invalid parameters for window '" + behaviorDescr.getSubType() + "': " + e.getMessage());
+                    continue;
+                }
                 if (window != null) {
                     pattern.addBehavior(window);
                     context.setNeedStreamMode();
@@ -392,6 +400,13 @@ public class PatternBuilder implements RuleConditionBuilder<PatternDescr> {
         if (Behavior.BehaviorType.LENGTH_WINDOW.matches(behaviorDescr.getSubType())) {
             return new SlidingLengthWindow(Integer.valueOf(behaviorDescr.getParameters().get(0)));
         }
+        if (Behavior.BehaviorType.TUMBLING_WINDOW.matches(behaviorDescr.getSubType())) {
+            return new HoppingTimeWindow(TimeUtils.parseTimeString(behaviorDescr.getParameters().get(0)));
+        }
+        if (Behavior.BehaviorType.HOPPING_WINDOW.matches(behaviorDescr.getSubType())) {
+            return new HoppingTimeWindow(TimeUtils.parseTimeString(behaviorDescr.getParameters().get(0)),
+                                         TimeUtils.parseTimeString(behaviorDescr.getParameters().get(1)));
+        }
         return null;
     }
 
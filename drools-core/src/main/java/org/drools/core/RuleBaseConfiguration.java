@@ -49,7 +49,10 @@ import org.kie.api.conf.SessionsPoolOption;
 import org.kie.api.conf.SingleValueKieBaseOption;
 import org.kie.api.runtime.rule.ConsequenceExceptionHandler;
 import org.kie.internal.builder.conf.ClassLoaderCacheOption;
+import org.kie.internal.conf.AlphaNetworkImageOption;
+import org.kie.internal.conf.AlphaNodeOrderingOption;
 import org.kie.internal.conf.AlphaRangeIndexThresholdOption;
+import org.kie.internal.conf.AlphaSelectivityProfileOption;
 import org.kie.internal.conf.AlphaThresholdOption;
 import org.kie.internal.conf.CompositeKeyDepthOption;
 import org.kie.internal.conf.ConsequenceExceptionHandlerOption;
@@ -57,12 +60,17 @@ import org.kie.internal.conf.ConstraintJittingThresholdOption;
 import org.kie.internal.conf.IndexLeftBetaMemoryOption;
 import org.kie.internal.conf.IndexPrecedenceOption;
 import org.kie.internal.conf.IndexRightBetaMemoryOption;
+import org.kie.internal.conf.JittingProfileOption;
 import org.kie.internal.conf.MaxThreadsOption;
 import org.kie.internal.conf.MultithreadEvaluationOption;
 import org.kie.internal.conf.PermGenThresholdOption;
 import org.kie.internal.conf.SequentialAgendaOption;
+import org.kie.internal.conf.SequentialEvaluatorOption;
+import org.kie.internal.conf.SessionsPoolStripesOption;
+import org.kie.internal.conf.SessionsPoolWarmUpOption;
 import org.kie.internal.conf.ShareAlphaNodesOption;
 import org.kie.internal.conf.ShareBetaNodesOption;
+import org.kie.internal.conf.TieredJittingOption;
 import org.kie.internal.utils.ChainedProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -91,6 +99,7 @@ import static org.drools.core.util.MemoryUtil.hasPermGen;
  * drools.maintainTms = &lt;true|false&gt;
  * drools.sequential = &lt;true|false&gt;
  * drools.sequential.agenda = &lt;sequential|dynamic&gt;
+ * drools.sequential.evaluator = &lt;network|direct&gt;
  * drools.removeIdentities = &lt;true|false&gt;
  * drools.shareAlphaNodes  = &lt;true|false&gt;
  * drools.shareBetaNodes = &lt;true|false&gt;
@@ -98,6 +107,8 @@ import static org.drools.core.util.MemoryUtil.hasPermGen;
  * drools.alphaNodeRangeIndexThreshold = &lt;1...n&gt;
  * drools.betaNodeRangeIndexEnabled = &lt;true|false&gt;
  * drools.sessionPool = &lt;1...n&gt;
+ * drools.sessionsPoolStripes = &lt;1...n&gt;
+ * drools.sessionsPoolWarmUp = &lt;lazy|sessions|segments&gt;
  * drools.compositeKeyDepth = &lt;1..3&gt;
  * drools.indexLeftBetaMemory = &lt;true/false&gt;
  * drools.indexRightBetaMemory = &lt;true/false&gt;
@@ -111,6 +122,11 @@ import static org.drools.core.util.MemoryUtil.hasPermGen;
  * drools.declarativeAgendaEnabled =  &lt;true|false&gt;
  * drools.permgenThreshold = &lt;1...n&gt;
  * drools.jittingThreshold = &lt;1...n&gt;
+ * drools.tieredJitting = &lt;true|false&gt;
+ * drools.jittingProfile = &lt;path of the profile file&gt;
+ * drools.alphaNodeOrdering = &lt;pattern|selectivity&gt;
+ * drools.alphaSelectivityProfile = &lt;path of the profile file&gt;
+ * drools.alphaNetworkImage = &lt;path of the image file&gt;
  * </pre>
  */
 public class RuleBaseConfiguration
@@ -139,6 +155,8 @@ public class RuleBaseConfiguration
     private boolean         shareBetaNodes;
     private int             permGenThreshold;
     private int             jittingThreshold;
+    private boolean         tieredJitting;
+    private String          jittingProfile;
     private int             alphaNodeHashingThreshold;
     private int             alphaNodeRangeIndexThreshold;
     private boolean         betaNodeRangeIndexEnabled;
@@ -157,6 +175,10 @@ public class RuleBaseConfiguration
 
     private IndexPrecedenceOption indexPrecedenceOption;
 
+    private AlphaNodeOrderingOption alphaNodeOrderingOption;
+    private String alphaSelectivityProfile;
+    private String alphaNetworkImage;
+
     // if "true", rulebase builder will try to split
     // the rulebase into multiple partitions that can be evaluated
     // in parallel by using multiple internal threads
@@ -176,6 +198,10 @@ public class RuleBaseConfiguration
     private transient ClassLoader classLoader;
 
     private int sessionPoolSize;
+    private int sessionsPoolStripes;
+    private SessionsPoolWarmUpOption sessionsPoolWarmUp;
+
+    private SequentialEvaluatorOption sequentialEvaluator;
 
     private static class DefaultRuleBaseConfigurationHolder {
         private static final RuleBaseConfiguration defaultConf = new RuleBaseConfiguration();
@@ -198,6 +224,8 @@ public class RuleBaseConfiguration
         out.writeBoolean(shareBetaNodes);
         out.writeInt(permGenThreshold);
         out.writeInt(jittingThreshold);
+        out.writeBoolean(tieredJitting);
+        out.writeObject(jittingProfile);
         out.writeInt(alphaNodeHashingThreshold);
         out.writeInt(alphaNodeRangeIndexThreshold);
         out.writeBoolean(betaNodeRangeIndexEnabled);
@@ -205,6 +233,9 @@ public class RuleBaseConfiguration
         out.writeBoolean(indexLeftBetaMemory);
         out.writeBoolean(indexRightBetaMemory);
         out.writeObject(indexPrecedenceOption);
+        out.writeObject(alphaNodeOrderingOption);
+        out.writeObject(alphaSelectivityProfile);
+        out.writeObject(alphaNetworkImage);
         out.writeObject(assertBehaviour);
         out.writeObject(consequenceExceptionHandler);
         out.writeObject(ruleBaseUpdateHandler);
@@ -216,6 +247,9 @@ public class RuleBaseConfiguration
         out.writeBoolean(classLoaderCacheEnabled);
         out.writeBoolean(declarativeAgenda);
         out.writeInt(sessionPoolSize);
+        out.writeInt(sessionsPoolStripes);
+        out.writeObject(sessionsPoolWarmUp);
+        out.writeObject(sequentialEvaluator);
         out.writeBoolean(mutabilityEnabled);
     }
 
@@ -231,6 +265,8 @@ public class RuleBaseConfiguration
         shareBetaNodes = in.readBoolean();
         permGenThreshold = in.readInt();
         jittingThreshold = in.readInt();
+        tieredJitting = in.readBoolean();
+        jittingProfile = (String) in.readObject();
         alphaNodeHashingThreshold = in.readInt();
         alphaNodeRangeIndexThreshold = in.readInt();
         betaNodeRangeIndexEnabled = in.readBoolean();
@@ -238,6 +274,9 @@ public class RuleBaseConfiguration
         indexLeftBetaMemory = in.readBoolean();
         indexRightBetaMemory = in.readBoolean();
         indexPrecedenceOption = (IndexPrecedenceOption) in.readObject();
+        alphaNodeOrderingOption = (AlphaNodeOrderingOption) in.readObject();
+        alphaSelectivityProfile = (String) in.readObject();
+        alphaNetworkImage = (String) in.readObject();
         assertBehaviour = (AssertBehaviour) in.readObject();
         consequenceExceptionHandler = (String) in.readObject();
         ruleBaseUpdateHandler = (String) in.readObject();
@@ -249,6 +288,9 @@ public class RuleBaseConfiguration
         classLoaderCacheEnabled = in.readBoolean();
         declarativeAgenda = in.readBoolean();
         sessionPoolSize = in.readInt();
+        sessionsPoolStripes = in.readInt();
+        sessionsPoolWarmUp = (SessionsPoolWarmUpOption) in.readObject();
+        sequentialEvaluator = (SequentialEvaluatorOption) in.readObject();
         mutabilityEnabled = in.readBoolean();
     }
 
@@ -311,6 +353,10 @@ public class RuleBaseConfiguration
             setPermGenThreshold(StringUtils.isEmpty(value) ? PermGenThresholdOption.DEFAULT_VALUE : Integer.parseInt(value));
         } else if ( name.equals( ConstraintJittingThresholdOption.PROPERTY_NAME ) ) {
             setJittingThreshold( StringUtils.isEmpty( value ) ? ConstraintJittingThresholdOption.DEFAULT_VALUE : Integer.parseInt( value ) );
+        } else if ( name.equals( TieredJittingOption.PROPERTY_NAME ) ) {
+            setTieredJitting( StringUtils.isEmpty( value ) ? false : Boolean.valueOf( value ) );
+        } else if ( name.equals( JittingProfileOption.PROPERTY_NAME ) ) {
+            setJittingProfile( StringUtils.isEmpty( value ) ? null : value );
         } else if ( name.equals( AlphaThresholdOption.PROPERTY_NAME ) ) {
             setAlphaNodeHashingThreshold( StringUtils.isEmpty( value ) ? 3 : Integer.parseInt(value));
         } else if ( name.equals( AlphaRangeIndexThresholdOption.PROPERTY_NAME ) ) {
@@ -319,6 +365,12 @@ public class RuleBaseConfiguration
             setBetaNodeRangeIndexEnabled( StringUtils.isEmpty( value ) ? false : Boolean.valueOf(value));
         } else if ( name.equals( SessionsPoolOption.PROPERTY_NAME ) ) {
             setSessionPoolSize( StringUtils.isEmpty( value ) ? -1 : Integer.parseInt(value));
+        } else if ( name.equals( SessionsPoolStripesOption.PROPERTY_NAME ) ) {
+            setSessionsPoolStripes( StringUtils.isEmpty( value ) ? 1 : Integer.parseInt(value));
+        } else if ( name.equals( SessionsPoolWarmUpOption.PROPERTY_NAME ) ) {
+            setSessionsPoolWarmUp( StringUtils.isEmpty( value ) ? SessionsPoolWarmUpOption.LAZY : SessionsPoolWarmUpOption.determineSessionsPoolWarmUp(value));
+        } else if ( name.equals( SequentialEvaluatorOption.PROPERTY_NAME ) ) {
+            setSequentialEvaluator( StringUtils.isEmpty( value ) ? SequentialEvaluatorOption.NETWORK : SequentialEvaluatorOption.determineSequentialEvaluator(value));
         } else if ( name.equals( CompositeKeyDepthOption.PROPERTY_NAME ) ) {
             setCompositeKeyDepth( StringUtils.isEmpty( value ) ? 3 : Integer.parseInt(value));
         } else if ( name.equals( IndexLeftBetaMemoryOption.PROPERTY_NAME ) ) {
@@ -327,6 +379,12 @@ public class RuleBaseConfiguration
             setIndexRightBetaMemory( StringUtils.isEmpty( value ) ? true : Boolean.valueOf(value));
         } else if ( name.equals( IndexPrecedenceOption.PROPERTY_NAME ) ) {
             setIndexPrecedenceOption( StringUtils.isEmpty( value ) ? IndexPrecedenceOption.EQUALITY_PRIORITY : IndexPrecedenceOption.determineIndexPrecedence(value));
+        } else if ( name.equals( AlphaNodeOrderingOption.PROPERTY_NAME ) ) {
+            setAlphaNodeOrderingOption( StringUtils.isEmpty( value ) ? AlphaNodeOrderingOption.PATTERN_ORDER : AlphaNodeOrderingOption.determineAlphaNodeOrdering(value));
+        } else if ( name.equals( AlphaSelectivityProfileOption.PROPERTY_NAME ) ) {
+            setAlphaSelectivityProfile( StringUtils.isEmpty( value ) ? null : value );
+        } else if ( name.equals( AlphaNetworkImageOption.PROPERTY_NAME ) ) {
+            setAlphaNetworkImage( StringUtils.isEmpty( value ) ? null : value );
         } else if ( name.equals( EqualityBehaviorOption.PROPERTY_NAME ) ) {
             setAssertBehaviour( AssertBehaviour.determineAssertBehaviour( StringUtils.isEmpty( value ) ? "identity" : value));
         } else if ( name.equals( ConsequenceExceptionHandlerOption.PROPERTY_NAME ) ) {
@@ -370,6 +428,10 @@ public class RuleBaseConfiguration
             return Integer.toString( getPermGenThreshold() );
         } else if ( name.equals( ConstraintJittingThresholdOption.PROPERTY_NAME ) ) {
             return Integer.toString( getJittingThreshold() );
+        } else if ( name.equals( TieredJittingOption.PROPERTY_NAME ) ) {
+            return Boolean.toString( isTieredJitting() );
+        } else if ( name.equals( JittingProfileOption.PROPERTY_NAME ) ) {
+            return getJittingProfile();
         } else if ( name.equals( AlphaThresholdOption.PROPERTY_NAME ) ) {
             return Integer.toString( getAlphaNodeHashingThreshold() );
         } else if ( name.equals( AlphaRangeIndexThresholdOption.PROPERTY_NAME ) ) {
@@ -378,6 +440,12 @@ public class RuleBaseConfiguration
             return Boolean.toString( isBetaNodeRangeIndexEnabled() );
         } else if ( name.equals( SessionsPoolOption.PROPERTY_NAME ) ) {
             return Integer.toString( getSessionPoolSize() );
+        } else if ( name.equals( SessionsPoolStripesOption.PROPERTY_NAME ) ) {
+            return Integer.toString( getSessionsPoolStripes() );
+        } else if ( name.equals( SessionsPoolWarmUpOption.PROPERTY_NAME ) ) {
+            return getSessionsPoolWarmUp().getValue();
+        } else if ( name.equals( SequentialEvaluatorOption.PROPERTY_NAME ) ) {
+            return getSequentialEvaluator().getValue();
         } else if ( name.equals( CompositeKeyDepthOption.PROPERTY_NAME ) ) {
             return Integer.toString( getCompositeKeyDepth() );
         } else if ( name.equals( IndexLeftBetaMemoryOption.PROPERTY_NAME ) ) {
@@ -386,6 +454,12 @@ public class RuleBaseConfiguration
             return Boolean.toString( isIndexRightBetaMemory());
         } else if ( name.equals( IndexPrecedenceOption.PROPERTY_NAME ) ) {
             return getIndexPrecedenceOption().getValue();
+        } else if ( name.equals( AlphaNodeOrderingOption.PROPERTY_NAME ) ) {
+            return getAlphaNodeOrderingOption().getValue();
+        } else if ( name.equals( AlphaSelectivityProfileOption.PROPERTY_NAME ) ) {
+            return getAlphaSelectivityProfile();
+        } else if ( name.equals( AlphaNetworkImageOption.PROPERTY_NAME ) ) {
+            return getAlphaNetworkImage();
         } else if ( name.equals( EqualityBehaviorOption.PROPERTY_NAME ) ) {
             return getAssertBehaviour().toExternalForm();
         } else if ( name.equals( ConsequenceExceptionHandlerOption.PROPERTY_NAME ) ) {
@@ -452,6 +526,10 @@ public class RuleBaseConfiguration
 
         setJittingThreshold( Integer.parseInt( this.chainedProperties.getProperty( ConstraintJittingThresholdOption.PROPERTY_NAME, "" + ConstraintJittingThresholdOption.DEFAULT_VALUE)));
 
+        setTieredJitting( Boolean.valueOf( this.chainedProperties.getProperty( TieredJittingOption.PROPERTY_NAME, "false" ) ) );
+
+        setJittingProfile( this.chainedProperties.getProperty( JittingProfileOption.PROPERTY_NAME, null ) );
+
         setAlphaNodeHashingThreshold(Integer.parseInt(this.chainedProperties.getProperty(AlphaThresholdOption.PROPERTY_NAME, "3")));
 
         setAlphaNodeRangeIndexThreshold(Integer.parseInt(this.chainedProperties.getProperty(AlphaRangeIndexThresholdOption.PROPERTY_NAME, "" + AlphaRangeIndexThresholdOption.DEFAULT_VALUE)));
@@ -460,6 +538,12 @@ public class RuleBaseConfiguration
 
         setSessionPoolSize(Integer.parseInt(this.chainedProperties.getProperty( SessionsPoolOption.PROPERTY_NAME, "-1")));
 
+        setSessionsPoolStripes(Integer.parseInt(this.chainedProperties.getProperty( SessionsPoolStripesOption.PROPERTY_NAME, "1")));
+
+        setSessionsPoolWarmUp(SessionsPoolWarmUpOption.determineSessionsPoolWarmUp(this.chainedProperties.getProperty( SessionsPoolWarmUpOption.PROPERTY_NAME, "lazy")));
+
+        setSequentialEvaluator(SequentialEvaluatorOption.determineSequentialEvaluator(this.chainedProperties.getProperty( SequentialEvaluatorOption.PROPERTY_NAME, "network")));
+
         setCompositeKeyDepth(Integer.parseInt(this.chainedProperties.getProperty(CompositeKeyDepthOption.PROPERTY_NAME, "3")));
 
         setIndexLeftBetaMemory(Boolean.valueOf(this.chainedProperties.getProperty(IndexLeftBetaMemoryOption.PROPERTY_NAME, "true")).booleanValue());
@@ -468,6 +552,12 @@ public class RuleBaseConfiguration
 
         setIndexPrecedenceOption(IndexPrecedenceOption.determineIndexPrecedence(this.chainedProperties.getProperty(IndexPrecedenceOption.PROPERTY_NAME, "equality")));
 
+        setAlphaNodeOrderingOption(AlphaNodeOrderingOption.determineAlphaNodeOrdering(this.chainedProperties.getProperty(AlphaNodeOrderingOption.PROPERTY_NAME, "pattern")));
+
+        setAlphaSelectivityProfile(this.chainedProperties.getProperty(AlphaSelectivityProfileOption.PROPERTY_NAME, null));
+
+        setAlphaNetworkImage(this.chainedProperties.getProperty(AlphaNetworkImageOption.PROPERTY_NAME, null));
+
         setAssertBehaviour(AssertBehaviour.determineAssertBehaviour(this.chainedProperties.getProperty(EqualityBehaviorOption.PROPERTY_NAME, "identity")));
 
         setConsequenceExceptionHandler(this.chainedProperties.getProperty(ConsequenceExceptionHandlerOption.PROPERTY_NAME, "org.drools.core.runtime.rule.impl.DefaultConsequenceExceptionHandler"));
@@ -599,6 +689,24 @@ public class RuleBaseConfiguration
         this.jittingThreshold = jittingThreshold;
     }
 
+    public boolean isTieredJitting() {
+        return tieredJitting;
+    }
+
+    public void setTieredJitting( boolean tieredJitting ) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.tieredJitting = tieredJitting;
+    }
+
+    public String getJittingProfile() {
+        return jittingProfile;
+    }
+
+    public void setJittingProfile( String jittingProfile ) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.jittingProfile = StringUtils.isEmpty( jittingProfile ) ? null : jittingProfile;
+    }
+
     public int getAlphaNodeHashingThreshold() {
         return this.alphaNodeHashingThreshold;
     }
@@ -635,6 +743,36 @@ public class RuleBaseConfiguration
         this.sessionPoolSize = sessionPoolSize;
     }
 
+    public int getSessionsPoolStripes() {
+        return this.sessionsPoolStripes;
+    }
+
+    public void setSessionsPoolStripes(final int sessionsPoolStripes) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        if ( sessionsPoolStripes < 1 ) {
+            throw new IllegalArgumentException( "The number of stripes of a sessions pool must be positive: " + sessionsPoolStripes );
+        }
+        this.sessionsPoolStripes = sessionsPoolStripes;
+    }
+
+    public SessionsPoolWarmUpOption getSessionsPoolWarmUp() {
+        return this.sessionsPoolWarmUp;
+    }
+
+    public void setSessionsPoolWarmUp(final SessionsPoolWarmUpOption sessionsPoolWarmUp) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.sessionsPoolWarmUp = sessionsPoolWarmUp;
+    }
+
+    public SequentialEvaluatorOption getSequentialEvaluator() {
+        return this.sequentialEvaluator;
+    }
+
+    public void setSequentialEvaluator(final SequentialEvaluatorOption sequentialEvaluator) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.sequentialEvaluator = sequentialEvaluator;
+    }
+
     public AssertBehaviour getAssertBehaviour() {
         return this.assertBehaviour;
     }
@@ -695,6 +833,33 @@ public class RuleBaseConfiguration
         this.indexPrecedenceOption = precedence;
     }
 
+    public AlphaNodeOrderingOption getAlphaNodeOrderingOption() {
+        return this.alphaNodeOrderingOption;
+    }
+
+    public void setAlphaNodeOrderingOption(final AlphaNodeOrderingOption alphaNodeOrdering) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.alphaNodeOrderingOption = alphaNodeOrdering;
+    }
+
+    public String getAlphaSelectivityProfile() {
+        return alphaSelectivityProfile;
+    }
+
+    public void setAlphaSelectivityProfile(final String alphaSelectivityProfile) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.alphaSelectivityProfile = StringUtils.isEmpty( alphaSelectivityProfile ) ? null : alphaSelectivityProfile;
+    }
+
+    public String getAlphaNetworkImage() {
+        return alphaNetworkImage;
+    }
+
+    public void setAlphaNetworkImage(final String alphaNetworkImage) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.alphaNetworkImage = StringUtils.isEmpty( alphaNetworkImage ) ? null : alphaNetworkImage;
+    }
+
     public String getConsequenceExceptionHandler() {
         return consequenceExceptionHandler;
     }
@@ -1057,6 +1222,12 @@ public class RuleBaseConfiguration
             return (T) (this.indexRightBetaMemory ? IndexRightBetaMemoryOption.YES : IndexRightBetaMemoryOption.NO);
         } else if (IndexPrecedenceOption.class.equals(option)) {
             return (T) getIndexPrecedenceOption();
+        } else if (AlphaNodeOrderingOption.class.equals(option)) {
+            return (T) getAlphaNodeOrderingOption();
+        } else if (AlphaSelectivityProfileOption.class.equals(option)) {
+            return (T) AlphaSelectivityProfileOption.get(alphaSelectivityProfile);
+        } else if (AlphaNetworkImageOption.class.equals(option)) {
+            return (T) AlphaNetworkImageOption.get(alphaNetworkImage);
         } else if (EqualityBehaviorOption.class.equals(option)) {
             return (T) ((this.assertBehaviour == AssertBehaviour.IDENTITY) ? EqualityBehaviorOption.IDENTITY : EqualityBehaviorOption.EQUALITY);
         } else if (SequentialAgendaOption.class.equals(option)) {
@@ -1065,6 +1236,10 @@ public class RuleBaseConfiguration
             return (T) PermGenThresholdOption.get(permGenThreshold);
         } else if (ConstraintJittingThresholdOption.class.equals(option)) {
             return (T) ConstraintJittingThresholdOption.get(jittingThreshold);
+        } else if (TieredJittingOption.class.equals(option)) {
+            return (T) (this.tieredJitting ? TieredJittingOption.YES : TieredJittingOption.NO);
+        } else if (JittingProfileOption.class.equals(option)) {
+            return (T) JittingProfileOption.get(jittingProfile);
         } else if (AlphaThresholdOption.class.equals(option)) {
             return (T) AlphaThresholdOption.get(alphaNodeHashingThreshold);
         } else if (AlphaRangeIndexThresholdOption.class.equals(option)) {
@@ -1073,6 +1248,12 @@ public class RuleBaseConfiguration
             return (T) (this.betaNodeRangeIndexEnabled ? BetaRangeIndexOption.ENABLED : BetaRangeIndexOption.DISABLED);
         } else if ( SessionsPoolOption.class.equals(option)) {
             return (T) SessionsPoolOption.get(sessionPoolSize);
+        } else if ( SessionsPoolStripesOption.class.equals(option)) {
+            return (T) SessionsPoolStripesOption.get(sessionsPoolStripes);
+        } else if ( SessionsPoolWarmUpOption.class.equals(option)) {
+            return (T) getSessionsPoolWarmUp();
+        } else if ( SequentialEvaluatorOption.class.equals(option)) {
+            return (T) getSequentialEvaluator();
         } else if (CompositeKeyDepthOption.class.equals(option)) {
             return (T) CompositeKeyDepthOption.get(compositeKeyDepth);
         } else if (ConsequenceExceptionHandlerOption.class.equals(option)) {
@@ -1118,6 +1299,12 @@ public class RuleBaseConfiguration
             setIndexRightBetaMemory(((IndexRightBetaMemoryOption) option).isIndexRightBetaMemory());
         } else if (option instanceof IndexPrecedenceOption) {
             setIndexPrecedenceOption((IndexPrecedenceOption) option);
+        } else if (option instanceof AlphaNodeOrderingOption) {
+            setAlphaNodeOrderingOption((AlphaNodeOrderingOption) option);
+        } else if (option instanceof AlphaSelectivityProfileOption) {
+            setAlphaSelectivityProfile(((AlphaSelectivityProfileOption) option).getPath());
+        } else if (option instanceof AlphaNetworkImageOption) {
+            setAlphaNetworkImage(((AlphaNetworkImageOption) option).getPath());
         } else if (option instanceof EqualityBehaviorOption) {
             setAssertBehaviour((option == EqualityBehaviorOption.IDENTITY) ? AssertBehaviour.IDENTITY : AssertBehaviour.EQUALITY);
         } else if (option instanceof SequentialAgendaOption) {
@@ -1126,6 +1313,10 @@ public class RuleBaseConfiguration
             setPermGenThreshold(((PermGenThresholdOption) option).getThreshold());
         } else if (option instanceof ConstraintJittingThresholdOption) {
             setJittingThreshold( ( (ConstraintJittingThresholdOption) option ).getThreshold());
+        } else if (option instanceof TieredJittingOption) {
+            setTieredJitting( ( (TieredJittingOption) option ).isTieredJitting());
+        } else if (option instanceof JittingProfileOption) {
+            setJittingProfile( ( (JittingProfileOption) option ).getPath());
         } else if (option instanceof AlphaThresholdOption) {
             setAlphaNodeHashingThreshold( ( (AlphaThresholdOption) option ).getThreshold());
         } else if (option instanceof AlphaRangeIndexThresholdOption) {
@@ -1134,6 +1325,12 @@ public class RuleBaseConfiguration
             setBetaNodeRangeIndexEnabled( ( (BetaRangeIndexOption) option ).isBetaRangeIndexEnabled());
         } else if (option instanceof SessionsPoolOption ) {
             setSessionPoolSize( ( ( SessionsPoolOption ) option ).getSize());
+        } else if (option instanceof SessionsPoolStripesOption ) {
+            setSessionsPoolStripes( ( ( SessionsPoolStripesOption ) option ).getStripes());
+        } else if (option instanceof SessionsPoolWarmUpOption ) {
+            setSessionsPoolWarmUp( ( SessionsPoolWarmUpOption ) option );
+        } else if (option instanceof SequentialEvaluatorOption ) {
+            setSequentialEvaluator( ( SequentialEvaluatorOption ) option );
         } else if (option instanceof CompositeKeyDepthOption) {
             setCompositeKeyDepth( ( (CompositeKeyDepthOption) option ).getDepth());
         } else if (option instanceof ConsequenceExceptionHandlerOption) {
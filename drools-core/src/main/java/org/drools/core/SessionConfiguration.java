@@ -42,8 +42,10 @@ import org.kie.api.runtime.conf.TimedRuleExecutionOption;
 import org.kie.api.runtime.conf.TimerJobFactoryOption;
 import org.kie.api.runtime.conf.WorkItemHandlerOption;
 import org.kie.api.runtime.process.WorkItemHandler;
+import org.kie.internal.runtime.conf.CompactObjectStoreOption;
 import org.kie.internal.runtime.conf.ForceEagerActivationFilter;
 import org.kie.internal.runtime.conf.ForceEagerActivationOption;
+import org.kie.internal.runtime.conf.PropagationListOption;
 
 public abstract class SessionConfiguration implements KieSessionConfiguration, Externalizable {
 
@@ -63,6 +65,10 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
     public abstract boolean isThreadSafe();
     public abstract void setAccumulateNullPropagation(boolean accumulateNullPropagation);
     public abstract boolean isAccumulateNullPropagation();
+    public abstract void setPropagationListOption(PropagationListOption propagationListOption);
+    public abstract PropagationListOption getPropagationListOption();
+    public abstract void setCompactObjectStore(boolean compactObjectStore);
+    public abstract boolean isCompactObjectStore();
 
     public abstract void setForceEagerActivationFilter(ForceEagerActivationFilter forceEagerActivationFilter);
     public abstract ForceEagerActivationFilter getForceEagerActivationFilter();
@@ -120,6 +126,10 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
             setThreadSafe(((ThreadSafeOption) option).isThreadSafe());
         } else if ( option instanceof AccumulateNullPropagationOption ) {
             setAccumulateNullPropagation(((AccumulateNullPropagationOption) option).isAccumulateNullPropagation());
+        } else if ( option instanceof PropagationListOption ) {
+            setPropagationListOption((PropagationListOption) option);
+        } else if ( option instanceof CompactObjectStoreOption ) {
+            setCompactObjectStore(((CompactObjectStoreOption) option).isCompactObjectStore());
         } else if ( option instanceof ForceEagerActivationOption ) {
             setForceEagerActivationFilter(((ForceEagerActivationOption) option).getFilter());
         } else if ( option instanceof TimedRuleExecutionOption ) {
@@ -146,6 +156,10 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
             return (T) (isThreadSafe() ? ThreadSafeOption.YES : ThreadSafeOption.NO);
         } else if ( AccumulateNullPropagationOption.class.equals( option ) ) {
             return (T) (isAccumulateNullPropagation() ? AccumulateNullPropagationOption.YES : AccumulateNullPropagationOption.NO);
+        } else if ( PropagationListOption.class.equals( option ) ) {
+            return (T) getPropagationListOption();
+        } else if ( CompactObjectStoreOption.class.equals( option ) ) {
+            return (T) (isCompactObjectStore() ? CompactObjectStoreOption.YES : CompactObjectStoreOption.NO);
         } else if ( TimerJobFactoryOption.class.equals( option ) ) {
             return (T) TimerJobFactoryOption.get( getTimerJobFactoryType().toExternalForm() );
         } else if ( QueryListenerOption.class.equals( option ) ) {
@@ -181,6 +195,10 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
             setThreadSafe( StringUtils.isEmpty( value ) || Boolean.parseBoolean( value ) );
         } else if ( name.equals( AccumulateNullPropagationOption.PROPERTY_NAME ) ) {
             setAccumulateNullPropagation( !StringUtils.isEmpty( value ) && Boolean.parseBoolean( value ) );
+        } else if ( name.equals( PropagationListOption.PROPERTY_NAME ) ) {
+            setPropagationListOption( StringUtils.isEmpty( value ) ? PropagationListOption.SYNCHRONIZED : PropagationListOption.determinePropagationListOption( value ) );
+        } else if ( name.equals( CompactObjectStoreOption.PROPERTY_NAME ) ) {
+            setCompactObjectStore( !StringUtils.isEmpty( value ) && Boolean.parseBoolean( value ) );
         } else if ( name.equals( ForceEagerActivationOption.PROPERTY_NAME ) ) {
             setForceEagerActivationFilter(ForceEagerActivationOption.resolve(StringUtils.isEmpty(value) ? "false" : value).getFilter());
         } else if ( name.equals( TimedRuleExecutionOption.PROPERTY_NAME ) ) {
@@ -211,6 +229,10 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
             return Boolean.toString(isThreadSafe());
         } else if ( name.equals( AccumulateNullPropagationOption.PROPERTY_NAME ) ) {
             return Boolean.toString(isAccumulateNullPropagation());
+        } else if ( name.equals( PropagationListOption.PROPERTY_NAME ) ) {
+            return getPropagationListOption().getAsString();
+        } else if ( name.equals( CompactObjectStoreOption.PROPERTY_NAME ) ) {
+            return Boolean.toString(isCompactObjectStore());
         } else if ( name.equals( ClockTypeOption.PROPERTY_NAME ) ) {
             return getClockType().toExternalForm();
         } else if ( name.equals( TimerJobFactoryOption.PROPERTY_NAME ) ) {
@@ -19,6 +19,7 @@ package org.drools.core;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.io.OptionalDataException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
@@ -42,8 +43,10 @@ import org.kie.api.runtime.conf.TimedRuleExecutionFilter;
 import org.kie.api.runtime.conf.TimedRuleExecutionOption;
 import org.kie.api.runtime.conf.TimerJobFactoryOption;
 import org.kie.api.runtime.process.WorkItemHandler;
+import org.kie.internal.runtime.conf.CompactObjectStoreOption;
 import org.kie.internal.runtime.conf.ForceEagerActivationFilter;
 import org.kie.internal.runtime.conf.ForceEagerActivationOption;
+import org.kie.internal.runtime.conf.PropagationListOption;
 import org.kie.internal.utils.ChainedProperties;
 
 /**
@@ -80,6 +83,10 @@ public class SessionConfigurationImpl extends SessionConfiguration {
 
     private boolean                        accumulateNullPropagation;
 
+    private PropagationListOption          propagationListOption;
+
+    private boolean                        compactObjectStore;
+
     private ForceEagerActivationFilter     forceEagerActivationFilter;
     private TimedRuleExecutionFilter       timedRuleExecutionFilter;
 
@@ -104,6 +111,7 @@ public class SessionConfigurationImpl extends SessionConfiguration {
         out.writeObject(clockType);
         out.writeObject( queryListener );
         out.writeObject( timerJobFactoryType );
+        out.writeObject( propagationListOption );
     }
 
     @SuppressWarnings("unchecked")
@@ -124,6 +132,11 @@ public class SessionConfigurationImpl extends SessionConfiguration {
                 throw e;
             }
         }
+        try {
+            propagationListOption = (PropagationListOption) in.readObject();
+        } catch (OptionalDataException e) {
+            // written before the propagation list was configurable, keep the default
+        }
     }
 
     /**
@@ -171,6 +184,10 @@ public class SessionConfigurationImpl extends SessionConfiguration {
 
         setAccumulateNullPropagation(Boolean.valueOf( getPropertyValue( AccumulateNullPropagationOption.PROPERTY_NAME, "false" ) ));
 
+        setPropagationListOption(PropagationListOption.determinePropagationListOption( getPropertyValue( PropagationListOption.PROPERTY_NAME, PropagationListOption.SYNCHRONIZED.getAsString() ) ));
+
+        setCompactObjectStore(Boolean.valueOf( getPropertyValue( CompactObjectStoreOption.PROPERTY_NAME, "false" ) ));
+
         setForceEagerActivationFilter(ForceEagerActivationOption.resolve( getPropertyValue( ForceEagerActivationOption.PROPERTY_NAME, "false" ) ).getFilter());
 
         setTimedRuleExecutionFilter(TimedRuleExecutionOption.resolve( getPropertyValue( TimedRuleExecutionOption.PROPERTY_NAME, "false" ) ).getFilter());
@@ -254,6 +271,24 @@ public class SessionConfigurationImpl extends SessionConfiguration {
         return this.accumulateNullPropagation;
     }
 
+    public void setPropagationListOption(PropagationListOption propagationListOption) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.propagationListOption = propagationListOption;
+    }
+
+    public PropagationListOption getPropagationListOption() {
+        return this.propagationListOption;
+    }
+
+    public void setCompactObjectStore(boolean compactObjectStore) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.compactObjectStore = compactObjectStore;
+    }
+
+    public boolean isCompactObjectStore() {
+        return this.compactObjectStore;
+    }
+
     public void setForceEagerActivationFilter(ForceEagerActivationFilter forceEagerActivationFilter) {
         checkCanChange(); // throws an exception if a change isn't possible;
         this.forceEagerActivationFilter = forceEagerActivationFilter;
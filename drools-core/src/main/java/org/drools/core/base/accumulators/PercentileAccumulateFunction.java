@@ -0,0 +1,176 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.base.accumulators;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * <p>An implementation of an accumulator capable of calculating a percentile of the accumulated values,
+ * using the nearest-rank method: the result is the smallest value greater than or equal to the given fraction
+ * of all the accumulated values.</p>
+ *
+ * <p>The values are split in two sorted bags, the lower one containing exactly the values up to the rank of the
+ * percentile, so the result is always the greatest value of the lower bag. Accumulating or reversing a value only
+ * moves at most one value between the two bags, so both are O(log n) and never need to accumulate the group again.</p>
+ *
+ * <p>The 90th, 95th and 99th percentiles are available as the nested functions registered as percentile90,
+ * percentile95 and percentile99. Other percentiles can be registered through a subclass passing the wanted fraction
+ * to the constructor.</p>
+ */
+public class PercentileAccumulateFunction extends AbstractAccumulateFunction<PercentileAccumulateFunction.PercentileData> {
+
+    private double percentile;
+
+    public PercentileAccumulateFunction() {
+        this( 0.5 );
+    }
+
+    public PercentileAccumulateFunction( double percentile ) {
+        if ( percentile <= 0 || percentile > 1 ) {
+            throw new IllegalArgumentException( "The percentile must be greater than 0 and less than or equal to 1: " + percentile );
+        }
+        this.percentile = percentile;
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        percentile = in.readDouble();
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeDouble( percentile );
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public static class PercentileData implements Externalizable {
+        public SortedMultiset lower = new SortedMultiset();
+        public SortedMultiset upper = new SortedMultiset();
+
+        public PercentileData() {}
+
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+            lower = (SortedMultiset) in.readObject();
+            upper = (SortedMultiset) in.readObject();
+        }
+
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeObject( lower );
+            out.writeObject( upper );
+        }
+
+        @Override
+        public String toString() {
+            return "percentile";
+        }
+    }
+
+    public PercentileData createContext() {
+        return new PercentileData();
+    }
+
+    public void init(PercentileData data) {
+        data.lower.clear();
+        data.upper.clear();
+    }
+
+    public void accumulate(PercentileData data,
+                           Object value) {
+        if (value != null) {
+            Comparable comparable = (Comparable) value;
+            if ( data.lower.isEmpty() || comparable.compareTo( data.lower.last() ) <= 0 ) {
+                data.lower.add( comparable );
+            } else {
+                data.upper.add( comparable );
+            }
+            rebalance( data );
+        }
+    }
+
+    public void reverse(PercentileData data,
+                        Object value) {
+        if (value != null) {
+            Comparable comparable = (Comparable) value;
+            // all the values in the upper bag are greater than or equal to the last one of the lower bag,
+            // so a value not greater than it, if present, is also in the lower bag
+            if ( !data.lower.isEmpty() && comparable.compareTo( data.lower.last() ) <= 0 ) {
+                data.lower.remove( comparable );
+            } else {
+                data.upper.remove( comparable );
+            }
+            rebalance( data );
+        }
+    }
+
+    private void rebalance(PercentileData data) {
+        int rank = rankOf( data.lower.size() + data.upper.size() );
+        while ( data.lower.size() > rank ) {
+            data.upper.add( data.lower.pollLast() );
+        }
+        while ( data.lower.size() < rank ) {
+            data.lower.add( data.upper.pollFirst() );
+        }
+    }
+
+    private int rankOf(int size) {
+        return size == 0 ? 0 : Math.max( 1, (int) Math.ceil( percentile * size ) );
+    }
+
+    public Object getResult(PercentileData data) {
+        return data.lower.last();
+    }
+
+    public boolean supportsReverse() {
+        return true;
+    }
+
+    public Class<?> getResultType() {
+        return Comparable.class;
+    }
+
+    @Override
+    public boolean equals( Object o ) {
+        return super.equals( o ) && percentile == ( (PercentileAccumulateFunction) o ).percentile;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Double.hashCode( percentile );
+    }
+
+    public static class Percentile90 extends PercentileAccumulateFunction {
+        public Percentile90() {
+            super( 0.9 );
+        }
+    }
+
+    public static class Percentile95 extends PercentileAccumulateFunction {
+        public Percentile95() {
+            super( 0.95 );
+        }
+    }
+
+    public static class Percentile99 extends PercentileAccumulateFunction {
+        public Percentile99() {
+            super( 0.99 );
+        }
+    }
+}
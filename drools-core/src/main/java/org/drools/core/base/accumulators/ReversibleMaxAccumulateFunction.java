@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.base.accumulators;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * An implementation of an accumulator capable of calculating maximum values. Differently from {@link MaxAccumulateFunction}
+ * it keeps all the accumulated values sorted, so when the current maximum is reversed the new one is found in O(log n)
+ * instead of accumulating again all the values of the group.
+ */
+public class ReversibleMaxAccumulateFunction extends AbstractAccumulateFunction<SortedMultiset> {
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException {
+
+    }
+
+    public SortedMultiset createContext() {
+        return new SortedMultiset();
+    }
+
+    public void init(SortedMultiset data) {
+        data.clear();
+    }
+
+    public void accumulate(SortedMultiset data,
+                           Object value) {
+        if (value != null) {
+            data.add( (Comparable) value );
+        }
+    }
+
+    public void reverse(SortedMultiset data,
+                        Object value) {
+        if (value != null) {
+            data.remove( (Comparable) value );
+        }
+    }
+
+    public Object getResult(SortedMultiset data) {
+        return data.last();
+    }
+
+    public boolean supportsReverse() {
+        return true;
+    }
+
+    public Class<?> getResultType() {
+        return Comparable.class;
+    }
+}
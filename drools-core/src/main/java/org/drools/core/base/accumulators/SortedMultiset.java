@@ -0,0 +1,126 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.base.accumulators;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A sorted bag of values used by the accumulate functions needing to retrieve the smallest or the greatest
+ * of the accumulated values also after some of them have been reversed. Equal values are kept once with
+ * their number of occurrences, so adding, removing and retrieving the first or the last value are all O(log n).
+ */
+public class SortedMultiset implements Externalizable {
+
+    private TreeMap<Comparable, MutableInt> counts = new TreeMap<>();
+
+    private int size;
+
+    public SortedMultiset() { }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        counts = (TreeMap<Comparable, MutableInt>) in.readObject();
+        size = in.readInt();
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeObject( counts );
+        out.writeInt( size );
+    }
+
+    public void add(Comparable value) {
+        MutableInt counter = counts.get( value );
+        if ( counter == null ) {
+            counts.put( value, new MutableInt() );
+        } else {
+            counter.value++;
+        }
+        size++;
+    }
+
+    public boolean remove(Comparable value) {
+        MutableInt counter = counts.get( value );
+        if ( counter == null ) {
+            return false;
+        }
+        if ( --counter.value == 0 ) {
+            counts.remove( value );
+        }
+        size--;
+        return true;
+    }
+
+    public Comparable first() {
+        return size == 0 ? null : counts.firstKey();
+    }
+
+    public Comparable last() {
+        return size == 0 ? null : counts.lastKey();
+    }
+
+    public Comparable pollFirst() {
+        Comparable first = first();
+        if ( first != null ) {
+            remove( first );
+        }
+        return first;
+    }
+
+    public Comparable pollLast() {
+        Comparable last = last();
+        if ( last != null ) {
+            remove( last );
+        }
+        return last;
+    }
+
+    /**
+     * Adds to the given list the values of this bag, repeated as many times as they have been added,
+     * starting from the greatest one.
+     */
+    public void addDescendingTo(List<Object> list) {
+        for ( Map.Entry<Comparable, MutableInt> entry : counts.descendingMap().entrySet() ) {
+            for ( int i = 0; i < entry.getValue().value; i++ ) {
+                list.add( entry.getKey() );
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        counts.clear();
+        size = 0;
+    }
+
+    private static class MutableInt implements Serializable {
+        private static final long serialVersionUID = 510l;
+        private int value = 1;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.base.accumulators;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>An implementation of an accumulator collecting the N greatest accumulated values, sorted from the greatest one.</p>
+ *
+ * <p>The values are split in two sorted bags, the top one containing the N greatest values and the other one
+ * all the remaining values, so when a value in the top is reversed it is replaced by the greatest remaining one
+ * in O(log n) instead of accumulating again all the values of the group.</p>
+ *
+ * <p>By default it collects the 10 greatest values and it is registered as top10. Other sizes can be registered
+ * through a subclass passing the wanted size to the constructor.</p>
+ */
+public class TopNAccumulateFunction extends AbstractAccumulateFunction<TopNAccumulateFunction.TopNData> {
+
+    private int n;
+
+    public TopNAccumulateFunction() {
+        this( 10 );
+    }
+
+    public TopNAccumulateFunction( int n ) {
+        if ( n <= 0 ) {
+            throw new IllegalArgumentException( "The number of values to be collected must be greater than 0: " + n );
+        }
+        this.n = n;
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        n = in.readInt();
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeInt( n );
+    }
+
+    public int getN() {
+        return n;
+    }
+
+    public static class TopNData implements Externalizable {
+        public SortedMultiset top = new SortedMultiset();
+        public SortedMultiset rest = new SortedMultiset();
+
+        public TopNData() {}
+
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+            top = (SortedMultiset) in.readObject();
+            rest = (SortedMultiset) in.readObject();
+        }
+
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeObject( top );
+            out.writeObject( rest );
+        }
+
+        @Override
+        public String toString() {
+            return "topN";
+        }
+    }
+
+    public TopNData createContext() {
+        return new TopNData();
+    }
+
+    public void init(TopNData data) {
+        data.top.clear();
+        data.rest.clear();
+    }
+
+    public void accumulate(TopNData data,
+                           Object value) {
+        if (value != null) {
+            Comparable comparable = (Comparable) value;
+            if ( data.top.size() < n ) {
+                data.top.add( comparable );
+            } else if ( comparable.compareTo( data.top.first() ) > 0 ) {
+                data.top.add( comparable );
+                data.rest.add( data.top.pollFirst() );
+            } else {
+                data.rest.add( comparable );
+            }
+        }
+    }
+
+    public void reverse(TopNData data,
+                        Object value) {
+        if (value != null) {
+            Comparable comparable = (Comparable) value;
+            if ( data.top.remove( comparable ) ) {
+                if ( !data.rest.isEmpty() ) {
+                    data.top.add( data.rest.pollLast() );
+                }
+            } else {
+                data.rest.remove( comparable );
+            }
+        }
+    }
+
+    public Object getResult(TopNData data) {
+        List<Object> result = new ArrayList<>( data.top.size() );
+        data.top.addDescendingTo( result );
+        return Collections.unmodifiableList( result );
+    }
+
+    public boolean supportsReverse() {
+        return true;
+    }
+
+    public Class<?> getResultType() {
+        return List.class;
+    }
+
+    @Override
+    public boolean equals( Object o ) {
+        return super.equals( o ) && n == ( (TopNAccumulateFunction) o ).n;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + n;
+    }
+}
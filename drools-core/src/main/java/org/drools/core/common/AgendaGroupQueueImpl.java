@@ -77,6 +77,13 @@ public class AgendaGroupQueueImpl
         }
     }
 
+    @Override
+    public void setLastFired(Activation activation) {
+        if (sequential) {
+            lastRemoved = activation;
+        }
+    }
+
     /* (non-Javadoc)
      * @see org.kie.spi.AgendaGroup#getName()
      */
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.common;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.kie.api.runtime.ClassObjectFilter;
+import org.kie.api.runtime.ObjectFilter;
+
+/**
+ * An identity based {@link ObjectStore} meant for working memories with a very large number of facts.
+ * Differently from the {@link IdentityObjectStore} it doesn't keep a map from the objects to their handles,
+ * but only a single open addressing array of handles, probed with the identity hash code of the inserted object.
+ * This saves the array of keys and the empty slots of the map, at the price of a further dereference
+ * on each lookup to compare the object of the handle found in the array.
+ * As the {@link IdentityObjectStore} it doesn't keep the facts grouped by class, so iterating the facts
+ * of a given class requires a full scan.
+ */
+public class CompactObjectStore implements Externalizable, ObjectStore {
+
+    private static final int   DEFAULT_CAPACITY = 16;
+
+    private static final float LOAD_FACTOR      = 0.75f;
+
+    private InternalFactHandle[] table;
+
+    private int                  size;
+
+    private int                  threshold;
+
+    public CompactObjectStore() {
+        init( DEFAULT_CAPACITY );
+    }
+
+    private void init( int capacity ) {
+        this.table = new InternalFactHandle[capacity];
+        this.threshold = (int) ( capacity * LOAD_FACTOR );
+    }
+
+    @Override
+    public void writeExternal( ObjectOutput out ) throws IOException {
+        out.writeInt( size );
+        for ( InternalFactHandle handle : table ) {
+            if ( handle != null ) {
+                out.writeObject( handle );
+            }
+        }
+    }
+
+    @Override
+    public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException {
+        int storedSize = in.readInt();
+        init( capacityFor( storedSize ) );
+        for ( int i = 0; i < storedSize; i++ ) {
+            InternalFactHandle handle = (InternalFactHandle) in.readObject();
+            addHandle( handle, handle.getObject() );
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        init( DEFAULT_CAPACITY );
+        size = 0;
+    }
+
+    @Override
+    public Object getObjectForHandle( InternalFactHandle handle ) {
+        InternalFactHandle reconnectedHandle = reconnect( handle );
+        return reconnectedHandle != null ? reconnectedHandle.getObject() : null;
+    }
+
+    @Override
+    public InternalFactHandle reconnect( InternalFactHandle handle ) {
+        for ( InternalFactHandle fh : table ) {
+            if ( fh != null && fh.getId() == handle.getId() ) {
+                return handle.getIdentityHashCode() == fh.getIdentityHashCode() ? fh : null;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public InternalFactHandle getHandleForObject( Object object ) {
+        int index = indexOf( object );
+        return index >= 0 ? table[index] : null;
+    }
+
+    @Override
+    public InternalFactHandle getHandleForObjectIdentity( Object object ) {
+        return getHandleForObject( object );
+    }
+
+    @Override
+    public void updateHandle( InternalFactHandle handle, Object object ) {
+        removeHandle( handle );
+        handle.setObject( object );
+        addHandle( handle, object );
+    }
+
+    @Override
+    public void addHandle( InternalFactHandle handle, Object object ) {
+        int mask = table.length - 1;
+        int i = hash( object ) & mask;
+        for ( InternalFactHandle fh = table[i]; fh != null; fh = table[i] ) {
+            if ( fh.getObject() == object ) {
+                // same semantic of a map: the new handle replaces the existing one
+                table[i] = handle;
+                return;
+            }
+            i = ( i + 1 ) & mask;
+        }
+        table[i] = handle;
+        if ( ++size > threshold ) {
+            resize( table.length * 2 );
+        }
+    }
+
+    @Override
+    public void removeHandle( InternalFactHandle handle ) {
+        int index = indexOf( handle.getObject() );
+        if ( index >= 0 ) {
+            delete( index );
+        }
+    }
+
+    private int indexOf( Object object ) {
+        int mask = table.length - 1;
+        for ( int i = hash( object ) & mask; table[i] != null; i = ( i + 1 ) & mask ) {
+            if ( table[i].getObject() == object ) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void delete( int index ) {
+        // backward shift deletion: moves back the following handles of the same probe sequence, so no tombstone is needed
+        int mask = table.length - 1;
+        int hole = index;
+        for ( int i = ( index + 1 ) & mask; table[i] != null; i = ( i + 1 ) & mask ) {
+            int home = hash( table[i].getObject() ) & mask;
+            if ( ( ( i - home ) & mask ) >= ( ( i - hole ) & mask ) ) {
+                table[hole] = table[i];
+                hole = i;
+            }
+        }
+        table[hole] = null;
+        size--;
+    }
+
+    private void resize( int newCapacity ) {
+        InternalFactHandle[] oldTable = table;
+        init( newCapacity );
+        int mask = newCapacity - 1;
+        for ( InternalFactHandle handle : oldTable ) {
+            if ( handle != null ) {
+                int i = hash( handle.getObject() ) & mask;
+                while ( table[i] != null ) {
+                    i = ( i + 1 ) & mask;
+                }
+                table[i] = handle;
+            }
+        }
+    }
+
+    private static int hash( Object object ) {
+        int h = System.identityHashCode( object );
+        return h ^ ( h >>> 16 );
+    }
+
+    private static int capacityFor( int size ) {
+        int capacity = DEFAULT_CAPACITY;
+        while ( capacity * LOAD_FACTOR < size ) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    @Override
+    public Iterator<Object> iterateObjects() {
+        return new ObjectIterator( new HandleIterator( table, null ) );
+    }
+
+    @Override
+    public Iterator<Object> iterateObjects( ObjectFilter filter ) {
+        return new ObjectIterator( new HandleIterator( table, filter ) );
+    }
+
+    @Override
+    public Iterator<InternalFactHandle> iterateFactHandles() {
+        return new HandleIterator( table, null );
+    }
+
+    @Override
+    public Iterator<InternalFactHandle> iterateFactHandles( ObjectFilter filter ) {
+        return new HandleIterator( table, filter );
+    }
+
+    @Override
+    public Iterator<Object> iterateNegObjects( ObjectFilter filter ) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<InternalFactHandle> iterateNegFactHandles( ObjectFilter filter ) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public FactHandleClassStore getStoreForClass( Class<?> clazz ) {
+        return () -> {
+            // collects the handles, so the store can be modified while iterating them
+            List<InternalFactHandle> handles = new ArrayList<>();
+            iterateFactHandles( new ClassObjectFilter( clazz ) ).forEachRemaining( handles::add );
+            return handles.iterator();
+        };
+    }
+
+    @Override
+    public boolean clearClassStore( Class<?> clazz ) {
+        List<InternalFactHandle> toBeRemoved = new ArrayList<>();
+        iterateFactHandles( new ClassObjectFilter( clazz ) ).forEachRemaining( toBeRemoved::add );
+        toBeRemoved.forEach( this::removeHandle );
+        return !toBeRemoved.isEmpty();
+    }
+
+    private static class HandleIterator implements Iterator<InternalFactHandle> {
+        private final InternalFactHandle[] table;
+        private final ObjectFilter filter;
+        private int index;
+        private InternalFactHandle next;
+
+        private HandleIterator( InternalFactHandle[] table, ObjectFilter filter ) {
+            this.table = table;
+            this.filter = filter;
+            this.next = findNext();
+        }
+
+        private InternalFactHandle findNext() {
+            while ( index < table.length ) {
+                InternalFactHandle handle = table[index++];
+                if ( handle != null && ( filter == null || filter.accept( handle.getObject() ) ) ) {
+                    return handle;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public InternalFactHandle next() {
+            if ( next == null ) {
+                throw new NoSuchElementException();
+            }
+            InternalFactHandle current = next;
+            next = findNext();
+            return current;
+        }
+    }
+
+    private static class ObjectIterator implements Iterator<Object> {
+        private final HandleIterator delegate;
+
+        private ObjectIterator( HandleIterator delegate ) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public Object next() {
+            return delegate.next().getObject();
+        }
+    }
+}
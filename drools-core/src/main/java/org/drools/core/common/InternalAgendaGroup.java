@@ -66,6 +66,12 @@ public interface InternalAgendaGroup extends AgendaGroup {
 
     void visited();
 
+    /**
+     * In a sequential session, marks the given activation as the last one fired, so that this group won't accept
+     * any activation that, in salience and load order, would have been fired before it
+     */
+    void setLastFired(Activation activation);
+
     void setReteEvaluator(ReteEvaluator reteEvaluator);
 
     void hasRuleFlowListener(boolean hasRuleFlowLister);
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An executor provider creating a new virtual thread for each submitted task. Since virtual threads are available
+ * only on JDK 21+ they are accessed reflectively and, when running on an older JDK, this provider falls back
+ * to the platform threads pool of the {@link ExecutorProviderImpl}.
+ * It has a lower priority than the default provider, so it has to be explicitly selected setting the
+ * {@link org.kie.internal.concurrent.ExecutorProviderFactory#EXECUTOR_PROVIDER_PROPERTY} system property
+ * to the name of this class.
+ */
+public class VirtualThreadExecutorProviderImpl extends ExecutorProviderImpl {
+
+    private static final Logger log = LoggerFactory.getLogger( VirtualThreadExecutorProviderImpl.class );
+
+    private static class VirtualThreadsHolder {
+        private static final ThreadFactory threadFactory = createVirtualThreadFactory();
+        private static final ExecutorService executor = threadFactory != null ? newThreadPerTaskExecutor( threadFactory ) : null;
+    }
+
+    @Override
+    public int servicePriority() {
+        return -1;
+    }
+
+    public static boolean isVirtualThreadsSupported() {
+        return VirtualThreadsHolder.threadFactory != null;
+    }
+
+    @Override
+    public ExecutorService getExecutor() {
+        return isVirtualThreadsSupported() ? VirtualThreadsHolder.executor : super.getExecutor();
+    }
+
+    @Override
+    public ExecutorService newSingleThreadExecutor() {
+        return isVirtualThreadsSupported() ? Executors.newSingleThreadExecutor( VirtualThreadsHolder.threadFactory ) : super.newSingleThreadExecutor();
+    }
+
+    @Override
+    public ExecutorService newFixedThreadPool(int nThreads) {
+        return isVirtualThreadsSupported() ? Executors.newFixedThreadPool( nThreads, VirtualThreadsHolder.threadFactory ) : super.newFixedThreadPool( nThreads );
+    }
+
+    private static ThreadFactory createVirtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod( "ofVirtual" ).invoke( null );
+            Class<?> ofVirtualClass = Class.forName( "java.lang.Thread$Builder$OfVirtual" );
+            builder = ofVirtualClass.getMethod( "name", String.class, long.class ).invoke( builder, "drools-virtual-worker-", 1L );
+            return (ThreadFactory) Class.forName( "java.lang.Thread$Builder" ).getMethod( "factory" ).invoke( builder );
+        } catch (ReflectiveOperationException e) {
+            log.warn( "Virtual threads are not available on this JVM (they require JDK 21+), falling back to platform threads" );
+            return null;
+        }
+    }
+
+    private static ExecutorService newThreadPerTaskExecutor( ThreadFactory threadFactory ) {
+        try {
+            Method method = Executors.class.getMethod( "newThreadPerTaskExecutor", ThreadFactory.class );
+            return (ExecutorService) method.invoke( null, threadFactory );
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException( "Unable to create a virtual threads executor", e );
+        }
+    }
+}
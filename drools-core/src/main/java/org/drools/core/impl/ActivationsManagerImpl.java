@@ -368,22 +368,11 @@ public class ActivationsManagerImpl implements ActivationsManager {
         class FireUntilHaltRestHandler implements RestHandler {
             @Override
             public PropagationEntry handleRest(ActivationsManagerImpl agenda) {
-                PropagationEntry head;
-                // this must use the same sync target as takeAllPropagations, to ensure this entire block is atomic, up to the point of wait
-                synchronized (agenda.propagationList) {
-                    head = agenda.propagationList.takeAll();
-
-                    // if halt() has called, the thread should not be put into a wait state
-                    // instead this is just a safe way to make sure the queue is flushed before exiting the loop
-                    if (head == null) {
-                        agenda.propagationList.waitOnRest();
-                        head = agenda.propagationList.takeAll();
-                        if (head == null) {
-                            agenda.firing = false;
-                        }
-                    }
+                // the propagation list takes the pending entries and waits atomically, up to the point of wait
+                PropagationEntry head = agenda.propagationList.takeAllOrWaitOnRest( () -> true );
+                if (head == null) {
+                    agenda.firing = false;
                 }
-
                 return head;
             }
         }
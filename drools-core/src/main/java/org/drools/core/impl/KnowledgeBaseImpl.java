@@ -29,6 +29,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -44,6 +45,7 @@ import org.drools.core.definitions.InternalKnowledgePackage;
 import org.drools.core.definitions.rule.impl.RuleImpl;
 import org.drools.core.factmodel.ClassDefinition;
 import org.drools.core.management.DroolsManagementAgent;
+import org.drools.core.phreak.DirectSequentialEvaluator;
 import org.drools.core.reteoo.AsyncReceiveNode;
 import org.drools.core.reteoo.CompositePartitionAwareObjectSinkAdapter;
 import org.drools.core.reteoo.CoreComponentFactory;
@@ -52,6 +54,7 @@ import org.drools.core.reteoo.LeftTupleNode;
 import org.drools.core.reteoo.LeftTupleSource;
 import org.drools.core.reteoo.ObjectSinkPropagator;
 import org.drools.core.reteoo.ObjectTypeNode;
+import org.drools.core.reteoo.ReferenceData;
 import org.drools.core.reteoo.Rete;
 import org.drools.core.reteoo.ReteooBuilder;
 import org.drools.core.reteoo.RuntimeComponentFactory;
@@ -122,6 +125,8 @@ public class KnowledgeBaseImpl implements RuleBase {
     private transient Rete rete;
     private ReteooBuilder reteooBuilder;
     private final transient Map<Integer, SegmentMemory.Prototype> segmentProtos = new ConcurrentHashMap<>();
+    private final transient List<ReferenceData> referenceData = new CopyOnWriteArrayList<>();
+    private transient volatile DirectSequentialEvaluator directSequentialEvaluator;
 
     // This is just a hack, so spring can find the list of generated classes
     public List<List<String>> jaxbClasses;
@@ -912,6 +917,41 @@ public class KnowledgeBaseImpl implements RuleBase {
         return segmentProtos.get(segment.getRootNode().getId());
     }
 
+    /**
+     * Registers a set of immutable facts to be inserted into the given entry point of every session
+     * created from now on, evaluating their alpha constraints only once for all the sessions.
+     */
+    public void addReferenceData(String entryPointName, Collection<?> facts) {
+        if (rete.getEntryPointNode(new EntryPointId(entryPointName)) == null) {
+            throw new IllegalArgumentException("Unknown entry point: " + entryPointName);
+        }
+        referenceData.add(new ReferenceData(entryPointName, facts));
+    }
+
+    public Collection<ReferenceData> getReferenceData() {
+        return referenceData;
+    }
+
+    /**
+     * Returns the evaluator firing the stateless sessions of this kbase without staging their matches in the network,
+     * or null if any of the rules of this kbase requires the full network.
+     */
+    public DirectSequentialEvaluator getDirectSequentialEvaluator() {
+        DirectSequentialEvaluator evaluator = directSequentialEvaluator;
+        if (evaluator == null) {
+            evaluator = DirectSequentialEvaluator.create(this);
+            directSequentialEvaluator = evaluator;
+        }
+        return evaluator.isApplicable() ? evaluator : null;
+    }
+
+    private void invalidateNetworkCaches() {
+        for (ReferenceData data : referenceData) {
+            data.invalidateRoutes();
+        }
+        directSequentialEvaluator = null;
+    }
+
     private static class TypeDeclarationCandidate {
 
         public TypeDeclaration candidate = null;
@@ -1010,6 +1050,7 @@ public class KnowledgeBaseImpl implements RuleBase {
             this.hasMultipleAgendaGroups |= !rule.isMainAgendaGroup();
             this.reteooBuilder.addRule(rule, workingMemories);
         }
+        invalidateNetworkCaches();
     }
 
     public void removeQuery( final String packageName, final String ruleName ) {
@@ -1037,12 +1078,14 @@ public class KnowledgeBaseImpl implements RuleBase {
 
     public void kBaseInternal_removeRule(InternalKnowledgePackage pkg, RuleImpl rule, Collection<InternalWorkingMemory> workingMemories) {
         this.reteooBuilder.removeRules(Collections.singletonList(rule), workingMemories);
+        invalidateNetworkCaches();
         pkg.removeRule( rule );
         addReloadDialectDatas( pkg.getDialectRuntimeRegistry() );
     }
 
     public void kBaseInternal_removeRules(Collection<? extends Rule> rules, Collection<InternalWorkingMemory> workingMemories) {
         this.reteooBuilder.removeRules(rules, workingMemories);
+        invalidateNetworkCaches();
     }
 
     public void removeFunction( final String packageName, final String functionName ) {
@@ -31,10 +31,12 @@ import org.drools.core.common.ReteEvaluator;
 import org.drools.core.common.RuleBasePartitionId;
 import org.drools.core.definitions.InternalKnowledgePackage;
 import org.drools.core.definitions.rule.impl.RuleImpl;
+import org.drools.core.phreak.DirectSequentialEvaluator;
 import org.drools.core.reteoo.AsyncReceiveNode;
 import org.drools.core.reteoo.EntryPointNode;
 import org.drools.core.reteoo.LeftTupleNode;
 import org.drools.core.reteoo.LeftTupleSource;
+import org.drools.core.reteoo.ReferenceData;
 import org.drools.core.reteoo.Rete;
 import org.drools.core.reteoo.ReteooBuilder;
 import org.drools.core.reteoo.SegmentMemory;
@@ -159,4 +161,9 @@ public interface RuleBase {
     }
 
     void registerSegmentPrototype(LeftTupleSource tupleSource, SegmentMemory smem);
+
+    void addReferenceData(String entryPointName, Collection<?> facts);
+    Collection<ReferenceData> getReferenceData();
+
+    DirectSequentialEvaluator getDirectSequentialEvaluator();
 }
@@ -0,0 +1,379 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.phreak;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.drools.core.InitialFact;
+import org.drools.core.RuleBaseConfiguration;
+import org.drools.core.common.ActivationsManager;
+import org.drools.core.common.InternalAgendaGroup;
+import org.drools.core.common.InternalFactHandle;
+import org.drools.core.common.InternalWorkingMemoryEntryPoint;
+import org.drools.core.common.PhreakPropagationContext;
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.definitions.rule.impl.RuleImpl;
+import org.drools.core.impl.RuleBase;
+import org.drools.core.reteoo.AlphaNode;
+import org.drools.core.reteoo.EntryPointNode;
+import org.drools.core.reteoo.LeftInputAdapterNode;
+import org.drools.core.reteoo.ObjectSource;
+import org.drools.core.reteoo.ObjectTypeConf;
+import org.drools.core.reteoo.ObjectTypeNode;
+import org.drools.core.reteoo.PathMemory;
+import org.drools.core.reteoo.QueryTerminalNode;
+import org.drools.core.reteoo.RuleTerminalNode;
+import org.drools.core.reteoo.RuleTerminalNodeLeftTuple;
+import org.drools.core.reteoo.TerminalNode;
+import org.drools.core.rule.EntryPointId;
+import org.drools.core.spi.FactHandleFactory;
+import org.drools.core.spi.PropagationContext;
+import org.drools.core.util.StringUtils;
+import org.kie.internal.conf.SequentialEvaluatorOption;
+
+/**
+ * Evaluates the facts of a stateless session of a sequential kbase whose rules are all join free, i.e. made of a
+ * single pattern, only constrained by alpha nodes, on the default entry point.
+ *
+ * The facts are still matched by the alpha network, that hashes their literal constraints and can be compiled,
+ * but when they reach a left input adapter they are only collected together with the rules they match, instead of
+ * being staged as tuples in the network and scheduled as rule agenda items. Then the rules are fired directly, in
+ * salience and load order, each one with its matches in insertion order.
+ *
+ * As soon as a consequence inserts or modifies a fact, the network has to evaluate it: the matches of the following
+ * rules are then propagated into the network too, and the agenda fires them in the same order, while the rules
+ * already fired are not activated again, as in any sequential session. The only difference is that a rule matching
+ * both the facts of the evaluation and the ones coming from the consequences fires the latter first.
+ *
+ * The kbases with any rule requiring the full network, like rules with joins, negations, dynamic salience, agenda or
+ * activation groups, timers or named consequences, don't have a direct evaluator, and the sessions fall back to the
+ * ordinary evaluation of the network.
+ */
+public class DirectSequentialEvaluator {
+
+    private static final DirectSequentialEvaluator NOT_APPLICABLE = new DirectSequentialEvaluator( new RuleTerminalNode[0], new int[0][] );
+
+    // the terminal nodes in firing order
+    private final RuleTerminalNode[] terminalNodes;
+
+    // the positions in terminalNodes of the sinks of each left input adapter, indexed by the adapter id
+    private final int[][] positionsByAdapter;
+
+    private DirectSequentialEvaluator(RuleTerminalNode[] terminalNodes, int[][] positionsByAdapter) {
+        this.terminalNodes = terminalNodes;
+        this.positionsByAdapter = positionsByAdapter;
+    }
+
+    public static DirectSequentialEvaluator create(RuleBase kBase) {
+        RuleBaseConfiguration conf = kBase.getConfiguration();
+        if ( !conf.isSequential() || conf.getSequentialEvaluator() != SequentialEvaluatorOption.DIRECT ||
+             conf.isDeclarativeAgenda() || conf.isMultithreadEvaluation() ) {
+            return NOT_APPLICABLE;
+        }
+
+        List<RuleTerminalNode> nodes = new ArrayList<>();
+        for ( TerminalNode[] ruleNodes : kBase.getReteooBuilder().getTerminalNodes().values() ) {
+            for ( TerminalNode node : ruleNodes ) {
+                if ( node instanceof QueryTerminalNode ) {
+                    // queries are not fired, they don't prevent the direct evaluation of the rules
+                    continue;
+                }
+                if ( !( node instanceof RuleTerminalNode ) || !isJoinFree( (RuleTerminalNode) node ) ) {
+                    return NOT_APPLICABLE;
+                }
+                nodes.add( (RuleTerminalNode) node );
+            }
+        }
+        if ( nodes.isEmpty() ) {
+            return NOT_APPLICABLE;
+        }
+
+        // the same order used by the agenda of a sequential session, sorting is stable so subrules keep their order
+        nodes.sort( Comparator.comparingInt( (RuleTerminalNode node) -> -node.getRule().getSalience().getValue() )
+                              .thenComparingInt( node -> node.getRule().getLoadOrder() ) );
+
+        int maxAdapterId = 0;
+        for ( RuleTerminalNode node : nodes ) {
+            maxAdapterId = Math.max( maxAdapterId, node.getLeftTupleSource().getId() );
+        }
+        int[][] positionsByAdapter = new int[maxAdapterId + 1][];
+        for ( int i = 0; i < nodes.size(); i++ ) {
+            int adapterId = nodes.get( i ).getLeftTupleSource().getId();
+            int[] positions = positionsByAdapter[adapterId];
+            if ( positions == null ) {
+                positions = new int[] { i };
+            } else {
+                positions = Arrays.copyOf( positions, positions.length + 1 );
+                positions[positions.length - 1] = i;
+            }
+            positionsByAdapter[adapterId] = positions;
+        }
+
+        return new DirectSequentialEvaluator( nodes.toArray( new RuleTerminalNode[nodes.size()] ), positionsByAdapter );
+    }
+
+    private static boolean isJoinFree(RuleTerminalNode node) {
+        if ( !( node.getLeftTupleSource() instanceof LeftInputAdapterNode ) || node.isFireDirect() ||
+             !RuleImpl.DEFAULT_CONSEQUENCE_NAME.equals( node.getConsequenceName() ) ) {
+            return false;
+        }
+
+        RuleImpl rule = node.getRule();
+        if ( rule.getSalience().isDynamic() || !rule.isMainAgendaGroup() || rule.getTimer() != null ||
+             !StringUtils.isEmpty( rule.getActivationGroup() ) || !StringUtils.isEmpty( rule.getRuleFlowGroup() ) ||
+             rule.hasNamedConsequences() || rule.isAllMatches() ) {
+            return false;
+        }
+
+        ObjectSource source = ( (LeftInputAdapterNode) node.getLeftTupleSource() ).getObjectSource();
+        while ( source instanceof AlphaNode ) {
+            source = source.getParentObjectSource();
+        }
+        if ( !( source instanceof ObjectTypeNode ) ) {
+            return false;
+        }
+        ObjectTypeNode otn = (ObjectTypeNode) source;
+        // rules without patterns are activated by the initial fact when the session is created, only the agenda can fire them
+        return !otn.getObjectType().isAssignableTo( InitialFact.class ) &&
+               otn.getParentObjectSource() instanceof EntryPointNode &&
+               EntryPointId.DEFAULT.equals( ( (EntryPointNode) otn.getParentObjectSource() ).getEntryPoint() );
+    }
+
+    public boolean isApplicable() {
+        return terminalNodes.length > 0;
+    }
+
+    /**
+     * Inserts the given facts into the default entry point of the given session and fires the rules they match.
+     * Returns false, without inserting anything, if any of the facts requires the full network, i.e. if it is an
+     * event, a trait or of a type with truth maintenance or property change support enabled: in this case the facts
+     * have to be inserted and fired as usual. If a consequence inserts or modifies a fact, the rules following it are
+     * left to the agenda, so the session still has to fire its rules after this evaluation.
+     */
+    public boolean evaluate(ReteEvaluator reteEvaluator, Collection<?> objects) {
+        if ( reteEvaluator.getSessionConfiguration().isDirectFiring() ) {
+            return false;
+        }
+
+        InternalWorkingMemoryEntryPoint entryPoint = (InternalWorkingMemoryEntryPoint) reteEvaluator.getDefaultEntryPoint();
+        ObjectTypeConf[] typeConfs = new ObjectTypeConf[objects.size()];
+        int i = 0;
+        for ( Object object : objects ) {
+            if ( object != null ) {
+                ObjectTypeConf typeConf = entryPoint.getObjectTypeConfigurationRegistry().getOrCreateObjectTypeConf( EntryPointId.DEFAULT, object );
+                if ( typeConf.isEvent() || typeConf.isTrait() || typeConf.isTMSEnabled() || typeConf.isDynamic() ) {
+                    return false;
+                }
+                typeConfs[i] = typeConf;
+            }
+            i++;
+        }
+
+        Matches matches = new Matches( this );
+        reteEvaluator.startOperation();
+        try {
+            i = 0;
+            for ( Object object : objects ) {
+                ObjectTypeConf typeConf = typeConfs[i++];
+                if ( typeConf != null ) {
+                    InternalFactHandle handle = reteEvaluator.createFactHandle( object, typeConf, entryPoint );
+                    PropagationContext pctx = new MatchCollector( reteEvaluator.getNextPropagationIdCounter(), handle, matches );
+                    entryPoint.insert( handle, object, null, typeConf, pctx );
+                }
+            }
+        } finally {
+            reteEvaluator.endOperation();
+        }
+        matches.collecting = false;
+
+        fire( reteEvaluator, matches );
+        return true;
+    }
+
+    private void fire(ReteEvaluator reteEvaluator, Matches matches) {
+        ActivationsManager activationsManager = reteEvaluator.getActivationsManager();
+        InternalAgendaGroup agendaGroup = activationsManager.getAgendaGroupsManager().getMainAgendaGroup();
+        FactHandleFactory handleFactory = reteEvaluator.getFactHandleFactory();
+        // any fact inserted or modified by a consequence gets a more recent recency
+        long insertedRecency = handleFactory.getRecency();
+
+        for ( int i = 0; i < terminalNodes.length; i++ ) {
+            List<PropagationContext> ruleMatches = matches.byTerminalNode[i];
+            if ( ruleMatches == null ) {
+                continue;
+            }
+            RuleTerminalNode rtn = terminalNodes[i];
+            RuleImpl rule = rtn.getRule();
+            int salience = rule.getSalience().getValue();
+
+            // the facts inserted or modified by the consequences must not activate again this rule, nor the ones before it
+            PathMemory pmem = reteEvaluator.getNodeMemory( rtn );
+            agendaGroup.setLastFired( pmem.getOrCreateRuleAgendaItem( activationsManager ) );
+
+            for ( PropagationContext pctx : ruleMatches ) {
+                InternalFactHandle handle = pctx.getFactHandle();
+                if ( !handle.isValid() ) {
+                    // deleted by a consequence fired before
+                    continue;
+                }
+                RuleTerminalNodeLeftTuple match = (RuleTerminalNodeLeftTuple) rtn.createLeftTuple( handle, false );
+                activationsManager.createAgendaItem( match, salience, pctx, null, agendaGroup );
+                activationsManager.getAgendaEventSupport().fireActivationCreated( match, reteEvaluator );
+                if ( isEffective( reteEvaluator, rtn, rule, match ) ) {
+                    RuleExecutor.fireActivation( reteEvaluator, activationsManager, match );
+                }
+            }
+
+            if ( handleFactory.getRecency() != insertedRecency ) {
+                handOver( reteEvaluator, matches, i, insertedRecency );
+                return;
+            }
+        }
+    }
+
+    /**
+     * Propagates into the network the matches of the rules following the given one, after that its consequences
+     * inserted or modified some facts. The facts modified by the consequences have already been propagated by the
+     * modification into the adapters they still match, so they are propagated again only if the properties they
+     * listen to were not modified.
+     */
+    private void handOver(ReteEvaluator reteEvaluator, Matches matches, int lastFired, long insertedRecency) {
+        reteEvaluator.startOperation();
+        try {
+            for ( int i = lastFired + 1; i < terminalNodes.length; i++ ) {
+                List<PropagationContext> ruleMatches = matches.byTerminalNode[i];
+                LeftInputAdapterNode liaNode = (LeftInputAdapterNode) terminalNodes[i].getLeftTupleSource();
+                if ( ruleMatches == null || isPropagated( liaNode, lastFired, i ) ) {
+                    continue;
+                }
+                for ( PropagationContext pctx : ruleMatches ) {
+                    InternalFactHandle handle = pctx.getFactHandle();
+                    if ( handle.isValid() && ( handle.getRecency() <= insertedRecency || isStillMatching( reteEvaluator, liaNode, handle ) ) ) {
+                        liaNode.assertObject( handle, pctx, reteEvaluator );
+                    }
+                }
+            }
+        } finally {
+            reteEvaluator.endOperation();
+        }
+    }
+
+    /**
+     * Returns true if the matches of the given adapter have already been propagated for a rule before the given
+     * position, the rules sharing an adapter have the same matches
+     */
+    private boolean isPropagated(LeftInputAdapterNode liaNode, int lastFired, int position) {
+        for ( int other : positionsByAdapter[liaNode.getId()] ) {
+            if ( other > lastFired && other < position ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isStillMatching(ReteEvaluator reteEvaluator, LeftInputAdapterNode liaNode, InternalFactHandle handle) {
+        if ( handle.findFirstLeftTuple( tuple -> tuple.getTupleSource() == liaNode ) != null ) {
+            // already propagated by the modification
+            return false;
+        }
+        ObjectSource source = liaNode.getObjectSource();
+        while ( source instanceof AlphaNode ) {
+            if ( !( (AlphaNode) source ).getConstraint().isAllowed( handle, reteEvaluator ) ) {
+                return false;
+            }
+            source = source.getParentObjectSource();
+        }
+        return ( (ObjectTypeNode) source ).getObjectType().isAssignableFrom( handle.getObject().getClass() );
+    }
+
+    private static boolean isEffective(ReteEvaluator reteEvaluator, RuleTerminalNode rtn, RuleImpl rule, RuleTerminalNodeLeftTuple match) {
+        if ( !rule.isEffective( match, rtn, reteEvaluator ) ) {
+            return false;
+        }
+        if ( rule.hasCalendars() ) {
+            long timestamp = reteEvaluator.getSessionClock().getCurrentTime();
+            for ( String cal : rule.getCalendars() ) {
+                if ( !reteEvaluator.getCalendars().get( cal ).isTimeIncluded( timestamp ) ) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static class Matches {
+
+        private final DirectSequentialEvaluator evaluator;
+
+        private final List<PropagationContext>[] byTerminalNode;
+
+        // false once the facts are inserted, then they are propagated into the network as usual
+        private boolean collecting = true;
+
+        @SuppressWarnings("unchecked")
+        private Matches(DirectSequentialEvaluator evaluator) {
+            this.evaluator = evaluator;
+            this.byTerminalNode = new List[evaluator.terminalNodes.length];
+        }
+
+        private boolean add(LeftInputAdapterNode liaNode, PropagationContext pctx) {
+            if ( !collecting ) {
+                return false;
+            }
+            int adapterId = liaNode.getId();
+            int[] positions = adapterId < evaluator.positionsByAdapter.length ? evaluator.positionsByAdapter[adapterId] : null;
+            if ( positions == null ) {
+                return false;
+            }
+            for ( int position : positions ) {
+                List<PropagationContext> ruleMatches = byTerminalNode[position];
+                if ( ruleMatches == null ) {
+                    ruleMatches = new ArrayList<>();
+                    byTerminalNode[position] = ruleMatches;
+                }
+                ruleMatches.add( pctx );
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The propagation context of a fact inserted by the direct evaluator, collecting the rules matched by the fact
+     * when it reaches their left input adapters.
+     */
+    public static class MatchCollector extends PhreakPropagationContext {
+
+        private final transient Matches matches;
+
+        private MatchCollector(long number, InternalFactHandle handle, Matches matches) {
+            super( number, Type.INSERTION, null, null, handle, EntryPointId.DEFAULT );
+            this.matches = matches;
+        }
+
+        /**
+         * Collects the match of the fact with the rules fed by the given adapter, returning false if the fact has
+         * to be propagated into the network as usual.
+         */
+        public boolean collect(LeftInputAdapterNode liaNode) {
+            return matches.add( liaNode, this );
+        }
+    }
+}
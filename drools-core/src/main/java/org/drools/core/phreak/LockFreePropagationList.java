@@ -0,0 +1,262 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.phreak;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.phreak.SynchronizedPropagationList.PropagationEntryIterator;
+
+/**
+ * A multi-producer/single-consumer {@link PropagationList} that doesn't take any lock.
+ * Producers push their entries on a lock-free stack with a single CAS, while the engine thread,
+ * which is the only consumer, detaches the whole stack at once and reverses it in order to
+ * process the pending propagations in batch and in the same order they have been added.
+ * When idle in a fireUntilHalt, the consumer optionally spins for a while before parking itself.
+ */
+public class LockFreePropagationList implements PropagationList {
+
+    private static final int SPIN_TRIES = 1000;
+
+    private final ReteEvaluator reteEvaluator;
+
+    private final boolean spinBeforePark;
+
+    private final AtomicReference<PropagationEntry> top = new AtomicReference<>();
+
+    private final AtomicInteger entriesDeferringExpiration = new AtomicInteger();
+
+    private volatile Thread waiter;
+
+    private volatile boolean notified = false;
+
+    private volatile boolean disposed = false;
+
+    private volatile boolean firingUntilHalt = false;
+
+    public LockFreePropagationList(ReteEvaluator reteEvaluator) {
+        this( reteEvaluator, false );
+    }
+
+    public LockFreePropagationList(ReteEvaluator reteEvaluator, boolean spinBeforePark) {
+        this.reteEvaluator = reteEvaluator;
+        this.spinBeforePark = spinBeforePark;
+    }
+
+    @Override
+    public void addEntry(final PropagationEntry entry) {
+        if (entry.requiresImmediateFlushing()) {
+            if (entry.isCalledFromRHS()) {
+                entry.execute(reteEvaluator);
+            } else {
+                reteEvaluator.getActivationsManager().executeTask( new ExecutableEntry() {
+                    @Override
+                    public void execute() {
+                        if (entry instanceof PhreakTimerNode.TimerAction) {
+                            ( (PhreakTimerNode.TimerAction) entry ).execute( reteEvaluator, true );
+                        } else {
+                            entry.execute( reteEvaluator );
+                        }
+                    }
+
+                    @Override
+                    public void enqueue() {
+                        internalAddEntry( entry );
+                    }
+                } );
+            }
+        } else {
+            internalAddEntry( entry );
+        }
+    }
+
+    void internalAddEntry( PropagationEntry entry ) {
+        if (entry.defersExpiration()) {
+            entriesDeferringExpiration.incrementAndGet();
+        }
+        PropagationEntry currentTop;
+        do {
+            currentTop = top.get();
+            entry.setNext( currentTop );
+        } while (!top.compareAndSet( currentTop, entry ));
+
+        if (currentTop == null && firingUntilHalt) {
+            wakeUpWaiter();
+        }
+    }
+
+    @Override
+    public PropagationEntry takeAll() {
+        PropagationEntry currentTop = top.getAndSet( null );
+        return currentTop == null ? null : reverse( currentTop );
+    }
+
+    private PropagationEntry reverse( PropagationEntry entry ) {
+        PropagationEntry reversed = null;
+        int deferring = 0;
+        while (entry != null) {
+            PropagationEntry next = entry.getNext();
+            entry.setNext( reversed );
+            if (entry.defersExpiration()) {
+                deferring++;
+            }
+            reversed = entry;
+            entry = next;
+        }
+        if (deferring > 0) {
+            entriesDeferringExpiration.addAndGet( -deferring );
+        }
+        return reversed;
+    }
+
+    @Override
+    public PropagationEntry takeAllOrWaitOnRest( BooleanSupplier waitCondition ) {
+        PropagationEntry currentHead = takeAll();
+        if (currentHead == null && waitCondition.getAsBoolean()) {
+            waitOnRest();
+            currentHead = takeAll();
+        }
+        return currentHead;
+    }
+
+    @Override
+    public void flush() {
+        flush( takeAll() );
+    }
+
+    @Override
+    public void flush( PropagationEntry currentHead ) {
+        for (PropagationEntry entry = currentHead; !disposed && entry != null; entry = entry.getNext()) {
+            entry.execute(reteEvaluator);
+        }
+    }
+
+    @Override
+    public void reset() {
+        takeAll();
+        disposed = false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    @Override
+    public boolean hasEntriesDeferringExpiration() {
+        return entriesDeferringExpiration.get() > 0;
+    }
+
+    @Override
+    public Iterator<PropagationEntry> iterator() {
+        // the pending entries are linked in reverse order, so iterate over a copy of them in the right one
+        PropagationEntry copy = null;
+        for (PropagationEntry entry = top.get(); entry != null; entry = entry.getNext()) {
+            PropagationEntry wrapper = new EntryWrapper( entry );
+            wrapper.setNext( copy );
+            copy = wrapper;
+        }
+        return new UnwrappingIterator( copy );
+    }
+
+    @Override
+    public void waitOnRest() {
+        waiter = Thread.currentThread();
+        try {
+            if (spinBeforePark) {
+                for (int i = 0; i < SPIN_TRIES && !hasPendingWork(); i++) {
+                    Thread.yield();
+                }
+            }
+            while (!hasPendingWork()) {
+                LockSupport.park( this );
+                if (Thread.interrupted()) {
+                    // do nothing, as the synchronized version does
+                    break;
+                }
+            }
+        } finally {
+            waiter = null;
+            notified = false;
+        }
+    }
+
+    private boolean hasPendingWork() {
+        return notified || top.get() != null;
+    }
+
+    @Override
+    public void notifyWaitOnRest() {
+        notified = true;
+        wakeUpWaiter();
+    }
+
+    private void wakeUpWaiter() {
+        Thread currentWaiter = waiter;
+        if (currentWaiter != null) {
+            LockSupport.unpark( currentWaiter );
+        }
+    }
+
+    @Override
+    public void onEngineInactive() { }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+    }
+
+    @Override
+    public void setFiringUntilHalt( boolean firingUntilHalt ) {
+        this.firingUntilHalt = firingUntilHalt;
+    }
+
+    private static class EntryWrapper extends PropagationEntry.AbstractPropagationEntry {
+        private final PropagationEntry entry;
+
+        private EntryWrapper( PropagationEntry entry ) {
+            this.entry = entry;
+        }
+
+        @Override
+        public void execute( ReteEvaluator reteEvaluator ) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class UnwrappingIterator implements Iterator<PropagationEntry> {
+        private final PropagationEntryIterator delegate;
+
+        private UnwrappingIterator( PropagationEntry head ) {
+            this.delegate = new PropagationEntryIterator( head );
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public PropagationEntry next() {
+            return ( (EntryWrapper) delegate.next() ).entry;
+        }
+    }
+}
@@ -16,12 +16,19 @@
 package org.drools.core.phreak;
 
 import java.util.Iterator;
+import java.util.function.BooleanSupplier;
 
 public interface PropagationList {
     void addEntry(PropagationEntry propagationEntry);
 
     PropagationEntry takeAll();
 
+    /**
+     * Atomically takes all the pending entries or, when there are none and the given condition holds,
+     * waits on rest until a new entry is added and then takes them.
+     */
+    PropagationEntry takeAllOrWaitOnRest( BooleanSupplier waitCondition );
+
     void flush();
     void flush( PropagationEntry currentHead );
 
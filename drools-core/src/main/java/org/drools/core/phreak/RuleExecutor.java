@@ -380,7 +380,7 @@ public class RuleExecutor {
         }
     }
 
-    public void fireActivation(ReteEvaluator reteEvaluator, ActivationsManager activationsManager, Activation activation) throws ConsequenceException {
+    public static void fireActivation(ReteEvaluator reteEvaluator, ActivationsManager activationsManager, Activation activation) throws ConsequenceException {
         // We do this first as if a node modifies a fact that causes a recursion
         // on an empty pattern
         // we need to make sure it re-activates
@@ -440,7 +440,7 @@ public class RuleExecutor {
         }
     }
 
-    private void innerFireActivation( ReteEvaluator reteEvaluator, ActivationsManager activationsManager, Activation activation, Consequence consequence ) {
+    private static void innerFireActivation( ReteEvaluator reteEvaluator, ActivationsManager activationsManager, Activation activation, Consequence consequence ) {
         try {
             KnowledgeHelper knowledgeHelper = activationsManager.getKnowledgeHelper();
             knowledgeHelper.setActivation( activation );
@@ -68,6 +68,22 @@ public class SegmentUtilities {
         }
     }
 
+    /**
+     * Initialises the memories of the segments rooted in the LeftInputAdapterNodes of all the rules and queries,
+     * as it would otherwise happen when the first fact is propagated into each of them.
+     */
+    public static void createRootSegmentMemories(ReteEvaluator reteEvaluator) {
+        for (TerminalNode[] terminalNodes : reteEvaluator.getKnowledgeBase().getReteooBuilder().getTerminalNodes().values()) {
+            for (TerminalNode tn : terminalNodes) {
+                LeftTupleSource root = tn.getLeftTupleSource();
+                while (root.getLeftTupleSource() != null) {
+                    root = root.getLeftTupleSource();
+                }
+                createSegmentMemory(root, reteEvaluator);
+            }
+        }
+    }
+
     public static SegmentMemory createSegmentMemory(LeftTupleSource tupleSource, Memory mem, ReteEvaluator reteEvaluator) {
         // find segment root
         while (!SegmentUtilities.isRootNode(tupleSource, null)) {
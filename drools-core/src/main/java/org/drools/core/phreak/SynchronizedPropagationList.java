@@ -16,6 +16,9 @@
 package org.drools.core.phreak;
 
 import java.util.Iterator;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 
 import org.drools.core.common.ReteEvaluator;
 import org.slf4j.Logger;
@@ -36,6 +39,10 @@ public class SynchronizedPropagationList implements PropagationList {
 
     private volatile boolean firingUntilHalt = false;
 
+    // a j.u.c. lock is used instead of the intrinsic monitor so a virtual thread waiting on rest doesn't pin its carrier thread
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition rest = lock.newCondition();
+
     public SynchronizedPropagationList(ReteEvaluator reteEvaluator) {
         this.reteEvaluator = reteEvaluator;
     }
@@ -67,17 +74,22 @@ public class SynchronizedPropagationList implements PropagationList {
         }
     }
 
-    synchronized void internalAddEntry( PropagationEntry entry ) {
-        if ( head == null ) {
-            head = entry;
-            if (firingUntilHalt) {
-                notifyWaitOnRest();
+    void internalAddEntry( PropagationEntry entry ) {
+        lock.lock();
+        try {
+            if ( head == null ) {
+                head = entry;
+                if (firingUntilHalt) {
+                    notifyWaitOnRest();
+                }
+            } else {
+                tail.setNext( entry );
             }
-        } else {
-            tail.setNext( entry );
+            tail = entry;
+            hasEntriesDeferringExpiration |= entry.defersExpiration();
+        } finally {
+            lock.unlock();
         }
-        tail = entry;
-        hasEntriesDeferringExpiration |= entry.defersExpiration();
     }
 
     @Override
@@ -106,43 +118,86 @@ public class SynchronizedPropagationList implements PropagationList {
     }
 
     @Override
-    public synchronized PropagationEntry takeAll() {
-        PropagationEntry currentHead = head;
-        head = null;
-        tail = null;
-        hasEntriesDeferringExpiration = false;
-        return currentHead;
+    public PropagationEntry takeAll() {
+        lock.lock();
+        try {
+            PropagationEntry currentHead = head;
+            head = null;
+            tail = null;
+            hasEntriesDeferringExpiration = false;
+            return currentHead;
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
-    public synchronized void reset() {
-        head = null;
-        tail = null;
-        disposed = false;
+    public PropagationEntry takeAllOrWaitOnRest( BooleanSupplier waitCondition ) {
+        lock.lock();
+        try {
+            PropagationEntry currentHead = takeAll();
+            if (currentHead == null && waitCondition.getAsBoolean()) {
+                waitOnRest();
+                currentHead = takeAll();
+            }
+            return currentHead;
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
-    public synchronized boolean isEmpty() {
-        return head == null;
+    public void reset() {
+        lock.lock();
+        try {
+            head = null;
+            tail = null;
+            disposed = false;
+        } finally {
+            lock.unlock();
+        }
     }
 
-    public synchronized void waitOnRest() {
+    @Override
+    public boolean isEmpty() {
+        lock.lock();
+        try {
+            return head == null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void waitOnRest() {
+        lock.lock();
         try {
-            wait();
+            rest.await();
         } catch (InterruptedException e) {
             // do nothing
+        } finally {
+            lock.unlock();
         }
     }
 
 
     @Override
-    public synchronized void notifyWaitOnRest() {
-        notifyAll();
+    public void notifyWaitOnRest() {
+        lock.lock();
+        try {
+            rest.signalAll();
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
-    public synchronized Iterator<PropagationEntry> iterator() {
-        return new PropagationEntryIterator(head);
+    public Iterator<PropagationEntry> iterator() {
+        lock.lock();
+        try {
+            return new PropagationEntryIterator(head);
+        } finally {
+            lock.unlock();
+        }
     }
 
     public static class PropagationEntryIterator implements Iterator<PropagationEntry> {
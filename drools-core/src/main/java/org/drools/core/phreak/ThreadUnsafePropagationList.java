@@ -16,6 +16,7 @@ package org.drools.core.phreak;
 
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.function.BooleanSupplier;
 
 import org.drools.core.common.ReteEvaluator;
 
@@ -37,6 +38,11 @@ public class ThreadUnsafePropagationList implements PropagationList {
         return null;
     }
 
+    @Override
+    public PropagationEntry takeAllOrWaitOnRest( BooleanSupplier waitCondition ) {
+        return null;
+    }
+
     @Override
     public void flush() {
     }
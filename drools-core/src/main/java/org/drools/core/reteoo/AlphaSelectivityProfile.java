@@ -0,0 +1,194 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.reteoo;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.drools.core.base.ValueType;
+import org.drools.core.rule.IndexableConstraint;
+import org.drools.core.spi.AlphaNodeFieldConstraint;
+import org.drools.core.spi.ObjectType;
+import org.drools.core.util.index.IndexUtil.ConstraintType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The number of facts accepted and rejected by the alpha constraints of the kbases configured with an
+ * {@link org.kie.internal.conf.AlphaSelectivityProfileOption}, collected by the {@link ProfilingAlphaNode}s
+ * and stored in a file, so a later build of the kbase can put first the constraints rejecting more facts.
+ * The counters are kept per constraint and object type, so the nodes shared by many rules contribute to
+ * the same counter, and they accumulate the counts loaded from the file with the ones of the current run.
+ */
+public class AlphaSelectivityProfile {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlphaSelectivityProfile.class);
+
+    private static final Map<String, AlphaSelectivityProfile> profiles = new ConcurrentHashMap<>();
+
+    private final Path path;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private AlphaSelectivityProfile(Path path) {
+        this.path = path;
+        if (Files.exists(path)) {
+            try {
+                for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                    String[] fields = line.split("\t", 3);
+                    if (fields.length == 3) {
+                        counters.put(fields[2], new Counter(Long.parseLong(fields[0]), Long.parseLong(fields[1])));
+                    }
+                }
+            } catch (IOException | NumberFormatException e) {
+                logger.warn("Unable to read the alpha selectivity profile " + path + ", the alpha nodes will be built in pattern order", e);
+                counters.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the profile stored in the given file, or null if no file is configured.
+     */
+    public static AlphaSelectivityProfile get(String path) {
+        return path == null ? null : profiles.computeIfAbsent(path, p -> new AlphaSelectivityProfile(Paths.get(p)));
+    }
+
+    public Counter getCounter(ObjectType objectType, AlphaNodeFieldConstraint constraint) {
+        return counters.computeIfAbsent(keyOf(objectType, constraint), k -> new Counter(0, 0));
+    }
+
+    /**
+     * Returns the fraction of the evaluated facts rejected by the given constraint, or -1 if it has never been evaluated.
+     */
+    public double getRejectionRate(ObjectType objectType, AlphaNodeFieldConstraint constraint) {
+        Counter counter = counters.get(keyOf(objectType, constraint));
+        return counter != null ? counter.getRejectionRate() : -1;
+    }
+
+    /**
+     * Writes all the counters in the profile file, replacing its former content.
+     */
+    public synchronized void save() {
+        try {
+            Path tmp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, Counter> entry : new TreeMap<>(counters).entrySet()) {
+                    writer.write(entry.getValue().accepted + "\t" + entry.getValue().rejected + "\t" + entry.getKey());
+                    writer.newLine();
+                }
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write the alpha selectivity profile " + path, e);
+        }
+    }
+
+    /**
+     * Returns the given constraints sorted so the ones rejecting more facts come first.
+     * Only the constraints on a literal value of a direct property of the fact can be moved ahead of
+     * the others: they are the same constraints that are hashed or range indexed, and then they are
+     * already evaluated on all the facts reaching the ObjectTypeNode, while any other constraint could be
+     * guarded by a former one, like in <code>address != null, address.city == "Rome"</code>.
+     */
+    public List<AlphaNodeFieldConstraint> sortBySelectivity(ObjectType objectType, List<AlphaNodeFieldConstraint> constraints) {
+        List<AlphaNodeFieldConstraint> sorted = new ArrayList<>(constraints);
+        double[] rates = new double[sorted.size()];
+        for (int i = 0; i < rates.length; i++) {
+            rates[i] = getRejectionRate(objectType, sorted.get(i));
+        }
+        // a stable insertion sort where a constraint can move ahead only if it is safe to evaluate it earlier
+        for (int i = 1; i < sorted.size(); i++) {
+            if (!isReorderable(sorted.get(i))) {
+                continue;
+            }
+            for (int j = i; j > 0 && rates[j] > rates[j-1]; j--) {
+                AlphaNodeFieldConstraint constraint = sorted.get(j);
+                sorted.set(j, sorted.get(j-1));
+                sorted.set(j-1, constraint);
+                double rate = rates[j];
+                rates[j] = rates[j-1];
+                rates[j-1] = rate;
+            }
+        }
+        return sorted;
+    }
+
+    static boolean isReorderable(AlphaNodeFieldConstraint constraint) {
+        if (!(constraint instanceof IndexableConstraint)) {
+            return false;
+        }
+        IndexableConstraint indexableConstraint = (IndexableConstraint) constraint;
+        return indexableConstraint.getConstraintType() != ConstraintType.UNKNOWN &&
+                indexableConstraint.getField() != null &&
+                indexableConstraint.getFieldExtractor().getValueType() != ValueType.OBJECT_TYPE &&
+                indexableConstraint.getFieldExtractor().getIndex() >= 0;
+    }
+
+    private static String keyOf(ObjectType objectType, AlphaNodeFieldConstraint constraint) {
+        // one counter per line
+        return (objectType + " " + constraint).replace('\r', ' ').replace('\n', ' ').replace('\t', ' ');
+    }
+
+    /**
+     * The counts of a constraint. They are updated without synchronization, so concurrent evaluations
+     * of the same constraint can lose some increments, that is harmless for a statistic.
+     */
+    public static class Counter {
+
+        private long accepted;
+        private long rejected;
+
+        private Counter(long accepted, long rejected) {
+            this.accepted = accepted;
+            this.rejected = rejected;
+        }
+
+        public boolean count(boolean isAllowed) {
+            if (isAllowed) {
+                accepted++;
+            } else {
+                rejected++;
+            }
+            return isAllowed;
+        }
+
+        public long getAccepted() {
+            return accepted;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        public double getRejectionRate() {
+            long total = accepted + rejected;
+            return total == 0 ? -1 : (double) rejected / total;
+        }
+    }
+}
@@ -30,6 +30,7 @@ import org.drools.core.common.ReteEvaluator;
 import org.drools.core.common.RuleBasePartitionId;
 import org.drools.core.common.TupleSets;
 import org.drools.core.common.UpdateContext;
+import org.drools.core.phreak.DirectSequentialEvaluator;
 import org.drools.core.phreak.SegmentUtilities;
 import org.drools.core.reteoo.ObjectTypeNode.Id;
 import org.drools.core.reteoo.builder.BuildContext;
@@ -152,6 +153,10 @@ public class LeftInputAdapterNode extends LeftTupleSource
     public void assertObject(final InternalFactHandle factHandle,
                              final PropagationContext context,
                              final ReteEvaluator reteEvaluator) {
+        if ( context instanceof DirectSequentialEvaluator.MatchCollector && ( (DirectSequentialEvaluator.MatchCollector) context ).collect( this ) ) {
+            // the direct sequential evaluator fires the matched rules by itself
+            return;
+        }
         LiaNodeMemory lm = reteEvaluator.getNodeMemory( this );
         doInsertObject( factHandle, context, this, reteEvaluator,
                         lm, true, // queries are handled directly, and not through here
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.reteoo;
+
+import org.drools.core.common.InternalFactHandle;
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.reteoo.builder.BuildContext;
+import org.drools.core.spi.AlphaNodeFieldConstraint;
+import org.drools.core.spi.PropagationContext;
+
+/**
+ * An {@link AlphaNode} counting the facts accepted and rejected by its constraint in the
+ * {@link AlphaSelectivityProfile} of the kbase. It is used in place of the plain AlphaNode
+ * only when an {@link org.kie.internal.conf.AlphaSelectivityProfileOption} is configured.
+ * Note that the alpha nodes hashed or range indexed by their parent, or evaluated by a compiled
+ * alpha network, don't evaluate their constraint and then are not counted.
+ */
+public class ProfilingAlphaNode extends AlphaNode {
+
+    private static final long serialVersionUID = 510l;
+
+    private transient AlphaSelectivityProfile.Counter counter;
+
+    public ProfilingAlphaNode() {
+
+    }
+
+    public ProfilingAlphaNode(final int id,
+                              final AlphaNodeFieldConstraint constraint,
+                              final ObjectSource objectSource,
+                              final BuildContext context) {
+        super(id, constraint, objectSource, context);
+    }
+
+    @Override
+    public void assertObject(final InternalFactHandle factHandle,
+                             final PropagationContext context,
+                             final ReteEvaluator reteEvaluator) {
+        if (getCounter().count(this.constraint.isAllowed(factHandle, reteEvaluator))) {
+            this.sink.propagateAssertObject( factHandle, context, reteEvaluator );
+        }
+    }
+
+    @Override
+    public void modifyObject(final InternalFactHandle factHandle,
+                             final ModifyPreviousTuples modifyPreviousTuples,
+                             final PropagationContext context,
+                             final ReteEvaluator reteEvaluator) {
+        if (context.getModificationMask().intersects(inferredMask)) {
+            if (getCounter().count(this.constraint.isAllowed(factHandle, reteEvaluator))) {
+                this.sink.propagateModifyObject(factHandle,
+                        modifyPreviousTuples,
+                        context,
+                        reteEvaluator);
+            }
+        } else {
+            byPassModifyToBetaNode(factHandle, modifyPreviousTuples, context, reteEvaluator);
+        }
+    }
+
+    private AlphaSelectivityProfile.Counter getCounter() {
+        if (counter == null) {
+            // lazily resolved, so a deserialized node is bound to the profile of the running jvm
+            counter = AlphaSelectivityProfile.get(getRuleBase().getConfiguration().getAlphaSelectivityProfile())
+                    .getCounter(getObjectTypeNode().getObjectType(), this.constraint);
+        }
+        return counter;
+    }
+}
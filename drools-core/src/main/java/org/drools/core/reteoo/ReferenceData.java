@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.reteoo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.drools.core.common.InternalFactHandle;
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.phreak.PropagationEntry;
+import org.drools.core.spi.PropagationContext;
+
+/**
+ * A set of immutable reference facts (catalogs, tariffs, ...) registered on the kbase and inserted into the given
+ * entry point of every session created from it.
+ * The facts are shared by all the sessions and so are the results of their alpha constraints: the first session
+ * inserting a fact evaluates the alpha network once and records the sinks reached by it, the following sessions
+ * propagate the fact straight to those sinks, skipping the object type and alpha nodes.
+ * The recorded routes are dropped when the network changes. Note that the beta memories are still owned by
+ * each session, because the right tuples are linked to the tuples of the session they belong to.
+ * The reference facts must not be modified or depend on globals in their alpha constraints.
+ */
+public class ReferenceData {
+
+    private final String entryPointId;
+
+    private final List<Object> facts;
+
+    private volatile AtomicReferenceArray<ObjectSink[]> routes;
+
+    public ReferenceData(String entryPointId, Collection<?> facts) {
+        this.entryPointId = entryPointId;
+        this.facts = Collections.unmodifiableList( new ArrayList<>( facts ) );
+        this.routes = new AtomicReferenceArray<>( this.facts.size() );
+    }
+
+    public String getEntryPointId() {
+        return entryPointId;
+    }
+
+    public List<Object> getFacts() {
+        return facts;
+    }
+
+    public void invalidateRoutes() {
+        this.routes = new AtomicReferenceArray<>( facts.size() );
+    }
+
+    /**
+     * Propagates the fact at the given position, whose handle has just been created by the session, to the sinks
+     * reached by it, recording them the first time.
+     */
+    public void propagateAssert(int factIndex,
+                                InternalFactHandle handle,
+                                PropagationContext context,
+                                ObjectTypeConf objectTypeConf,
+                                ReteEvaluator reteEvaluator) {
+        for ( ObjectTypeNode otn : objectTypeConf.getObjectTypeNodes() ) {
+            otn.checkDirty();
+        }
+
+        AtomicReferenceArray<ObjectSink[]> currentRoutes = this.routes;
+        ObjectSink[] route = currentRoutes.get( factIndex );
+        if ( route == null ) {
+            List<ObjectSink> sinks = new ArrayList<>();
+            for ( ObjectTypeNode otn : objectTypeConf.getObjectTypeNodes() ) {
+                collectSinks( otn.getObjectSinkPropagator().getSinks(), handle, reteEvaluator, sinks );
+            }
+            route = sinks.toArray( new ObjectSink[sinks.size()] );
+            currentRoutes.set( factIndex, route );
+        }
+
+        for ( ObjectSink sink : route ) {
+            sink.assertObject( handle, context, reteEvaluator );
+        }
+    }
+
+    /**
+     * The insertion of a reference fact, enqueued in the propagation list of a thread safe session as
+     * the insertion of any other fact
+     */
+    public static class Insert extends PropagationEntry.AbstractPropagationEntry {
+
+        private final ReferenceData referenceData;
+        private final int factIndex;
+        private final InternalFactHandle handle;
+        private final PropagationContext context;
+        private final ObjectTypeConf objectTypeConf;
+
+        public Insert(ReferenceData referenceData, int factIndex, InternalFactHandle handle, PropagationContext context, ObjectTypeConf objectTypeConf) {
+            this.referenceData = referenceData;
+            this.factIndex = factIndex;
+            this.handle = handle;
+            this.context = context;
+            this.objectTypeConf = objectTypeConf;
+        }
+
+        @Override
+        public void execute(ReteEvaluator reteEvaluator) {
+            referenceData.propagateAssert( factIndex, handle, context, objectTypeConf, reteEvaluator );
+        }
+
+        @Override
+        public String toString() {
+            return "Insert of reference fact " + handle.getObject();
+        }
+    }
+
+    private static void collectSinks(ObjectSink[] sinks, InternalFactHandle handle, ReteEvaluator reteEvaluator, List<ObjectSink> result) {
+        for ( ObjectSink sink : sinks ) {
+            if ( isPlainAlphaNode( sink ) ) {
+                AlphaNode alphaNode = (AlphaNode) sink;
+                if ( alphaNode.getConstraint().isAllowed( handle, reteEvaluator ) ) {
+                    collectSinks( alphaNode.getObjectSinkPropagator().getSinks(), handle, reteEvaluator, result );
+                }
+            } else {
+                // any other node, including the alpha nodes with a specialized behaviour, is asserted as usual
+                result.add( sink );
+            }
+        }
+    }
+
+    private static boolean isPlainAlphaNode(ObjectSink sink) {
+        return sink.getClass() == AlphaNode.class || sink.getClass() == ProfilingAlphaNode.class;
+    }
+}
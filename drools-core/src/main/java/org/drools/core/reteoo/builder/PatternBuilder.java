@@ -19,8 +19,10 @@ package org.drools.core.reteoo.builder;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.drools.core.RuleBaseConfiguration;
 import org.drools.core.base.ClassObjectType;
 import org.drools.core.base.DroolsQuery;
+import org.drools.core.reteoo.AlphaSelectivityProfile;
 import org.drools.core.reteoo.CoreComponentFactory;
 import org.drools.core.reteoo.EntryPointNode;
 import org.drools.core.reteoo.ObjectTypeNode;
@@ -47,6 +49,7 @@ import org.drools.core.time.impl.DurationTimer;
 import org.drools.core.time.impl.Timer;
 import org.kie.api.conf.EventProcessingOption;
 import org.kie.api.definition.type.Expires.Policy;
+import org.kie.internal.conf.AlphaNodeOrderingOption;
 
 import static org.drools.core.reteoo.builder.GroupElementBuilder.AndBuilder.buildJoinNode;
 import static org.drools.core.reteoo.builder.GroupElementBuilder.AndBuilder.buildTupleSource;
@@ -306,7 +309,7 @@ public class PatternBuilder
         // Drools Query ObjectTypeNode never has memory, but other ObjectTypeNode/AlphaNoesNodes may (if not in sequential), 
         //so need to preserve, so we can restore after this node is added. LeftMemory  and Terminal remain the same once set.
 
-        buildAlphaNodeChain( context, utils, alphaConstraints );
+        buildAlphaNodeChain( context, utils, orderAlphaConstraints( context, alphaConstraints ) );
 
         NodeFactory nfactory = CoreComponentFactory.get().getNodeFactoryService();
         
@@ -316,6 +319,17 @@ public class PatternBuilder
         }
     }
 
+    private List<AlphaNodeFieldConstraint> orderAlphaConstraints( BuildContext context, List<AlphaNodeFieldConstraint> alphaConstraints ) {
+        RuleBaseConfiguration conf = context.getRuleBase().getConfiguration();
+        if ( alphaConstraints.size() < 2 || conf.getAlphaNodeOrderingOption() != AlphaNodeOrderingOption.SELECTIVITY || conf.getAlphaSelectivityProfile() == null ) {
+            return alphaConstraints;
+        }
+        ObjectTypeNode otn = context.getObjectSource().getObjectTypeNode();
+        return otn != null ?
+                AlphaSelectivityProfile.get( conf.getAlphaSelectivityProfile() ).sortBySelectivity( otn.getObjectType(), alphaConstraints ) :
+                alphaConstraints;
+    }
+
     private void buildAlphaNodeChain( BuildContext context, BuildUtils utils, List<AlphaNodeFieldConstraint> alphaConstraints ) {
         for ( final AlphaNodeFieldConstraint constraint : alphaConstraints ) {
             context.pushRuleComponent( constraint );
@@ -40,6 +40,7 @@ import org.drools.core.reteoo.LeftTupleSource;
 import org.drools.core.reteoo.NotNode;
 import org.drools.core.reteoo.ObjectSource;
 import org.drools.core.reteoo.ObjectTypeNode;
+import org.drools.core.reteoo.ProfilingAlphaNode;
 import org.drools.core.reteoo.QueryElementNode;
 import org.drools.core.reteoo.QueryTerminalNode;
 import org.drools.core.reteoo.ReactiveFromNode;
@@ -81,7 +82,9 @@ public class PhreakNodeFactory implements NodeFactory, Serializable {
 
 
     public AlphaNode buildAlphaNode( int id, AlphaNodeFieldConstraint constraint, ObjectSource objectSource, BuildContext context ) {
-        return new AlphaNode( id, constraint, objectSource, context );
+        return context.getRuleBase().getConfiguration().getAlphaSelectivityProfile() != null ?
+                new ProfilingAlphaNode( id, constraint, objectSource, context ) :
+                new AlphaNode( id, constraint, objectSource, context );
     }
 
     public TerminalNode buildTerminalNode( int id, LeftTupleSource source, RuleImpl rule, GroupElement subrule, int subruleIndex, BuildContext context ) {
@@ -248,6 +248,11 @@ public class Declaration implements Externalizable, AcceptsReadAccessor, TupleVa
         return getValue( reteEvaluator, tuple.get( this ) );
     }
 
+    @Override
+    public long getLongValue(ReteEvaluator reteEvaluator, Tuple tuple) {
+        return getLongValue( reteEvaluator, tuple.get( this ).getObject() );
+    }
+
     public Object getValue(ReteEvaluator reteEvaluator, InternalFactHandle fh) {
         return getValue( reteEvaluator, fh.getObject() );
     }
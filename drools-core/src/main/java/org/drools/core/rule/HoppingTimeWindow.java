@@ -0,0 +1,273 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.rule;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.drools.core.common.EventFactHandle;
+import org.drools.core.common.InternalFactHandle;
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.reteoo.ObjectTypeNode;
+import org.drools.core.spi.PropagationContext;
+import org.drools.core.time.JobHandle;
+
+import static org.drools.core.common.PhreakPropagationContextFactory.createPropagationContextForFact;
+
+/**
+ * A time window that, instead of sliding continuously, advances by a fixed hop: at any time it contains the
+ * events of the current hop and of the previous (size / hop - 1) ones. A tumbling window is a hopping window
+ * whose hop is as long as the window itself.
+ *
+ * The events are grouped in panes, one per hop, and a pane leaves the window as a whole when the last window
+ * containing it is closed. So a single timer is scheduled per pane instead of per event, and all the events
+ * of a pane are retracted together, letting the downstream nodes process them in a single batch.
+ */
+public class HoppingTimeWindow extends SlidingTimeWindow {
+
+    protected long hop;
+
+    public HoppingTimeWindow() {
+        this( 0, 0 );
+    }
+
+    /**
+     * Creates a tumbling window of the given size
+     */
+    public HoppingTimeWindow(final long size) {
+        this( size, size );
+    }
+
+    public HoppingTimeWindow(final long size, final long hop) {
+        super( size );
+        if ( size != 0 || hop != 0 ) {
+            if ( hop <= 0 || hop > size ) {
+                throw new IllegalArgumentException( "The hop of a window must be positive and not longer than the window itself: size=" + size + ", hop=" + hop );
+            }
+            if ( size % hop != 0 ) {
+                throw new IllegalArgumentException( "The size of a hopping window must be a multiple of its hop: size=" + size + ", hop=" + hop );
+            }
+        }
+        this.hop = hop;
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException,
+                                                          ClassNotFoundException {
+        super.readExternal( in );
+        this.hop = in.readLong();
+    }
+
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        super.writeExternal( out );
+        out.writeLong( this.hop );
+    }
+
+    @Override
+    public BehaviorType getType() {
+        return hop == size ? BehaviorType.TUMBLING_WINDOW : BehaviorType.HOPPING_WINDOW;
+    }
+
+    public long getHop() {
+        return hop;
+    }
+
+    @Override
+    public Behavior.Context createContext() {
+        return new PaneWindowContext();
+    }
+
+    @Override
+    public boolean assertFact(final Object context,
+                              final InternalFactHandle fact,
+                              final PropagationContext pctx,
+                              final ReteEvaluator reteEvaluator) {
+        final PaneWindowContext panes = (PaneWindowContext) context;
+        final EventFactHandle handle = (EventFactHandle) fact;
+        if ( isExpired( reteEvaluator.getTimerService().getCurrentTime(), handle ) ) {
+            return false;
+        }
+
+        long paneStart = getPaneStart( handle );
+        boolean firstPane = panes.isEmpty() || paneStart < panes.firstPane().getKey();
+        panes.add( paneStart, handle );
+        if ( firstPane ) {
+            // update next expiration time
+            updateNextExpiration( handle,
+                                  reteEvaluator,
+                                  panes,
+                                  nodeId );
+        }
+        return true;
+    }
+
+    @Override
+    public void retractFact(final Object context,
+                            final InternalFactHandle fact,
+                            final PropagationContext pctx,
+                            final ReteEvaluator reteEvaluator) {
+        final PaneWindowContext panes = (PaneWindowContext) context;
+        final EventFactHandle handle = (EventFactHandle) fact;
+        // the handles of an expiring pane have already been removed from the context
+        long paneStart = getPaneStart( handle );
+        boolean firstPane = !panes.isEmpty() && paneStart == panes.firstPane().getKey();
+        if ( !panes.remove( paneStart, handle ) ) {
+            return;
+        }
+        if ( panes.isEmpty() ) {
+            if ( panes.getJobHandle() != null ) {
+                reteEvaluator.getTimerService().removeJob( panes.getJobHandle() );
+            }
+        } else if ( firstPane && panes.firstPane().getKey() != paneStart ) {
+            // the first pane has been emptied, update next expiration time
+            updateNextExpiration( panes.peek(),
+                                  reteEvaluator,
+                                  panes,
+                                  nodeId );
+        }
+    }
+
+    @Override
+    public void expireFacts(final Object context,
+                            final PropagationContext pctx,
+                            final ReteEvaluator reteEvaluator) {
+        long currentTime = reteEvaluator.getTimerService().getCurrentTime();
+        PaneWindowContext panes = (PaneWindowContext) context;
+
+        Map.Entry<Long, List<EventFactHandle>> pane = panes.firstPane();
+        while ( pane != null && pane.getKey() + this.size <= currentTime ) {
+            panes.removePane( pane.getKey() );
+            for ( EventFactHandle handle : pane.getValue() ) {
+                if ( handle.isValid() ) {
+                    // if not expired yet, expire it
+                    final PropagationContext expiresPctx = createPropagationContextForFact( reteEvaluator, handle, PropagationContext.Type.EXPIRATION );
+                    ObjectTypeNode.doRetractObject( handle, expiresPctx, reteEvaluator );
+                }
+            }
+            pane = panes.firstPane();
+        }
+        // update next expiration time
+        updateNextExpiration( panes.peek(),
+                              reteEvaluator,
+                              panes,
+                              nodeId );
+    }
+
+    @Override
+    protected long getExpirationTime(final EventFactHandle handle) {
+        return getPaneStart( handle ) + this.size;
+    }
+
+    private long getPaneStart(final EventFactHandle handle) {
+        return Math.floorDiv( handle.getStartTimestamp(), hop ) * hop;
+    }
+
+    @Override
+    public String toString() {
+        return "HoppingTimeWindow( size=" + size + ", hop=" + hop + " )";
+    }
+
+    /**
+     * The events of a window grouped by the start time of their panes
+     */
+    public static class PaneWindowContext
+            implements
+            Behavior.Context,
+            Externalizable {
+
+        private TreeMap<Long, List<EventFactHandle>> panes = new TreeMap<>();
+        private JobHandle                            jobHandle;
+
+        @Override
+        public JobHandle getJobHandle() {
+            return this.jobHandle;
+        }
+
+        @Override
+        public void setJobHandle(JobHandle jobHandle) {
+            this.jobHandle = jobHandle;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void readExternal(ObjectInput in) throws IOException,
+                                                        ClassNotFoundException {
+            this.panes = (TreeMap<Long, List<EventFactHandle>>) in.readObject();
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeObject( this.panes );
+        }
+
+        public void add(long paneStart, EventFactHandle handle) {
+            panes.computeIfAbsent( paneStart, k -> new ArrayList<>() ).add( handle );
+        }
+
+        public boolean remove(long paneStart, EventFactHandle handle) {
+            List<EventFactHandle> pane = panes.get( paneStart );
+            if ( pane == null || !pane.remove( handle ) ) {
+                return false;
+            }
+            if ( pane.isEmpty() ) {
+                panes.remove( paneStart );
+            }
+            return true;
+        }
+
+        public Map.Entry<Long, List<EventFactHandle>> firstPane() {
+            return panes.firstEntry();
+        }
+
+        public void removePane(long paneStart) {
+            panes.remove( paneStart );
+        }
+
+        public int getPaneCount() {
+            return panes.size();
+        }
+
+        public boolean isEmpty() {
+            return panes.isEmpty();
+        }
+
+        /**
+         * Returns an event of the oldest pane, whose expiration time is the one of the whole pane
+         */
+        public EventFactHandle peek() {
+            Map.Entry<Long, List<EventFactHandle>> pane = panes.firstEntry();
+            return pane == null ? null : pane.getValue().get( 0 );
+        }
+
+        @Override
+        public Collection<EventFactHandle> getFactHandles() {
+            List<EventFactHandle> handles = new ArrayList<>();
+            for ( List<EventFactHandle> pane : panes.values() ) {
+                handles.addAll( pane );
+            }
+            return handles;
+        }
+    }
+}
@@ -192,7 +192,14 @@ public class SlidingTimeWindow
 
     protected boolean isExpired(final long currentTime,
                                 final EventFactHandle handle) {
-        return handle.getStartTimestamp() + this.size <= currentTime;
+        return getExpirationTime( handle ) <= currentTime;
+    }
+
+    /**
+     * Returns the time when the given event leaves the window
+     */
+    protected long getExpirationTime(final EventFactHandle handle) {
+        return handle.getStartTimestamp() + this.size;
     }
 
     protected void updateNextExpiration(final InternalFactHandle fact,
@@ -201,7 +208,7 @@ public class SlidingTimeWindow
                                         final int nodeId) {
         TimerService clock = reteEvaluator.getTimerService();
         if ( fact != null ) {
-            long nextTimestamp = ((EventFactHandle) fact).getStartTimestamp() + getSize();
+            long nextTimestamp = getExpirationTime( (EventFactHandle) fact );
             if ( nextTimestamp < clock.getCurrentTime() ) {
                 // Past and out-of-order events should not be insert,
                 // but the engine silently accepts them anyway, resulting in possibly undesirable behaviors
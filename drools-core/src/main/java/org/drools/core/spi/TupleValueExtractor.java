@@ -27,5 +27,9 @@ public interface TupleValueExtractor extends Cloneable {
 
     Object getValue( ReteEvaluator reteEvaluator, Tuple tuple );
 
+    default long getLongValue( ReteEvaluator reteEvaluator, Tuple tuple ) {
+        return ( (Number) getValue( reteEvaluator, tuple ) ).longValue();
+    }
+
     TupleValueExtractor clone();
 }
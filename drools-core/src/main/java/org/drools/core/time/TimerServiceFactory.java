@@ -18,10 +18,18 @@ package org.drools.core.time;
 
 import org.drools.core.SessionConfiguration;
 import org.drools.core.SessionConfigurationImpl;
+import org.drools.core.time.impl.TimingWheelPseudoClockScheduler;
+import org.drools.core.time.impl.TimingWheelTimerService;
 import org.drools.wiring.api.ComponentsFactory;
 
 public class TimerServiceFactory {
 
+    /**
+     * When true the timer services, both for the realtime and the pseudo clock, keep the scheduled jobs in a
+     * hierarchical timing wheel, meant for sessions with a very large number of pending timers
+     */
+    public static final String TIMING_WHEEL_PROPERTY = "drools.timerService.timingWheel";
+
     public static TimerService getTimerService(SessionConfiguration config) {
         TimerService service;
         switch (config.getClockType()) {
@@ -29,7 +37,9 @@ public class TimerServiceFactory {
                 service = newTimerService((SessionConfigurationImpl) config);
                 break;
             case PSEUDO_CLOCK:
-                service = (TimerService) config.getClockType().createInstance();
+                service = isTimingWheelEnabled((SessionConfigurationImpl) config) ?
+                        new TimingWheelPseudoClockScheduler() :
+                        (TimerService) config.getClockType().createInstance();
                 break;
             default:
                 throw new IllegalArgumentException("Unsupported clock type: " + config.getClockType());
@@ -39,10 +49,17 @@ public class TimerServiceFactory {
     }
 
     private static TimerService newTimerService(SessionConfigurationImpl config) {
+        if (isTimingWheelEnabled(config)) {
+            return new TimingWheelTimerService();
+        }
         String className = config.getPropertyValue("drools.timerService", "org.drools.core.time.impl.JDKTimerService");
         if (className == null) {
             return null;
         }
         return (TimerService) ComponentsFactory.createTimerService(className);
     }
+
+    private static boolean isTimingWheelEnabled(SessionConfigurationImpl config) {
+        return Boolean.parseBoolean(config.getPropertyValue(TIMING_WHEEL_PROPERTY, "false"));
+    }
 }
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.time.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel holding the jobs scheduled on a timer service.
+ * <p>
+ * The time is divided into ticks of a fixed duration. Each level of the wheel has 64 slots and each slot of a level
+ * spans all the 64 slots of the level below it. A job is kept in the lowest level where its expiration tick shares
+ * all the upper slots with the current tick, so scheduling and removing a job are constant time operations on the
+ * doubly linked list of its slot. When the time reaches a slot of an upper level, its jobs are cascaded to the lower
+ * levels, so each job is moved at most once per level and the jobs expiring in the same tick are expired together.
+ * An occupancy bitmap per level allows to find the next non empty slot without visiting the empty ones, so advancing
+ * the time by any amount only costs the number of slots having some jobs.
+ * <p>
+ * This class is not thread safe, the timer services using it are responsible for its synchronization.
+ */
+public class TimingWheel {
+
+    private static final int BITS   = 6;
+    private static final int SLOTS  = 1 << BITS;
+    private static final int MASK   = SLOTS - 1;
+    private static final int LEVELS = ( Long.SIZE + BITS - 1 ) / BITS;
+
+    private final long                     tickMillis;
+
+    private final TimingWheelJobHandle[][] heads    = new TimingWheelJobHandle[LEVELS][SLOTS];
+    private final TimingWheelJobHandle[][] tails    = new TimingWheelJobHandle[LEVELS][SLOTS];
+    private final long[]                   occupied = new long[LEVELS];
+
+    private long                           currentTick;
+
+    private int                            size;
+
+    public TimingWheel(long tickMillis, long startTime) {
+        if ( tickMillis <= 0 ) {
+            throw new IllegalArgumentException( "The tick of a timing wheel must be positive, it was " + tickMillis );
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = Math.floorDiv( startTime, tickMillis );
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a job expiring at the given time. A job expiring in the past will be expired by the next
+     * call to {@link #expire(long, Consumer)}.
+     */
+    public void add(TimingWheelJobHandle handle, long fireTime) {
+        // rounds up, so a job never expires before its fire time
+        long tick = Math.max( Math.floorDiv( fireTime, tickMillis ) + ( Math.floorMod( fireTime, tickMillis ) == 0 ? 0 : 1 ), currentTick );
+        insert( handle, tick );
+        size++;
+    }
+
+    public boolean remove(TimingWheelJobHandle handle) {
+        if ( handle.level == TimingWheelJobHandle.EXPIRING ) {
+            // expired in the current tick but not passed to the consumer yet, it is no longer in any slot
+            handle.level = -1;
+            return true;
+        }
+        if ( !handle.isScheduled() ) {
+            return false;
+        }
+        unlink( handle );
+        size--;
+        return true;
+    }
+
+    /**
+     * Advances the wheel up to the given time, removing the jobs expired by then and passing them to the given
+     * consumer in order of expiration tick. The consumer is allowed to add new jobs, including the ones it receives:
+     * if they are expired by the given time as well they will also be passed to it. It is also allowed to remove
+     * the jobs expiring in the same tick that it did not receive yet, and they will not be passed to it anymore.
+     */
+    public void expire(long time, Consumer<TimingWheelJobHandle> consumer) {
+        long targetTick = Math.floorDiv( time, tickMillis );
+        List<TimingWheelJobHandle> expired = new ArrayList<>();
+        while ( size > 0 ) {
+            int level = lowestOccupiedLevel();
+            int slot = Long.numberOfTrailingZeros( occupied[level] );
+            long slotTick = slotStartTick( level, slot );
+            if ( slotTick > targetTick ) {
+                break;
+            }
+
+            // no job expires before the beginning of this slot
+            currentTick = slotTick;
+            TimingWheelJobHandle handle = heads[level][slot];
+            heads[level][slot] = null;
+            tails[level][slot] = null;
+            occupied[level] &= ~( 1L << slot );
+
+            while ( handle != null ) {
+                TimingWheelJobHandle next = handle.wheelNext;
+                handle.wheelPrevious = null;
+                handle.wheelNext = null;
+                if ( level == 0 ) {
+                    // the whole slot is detached before running the consumer, which may add or remove jobs
+                    handle.level = TimingWheelJobHandle.EXPIRING;
+                    size--;
+                    expired.add( handle );
+                } else {
+                    // cascades the job to a lower level
+                    insert( handle, handle.tick );
+                }
+                handle = next;
+            }
+
+            for ( TimingWheelJobHandle expiredHandle : expired ) {
+                // skips the jobs removed or added again by the consumer of a job expired before them
+                if ( expiredHandle.level == TimingWheelJobHandle.EXPIRING ) {
+                    expiredHandle.level = -1;
+                    consumer.accept( expiredHandle );
+                }
+            }
+            expired.clear();
+        }
+        if ( targetTick > currentTick ) {
+            currentTick = targetTick;
+        }
+    }
+
+    /**
+     * Returns the time of the next expiring tick, or -1 if the wheel is empty
+     */
+    public long getNextExpirationTime() {
+        if ( size == 0 ) {
+            return -1;
+        }
+        int level = lowestOccupiedLevel();
+        int slot = Long.numberOfTrailingZeros( occupied[level] );
+        if ( level == 0 ) {
+            return slotStartTick( level, slot ) * tickMillis;
+        }
+        long tick = Long.MAX_VALUE;
+        for ( TimingWheelJobHandle handle = heads[level][slot]; handle != null; handle = handle.wheelNext ) {
+            tick = Math.min( tick, handle.tick );
+        }
+        return tick * tickMillis;
+    }
+
+    public List<TimingWheelJobHandle> getJobHandles() {
+        List<TimingWheelJobHandle> handles = new ArrayList<>( size );
+        for ( int level = 0; level < LEVELS; level++ ) {
+            for ( int slot = 0; slot < SLOTS; slot++ ) {
+                for ( TimingWheelJobHandle handle = heads[level][slot]; handle != null; handle = handle.wheelNext ) {
+                    handles.add( handle );
+                }
+            }
+        }
+        return handles;
+    }
+
+    public void clear(long startTime) {
+        for ( TimingWheelJobHandle handle : getJobHandles() ) {
+            handle.level = -1;
+            handle.wheelPrevious = null;
+            handle.wheelNext = null;
+        }
+        for ( int level = 0; level < LEVELS; level++ ) {
+            Arrays.fill( heads[level], null );
+            Arrays.fill( tails[level], null );
+            occupied[level] = 0L;
+        }
+        size = 0;
+        currentTick = Math.floorDiv( startTime, tickMillis );
+    }
+
+    private void insert(TimingWheelJobHandle handle, long tick) {
+        // the highest slot group where the tick differs from the current one, the expired jobs go in the current slot of level 0
+        int level = tick == currentTick ? 0 : ( Long.SIZE - 1 - Long.numberOfLeadingZeros( tick ^ currentTick ) ) / BITS;
+        int slot = (int) ( tick >>> ( level * BITS ) ) & MASK;
+
+        handle.tick = tick;
+        handle.level = level;
+        handle.slot = slot;
+        handle.wheelNext = null;
+        handle.wheelPrevious = tails[level][slot];
+        if ( handle.wheelPrevious == null ) {
+            heads[level][slot] = handle;
+            occupied[level] |= 1L << slot;
+        } else {
+            handle.wheelPrevious.wheelNext = handle;
+        }
+        tails[level][slot] = handle;
+    }
+
+    private void unlink(TimingWheelJobHandle handle) {
+        int level = handle.level;
+        int slot = handle.slot;
+        if ( handle.wheelPrevious == null ) {
+            heads[level][slot] = handle.wheelNext;
+        } else {
+            handle.wheelPrevious.wheelNext = handle.wheelNext;
+        }
+        if ( handle.wheelNext == null ) {
+            tails[level][slot] = handle.wheelPrevious;
+        } else {
+            handle.wheelNext.wheelPrevious = handle.wheelPrevious;
+        }
+        if ( heads[level][slot] == null ) {
+            occupied[level] &= ~( 1L << slot );
+        }
+        handle.level = -1;
+        handle.wheelPrevious = null;
+        handle.wheelNext = null;
+    }
+
+    private int lowestOccupiedLevel() {
+        int level = 0;
+        while ( occupied[level] == 0L ) {
+            level++;
+        }
+        return level;
+    }
+
+    private long slotStartTick(int level, int slot) {
+        // all the jobs of a level share the slots of the upper levels with the current tick
+        int shift = level * BITS;
+        long upperMask = shift + BITS >= Long.SIZE ? 0L : -1L << ( shift + BITS );
+        return ( currentTick & upperMask ) | ( (long) slot << shift );
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.time.impl;
+
+/**
+ * The job handle of the timer services based on a {@link TimingWheel}. Besides identifying the job, it is
+ * also the node of the doubly linked list of the wheel slot where the job is waiting to expire, so it can
+ * be removed from the wheel in constant time.
+ */
+public class TimingWheelJobHandle extends DefaultJobHandle {
+
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The level of a job removed from the wheel because it expired, while it waits to be passed to the consumer
+     */
+    static final int               EXPIRING = -2;
+
+    transient long                 tick;
+    transient int                  level = -1;
+    transient int                  slot;
+
+    transient TimingWheelJobHandle wheelPrevious;
+    transient TimingWheelJobHandle wheelNext;
+
+    public TimingWheelJobHandle(long id) {
+        super( id );
+    }
+
+    public boolean isScheduled() {
+        return level >= 0;
+    }
+}
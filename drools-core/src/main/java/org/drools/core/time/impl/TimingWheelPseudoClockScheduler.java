@@ -0,0 +1,209 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.time.impl;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.drools.core.common.DroolsObjectInputStream;
+import org.drools.core.common.InternalWorkingMemory;
+import org.drools.core.time.InternalSchedulerService;
+import org.drools.core.time.Job;
+import org.drools.core.time.JobContext;
+import org.drools.core.time.JobHandle;
+import org.drools.core.time.SessionPseudoClock;
+import org.drools.core.time.TimerService;
+import org.drools.core.time.Trigger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A scheduler based on a user controlled clock, as the {@link PseudoClockScheduler}, keeping the scheduled jobs
+ * in a {@link TimingWheel} with a tick of 1 millisecond instead of a priority queue. Scheduling and removing a job
+ * take constant time regardless of the number of scheduled jobs, so it is meant for sessions having a very large
+ * number of pending timers, like the expirations of millions of events.
+ */
+public class TimingWheelPseudoClockScheduler
+    implements
+    TimerService,
+    SessionPseudoClock,
+    Externalizable,
+    InternalSchedulerService {
+
+    private static final Logger logger = LoggerFactory.getLogger( TimingWheelPseudoClockScheduler.class );
+
+    private AtomicLong                      timer;
+    private TimingWheel                     wheel;
+    private transient InternalWorkingMemory session;
+
+    private TimerJobFactoryManager          jobFactoryManager = DefaultTimerJobFactoryManager.instance;
+
+    private AtomicLong                      idCounter         = new AtomicLong();
+
+    public TimingWheelPseudoClockScheduler() {
+        this( null );
+    }
+
+    public TimingWheelPseudoClockScheduler(InternalWorkingMemory session) {
+        this.timer = new AtomicLong( 0 );
+        this.wheel = new TimingWheel( 1, 0 );
+        this.session = session;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void readExternal(ObjectInput in) throws IOException,
+                                            ClassNotFoundException {
+        timer = new AtomicLong( in.readLong() );
+        wheel = new TimingWheel( 1, timer.get() );
+        List<TimerJobInstance> jobs = (List<TimerJobInstance>) in.readObject();
+        for ( TimerJobInstance job : jobs ) {
+            wheel.add( (TimingWheelJobHandle) job.getJobHandle(), job.getTrigger().hasNextFireTime().getTime() );
+        }
+        session = ((DroolsObjectInputStream) in).getWorkingMemory();
+    }
+
+    public synchronized void writeExternal(ObjectOutput out) throws IOException {
+        out.writeLong( timer.get() );
+        List<TimerJobInstance> jobs = new ArrayList<>( wheel.size() );
+        for ( TimingWheelJobHandle handle : wheel.getJobHandles() ) {
+            jobs.add( handle.getTimerJobInstance() );
+        }
+        out.writeObject( jobs );
+    }
+
+    public void setTimerJobFactoryManager(TimerJobFactoryManager timerJobFactoryManager) {
+        this.jobFactoryManager = timerJobFactoryManager;
+    }
+
+    public TimerJobFactoryManager getTimerJobFactoryManager() {
+        return this.jobFactoryManager;
+    }
+
+    public long getCurrentTime() {
+        return this.timer.get();
+    }
+
+    public JobHandle scheduleJob(Job job,
+                                 JobContext ctx,
+                                 Trigger trigger) {
+
+        Date date = trigger.hasNextFireTime();
+
+        if ( date != null ) {
+            TimingWheelJobHandle jobHandle = new TimingWheelJobHandle( idCounter.getAndIncrement() );
+            TimerJobInstance jobInstance = jobFactoryManager.createTimerJobInstance( job,
+                                                                                   ctx,
+                                                                                   trigger,
+                                                                                   jobHandle,
+                                                                                   this );
+            jobHandle.setTimerJobInstance( jobInstance );
+            internalSchedule( jobInstance );
+
+            return jobHandle;
+        }
+
+        return null;
+    }
+
+    public void internalSchedule(TimerJobInstance timerJobInstance) {
+        jobFactoryManager.addTimerJobInstance( timerJobInstance );
+        synchronized (this) {
+            wheel.add( (TimingWheelJobHandle) timerJobInstance.getJobHandle(), timerJobInstance.getTrigger().hasNextFireTime().getTime() );
+        }
+    }
+
+    public synchronized boolean removeJob(JobHandle jobHandle) {
+        jobHandle.setCancel( true );
+        jobFactoryManager.removeTimerJobInstance( ((TimingWheelJobHandle) jobHandle).getTimerJobInstance() );
+        return wheel.remove( (TimingWheelJobHandle) jobHandle );
+    }
+
+    public long advanceTime(long amount,
+                            TimeUnit unit) {
+        return this.runCallBacksAndIncreaseTimer( unit.toMillis( amount ) );
+    }
+
+    public synchronized void setStartupTime(long i) {
+        this.timer.set( i );
+        // the wheel counts the ticks from the current time, so the pending jobs are added again to a wheel starting at the new time
+        List<TimingWheelJobHandle> handles = wheel.getJobHandles();
+        wheel.clear( i );
+        for ( TimingWheelJobHandle handle : handles ) {
+            wheel.add( handle, handle.getTimerJobInstance().getTrigger().hasNextFireTime().getTime() );
+        }
+    }
+
+    public synchronized InternalWorkingMemory getSession() {
+        return session;
+    }
+
+    public synchronized void setSession(InternalWorkingMemory session) {
+        this.session = session;
+    }
+
+    @Override
+    public synchronized void reset() {
+        idCounter.set( 0 );
+        timer.set( 0 );
+        wheel.clear( 0 );
+    }
+
+    @Override
+    public void shutdown() {
+        // nothing to do
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized long runCallBacksAndIncreaseTimer( long increase ) {
+        long endTime = this.timer.get() + increase;
+        wheel.expire( endTime, handle -> {
+            TimerJobInstance item = handle.getTimerJobInstance();
+            if ( handle.isCancel() || item.getTrigger().hasNextFireTime() == null ) {
+                // do not call it, do not reschedule it
+                return;
+            }
+            try {
+                // set the clock back to the trigger's fire time
+                this.timer.set( item.getTrigger().hasNextFireTime().getTime() );
+                // execute the call, it reschedules itself on the wheel if it has to fire again
+                ((Callable<Void>) item).call();
+            } catch ( Exception e ) {
+                logger.error( "Exception running callbacks: ", e );
+            }
+        } );
+        this.timer.set( endTime );
+        return this.timer.get();
+    }
+
+    public synchronized long getTimeToNextJob() {
+        long nextExpirationTime = wheel.getNextExpirationTime();
+        return nextExpirationTime >= 0 ? nextExpirationTime - this.timer.get() : -1;
+    }
+
+    public Collection<TimerJobInstance> getTimerJobInstances(long id) {
+        return jobFactoryManager.getTimerJobInstances();
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.time.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.drools.core.time.InternalSchedulerService;
+import org.drools.core.time.Job;
+import org.drools.core.time.JobContext;
+import org.drools.core.time.JobHandle;
+import org.drools.core.time.TimerService;
+import org.drools.core.time.Trigger;
+import org.kie.api.time.SessionClock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A timer service using the system clock, as the {@link JDKTimerService}, keeping the scheduled jobs in a
+ * {@link TimingWheel} instead of the priority queue of a ScheduledThreadPoolExecutor. A single thread advances
+ * the wheel once per tick and runs all the expired jobs, so scheduling and removing a job take constant time
+ * regardless of the number of scheduled jobs, at the price of firing each job up to a tick later than its fire time.
+ */
+public class TimingWheelTimerService
+        implements
+        TimerService,
+        SessionClock,
+        InternalSchedulerService {
+
+    private static final Logger logger = LoggerFactory.getLogger( TimingWheelTimerService.class );
+
+    public static final long DEFAULT_TICK_MILLIS = 10;
+
+    private final long                    tickMillis;
+
+    private final TimingWheel             wheel;
+
+    private final AtomicLong              idCounter = new AtomicLong( 0L );
+
+    private ScheduledExecutorService      ticker;
+
+    protected TimerJobFactoryManager      jobFactoryManager = DefaultTimerJobFactoryManager.instance;
+
+    public TimingWheelTimerService() {
+        this( DEFAULT_TICK_MILLIS );
+    }
+
+    public TimingWheelTimerService(long tickMillis) {
+        this.tickMillis = tickMillis;
+        this.wheel = new TimingWheel( tickMillis, System.currentTimeMillis() );
+    }
+
+    public void setTimerJobFactoryManager(TimerJobFactoryManager timerJobFactoryManager) {
+        this.jobFactoryManager = timerJobFactoryManager;
+    }
+
+    public TimerJobFactoryManager getTimerJobFactoryManager() {
+        return this.jobFactoryManager;
+    }
+
+    public long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    public synchronized void reset() {
+        if ( idCounter.get() != 0L ) {
+            stopTicker();
+            wheel.clear( System.currentTimeMillis() );
+            idCounter.set( 0L );
+        }
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        stopTicker();
+    }
+
+    public JobHandle scheduleJob(Job job,
+                                 JobContext ctx,
+                                 Trigger trigger) {
+        Date date = trigger.hasNextFireTime();
+        if ( date != null ) {
+            TimingWheelJobHandle jobHandle = new TimingWheelJobHandle( idCounter.getAndIncrement() );
+            TimerJobInstance jobInstance = jobFactoryManager.createTimerJobInstance( job,
+                                                                                   ctx,
+                                                                                   trigger,
+                                                                                   jobHandle,
+                                                                                   this );
+            jobHandle.setTimerJobInstance( jobInstance );
+            internalSchedule( jobInstance );
+
+            return jobHandle;
+        }
+        return null;
+    }
+
+    public void internalSchedule(TimerJobInstance timerJobInstance) {
+        jobFactoryManager.addTimerJobInstance( timerJobInstance );
+        synchronized (this) {
+            wheel.add( (TimingWheelJobHandle) timerJobInstance.getJobHandle(), timerJobInstance.getTrigger().hasNextFireTime().getTime() );
+            startTicker();
+        }
+    }
+
+    public synchronized boolean removeJob(JobHandle jobHandle) {
+        jobHandle.setCancel( true );
+        jobFactoryManager.removeTimerJobInstance( ((TimingWheelJobHandle) jobHandle).getTimerJobInstance() );
+        return wheel.remove( (TimingWheelJobHandle) jobHandle );
+    }
+
+    private void startTicker() {
+        // the thread is started lazily, so the sessions never scheduling a job don't pay for it
+        if ( ticker == null ) {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor( 1, runnable -> {
+                Thread thread = new Thread( runnable, "drools-timing-wheel" );
+                thread.setDaemon( true );
+                return thread;
+            } );
+            executor.scheduleAtFixedRate( this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS );
+            ticker = executor;
+        }
+    }
+
+    private void stopTicker() {
+        if ( ticker != null ) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void tick() {
+        List<TimingWheelJobHandle> expired = new ArrayList<>();
+        synchronized (this) {
+            wheel.expire( System.currentTimeMillis(), expired::add );
+        }
+        // the jobs are run out of the lock, so they can be scheduled or removed concurrently
+        for ( TimingWheelJobHandle handle : expired ) {
+            if ( handle.isCancel() ) {
+                continue;
+            }
+            try {
+                ((Callable<Void>) handle.getTimerJobInstance()).call();
+            } catch ( Exception e ) {
+                logger.error( "Exception running timer job: ", e );
+            }
+        }
+    }
+
+    public long getTimeToNextJob() {
+        return 0;
+    }
+
+    public Collection<TimerJobInstance> getTimerJobInstances(long id) {
+        return jobFactoryManager.getTimerJobInstances();
+    }
+}
@@ -345,6 +345,12 @@ public abstract class AbstractHashTable
                             leftExtractor.getValue( tuple ) ) :
                    rightExtractor.getValue( null, tuple.getFactHandle().getObject() );
         }
+
+        public long indexedLongValueOf(Tuple tuple, boolean left) {
+            return left ?
+                   leftExtractor.getLongValue( null, tuple ) :
+                   rightExtractor.getLongValue( null, tuple.getFactHandle().getObject() );
+        }
     }
 
     public interface Index extends Externalizable {
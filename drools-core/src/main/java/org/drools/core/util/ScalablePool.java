@@ -19,57 +19,186 @@ package org.drools.core.util;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * A pool of resources whose free resources are kept in one or more lock-free stripes. Each thread borrows from
+ * and releases to the stripe it is hashed to, stealing from the other stripes only when its own is empty, so
+ * that concurrent threads rarely contend the same list. Within a stripe the last released resource is the first
+ * one borrowed again, being the one most likely still hot in the caches of the thread that used it.
+ * A pool with a single stripe, the default, is shared by all the threads, so it stays a FIFO queue as the pool
+ * always was: a resource released by a thread is not more likely to be hot in the caches of the next borrower.
+ */
 public class ScalablePool<T> {
 
     private static final Logger log = LoggerFactory.getLogger(ScalablePool.class);
 
-    private final java.util.Queue<T> pool = new ConcurrentLinkedQueue<T>();
+    private final ConcurrentLinkedDeque<T>[] stripes;
     private final List<T> resources = Collections.synchronizedList( new ArrayList<>() );
 
     private final Supplier<? extends T> supplier;
     private final Consumer<? super T> resetter;
     private final Consumer<? super T> disposer;
 
+    private final LongAdder borrows = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder resets = new LongAdder();
+    private final LongAdder borrowNanos = new LongAdder();
+
     public ScalablePool( int initialSize, Supplier<? extends T> supplier, Consumer<? super T> resetter, Consumer<? super T> disposer ) {
+        this( initialSize, 1, supplier, resetter, disposer );
+    }
+
+    @SuppressWarnings("unchecked")
+    public ScalablePool( int initialSize, int stripes, Supplier<? extends T> supplier, Consumer<? super T> resetter, Consumer<? super T> disposer ) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException( "The number of stripes of a pool must be positive: " + stripes );
+        }
         this.supplier = supplier;
         this.resetter = resetter;
         this.disposer = disposer;
 
+        this.stripes = new ConcurrentLinkedDeque[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new ConcurrentLinkedDeque<>();
+        }
+
         for (int i = 0; i < initialSize; i++) {
             T t = this.supplier.get();
-            pool.offer( t );
+            this.stripes[i % stripes].offerLast( t );
             resources.add( t );
         }
     }
 
     public T get() {
-        T t = pool.poll();
-        if (t != null) {
-            return t;
+        long start = System.nanoTime();
+        int home = stripeIndex();
+        T t = stripes[home].pollFirst();
+        if (t == null && stripes.length > 1) {
+            t = steal( home );
         }
 
-        t = this.supplier.get();
-        resources.add( t );
+        if (t == null) {
+            t = this.supplier.get();
+            resources.add( t );
+            misses.increment();
+        }
+
+        borrows.increment();
+        borrowNanos.add( System.nanoTime() - start );
         return t;
     }
 
+    private T steal( int home ) {
+        for (int i = 1; i < stripes.length; i++) {
+            T t = stripes[(home + i) % stripes.length].pollLast();
+            if (t != null) {
+                return t;
+            }
+        }
+        return null;
+    }
+
     public void release(T t) {
         resetter.accept( t );
-        pool.offer( t );
+        resets.increment();
+        if (stripes.length == 1) {
+            stripes[0].offerLast( t );
+        } else {
+            stripes[stripeIndex()].offerFirst( t );
+        }
+    }
+
+    private int stripeIndex() {
+        return stripes.length == 1 ? 0 : (int) ( Thread.currentThread().getId() % stripes.length );
+    }
+
+    public int getStripes() {
+        return stripes.length;
+    }
+
+    public Metrics getMetrics() {
+        return new Metrics( resources.size(), borrows.sum(), misses.sum(), resets.sum(), borrowNanos.sum() );
     }
 
     public void shutdown() {
         for (T t : resources) {
             disposer.accept( t );
         }
-        pool.clear();
+        for (ConcurrentLinkedDeque<T> stripe : stripes) {
+            stripe.clear();
+        }
         resources.clear();
     }
+
+    /**
+     * A snapshot of the usage counters of a pool
+     */
+    public static class Metrics {
+
+        public static final Metrics EMPTY = new Metrics( 0, 0, 0, 0, 0 );
+
+        private final long size;
+        private final long borrows;
+        private final long misses;
+        private final long resets;
+        private final long borrowNanos;
+
+        public Metrics( long size, long borrows, long misses, long resets, long borrowNanos ) {
+            this.size = size;
+            this.borrows = borrows;
+            this.misses = misses;
+            this.resets = resets;
+            this.borrowNanos = borrowNanos;
+        }
+
+        /**
+         * The number of resources owned by the pool, either free or borrowed
+         */
+        public long getSize() {
+            return size;
+        }
+
+        public long getBorrows() {
+            return borrows;
+        }
+
+        /**
+         * The number of borrows that didn't find a free resource and had to create a new one
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getResets() {
+            return resets;
+        }
+
+        /**
+         * The total time spent borrowing resources, including the creation of the missing ones
+         */
+        public long getBorrowNanos() {
+            return borrowNanos;
+        }
+
+        public double getAverageBorrowNanos() {
+            return borrows == 0 ? 0 : (double) borrowNanos / borrows;
+        }
+
+        public Metrics plus( Metrics other ) {
+            return new Metrics( size + other.size, borrows + other.borrows, misses + other.misses, resets + other.resets, borrowNanos + other.borrowNanos );
+        }
+
+        @Override
+        public String toString() {
+            return "Metrics{ size=" + size + ", borrows=" + borrows + ", misses=" + misses + ", resets=" + resets +
+                    ", averageBorrowNanos=" + getAverageBorrowNanos() + " }";
+        }
+    }
 }
@@ -26,6 +26,20 @@ public class TupleRBTree<K extends Comparable< ? super K>> {
     public Node<K>        root;
     public Node<K>        nullNode;
 
+    private final Object  nodeContext;
+
+    public TupleRBTree() {
+        this( null );
+    }
+
+    /**
+     * @param nodeContext the context of all the nodes created by this tree,
+     *                    so the tree owning a tuple can be found through its memory
+     */
+    public TupleRBTree(Object nodeContext) {
+        this.nodeContext = nodeContext;
+    }
+
     public void verifyProperties() {
         if ( VERIFY_RBTREE ) {
             verifyProperty1( root );
@@ -303,13 +317,13 @@ public class TupleRBTree<K extends Comparable< ? super K>> {
     public Node<K> insert(K key) {
         if (key == null) {
             if (nullNode == null) {
-                nullNode = new Node<K>( key );
+                nullNode = new Node<K>( key, nodeContext );
             }
             return nullNode;
         }
         Node<K> insertedNode;
         if ( root == null ) {
-            insertedNode = new Node<K>( key );
+            insertedNode = new Node<K>( key, nodeContext );
             root = insertedNode;
         } else {
             Node<K> n = root;
@@ -319,7 +333,7 @@ public class TupleRBTree<K extends Comparable< ? super K>> {
                     return n;
                 } else if ( compResult < 0 ) {
                     if ( n.left == null ) {
-                        insertedNode = new Node<K>( key );
+                        insertedNode = new Node<K>( key, nodeContext );
                         n.left = insertedNode;
                         break;
                     } else {
@@ -327,7 +341,7 @@ public class TupleRBTree<K extends Comparable< ? super K>> {
                     }
                 } else {
                     if ( n.right == null ) {
-                        insertedNode = new Node<K>( key );
+                        insertedNode = new Node<K>( key, nodeContext );
                         n.right = insertedNode;
                         break;
                     } else {
@@ -385,6 +399,11 @@ public class TupleRBTree<K extends Comparable< ? super K>> {
     }
 
     public void delete(K key) {
+        if (key == null) {
+            // the null node is not part of the tree
+            nullNode = null;
+            return;
+        }
         Node<K> n = lookup(key);
         if ( n == null ) return; // Key not found, do nothing
         if ( n.left != null && n.right != null ) {
@@ -539,6 +558,11 @@ public class TupleRBTree<K extends Comparable< ? super K>> {
             this.key = key;
         }
 
+        public Node(K key, Object context) {
+            super( context );
+            this.key = key;
+        }
+
         public Node<K> grandparent() {
             return parent.parent;
         }
@@ -87,7 +87,7 @@ public class AlphaRangeIndex implements Externalizable {
         size--;
     }
 
-    private Comparable extractKey(IndexableConstraint constraint) {
+    Comparable extractKey(IndexableConstraint constraint) {
         FieldValue field = constraint.getField();
         ValueType valueType = fieldIndex.getFieldExtractor().getValueType();
         if (valueType == ValueType.PCHAR_TYPE || valueType == ValueType.CHAR_TYPE) {
@@ -127,7 +127,7 @@ public class AlphaRangeIndex implements Externalizable {
         }
     }
 
-    private IndexType extractIndexType(IndexableConstraint constraint) {
+    IndexType extractIndexType(IndexableConstraint constraint) {
         ConstraintType constraintType = constraint.getConstraintType();
         switch (constraintType) {
             case LESS_THAN:
@@ -346,7 +346,9 @@ public class IndexUtil {
             }
 
             if (indexSpec.constraintType == ConstraintType.EQUAL) {
-                return new TupleIndexHashTable( indexSpec.indexes, false );
+                return indexSpec.rangeIndex != null ?
+                        new TupleIndexHashRBTree( indexSpec.indexes, indexSpec.rangeConstraintType, indexSpec.rangeIndex, false ) :
+                        createTupleIndexHashTable( indexSpec.indexes, false );
             }
 
             if (indexSpec.constraintType.isComparison()) {
@@ -365,7 +367,9 @@ public class IndexUtil {
             }
 
             if (indexSpec.constraintType == ConstraintType.EQUAL) {
-                return new TupleIndexHashTable( indexSpec.indexes, true );
+                return indexSpec.rangeIndex != null ?
+                        new TupleIndexHashRBTree( indexSpec.indexes, indexSpec.rangeConstraintType, indexSpec.rangeIndex, true ) :
+                        createTupleIndexHashTable( indexSpec.indexes, true );
             }
 
             if (indexSpec.constraintType.isComparison()) {
@@ -375,6 +379,19 @@ public class IndexUtil {
             return new TupleList();
         }
 
+        private static TupleIndexHashTable createTupleIndexHashTable(FieldIndex[] indexes, boolean left) {
+            if (indexes.length == 1 && !indexes[0].requiresCoercion()) {
+                ValueType valueType = indexes[0].getRightExtractor().getValueType();
+                if (valueType == ValueType.PINTEGER_TYPE || valueType == ValueType.PLONG_TYPE) {
+                    return new LongTupleIndexHashTable( indexes, left );
+                }
+                if (valueType == ValueType.STRING_TYPE) {
+                    return new StringTupleIndexHashTable( indexes, left );
+                }
+            }
+            return new TupleIndexHashTable( indexes, left );
+        }
+
         public static ContextEntry[] createContext(BetaNodeFieldConstraint... constraints) {
             ContextEntry[] entries = new ContextEntry[constraints.length];
             for (int i = 0; i < constraints.length; i++) {
@@ -386,6 +403,8 @@ public class IndexUtil {
         private static class IndexSpec {
             private ConstraintType constraintType = ConstraintType.UNKNOWN;
             private FieldIndex[] indexes;
+            private ConstraintType rangeConstraintType;
+            private FieldIndex rangeIndex;
 
             private IndexSpec(short nodeType, BetaNodeFieldConstraint[] constraints, RuleBaseConfiguration config) {
                 init(nodeType, constraints, config);
@@ -410,12 +429,31 @@ public class IndexUtil {
                     }
                     indexes = indexList.toArray(new FieldIndex[indexList.size()]);
 
+                    // look for a comparison constraint to eventually order the tuples inside each bucket
+                    if (!((IndexableConstraint)constraints[firstIndexableConstraint]).isUnification()) {
+                        initRangeIndex(nodeType, constraints, config);
+                    }
+
                 } else if (constraintType.isComparison()) {
                     // look for a dual constraint to create a range index
                     indexes = new FieldIndex[]{ ((IndexableConstraint)constraints[firstIndexableConstraint]).getFieldIndex() };
                 }
             }
 
+            private void initRangeIndex(short nodeType, BetaNodeFieldConstraint[] constraints, RuleBaseConfiguration config) {
+                if (!config.isBetaNodeRangeIndexEnabled()) {
+                    return;
+                }
+                for (BetaNodeFieldConstraint constraint : constraints) {
+                    ConstraintType type = ConstraintType.getType(constraint);
+                    if ( type.isComparison() && type.isIndexableForNode(nodeType, (IndexableConstraint) constraint, config) ) {
+                        rangeConstraintType = type;
+                        rangeIndex = ((IndexableConstraint) constraint).getFieldIndex();
+                        return;
+                    }
+                }
+            }
+
             private int determineTypeWithEqualityPriority(short nodeType, BetaNodeFieldConstraint[] constraints, RuleBaseConfiguration config) {
                 int indexedConstraintPos = 0;
                 for (int i = 0; i < constraints.length; i++) {
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.util.index;
+
+import org.drools.core.spi.Tuple;
+
+/**
+ * A {@link TupleIndexHashTable} specialized for a single equality index on an int or long field.
+ * The key is read as a primitive and stored directly in the bucket, so neither adding, removing or looking up
+ * a tuple boxes the indexed value or allocates a HashEntry.
+ */
+public class LongTupleIndexHashTable extends TupleIndexHashTable {
+
+    private static final long serialVersionUID = 510l;
+
+    public LongTupleIndexHashTable() {
+        // constructor for serialisation
+    }
+
+    public LongTupleIndexHashTable( FieldIndex[] index, boolean left ) {
+        super( index, left );
+    }
+
+    @Override
+    protected TupleList getOrCreate(final Tuple tuple) {
+        long key = keyOf( tuple, left );
+        int hashCode = hashOf( key );
+
+        int index = indexOf( hashCode, this.table.length );
+        LongIndexTupleList entry = (LongIndexTupleList) this.table[index];
+
+        // search to find an existing entry
+        while ( entry != null ) {
+            if ( entry.key == key ) {
+                return entry;
+            }
+            entry = (LongIndexTupleList) entry.getNext();
+        }
+
+        // entry does not exist, so create
+        entry = new LongIndexTupleList( key, hashCode );
+        entry.setNext( (TupleList) this.table[index] );
+        this.table[index] = entry;
+
+        if ( this.size++ >= this.threshold ) {
+            resize( 2 * this.table.length );
+        }
+        return entry;
+    }
+
+    @Override
+    protected TupleList get(final Tuple tuple, boolean isLeftTuple) {
+        long key = keyOf( tuple, isLeftTuple );
+
+        int index = indexOf( hashOf( key ), this.table.length );
+        LongIndexTupleList entry = (LongIndexTupleList) this.table[index];
+
+        while ( entry != null ) {
+            if ( entry.key == key ) {
+                return entry;
+            }
+            entry = (LongIndexTupleList) entry.getNext();
+        }
+
+        return null;
+    }
+
+    @Override
+    protected boolean isSameBucket(TupleList memory, Tuple tuple) {
+        return ( (LongIndexTupleList) memory ).key == keyOf( tuple, left );
+    }
+
+    private long keyOf(Tuple tuple, boolean isLeftTuple) {
+        return getIndex().getFieldIndex( 0 ).indexedLongValueOf( tuple, isLeftTuple );
+    }
+
+    private static int hashOf(long key) {
+        return rehash( Long.hashCode( key ) );
+    }
+
+    public static class LongIndexTupleList extends TupleList {
+        private long key;
+        private int hashCode;
+
+        public LongIndexTupleList( long key, int hashCode ) {
+            this.key = key;
+            this.hashCode = hashCode;
+        }
+
+        public long getKey() {
+            return key;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        protected void copyStateInto(TupleList other) {
+            super.copyStateInto( other );
+            ( (LongIndexTupleList) other ).key = key;
+            ( (LongIndexTupleList) other ).hashCode = hashCode;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.util.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.drools.core.reteoo.AlphaNode;
+import org.drools.core.rule.IndexableConstraint;
+import org.drools.core.spi.InternalReadAccessor;
+import org.drools.core.util.index.RangeIndex.IndexType;
+
+/**
+ * An immutable snapshot of an {@link AlphaRangeIndex} as sorted arrays of thresholds, used by the compiled alpha network.
+ * <p>
+ * The alpha nodes are in the same order of {@link AlphaRangeIndex#getAllValues()}: first the upper bounds
+ * (<code>&lt;</code> and <code>&lt;=</code>) and then the lower bounds (<code>&gt;</code> and <code>&gt;=</code>),
+ * both sorted by threshold. For a given value the matching upper bounds are a suffix of the first group and the
+ * matching lower bounds are a prefix of the second one, so all the matching nodes are in the contiguous range of
+ * positions between {@link #matchingStart(Comparable)} and {@link #matchingEnd(Comparable)}, found with two binary
+ * searches and without allocating any collection.
+ */
+public class SortedAlphaRangeIndex {
+
+    private final InternalReadAccessor fieldExtractor;
+
+    private final int[] nodeIds;
+
+    private final Comparable[] upperBounds;
+    private final boolean[] upperBoundsInclusive;
+
+    private final Comparable[] lowerBounds;
+    private final boolean[] lowerBoundsInclusive;
+
+    /**
+     * @param alphaRangeIndex the index to be snapshotted
+     * @param expectedNodeIds the ids of the indexed alpha nodes, in the order the caller expects to find them
+     * @throws IllegalStateException if the index doesn't contain exactly the expected nodes in the expected order
+     */
+    public SortedAlphaRangeIndex(AlphaRangeIndex alphaRangeIndex, int[] expectedNodeIds) {
+        this.fieldExtractor = alphaRangeIndex.getFieldIndex().getFieldExtractor();
+
+        List<Comparable> upperKeys = new ArrayList<>();
+        List<Boolean> upperInclusive = new ArrayList<>();
+        List<Comparable> lowerKeys = new ArrayList<>();
+        List<Boolean> lowerInclusive = new ArrayList<>();
+        List<AlphaNode> alphaNodes = new ArrayList<>( alphaRangeIndex.getAllValues() );
+
+        this.nodeIds = new int[alphaNodes.size()];
+        for (int i = 0; i < alphaNodes.size(); i++) {
+            AlphaNode alphaNode = alphaNodes.get(i);
+            nodeIds[i] = alphaNode.getId();
+            IndexableConstraint constraint = (IndexableConstraint) alphaNode.getConstraint();
+            Comparable key = alphaRangeIndex.extractKey(constraint);
+            IndexType indexType = alphaRangeIndex.extractIndexType(constraint);
+            switch (indexType) {
+                case LT:
+                case LE:
+                    upperKeys.add(key);
+                    upperInclusive.add(indexType == IndexType.LE);
+                    break;
+                default:
+                    lowerKeys.add(key);
+                    lowerInclusive.add(indexType == IndexType.GE);
+            }
+        }
+
+        if (!Arrays.equals(nodeIds, expectedNodeIds)) {
+            throw new IllegalStateException("The range index contains the alpha nodes " + Arrays.toString(nodeIds) +
+                                            " while " + Arrays.toString(expectedNodeIds) + " were expected");
+        }
+
+        this.upperBounds = upperKeys.toArray(new Comparable[upperKeys.size()]);
+        this.upperBoundsInclusive = toArray(upperInclusive);
+        this.lowerBounds = lowerKeys.toArray(new Comparable[lowerKeys.size()]);
+        this.lowerBoundsInclusive = toArray(lowerInclusive);
+    }
+
+    private static boolean[] toArray(List<Boolean> list) {
+        boolean[] array = new boolean[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    public Comparable getValue(Object object) {
+        return (Comparable) fieldExtractor.getValue(object);
+    }
+
+    /**
+     * Returns the position of the first matching upper bound, or the number of upper bounds if none of them is matching.
+     */
+    public int matchingStart(Comparable value) {
+        // an upper bound is matching when its threshold is greater than the value, or equal and inclusive:
+        // being sorted, the matching ones are all after the non matching ones
+        int low = 0;
+        int high = upperBounds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = upperBounds[mid].compareTo(value);
+            if (cmp > 0 || (cmp == 0 && upperBoundsInclusive[mid])) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position following the last matching lower bound, or the number of upper bounds if none of them is matching.
+     */
+    public int matchingEnd(Comparable value) {
+        // a lower bound is matching when its threshold is less than the value, or equal and inclusive:
+        // being sorted, the matching ones are all before the non matching ones
+        int low = 0;
+        int high = lowerBounds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = lowerBounds[mid].compareTo(value);
+            if (cmp < 0 || (cmp == 0 && lowerBoundsInclusive[mid])) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return upperBounds.length + low;
+    }
+
+    public int[] getNodeIds() {
+        return nodeIds;
+    }
+}
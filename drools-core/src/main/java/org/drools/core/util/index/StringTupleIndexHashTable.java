@@ -0,0 +1,126 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.util.index;
+
+import org.drools.core.spi.Tuple;
+
+/**
+ * A {@link TupleIndexHashTable} specialized for a single equality index on a String field.
+ * The key is stored directly in the bucket, so looking up a tuple doesn't allocate a HashEntry, and keys
+ * are compared by identity before falling back to equals, which is the common case for interned literals.
+ */
+public class StringTupleIndexHashTable extends TupleIndexHashTable {
+
+    private static final long serialVersionUID = 510l;
+
+    public StringTupleIndexHashTable() {
+        // constructor for serialisation
+    }
+
+    public StringTupleIndexHashTable( FieldIndex[] index, boolean left ) {
+        super( index, left );
+    }
+
+    @Override
+    protected TupleList getOrCreate(final Tuple tuple) {
+        String key = keyOf( tuple, left );
+        int hashCode = hashOf( key );
+
+        int index = indexOf( hashCode, this.table.length );
+        StringIndexTupleList entry = (StringIndexTupleList) this.table[index];
+
+        // search to find an existing entry
+        while ( entry != null ) {
+            if ( entry.matches( key, hashCode ) ) {
+                return entry;
+            }
+            entry = (StringIndexTupleList) entry.getNext();
+        }
+
+        // entry does not exist, so create
+        entry = new StringIndexTupleList( key, hashCode );
+        entry.setNext( (TupleList) this.table[index] );
+        this.table[index] = entry;
+
+        if ( this.size++ >= this.threshold ) {
+            resize( 2 * this.table.length );
+        }
+        return entry;
+    }
+
+    @Override
+    protected TupleList get(final Tuple tuple, boolean isLeftTuple) {
+        String key = keyOf( tuple, isLeftTuple );
+        int hashCode = hashOf( key );
+
+        int index = indexOf( hashCode, this.table.length );
+        StringIndexTupleList entry = (StringIndexTupleList) this.table[index];
+
+        while ( entry != null ) {
+            if ( entry.matches( key, hashCode ) ) {
+                return entry;
+            }
+            entry = (StringIndexTupleList) entry.getNext();
+        }
+
+        return null;
+    }
+
+    @Override
+    protected boolean isSameBucket(TupleList memory, Tuple tuple) {
+        String key = keyOf( tuple, left );
+        return ( (StringIndexTupleList) memory ).matches( key, hashOf( key ) );
+    }
+
+    private String keyOf(Tuple tuple, boolean isLeftTuple) {
+        return (String) getIndex().getFieldIndex( 0 ).indexedValueOf( tuple, isLeftTuple );
+    }
+
+    private static int hashOf(String key) {
+        return rehash( key != null ? key.hashCode() : 0 );
+    }
+
+    public static class StringIndexTupleList extends TupleList {
+        private String key;
+        private int hashCode;
+
+        public StringIndexTupleList( String key, int hashCode ) {
+            this.key = key;
+            this.hashCode = hashCode;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        private boolean matches( String otherKey, int otherHashCode ) {
+            return key == otherKey || ( hashCode == otherHashCode && key != null && key.equals( otherKey ) );
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        protected void copyStateInto(TupleList other) {
+            super.copyStateInto( other );
+            ( (StringIndexTupleList) other ).key = key;
+            ( (StringIndexTupleList) other ).hashCode = hashCode;
+        }
+    }
+}
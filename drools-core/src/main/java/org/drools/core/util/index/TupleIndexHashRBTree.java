@@ -0,0 +1,279 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.util.index;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.core.reteoo.TupleMemory;
+import org.drools.core.spi.Tuple;
+import org.drools.core.util.AbstractHashTable.FieldIndex;
+import org.drools.core.util.AbstractHashTable.HashEntry;
+import org.drools.core.util.AbstractHashTable.Index;
+import org.drools.core.util.Entry;
+import org.drools.core.util.FastIterator;
+import org.drools.core.util.Iterator;
+import org.drools.core.util.TupleRBTree;
+import org.drools.core.util.TupleRBTree.Node;
+
+/**
+ * A composite index for beta memories having both equality and comparison constraints, like
+ * <code>a.x == b.x &amp;&amp; a.t &gt; b.t</code>. The tuples are first hashed into buckets on the equality
+ * constraints and then each bucket keeps them ordered on the comparison one in a {@link TupleIndexRBTree},
+ * so a lookup only visits the tuples of the right bucket satisfying the comparison.
+ */
+public class TupleIndexHashRBTree implements Externalizable, TupleMemory {
+
+    private Index                  index;
+
+    private FieldIndex             rangeIndex;
+
+    private IndexUtil.ConstraintType constraintType;
+
+    private boolean                left;
+
+    private Map<HashEntry, Bucket> buckets = new HashMap<>();
+
+    private int                    size;
+
+    public TupleIndexHashRBTree() {
+        // constructor for serialisation
+    }
+
+    public TupleIndexHashRBTree( FieldIndex[] index, IndexUtil.ConstraintType constraintType, FieldIndex rangeIndex, boolean left ) {
+        this.index = TupleIndexHashTable.createIndex( index, TupleIndexHashTable.startResultOf( index ) );
+        this.constraintType = constraintType;
+        this.rangeIndex = rangeIndex;
+        this.left = left;
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeObject( index );
+        out.writeObject( rangeIndex );
+        out.writeObject( constraintType );
+        out.writeBoolean( left );
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        index = (Index) in.readObject();
+        rangeIndex = (FieldIndex) in.readObject();
+        constraintType = (IndexUtil.ConstraintType) in.readObject();
+        left = in.readBoolean();
+    }
+
+    public void add(Tuple tuple) {
+        HashEntry hashEntry = index.hashCodeOf( tuple, left );
+        Bucket bucket = buckets.get( hashEntry );
+        if ( bucket == null ) {
+            bucket = new Bucket( hashEntry, constraintType, rangeIndex, left );
+            buckets.put( hashEntry, bucket );
+        }
+        bucket.add( tuple );
+        size++;
+    }
+
+    public void remove(Tuple tuple) {
+        // the bucket is found through the memory of the tuple because its indexed values could have been already modified
+        Bucket bucket = bucketOf( tuple );
+        bucket.remove( tuple );
+        if ( bucket.size() == 0 ) {
+            buckets.remove( bucket.hashEntry );
+        }
+        size--;
+    }
+
+    public void removeAdd(Tuple tuple) {
+        remove( tuple );
+        add( tuple );
+    }
+
+    private static Bucket bucketOf(Tuple tuple) {
+        return (Bucket) tuple.getMemory().getContext();
+    }
+
+    public Tuple getFirst(Tuple tuple) {
+        Bucket bucket = buckets.get( index.hashCodeOf( tuple, !left ) );
+        return bucket != null ? bucket.getFirst( tuple ) : null;
+    }
+
+    public boolean contains(Tuple tuple) {
+        Bucket bucket = buckets.get( index.hashCodeOf( tuple, left ) );
+        return bucket != null && bucket.contains( tuple );
+    }
+
+    public boolean isIndexed() {
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Entry[] toArray() {
+        List<Tuple> result = new ArrayList<>();
+        FastIterator it = fullFastIterator();
+        for ( Tuple tuple = (Tuple) it.next( null ); tuple != null; tuple = (Tuple) it.next( tuple ) ) {
+            result.add( tuple );
+        }
+        return result.toArray( new Tuple[result.size()] );
+    }
+
+    public Iterator<Tuple> iterator() {
+        FastIterator it = fullFastIterator();
+        return new FastIterator.IteratorAdapter( it, it.next( null ) );
+    }
+
+    public FastIterator fastIterator() {
+        return BucketFastIterator.INSTANCE;
+    }
+
+    public FastIterator fullFastIterator() {
+        return new FullFastIterator( buckets.values() );
+    }
+
+    public FastIterator fullFastIterator(Tuple tuple) {
+        FullFastIterator it = new FullFastIterator( buckets.values() );
+        it.resume( tuple );
+        return it;
+    }
+
+    public void clear() {
+        buckets = new HashMap<>();
+        size = 0;
+    }
+
+    public IndexType getIndexType() {
+        return IndexType.COMPARISON;
+    }
+
+    private static class Bucket extends TupleIndexRBTree {
+        private final HashEntry hashEntry;
+
+        private Bucket( HashEntry hashEntry, IndexUtil.ConstraintType constraintType, FieldIndex rangeIndex, boolean left ) {
+            super( constraintType, rangeIndex, left );
+            this.hashEntry = hashEntry;
+        }
+
+        @Override
+        protected TupleRBTree<Comparable<Comparable>> createTree() {
+            // the bucket is the context of its nodes, so it can be retrieved from the memory of each tuple
+            return new TupleRBTree<Comparable<Comparable>>( this );
+        }
+    }
+
+    /**
+     * Iterates the tuples matching a lookup. It is stateless, so it can be shared by all the lookups: once the tuples
+     * of a node are exhausted it moves on the next node of the same bucket in the direction of the comparison.
+     */
+    private static class BucketFastIterator implements FastIterator {
+        private static final BucketFastIterator INSTANCE = new BucketFastIterator();
+
+        public Entry next(Entry object) {
+            Tuple tuple = (Tuple) object;
+            Tuple next = (Tuple) tuple.getNext();
+            if ( next != null ) {
+                return next;
+            }
+            Node<Comparable<Comparable>> node = (Node<Comparable<Comparable>>) tuple.getMemory();
+            return bucketOf( tuple ).getNext( node.key, false );
+        }
+
+        public boolean isFullIterator() {
+            return false;
+        }
+    }
+
+    /**
+     * Iterates all the tuples bucket by bucket. The nodes of the tree of each bucket are visited in order, followed
+     * by its null node holding the tuples whose compared value is null, which the tree iterator doesn't reach.
+     */
+    private static class FullFastIterator implements FastIterator {
+        private final java.util.Iterator<Bucket> bucketsIterator;
+        private TupleRBTree<Comparable<Comparable>> tree;
+        private FastIterator nodesIterator;
+        private boolean nullNodeVisited;
+
+        private FullFastIterator( Iterable<Bucket> buckets ) {
+            // iterates a snapshot of the buckets, so they can be added or removed while iterating
+            List<Bucket> snapshot = new ArrayList<>();
+            buckets.forEach( snapshot::add );
+            this.bucketsIterator = snapshot.iterator();
+        }
+
+        private void resume(Tuple tuple) {
+            Bucket target = bucketOf( tuple );
+            while ( bucketsIterator.hasNext() ) {
+                Bucket bucket = bucketsIterator.next();
+                if ( bucket == target ) {
+                    startBucket( bucket );
+                    if ( tuple.getMemory() == tree.nullNode ) {
+                        // the null node is the last one of the bucket
+                        nodesIterator = FastIterator.EMPTY;
+                        nullNodeVisited = true;
+                    } else {
+                        // move the nodes iterator past the node of the given tuple
+                        for ( Entry node = nodesIterator.next( null ); node != null && node != tuple.getMemory(); node = nodesIterator.next( null ) ) { }
+                    }
+                    return;
+                }
+            }
+        }
+
+        private void startBucket(Bucket bucket) {
+            tree = bucket.getTree();
+            nodesIterator = tree.fastIterator();
+            nullNodeVisited = false;
+        }
+
+        public Entry next(Entry object) {
+            Tuple tuple = (Tuple) object;
+            if ( tuple != null && tuple.getNext() != null ) {
+                return tuple.getNext();
+            }
+
+            while ( true ) {
+                if ( tree != null ) {
+                    for ( TupleList node = (TupleList) nodesIterator.next( null ); node != null; node = (TupleList) nodesIterator.next( null ) ) {
+                        if ( node.getFirst() != null ) {
+                            return node.getFirst();
+                        }
+                    }
+                    if ( !nullNodeVisited ) {
+                        nullNodeVisited = true;
+                        if ( tree.nullNode != null && tree.nullNode.getFirst() != null ) {
+                            return tree.nullNode.getFirst();
+                        }
+                    }
+                }
+                if ( !bucketsIterator.hasNext() ) {
+                    return null;
+                }
+                startBucket( bucketsIterator.next() );
+            }
+        }
+
+        public boolean isFullIterator() {
+            return true;
+        }
+    }
+}
@@ -44,7 +44,7 @@ public class TupleIndexHashTable extends AbstractHashTable implements TupleMemor
 
     private Index                                     index;
 
-    private boolean                                   left;
+    protected boolean                                 left;
 
     public TupleIndexHashTable() {
         // constructor for serialisation
@@ -63,26 +63,31 @@ public class TupleIndexHashTable extends AbstractHashTable implements TupleMemor
 
         this.left = left;
 
-        this.startResult = PRIME;
+        this.startResult = startResultOf( index );
+        this.index = createIndex( index, this.startResult );
+    }
+
+    static int startResultOf( FieldIndex[] index ) {
+        int startResult = PRIME;
         for ( FieldIndex i : index ) {
-            this.startResult += PRIME * this.startResult + i.getRightExtractor().getIndex();
+            startResult += PRIME * startResult + i.getRightExtractor().getIndex();
         }
+        return startResult;
+    }
 
+    static Index createIndex( FieldIndex[] index, int startResult ) {
         switch ( index.length ) {
             case 0 :
                 throw new IllegalArgumentException( "FieldIndexHashTable cannot use an index[] of length  0" );
             case 1 :
-                this.index = new SingleIndex( index,
-                                              this.startResult );
-                break;
+                return new SingleIndex( index,
+                                        startResult );
             case 2 :
-                this.index = new DoubleCompositeIndex( index,
-                                                       this.startResult );
-                break;
+                return new DoubleCompositeIndex( index,
+                                                 startResult );
             case 3 :
-                this.index = new TripleCompositeIndex( index,
-                                                       this.startResult );
-                break;
+                return new TripleCompositeIndex( index,
+                                                 startResult );
             default :
                 throw new IllegalArgumentException( "FieldIndexHashTable cannot use an index[] of length  great than 3" );
         }
@@ -324,8 +329,7 @@ public class TupleIndexHashTable extends AbstractHashTable implements TupleMemor
         TupleList memory = tuple.getMemory();
         memory.remove( tuple );
 
-        HashEntry hashEntry = this.index.hashCodeOf( tuple, left );
-        if ( hashEntry.hashCode() == memory.hashCode() ) {
+        if ( isSameBucket( memory, tuple ) ) {
             // it's the same bucket, so re-use and return
             memory.add( tuple );
             return;
@@ -354,6 +358,10 @@ public class TupleIndexHashTable extends AbstractHashTable implements TupleMemor
         add( tuple );
     }
 
+    protected boolean isSameBucket(TupleList memory, Tuple tuple) {
+        return this.index.hashCodeOf( tuple, left ).hashCode() == memory.hashCode();
+    }
+
     public void add(final Tuple tuple) {
         final TupleList entry = getOrCreate( tuple );
         entry.add( tuple );
@@ -388,7 +396,7 @@ public class TupleIndexHashTable extends AbstractHashTable implements TupleMemor
      * We use this method to aviod to table lookups for the same hashcode; which is what we would have to do if we did
      * a get and then a create if the value is null.
      */
-    private TupleList getOrCreate(final Tuple tuple) {
+    protected TupleList getOrCreate(final Tuple tuple) {
         HashEntry hashEntry = this.index.hashCodeOf( tuple, left );
 
         int index = indexOf( hashEntry.hashCode(), this.table.length );
@@ -417,7 +425,7 @@ public class TupleIndexHashTable extends AbstractHashTable implements TupleMemor
         return get(tuple, left) != null;
     }
 
-    private TupleList get(final Tuple tuple, boolean isLeftTuple) {
+    protected TupleList get(final Tuple tuple, boolean isLeftTuple) {
         HashEntry hashEntry = this.index.hashCodeOf( tuple, isLeftTuple );
 
         int index = indexOf( hashEntry.hashCode(), this.table.length );
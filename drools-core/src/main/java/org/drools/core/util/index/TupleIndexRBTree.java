@@ -53,7 +53,15 @@ public class TupleIndexRBTree implements Externalizable, TupleMemory {
         this.index = index;
         this.constraintType = constraintType;
         this.left = left;
-        tree = new TupleRBTree<Comparable<Comparable>>();
+        tree = createTree();
+    }
+
+    protected TupleRBTree<Comparable<Comparable>> createTree() {
+        return new TupleRBTree<Comparable<Comparable>>();
+    }
+
+    TupleRBTree<Comparable<Comparable>> getTree() {
+        return tree;
     }
 
     public void writeExternal(ObjectOutput out) throws IOException {
@@ -167,7 +175,7 @@ public class TupleIndexRBTree implements Externalizable, TupleMemory {
                (Comparable) index.getRightExtractor().getValue( tuple.getFactHandle().getObject() );
     }
 
-    private Tuple getNext(Comparable key, boolean first) {
+    Tuple getNext(Comparable key, boolean first) {
         return left ? getNextLeft( key, first ) : getNextRight( key, first );
     }
 
@@ -248,7 +256,7 @@ public class TupleIndexRBTree implements Externalizable, TupleMemory {
     }
 
     public void clear() {
-        tree = new TupleRBTree<Comparable<Comparable>>();
+        tree = createTree();
     }
 
     public IndexType getIndexType() {
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.base.accumulators;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.kie.api.runtime.rule.AccumulateFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReversibleAccumulateFunctionTest {
+
+    @Test
+    public void testMinMax() {
+        checkAgainstSortedValues( new ReversibleMinAccumulateFunction(), sorted -> sorted.get( 0 ) );
+        checkAgainstSortedValues( new ReversibleMaxAccumulateFunction(), sorted -> sorted.get( sorted.size() - 1 ) );
+    }
+
+    @Test
+    public void testPercentile() {
+        checkAgainstSortedValues( new MedianAccumulateFunction(), sorted -> sorted.get( ( sorted.size() + 1 ) / 2 - 1 ) );
+        checkAgainstSortedValues( new PercentileAccumulateFunction.Percentile90(), sorted -> sorted.get( (int) Math.ceil( 0.9 * sorted.size() ) - 1 ) );
+        checkAgainstSortedValues( new PercentileAccumulateFunction( 1.0 ), sorted -> sorted.get( sorted.size() - 1 ) );
+    }
+
+    @Test
+    public void testTopN() {
+        checkAgainstSortedValues( new TopNAccumulateFunction( 3 ), sorted -> {
+            List<Integer> top = new ArrayList<>( sorted.subList( Math.max( 0, sorted.size() - 3 ), sorted.size() ) );
+            Collections.reverse( top );
+            return top;
+        } );
+    }
+
+    @Test
+    public void testEmptyAndNull() throws Exception {
+        MedianAccumulateFunction median = new MedianAccumulateFunction();
+        PercentileAccumulateFunction.PercentileData data = median.createContext();
+        median.init( data );
+        assertThat( median.getResult( data ) ).isNull();
+
+        median.accumulate( data, null );
+        median.accumulate( data, 5 );
+        assertThat( median.getResult( data ) ).isEqualTo( 5 );
+
+        median.reverse( data, null );
+        median.reverse( data, 5 );
+        assertThat( median.getResult( data ) ).isNull();
+    }
+
+    @Test
+    public void testEqualsDependsOnParameters() {
+        assertThat( new PercentileAccumulateFunction( 0.9 ) ).isEqualTo( new PercentileAccumulateFunction( 0.9 ) );
+        assertThat( new PercentileAccumulateFunction( 0.9 ) ).isNotEqualTo( new PercentileAccumulateFunction( 0.95 ) );
+        assertThat( new TopNAccumulateFunction( 3 ) ).isNotEqualTo( new TopNAccumulateFunction( 5 ) );
+    }
+
+    private <C extends Serializable> void checkAgainstSortedValues( AccumulateFunction<C> function, Function<List<Integer>, Object> expected ) {
+        Random random = new Random( 0 );
+        C data = function.createContext();
+        function.initContext( data );
+        List<Integer> values = new ArrayList<>();
+
+        for ( int i = 0; i < 5000; i++ ) {
+            // few distinct values, so there are many duplicates, and more adds than removes, so the group grows
+            if ( values.isEmpty() || random.nextInt( 3 ) > 0 ) {
+                Integer value = random.nextInt( 50 );
+                values.add( value );
+                function.accumulate( data, value );
+            } else {
+                Integer value = values.remove( random.nextInt( values.size() ) );
+                assertThat( function.tryReverse( data, value ) ).isTrue();
+            }
+
+            if ( !values.isEmpty() ) {
+                List<Integer> sorted = new ArrayList<>( values );
+                Collections.sort( sorted );
+                assertThat( getResult( function, data ) ).isEqualTo( expected.apply( sorted ) );
+            }
+        }
+    }
+
+    private static <C extends Serializable> Object getResult( AccumulateFunction<C> function, C data ) {
+        try {
+            return function.getResult( data );
+        } catch (Exception e) {
+            throw new RuntimeException( e );
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.kie.api.runtime.ClassObjectFilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompactObjectStoreTest {
+
+    @Test
+    public void testAddGetRemove() {
+        CompactObjectStore store = new CompactObjectStore();
+
+        List<InternalFactHandle> handles = new ArrayList<>();
+        for ( int i = 0; i < 1000; i++ ) {
+            Object object = i % 2 == 0 ? "s" + i : Integer.valueOf( i );
+            InternalFactHandle handle = new DefaultFactHandle( i, object );
+            store.addHandle( handle, object );
+            handles.add( handle );
+        }
+        assertThat( store.size() ).isEqualTo( 1000 );
+
+        for ( InternalFactHandle handle : handles ) {
+            assertThat( store.getHandleForObject( handle.getObject() ) ).isSameAs( handle );
+        }
+        // lookups are by identity
+        assertThat( store.getHandleForObject( new String( "s0" ) ) ).isNull();
+
+        // removes half of the handles, the remaining ones must still be reachable after the backward shifts
+        for ( int i = 0; i < 1000; i += 2 ) {
+            store.removeHandle( handles.get( i ) );
+        }
+        assertThat( store.size() ).isEqualTo( 500 );
+        for ( int i = 0; i < 1000; i++ ) {
+            InternalFactHandle handle = handles.get( i );
+            assertThat( store.getHandleForObject( handle.getObject() ) ).isSameAs( i % 2 == 0 ? null : handle );
+        }
+
+        List<InternalFactHandle> iterated = new ArrayList<>();
+        store.iterateFactHandles().forEachRemaining( iterated::add );
+        assertThat( iterated ).hasSize( 500 ).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void testUpdateHandle() {
+        CompactObjectStore store = new CompactObjectStore();
+
+        Object oldObject = new Object();
+        Object newObject = new Object();
+        InternalFactHandle handle = new DefaultFactHandle( 1, oldObject );
+        store.addHandle( handle, oldObject );
+
+        store.updateHandle( handle, newObject );
+        assertThat( store.size() ).isEqualTo( 1 );
+        assertThat( store.getHandleForObject( oldObject ) ).isNull();
+        assertThat( store.getHandleForObject( newObject ) ).isSameAs( handle );
+        assertThat( store.getObjectForHandle( handle ) ).isSameAs( newObject );
+    }
+
+    @Test
+    public void testIterateAndClearByClass() {
+        CompactObjectStore store = new CompactObjectStore();
+        for ( int i = 0; i < 10; i++ ) {
+            Object object = i < 3 ? "s" + i : Integer.valueOf( i );
+            store.addHandle( new DefaultFactHandle( i, object ), object );
+        }
+
+        List<Object> strings = new ArrayList<>();
+        store.iterateObjects( new ClassObjectFilter( String.class ) ).forEachRemaining( strings::add );
+        assertThat( strings ).containsExactlyInAnyOrder( "s0", "s1", "s2" );
+
+        List<InternalFactHandle> integers = new ArrayList<>();
+        store.getStoreForClass( Integer.class ).iterator().forEachRemaining( integers::add );
+        assertThat( integers ).hasSize( 7 );
+
+        assertThat( store.clearClassStore( String.class ) ).isTrue();
+        assertThat( store.size() ).isEqualTo( 7 );
+        assertThat( store.clearClassStore( String.class ) ).isFalse();
+    }
+}
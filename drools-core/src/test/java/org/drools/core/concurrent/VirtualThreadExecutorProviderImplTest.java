@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.concurrent;
+
+import java.util.concurrent.CompletionService;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VirtualThreadExecutorProviderImplTest {
+
+    @Test
+    public void testCompletionServiceRunsTasks() throws Exception {
+        VirtualThreadExecutorProviderImpl provider = new VirtualThreadExecutorProviderImpl();
+        CompletionService<Boolean> completionService = provider.getCompletionService();
+
+        completionService.submit( () -> isVirtual( Thread.currentThread() ) );
+        assertThat( completionService.take().get() ).isEqualTo( VirtualThreadExecutorProviderImpl.isVirtualThreadsSupported() );
+    }
+
+    @Test
+    public void testHasLowerPriorityThanDefaultProvider() {
+        assertThat( new VirtualThreadExecutorProviderImpl().compareTo( new ExecutorProviderImpl() ) ).isNegative();
+    }
+
+    private static boolean isVirtual( Thread thread ) {
+        try {
+            return (Boolean) Thread.class.getMethod( "isVirtual" ).invoke( thread );
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+}
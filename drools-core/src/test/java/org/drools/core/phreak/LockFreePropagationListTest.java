@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.phreak;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.common.ReteEvaluator;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LockFreePropagationListTest {
+
+    @Test
+    public void testTakeAllPreservesInsertionOrder() {
+        LockFreePropagationList list = new LockFreePropagationList( null );
+        for (int i = 0; i < 5; i++) {
+            list.addEntry( new TestEntry( 0, i ) );
+        }
+
+        Iterator<PropagationEntry> iterator = list.iterator();
+        for (int i = 0; i < 5; i++) {
+            assertThat( ( (TestEntry) iterator.next() ).seq ).isEqualTo( i );
+        }
+        assertThat( iterator.hasNext() ).isFalse();
+
+        int expected = 0;
+        for (PropagationEntry entry = list.takeAll(); entry != null; entry = entry.getNext()) {
+            assertThat( ( (TestEntry) entry ).seq ).isEqualTo( expected++ );
+        }
+        assertThat( expected ).isEqualTo( 5 );
+        assertThat( list.isEmpty() ).isTrue();
+    }
+
+    @Test
+    public void testEntriesDeferringExpiration() {
+        LockFreePropagationList list = new LockFreePropagationList( null );
+        list.addEntry( new TestEntry( 0, 0 ) );
+        assertThat( list.hasEntriesDeferringExpiration() ).isFalse();
+
+        list.addEntry( new DeferringTestEntry() );
+        assertThat( list.hasEntriesDeferringExpiration() ).isTrue();
+
+        list.takeAll();
+        assertThat( list.hasEntriesDeferringExpiration() ).isFalse();
+    }
+
+    @Test(timeout = 20000)
+    public void testMultipleProducers() throws Exception {
+        int producersNr = 4;
+        int entriesNr = 100000;
+
+        LockFreePropagationList list = new LockFreePropagationList( null, true );
+        list.setFiringUntilHalt( true );
+
+        ExecutorService executor = Executors.newFixedThreadPool( producersNr );
+        try {
+            List<Future<?>> producers = new ArrayList<>();
+            for (int i = 0; i < producersNr; i++) {
+                final int producer = i;
+                producers.add( executor.submit( () -> {
+                    for (int j = 0; j < entriesNr; j++) {
+                        list.addEntry( new TestEntry( producer, j ) );
+                    }
+                } ) );
+            }
+
+            int[] counters = new int[producersNr];
+            int consumed = 0;
+            while (consumed < producersNr * entriesNr) {
+                PropagationEntry head = list.takeAllOrWaitOnRest( () -> true );
+                for (PropagationEntry entry = head; entry != null; entry = entry.getNext()) {
+                    TestEntry testEntry = (TestEntry) entry;
+                    assertThat( testEntry.seq ).isEqualTo( counters[testEntry.producer]++ );
+                    consumed++;
+                }
+            }
+
+            for (Future<?> producer : producers) {
+                producer.get();
+            }
+            assertThat( list.isEmpty() ).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testNotifyWakesUpWaitingConsumer() throws Exception {
+        LockFreePropagationList list = new LockFreePropagationList( null );
+        CountDownLatch waiting = new CountDownLatch( 1 );
+        CountDownLatch woken = new CountDownLatch( 1 );
+
+        Thread consumer = new Thread( () -> {
+            waiting.countDown();
+            list.waitOnRest();
+            woken.countDown();
+        } );
+        consumer.start();
+
+        waiting.await();
+        list.notifyWaitOnRest();
+        assertThat( woken.await( 5, TimeUnit.SECONDS ) ).isTrue();
+    }
+
+    static class TestEntry extends PropagationEntry.AbstractPropagationEntry {
+        final int producer;
+        final int seq;
+
+        TestEntry( int producer, int seq ) {
+            this.producer = producer;
+            this.seq = seq;
+        }
+
+        @Override
+        public void execute( ReteEvaluator reteEvaluator ) { }
+    }
+
+    static class DeferringTestEntry extends TestEntry {
+        DeferringTestEntry() {
+            super( 0, 0 );
+        }
+
+        @Override
+        public boolean defersExpiration() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.time.impl;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.ClockType;
+import org.drools.core.SessionConfiguration;
+import org.drools.core.time.JobHandle;
+import org.drools.core.time.TimerService;
+import org.drools.core.time.TimerServiceFactory;
+import org.drools.core.time.Trigger;
+import org.drools.core.time.impl.JDKTimerServiceTest.DelayedTrigger;
+import org.drools.core.time.impl.JDKTimerServiceTest.HelloWorldJob;
+import org.drools.core.time.impl.JDKTimerServiceTest.HelloWorldJobContext;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimingWheelTest {
+
+    @Test
+    public void testExpiresInOrderOfFireTime() {
+        TimingWheel wheel = new TimingWheel( 1, 0 );
+        Random random = new Random( 0 );
+
+        List<Long> fireTimes = new ArrayList<>();
+        for ( int i = 0; i < 10_000; i++ ) {
+            // spans several levels of the wheel
+            long fireTime = random.nextInt( 1 << ( 1 + random.nextInt( 30 ) ) );
+            fireTimes.add( fireTime );
+            wheel.add( handle( i, fireTime ), fireTime );
+        }
+        assertThat( wheel.size() ).isEqualTo( 10_000 );
+
+        List<Long> expired = new ArrayList<>();
+        long time = 0;
+        while ( wheel.size() > 0 ) {
+            time += random.nextInt( 1 << 22 );
+            long currentTime = time;
+            wheel.expire( currentTime, handle -> {
+                long fireTime = fireTimes.get( (int) handle.getId() );
+                assertThat( fireTime ).isLessThanOrEqualTo( currentTime );
+                expired.add( fireTime );
+            } );
+            assertThat( wheel.getNextExpirationTime() ).isEqualTo( nextFireTime( fireTimes, currentTime ) );
+        }
+        assertThat( expired ).hasSize( 10_000 ).isSorted();
+    }
+
+    @Test
+    public void testRemove() {
+        TimingWheel wheel = new TimingWheel( 1, 0 );
+        List<TimingWheelJobHandle> handles = new ArrayList<>();
+        for ( int i = 0; i < 100; i++ ) {
+            TimingWheelJobHandle handle = handle( i, 1000 + i * 100 );
+            wheel.add( handle, 1000 + i * 100 );
+            handles.add( handle );
+        }
+        for ( int i = 0; i < 100; i += 2 ) {
+            assertThat( wheel.remove( handles.get( i ) ) ).isTrue();
+        }
+        assertThat( wheel.remove( handles.get( 0 ) ) ).isFalse();
+        assertThat( wheel.size() ).isEqualTo( 50 );
+        assertThat( wheel.getNextExpirationTime() ).isEqualTo( 1100 );
+
+        List<Long> expired = new ArrayList<>();
+        wheel.expire( 100_000, handle -> expired.add( handle.getId() ) );
+        assertThat( expired ).hasSize( 50 ).allMatch( id -> id % 2 == 1 ).isSorted();
+        assertThat( wheel.getNextExpirationTime() ).isEqualTo( -1 );
+    }
+
+    @Test
+    public void testRemoveFromConsumerInSameTick() {
+        TimingWheel wheel = new TimingWheel( 1, 0 );
+        List<TimingWheelJobHandle> handles = new ArrayList<>();
+        for ( int i = 0; i < 4; i++ ) {
+            TimingWheelJobHandle handle = handle( i, 100 );
+            wheel.add( handle, 100 );
+            handles.add( handle );
+        }
+        wheel.add( handle( 4, 200 ), 200 );
+
+        List<Long> expired = new ArrayList<>();
+        wheel.expire( 1000, handle -> {
+            expired.add( handle.getId() );
+            if ( handle.getId() == 0 ) {
+                // cancels a job of the same tick and schedules a new one in the same slot
+                assertThat( wheel.remove( handles.get( 1 ) ) ).isTrue();
+                assertThat( wheel.remove( handles.get( 1 ) ) ).isFalse();
+                wheel.add( handle( 5, 100 ), 100 );
+            }
+        } );
+        assertThat( expired ).containsExactly( 0L, 2L, 3L, 5L, 4L );
+        assertThat( wheel.size() ).isEqualTo( 0 );
+        assertThat( wheel.getNextExpirationTime() ).isEqualTo( -1 );
+    }
+
+    @Test
+    public void testTickRoundsUpTheFireTime() {
+        TimingWheel wheel = new TimingWheel( 10, 0 );
+        wheel.add( handle( 0, 15 ), 15 );
+        wheel.add( handle( 1, 20 ), 20 );
+
+        List<Long> expired = new ArrayList<>();
+        wheel.expire( 19, handle -> expired.add( handle.getId() ) );
+        assertThat( expired ).isEmpty();
+        wheel.expire( 20, handle -> expired.add( handle.getId() ) );
+        assertThat( expired ).containsExactly( 0L, 1L );
+
+        // a job in the past expires at the next advance
+        wheel.add( handle( 2, 5 ), 5 );
+        wheel.expire( 20, handle -> expired.add( handle.getId() ) );
+        assertThat( expired ).containsExactly( 0L, 1L, 2L );
+    }
+
+    @Test
+    public void testPseudoClockScheduler() {
+        SessionConfiguration config = SessionConfiguration.newInstance();
+        config.setClockType( ClockType.PSEUDO_CLOCK );
+        config.setProperty( TimerServiceFactory.TIMING_WHEEL_PROPERTY, "true" );
+        TimerService timerService = TimerServiceFactory.getTimerService( config );
+        assertThat( timerService ).isInstanceOf( TimingWheelPseudoClockScheduler.class );
+        TimingWheelPseudoClockScheduler clock = (TimingWheelPseudoClockScheduler) timerService;
+
+        HelloWorldJobContext ctx = new HelloWorldJobContext( "hello world", timerService );
+        timerService.scheduleJob( new HelloWorldJob(), ctx, new PseudoTrigger( 100, 200, 300 ) );
+        HelloWorldJobContext removedCtx = new HelloWorldJobContext( "removed", timerService );
+        JobHandle removed = timerService.scheduleJob( new HelloWorldJob(), removedCtx, new PseudoTrigger( 150 ) );
+        assertThat( clock.getTimeToNextJob() ).isEqualTo( 100 );
+
+        clock.advanceTime( 99, TimeUnit.MILLISECONDS );
+        assertThat( ctx.getList() ).isEmpty();
+        clock.advanceTime( 101, TimeUnit.MILLISECONDS );
+        assertThat( ctx.getList() ).hasSize( 2 );
+        assertThat( clock.getCurrentTime() ).isEqualTo( 200 );
+
+        assertThat( timerService.removeJob( removed ) ).isFalse();
+        clock.advanceTime( 1, TimeUnit.HOURS );
+        assertThat( ctx.getList() ).hasSize( 3 );
+        assertThat( removedCtx.getList() ).hasSize( 1 );
+        assertThat( clock.getTimeToNextJob() ).isEqualTo( -1 );
+    }
+
+    @Test
+    public void testRealtimeTimerService() throws Exception {
+        SessionConfiguration config = SessionConfiguration.newInstance();
+        config.setClockType( ClockType.REALTIME_CLOCK );
+        config.setProperty( TimerServiceFactory.TIMING_WHEEL_PROPERTY, "true" );
+        TimerService timerService = TimerServiceFactory.getTimerService( config );
+        assertThat( timerService ).isInstanceOf( TimingWheelTimerService.class );
+
+        HelloWorldJobContext ctx = new HelloWorldJobContext( "hello world", timerService );
+        timerService.scheduleJob( new HelloWorldJob(), ctx, new DelayedTrigger( new long[] { 100, 100, 100 } ) );
+        HelloWorldJobContext removedCtx = new HelloWorldJobContext( "removed", timerService );
+        JobHandle removed = timerService.scheduleJob( new HelloWorldJob(), removedCtx, new DelayedTrigger( 200 ) );
+        assertThat( timerService.removeJob( removed ) ).isTrue();
+
+        Thread.sleep( 500 );
+        timerService.shutdown();
+        assertThat( ctx.getList() ).hasSize( 3 );
+        assertThat( removedCtx.getList() ).isEmpty();
+    }
+
+    private static long nextFireTime( List<Long> fireTimes, long currentTime ) {
+        return fireTimes.stream().filter( t -> t > currentTime ).mapToLong( t -> t ).min().orElse( -1L );
+    }
+
+    private static TimingWheelJobHandle handle( long id, long fireTime ) {
+        TimingWheelJobHandle handle = new TimingWheelJobHandle( id );
+        handle.setTimerJobInstance( new DefaultTimerJobInstance( null, null, new PseudoTrigger( fireTime ), handle, null ) );
+        return handle;
+    }
+
+    private static class PseudoTrigger implements Trigger {
+        private final List<Date> fireTimes = new ArrayList<>();
+
+        private PseudoTrigger( long... fireTimes ) {
+            for ( long fireTime : fireTimes ) {
+                this.fireTimes.add( new Date( fireTime ) );
+            }
+        }
+
+        @Override
+        public Date hasNextFireTime() {
+            return fireTimes.isEmpty() ? null : fireTimes.get( 0 );
+        }
+
+        @Override
+        public Date nextFireTime() {
+            return fireTimes.isEmpty() ? null : fireTimes.remove( 0 );
+        }
+    }
+}
@@ -108,6 +108,58 @@ public class ScalablePoolTest {
         check( monitor, 5, 2, 5 );
     }
 
+    @Test
+    public void testSingleStripeIsFifo() {
+        Monitor monitor = new Monitor();
+
+        ScalablePool<PooledResource> pool = new ScalablePool<>( 2, () -> new PooledResource( monitor ), PooledResource::reset, PooledResource::dispose );
+
+        PooledResource resource1 = pool.get();
+        PooledResource resource2 = pool.get();
+        pool.release( resource1 );
+        pool.release( resource2 );
+
+        // the first released resource is the first one borrowed again
+        assertSame( resource1, pool.get() );
+        assertSame( resource2, pool.get() );
+
+        pool.shutdown();
+    }
+
+    @Test
+    public void testStripedPool() {
+        Monitor monitor = new Monitor();
+
+        ScalablePool<PooledResource> pool = new ScalablePool<>( 3, 4, () -> new PooledResource( monitor ), PooledResource::reset, PooledResource::dispose );
+        check( monitor, 3, 0, 0 );
+
+        // the resources in the other stripes are stolen before creating new ones
+        PooledResource resource1 = pool.get();
+        PooledResource resource2 = pool.get();
+        PooledResource resource3 = pool.get();
+        check( monitor, 3, 0, 0 );
+
+        PooledResource resource4 = pool.get();
+        check( monitor, 4, 0, 0 );
+
+        pool.release( resource2 );
+        pool.release( resource4 );
+        check( monitor, 4, 2, 0 );
+
+        // the last released resource is the first one borrowed again
+        assertSame( resource4, pool.get() );
+        assertSame( resource2, pool.get() );
+
+        ScalablePool.Metrics metrics = pool.getMetrics();
+        assertEquals( 4, metrics.getSize() );
+        assertEquals( 6, metrics.getBorrows() );
+        assertEquals( 1, metrics.getMisses() );
+        assertEquals( 2, metrics.getResets() );
+
+        pool.shutdown();
+        check( monitor, 4, 2, 4 );
+    }
+
     private void check( Monitor monitor, int expectedNew, int expectedReset, int expectedDispose ) {
         assertEquals(expectedNew, monitor.newCounter);
         assertEquals(expectedReset, monitor.resetCounter);
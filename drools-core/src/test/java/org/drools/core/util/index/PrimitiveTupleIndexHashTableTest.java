@@ -0,0 +1,164 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.drools.core.util.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.drools.core.base.ValueType;
+import org.drools.core.base.extractors.SelfReferenceClassFieldReader;
+import org.drools.core.common.DefaultFactHandle;
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.reteoo.RightTuple;
+import org.drools.core.reteoo.RightTupleImpl;
+import org.drools.core.spi.Tuple;
+import org.drools.core.spi.TupleValueExtractor;
+import org.drools.core.util.AbstractHashTable.FieldIndex;
+import org.drools.core.util.FastIterator;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrimitiveTupleIndexHashTableTest {
+
+    @Test
+    public void testLongIndex() {
+        TupleIndexHashTable table = new LongTupleIndexHashTable( new FieldIndex[] { fieldIndex( long.class ) }, false );
+
+        List<RightTuple> tuples = new ArrayList<>();
+        for ( int i = 0; i < 1000; i++ ) {
+            RightTuple tuple = rightTuple( i, (long) ( i % 100 ) );
+            table.add( tuple );
+            tuples.add( tuple );
+        }
+
+        assertThat( table.size() ).isEqualTo( 1000 );
+        assertThat( countMatching( table, 42L ) ).isEqualTo( 10 );
+        assertThat( countMatching( table, 100L ) ).isEqualTo( 0 );
+        assertThat( countAll( table ) ).isEqualTo( 1000 );
+
+        for ( int i = 0; i < 1000; i += 100 ) {
+            table.remove( tuples.get( i + 42 ) );
+        }
+        assertThat( table.size() ).isEqualTo( 990 );
+        assertThat( countMatching( table, 42L ) ).isEqualTo( 0 );
+        assertThat( countMatching( table, 43L ) ).isEqualTo( 10 );
+    }
+
+    @Test
+    public void testIntIndexRemoveAdd() {
+        TupleIndexHashTable table = new LongTupleIndexHashTable( new FieldIndex[] { fieldIndex( int.class ) }, false );
+
+        Mutable value = new Mutable( 1 );
+        RightTuple tuple = new RightTupleImpl( new DefaultFactHandle( 1, value ) );
+        table.add( tuple );
+        table.add( rightTuple( 2, 1 ) );
+        assertThat( countMatching( table, 1 ) ).isEqualTo( 2 );
+
+        // same bucket
+        table.removeAdd( tuple );
+        assertThat( countMatching( table, 1 ) ).isEqualTo( 2 );
+
+        value.value = 2;
+        table.removeAdd( tuple );
+        assertThat( table.size() ).isEqualTo( 2 );
+        assertThat( countMatching( table, 1 ) ).isEqualTo( 1 );
+        assertThat( countMatching( table, 2 ) ).isEqualTo( 1 );
+    }
+
+    @Test
+    public void testStringIndex() {
+        TupleIndexHashTable table = new StringTupleIndexHashTable( new FieldIndex[] { fieldIndex( String.class ) }, false );
+
+        for ( int i = 0; i < 1000; i++ ) {
+            // not interned, so they can be matched only by equality
+            table.add( rightTuple( i, new String( "key" + ( i % 100 ) ) ) );
+        }
+        table.add( rightTuple( 1000, null ) );
+
+        assertThat( table.size() ).isEqualTo( 1001 );
+        assertThat( countMatching( table, "key42" ) ).isEqualTo( 10 );
+        assertThat( countMatching( table, "key100" ) ).isEqualTo( 0 );
+        assertThat( countMatching( table, null ) ).isEqualTo( 1 );
+        assertThat( countAll( table ) ).isEqualTo( 1001 );
+    }
+
+    private static int countMatching( TupleIndexHashTable table, Object value ) {
+        int count = 0;
+        FastIterator it = table.fastIterator();
+        for ( Tuple tuple = table.getFirst( rightTuple( -1, value ) ); tuple != null; tuple = (Tuple) it.next( tuple ) ) {
+            count++;
+        }
+        return count;
+    }
+
+    private static int countAll( TupleIndexHashTable table ) {
+        int count = 0;
+        FastIterator it = table.fullFastIterator();
+        for ( Tuple tuple = (Tuple) it.next( null ); tuple != null; tuple = (Tuple) it.next( tuple ) ) {
+            count++;
+        }
+        return count;
+    }
+
+    private static RightTuple rightTuple( int id, Object value ) {
+        return new RightTupleImpl( new DefaultFactHandle( id, value ) );
+    }
+
+    private static FieldIndex fieldIndex( Class<?> type ) {
+        SelfReferenceClassFieldReader rightExtractor = new SelfReferenceClassFieldReader( type ) {
+            @Override
+            public Object getValue( ReteEvaluator reteEvaluator, Object object ) {
+                return object instanceof Mutable ? ( (Mutable) object ).value : object;
+            }
+        };
+        return new FieldIndex( rightExtractor, new FactExtractor( rightExtractor.getValueType(), rightExtractor::getValue ) );
+    }
+
+    private static class Mutable {
+        private int value;
+
+        private Mutable( int value ) {
+            this.value = value;
+        }
+    }
+
+    private static class FactExtractor implements TupleValueExtractor {
+        private final ValueType valueType;
+        private final BiFunction<ReteEvaluator, Object, Object> extractor;
+
+        private FactExtractor( ValueType valueType, BiFunction<ReteEvaluator, Object, Object> extractor ) {
+            this.valueType = valueType;
+            this.extractor = extractor;
+        }
+
+        @Override
+        public ValueType getValueType() {
+            return valueType;
+        }
+
+        @Override
+        public Object getValue( ReteEvaluator reteEvaluator, Tuple tuple ) {
+            return extractor.apply( reteEvaluator, tuple.getFactHandle().getObject() );
+        }
+
+        @Override
+        public TupleValueExtractor clone() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.drools.core.util.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.drools.core.base.ValueType;
+import org.drools.core.base.extractors.SelfReferenceClassFieldReader;
+import org.drools.core.common.DefaultFactHandle;
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.reteoo.RightTuple;
+import org.drools.core.reteoo.RightTupleImpl;
+import org.drools.core.spi.Tuple;
+import org.drools.core.spi.TupleValueExtractor;
+import org.drools.core.util.AbstractHashTable.FieldIndex;
+import org.drools.core.util.FastIterator;
+import org.drools.core.util.index.IndexUtil.ConstraintType;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TupleIndexHashRBTreeTest {
+
+    @Test
+    public void testLookupOnlyVisitsMatchingTuples() {
+        TupleIndexHashRBTree memory = createMemory( ConstraintType.GREATER_THAN );
+
+        for ( int i = 0; i < 100; i++ ) {
+            memory.add( rightTuple( new Event( "key" + ( i % 2 ), i ) ) );
+        }
+        assertThat( memory.size() ).isEqualTo( 100 );
+
+        // right tuples with key0 and t > 90
+        assertThat( lookup( memory, new Event( "key0", 90 ) ) ).containsExactly( 92, 94, 96, 98 );
+        assertThat( lookup( memory, new Event( "key1", 90 ) ) ).containsExactly( 91, 93, 95, 97, 99 );
+        assertThat( lookup( memory, new Event( "key0", 98 ) ) ).isEmpty();
+        assertThat( lookup( memory, new Event( "key2", 0 ) ) ).isEmpty();
+        assertThat( countAll( memory ) ).isEqualTo( 100 );
+    }
+
+    @Test
+    public void testRemoveAndModify() {
+        TupleIndexHashRBTree memory = createMemory( ConstraintType.LESS_OR_EQUAL );
+
+        Event e1 = new Event( "a", 1 );
+        Event e2 = new Event( "a", 2 );
+        Event e3 = new Event( "b", 3 );
+        RightTuple t1 = rightTuple( e1 );
+        RightTuple t2 = rightTuple( e2 );
+        RightTuple t3 = rightTuple( e3 );
+        memory.add( t1 );
+        memory.add( t2 );
+        memory.add( t3 );
+
+        assertThat( lookup( memory, new Event( "a", 2 ) ) ).containsExactly( 2, 1 );
+
+        memory.remove( t2 );
+        assertThat( memory.size() ).isEqualTo( 2 );
+        assertThat( lookup( memory, new Event( "a", 2 ) ) ).containsExactly( 1 );
+
+        // move e1 into the bucket of e3, the old bucket is found through the memory of the tuple
+        e1.key = "b";
+        e1.t = 0;
+        memory.removeAdd( t1 );
+        assertThat( lookup( memory, new Event( "a", 10 ) ) ).isEmpty();
+        assertThat( lookup( memory, new Event( "b", 10 ) ) ).containsExactly( 3, 0 );
+
+        memory.remove( t1 );
+        memory.remove( t3 );
+        assertThat( memory.size() ).isEqualTo( 0 );
+        assertThat( countAll( memory ) ).isEqualTo( 0 );
+    }
+
+    private static TupleIndexHashRBTree createMemory( ConstraintType constraintType ) {
+        FieldIndex keyIndex = fieldIndex( String.class, e -> e.key );
+        FieldIndex rangeIndex = fieldIndex( int.class, e -> e.t );
+        return new TupleIndexHashRBTree( new FieldIndex[] { keyIndex }, constraintType, rangeIndex, false );
+    }
+
+    @Test
+    public void testNullComparedValues() {
+        TupleIndexHashRBTree memory = createMemory( ConstraintType.GREATER_THAN );
+
+        RightTuple n1 = rightTuple( new Event( "a", null ) );
+        RightTuple n2 = rightTuple( new Event( "b", null ) );
+        memory.add( rightTuple( new Event( "a", 1 ) ) );
+        memory.add( n1 );
+        memory.add( rightTuple( new Event( "b", 2 ) ) );
+        memory.add( n2 );
+
+        // the tuples with a null compared value never match a comparison, but are still part of the memory
+        assertThat( lookup( memory, new Event( "a", 0 ) ) ).containsExactly( 1 );
+        assertThat( countAll( memory ) ).isEqualTo( 4 );
+        assertThat( memory.toArray() ).hasSize( 4 ).contains( n1, n2 );
+
+        // resuming from a tuple of a null node continues with the tuples following it in the full iteration
+        List<Tuple> all = new ArrayList<>();
+        FastIterator it = memory.fullFastIterator();
+        for ( Tuple tuple = (Tuple) it.next( null ); tuple != null; tuple = (Tuple) it.next( tuple ) ) {
+            all.add( tuple );
+        }
+        List<Tuple> resumed = new ArrayList<>();
+        it = memory.fullFastIterator( n1 );
+        for ( Tuple tuple = (Tuple) it.next( n1 ); tuple != null; tuple = (Tuple) it.next( tuple ) ) {
+            resumed.add( tuple );
+        }
+        assertThat( resumed ).isEqualTo( all.subList( all.indexOf( n1 ) + 1, all.size() ) );
+
+        memory.remove( n1 );
+        assertThat( countAll( memory ) ).isEqualTo( 3 );
+        assertThat( lookup( memory, new Event( "a", 0 ) ) ).containsExactly( 1 );
+        memory.remove( n2 );
+        assertThat( countAll( memory ) ).isEqualTo( 2 );
+    }
+
+    private static List<Integer> lookup( TupleIndexHashRBTree memory, Event probe ) {
+        List<Integer> result = new ArrayList<>();
+        FastIterator it = memory.fastIterator();
+        for ( Tuple tuple = memory.getFirst( rightTuple( probe ) ); tuple != null; tuple = (Tuple) it.next( tuple ) ) {
+            result.add( ( (Event) tuple.getFactHandle().getObject() ).t );
+        }
+        return result;
+    }
+
+    private static int countAll( TupleIndexHashRBTree memory ) {
+        int count = 0;
+        FastIterator it = memory.fullFastIterator();
+        for ( Tuple tuple = (Tuple) it.next( null ); tuple != null; tuple = (Tuple) it.next( tuple ) ) {
+            count++;
+        }
+        return count;
+    }
+
+    private static RightTuple rightTuple( Event event ) {
+        return new RightTupleImpl( new DefaultFactHandle( 1, event ) );
+    }
+
+    private static FieldIndex fieldIndex( Class<?> type, Function<Event, Object> extractor ) {
+        SelfReferenceClassFieldReader rightExtractor = new SelfReferenceClassFieldReader( type ) {
+            @Override
+            public Object getValue( ReteEvaluator reteEvaluator, Object object ) {
+                return extractor.apply( (Event) object );
+            }
+        };
+        return new FieldIndex( rightExtractor, new FactExtractor( rightExtractor.getValueType(), extractor ) );
+    }
+
+    private static class Event {
+        private String key;
+        private Integer t;
+
+        private Event( String key, Integer t ) {
+            this.key = key;
+            this.t = t;
+        }
+    }
+
+    private static class FactExtractor implements TupleValueExtractor {
+        private final ValueType valueType;
+        private final Function<Event, Object> extractor;
+
+        private FactExtractor( ValueType valueType, Function<Event, Object> extractor ) {
+            this.valueType = valueType;
+            this.extractor = extractor;
+        }
+
+        @Override
+        public ValueType getValueType() {
+            return valueType;
+        }
+
+        @Override
+        public Object getValue( ReteEvaluator reteEvaluator, Tuple tuple ) {
+            return extractor.apply( (Event) tuple.getFactHandle().getObject() );
+        }
+
+        @Override
+        public TupleValueExtractor clone() {
+            return this;
+        }
+    }
+}
@@ -26,6 +26,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.drools.core.common.ActivationGroupImpl;
 import org.drools.core.common.ActivationGroupNode;
@@ -47,6 +50,7 @@ import org.drools.core.event.AgendaEventSupport;
 import org.drools.core.impl.RuleBase;
 import org.drools.core.phreak.ExecutableEntry;
 import org.drools.core.phreak.PropagationEntry;
+import org.drools.core.phreak.LockFreePropagationList;
 import org.drools.core.phreak.PropagationList;
 import org.drools.core.phreak.RuleAgendaItem;
 import org.drools.core.phreak.RuleExecutor;
@@ -78,6 +82,7 @@ import org.kie.api.runtime.process.ProcessInstance;
 import org.kie.api.runtime.rule.AgendaFilter;
 import org.kie.api.runtime.rule.AgendaGroup;
 import org.kie.api.runtime.rule.Match;
+import org.kie.internal.runtime.conf.PropagationListOption;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -227,8 +232,13 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
             return new ThreadUnsafePropagationList( workingMemory );
         }
 
-        return workingMemory.getSessionConfiguration().hasForceEagerActivationFilter() ?
-               new SynchronizedBypassPropagationList( workingMemory ) :
+        if (workingMemory.getSessionConfiguration().hasForceEagerActivationFilter()) {
+            return new SynchronizedBypassPropagationList( workingMemory );
+        }
+
+        PropagationListOption propagationListOption = workingMemory.getSessionConfiguration().getPropagationListOption();
+        return propagationListOption.isLockFree() ?
+               new LockFreePropagationList( workingMemory, propagationListOption == PropagationListOption.LOCK_FREE_SPINNING ) :
                new SynchronizedPropagationList( workingMemory );
     }
 
@@ -784,12 +794,16 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
         class FireAllRulesRestHandler implements RestHandler {
             @Override
             public PropagationEntry handleRest(DefaultAgenda agenda, boolean isInternalFire) {
-                synchronized (agenda.executionStateMachine.getStateMachineLock()) {
+                Lock stateMachineLock = agenda.executionStateMachine.getStateMachineLock();
+                stateMachineLock.lock();
+                try {
                     PropagationEntry head = agenda.propagationList.takeAll();
                     if (isInternalFire && head == null) {
                         agenda.internalHalt();
                     }
                     return head;
+                } finally {
+                    stateMachineLock.unlock();
                 }
             }
         }
@@ -803,20 +817,12 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
                     deactivated = true;
                 }
 
-                PropagationEntry head;
-                // this must use the same sync target as takeAllPropagations, to ensure this entire block is atomic, up to the point of wait
-                synchronized (agenda.propagationList) {
-                    head = agenda.propagationList.takeAll();
-
-                    // if halt() has called, the thread should not be put into a wait state
-                    // instead this is just a safe way to make sure the queue is flushed before exiting the loop
-                    if (head == null && (
-                            agenda.executionStateMachine.getCurrentState() == ExecutionStateMachine.ExecutionState.FIRING_UNTIL_HALT ||
-                            agenda.executionStateMachine.getCurrentState() == ExecutionStateMachine.ExecutionState.INACTIVE_ON_FIRING_UNTIL_HALT )) {
-                        agenda.propagationList.waitOnRest();
-                        head = agenda.propagationList.takeAll();
-                    }
-                }
+                // the propagation list takes the pending entries and waits atomically, up to the point of wait
+                // if halt() has called, the thread should not be put into a wait state
+                // instead this is just a safe way to make sure the queue is flushed before exiting the loop
+                PropagationEntry head = agenda.propagationList.takeAllOrWaitOnRest( () ->
+                        agenda.executionStateMachine.getCurrentState() == ExecutionStateMachine.ExecutionState.FIRING_UNTIL_HALT ||
+                        agenda.executionStateMachine.getCurrentState() == ExecutionStateMachine.ExecutionState.INACTIVE_ON_FIRING_UNTIL_HALT );
 
                 if (deactivated) {
                     agenda.executionStateMachine.toFireUntilHalt();
@@ -1027,12 +1033,12 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
 
         ExecutionState getCurrentState();
 
-        Object getStateMachineLock();
+        Lock getStateMachineLock();
     }
 
     static class UnsafeExecutionStateMachine implements ExecutionStateMachine {
 
-        private final Object stateMachineLock = new Object();
+        private final ReentrantLock stateMachineLock = new ReentrantLock();
 
         private ExecutionState currentState = ExecutionState.INACTIVE;
 
@@ -1117,7 +1123,7 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
         }
 
         @Override
-        public Object getStateMachineLock() {
+        public Lock getStateMachineLock() {
             return stateMachineLock;
         }
     }
@@ -1126,7 +1132,9 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
         private volatile ExecutionState currentState = ExecutionState.INACTIVE;
         private volatile boolean wasFiringUntilHalt = false;
 
-        private final Object stateMachineLock = new Object();
+        // a j.u.c. lock is used instead of the intrinsic monitor so a virtual thread waiting for the engine to become inactive doesn't pin its carrier thread
+        private final ReentrantLock stateMachineLock = new ReentrantLock();
+        private final Condition inactive = stateMachineLock.newCondition();
 
         private long fireUntilHaltThreadId = -1;
 
@@ -1140,27 +1148,34 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
         }
 
         public boolean toFireAllRules() {
-            synchronized (stateMachineLock) {
+            stateMachineLock.lock();
+            try {
                 if (currentState.isFiring() || !currentState.isAlive()) {
                     return false;
                 }
                 waitAndEnterExecutionState( ExecutionState.FIRING_ALL_RULES );
+            } finally {
+                stateMachineLock.unlock();
             }
             return true;
         }
 
         public boolean toFireUntilHalt() {
-            synchronized (stateMachineLock) {
+            stateMachineLock.lock();
+            try {
                 if ( currentState == ExecutionState.FIRING_UNTIL_HALT || currentState == ExecutionState.HALTING ) {
                     return false;
                 }
                 waitAndEnterExecutionState( ExecutionState.FIRING_UNTIL_HALT );
+            } finally {
+                stateMachineLock.unlock();
             }
             return true;
         }
 
         public boolean toExecuteTask( ExecutableEntry executable ) {
-            synchronized (stateMachineLock) {
+            stateMachineLock.lock();
+            try {
                 // state is never changed outside of a sync block, so this is safe.
                 if (isFiring()) {
                     executable.enqueue();
@@ -1171,17 +1186,22 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
                     waitAndEnterExecutionState( ExecutionState.EXECUTING_TASK );
                 }
                 return true;
+            } finally {
+                stateMachineLock.unlock();
             }
         }
 
         public boolean toExecuteTaskState() {
-            synchronized (stateMachineLock) {
+            stateMachineLock.lock();
+            try {
                 // state is never changed outside of a sync block, so this is safe.
                 if (!currentState.isAlive() || currentState.isFiring()) {
                     return false;
                 }
                 waitAndEnterExecutionState( ExecutionState.EXECUTING_TASK );
                 return true;
+            } finally {
+                stateMachineLock.unlock();
             }
         }
 
@@ -1193,7 +1213,7 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
         private void waitInactive() {
             while ( currentState != ExecutionState.INACTIVE && currentState != ExecutionState.INACTIVE_ON_FIRING_UNTIL_HALT && currentState != ExecutionState.DISPOSED ) {
                 try {
-                    stateMachineLock.wait();
+                    inactive.await();
                 } catch (InterruptedException e) {
                     throw new RuntimeException( e );
                 }
@@ -1231,16 +1251,20 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
         }
 
         public void deactivate() {
-            synchronized (stateMachineLock) {
+            stateMachineLock.lock();
+            try {
                 pauseFiringUntilHalt();
                 if ( currentState != ExecutionState.DEACTIVATED && currentState.isAlive() ) {
                     waitAndEnterExecutionState( ExecutionState.DEACTIVATED );
                 }
+            } finally {
+                stateMachineLock.unlock();
             }
         }
 
         public boolean tryDeactivate() {
-            synchronized (stateMachineLock) {
+            stateMachineLock.lock();
+            try {
                 if ( !currentState.isAlive() ) {
                     return true;
                 }
@@ -1249,6 +1273,8 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
                     setCurrentState( ExecutionState.DEACTIVATED );
                     return true;
                 }
+            } finally {
+                stateMachineLock.unlock();
             }
             return false;
         }
@@ -1262,38 +1288,48 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
         }
 
         public void immediateHalt(PropagationList propagationList) {
-            synchronized (stateMachineLock) {
+            stateMachineLock.lock();
+            try {
                 if (currentState != ExecutionState.INACTIVE) {
                     setCurrentState( ExecutionState.INACTIVE );
-                    stateMachineLock.notifyAll();
+                    inactive.signalAll();
                     propagationList.onEngineInactive();
                     if (wasFiringUntilHalt) {
                         // if it is halting a thread that was running a fireUntilHalt registers its id
                         fireUntilHaltThreadId = Thread.currentThread().getId();
                     }
                 }
+            } finally {
+                stateMachineLock.unlock();
             }
         }
 
         public void inactiveOnFireUntilHalt() {
-            synchronized (stateMachineLock) {
+            stateMachineLock.lock();
+            try {
                 if (currentState != ExecutionState.INACTIVE && currentState != ExecutionState.INACTIVE_ON_FIRING_UNTIL_HALT) {
                     setCurrentState( ExecutionState.INACTIVE_ON_FIRING_UNTIL_HALT );
-                    stateMachineLock.notifyAll();
+                    inactive.signalAll();
                 }
+            } finally {
+                stateMachineLock.unlock();
             }
         }
 
         public void internalHalt() {
-            synchronized (stateMachineLock) {
+            stateMachineLock.lock();
+            try {
                 if (isFiring()) {
                     setCurrentState( ExecutionState.HALTING );
                 }
+            } finally {
+                stateMachineLock.unlock();
             }
         }
 
         public boolean dispose(InternalWorkingMemory workingMemory) {
-            synchronized (stateMachineLock) {
+            stateMachineLock.lock();
+            try {
                 if (!currentState.isAlive()) {
                     return false;
                 }
@@ -1302,14 +1338,19 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
                     workingMemory.notifyWaitOnRest();
                 }
                 waitAndEnterExecutionState( ExecutionState.DISPOSED );
-                stateMachineLock.notifyAll();
+                inactive.signalAll();
                 return true;
+            } finally {
+                stateMachineLock.unlock();
             }
         }
 
         public boolean isAlive() {
-            synchronized (stateMachineLock) {
+            stateMachineLock.lock();
+            try {
                 return currentState.isAlive();
+            } finally {
+                stateMachineLock.unlock();
             }
         }
 
@@ -1317,7 +1358,7 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
             return currentState;
         }
 
-        public Object getStateMachineLock() {
+        public Lock getStateMachineLock() {
             return stateMachineLock;
         }
     }
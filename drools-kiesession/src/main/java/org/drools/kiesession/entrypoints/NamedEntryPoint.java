@@ -24,13 +24,16 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.drools.core.RuleBaseConfiguration;
 import org.drools.core.base.TraitHelper;
 import org.drools.core.common.ClassAwareObjectStore;
+import org.drools.core.common.CompactObjectStore;
 import org.drools.core.common.EqualityKey;
 import org.drools.core.common.EventFactHandle;
 import org.drools.core.common.IdentityObjectStore;
@@ -48,6 +51,7 @@ import org.drools.core.impl.RuleBase;
 import org.drools.core.reteoo.EntryPointNode;
 import org.drools.core.reteoo.ObjectTypeConf;
 import org.drools.core.reteoo.ObjectTypeNode;
+import org.drools.core.reteoo.ReferenceData;
 import org.drools.core.reteoo.RuntimeComponentFactory;
 import org.drools.core.reteoo.TerminalNode;
 import org.drools.core.rule.EntryPointId;
@@ -110,7 +114,15 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
         RuleBaseConfiguration conf = this.ruleBase.getConfiguration();
         this.pctxFactory = RuntimeComponentFactory.get().getPropagationContextFactory();
         this.isEqualityBehaviour = RuleBaseConfiguration.AssertBehaviour.EQUALITY.equals(conf.getAssertBehaviour());
-        this.objectStore = isEqualityBehaviour || conf.isMutabilityEnabled() ?
+        this.objectStore = createObjectStore( conf );
+    }
+
+    private ObjectStore createObjectStore( RuleBaseConfiguration conf ) {
+        // the compact store doesn't group the facts by class, as the knowledge bases with mutability enabled require
+        if ( !isEqualityBehaviour && !conf.isMutabilityEnabled() && this.reteEvaluator.getSessionConfiguration().isCompactObjectStore() ) {
+            return new CompactObjectStore();
+        }
+        return isEqualityBehaviour || conf.isMutabilityEnabled() ?
                 new ClassAwareObjectStore( isEqualityBehaviour, this.lock ) :
                 new IdentityObjectStore();
     }
@@ -234,6 +246,131 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
 
     }
 
+    /**
+     * Inserts all the given facts starting the operation and acquiring the lock only once. The handles are created
+     * in the order of the given facts, then the facts are propagated grouped by their {@link ObjectTypeConf}, so the
+     * facts of the same type traverse the same part of the network one after the other.
+     * The facts of types requiring the truth maintenance system or property change listeners are inserted one by one.
+     */
+    @Override
+    public List<FactHandle> insertAll(Collection<?> objects) {
+        List<FactHandle> handles = new ArrayList<>(objects.size());
+        if ( this.reteEvaluator.isSequential() ) {
+            for ( Object object : objects ) {
+                handles.add( insert( object ) );
+            }
+            return handles;
+        }
+
+        try {
+            this.reteEvaluator.startOperation();
+            lock();
+            try {
+                this.ruleBase.executeQueuedActions();
+
+                Map<ObjectTypeConf, List<InternalFactHandle>> handlesByType = new LinkedHashMap<>();
+                ObjectTypeConfigurationRegistry typeConfReg = getObjectTypeConfigurationRegistry();
+                for ( Object object : objects ) {
+                    if ( object == null ) {
+                        // you cannot assert a null object
+                        handles.add( null );
+                        continue;
+                    }
+
+                    ObjectTypeConf typeConf = typeConfReg.getOrCreateObjectTypeConf( this.entryPoint, object );
+                    if ( typeConf.isTMSEnabled() || typeConf.isDynamic() ) {
+                        handles.add( insert( object ) );
+                        continue;
+                    }
+
+                    // check if the object already exists in the WM, also among the ones of this batch
+                    InternalFactHandle handle = this.objectStore.getHandleForObject( object );
+                    if ( handle == null ) {
+                        handle = createHandle( object, typeConf );
+                        this.objectStore.addHandle( handle, object );
+                        handlesByType.computeIfAbsent( typeConf, k -> new ArrayList<>() ).add( handle );
+                    }
+                    handles.add( handle );
+                }
+
+                for ( Map.Entry<ObjectTypeConf, List<InternalFactHandle>> entry : handlesByType.entrySet() ) {
+                    ObjectTypeConf typeConf = entry.getKey();
+                    for ( InternalFactHandle handle : entry.getValue() ) {
+                        PropagationContext pctx = this.pctxFactory.createPropagationContext(this.reteEvaluator.getNextPropagationIdCounter(),
+                                PropagationContext.Type.INSERTION,
+                                null,
+                                null,
+                                handle,
+                                entryPoint);
+                        this.entryPointNode.assertObject( handle, pctx, typeConf, this.reteEvaluator );
+                        this.reteEvaluator.getRuleRuntimeEventSupport().fireObjectInserted(pctx, handle, handle.getObject(), this.reteEvaluator);
+                    }
+                }
+            } finally {
+                unlock();
+            }
+            return handles;
+        } finally {
+            this.reteEvaluator.endOperation();
+        }
+    }
+
+    /**
+     * Inserts the facts of the given {@link ReferenceData}, propagating them straight to the sinks recorded
+     * for them by the kbase, so their alpha constraints are not evaluated again by this session.
+     * As the other insertions, their propagation is enqueued in the propagation list of a thread safe session.
+     * When the facts can't be routed this way, because they are events, they require the truth maintenance
+     * system or the alpha network is partitioned, they are inserted as usual.
+     */
+    public void insertReferenceData(ReferenceData referenceData) {
+        List<Object> facts = referenceData.getFacts();
+        if ( this.reteEvaluator.isSequential() || this.ruleBase.getConfiguration().isMultithreadEvaluation() ) {
+            insertAll( facts );
+            return;
+        }
+
+        try {
+            this.reteEvaluator.startOperation();
+            lock();
+            try {
+                this.ruleBase.executeQueuedActions();
+
+                ObjectTypeConfigurationRegistry typeConfReg = getObjectTypeConfigurationRegistry();
+                for ( int i = 0; i < facts.size(); i++ ) {
+                    Object object = facts.get( i );
+                    if ( object == null ) {
+                        continue;
+                    }
+                    ObjectTypeConf typeConf = typeConfReg.getOrCreateObjectTypeConf( this.entryPoint, object );
+                    if ( typeConf.isEvent() || typeConf.isTMSEnabled() || typeConf.isDynamic() ) {
+                        insert( object );
+                        continue;
+                    }
+
+                    InternalFactHandle handle = createHandle( object, typeConf );
+                    this.objectStore.addHandle( handle, object );
+                    PropagationContext pctx = this.pctxFactory.createPropagationContext(this.reteEvaluator.getNextPropagationIdCounter(),
+                            PropagationContext.Type.INSERTION,
+                            null,
+                            null,
+                            handle,
+                            entryPoint);
+                    if ( this.reteEvaluator.isThreadSafe() ) {
+                        // as in EntryPointNode.assertObject, the firing thread is the one propagating the insertion
+                        this.reteEvaluator.addPropagation( new ReferenceData.Insert( referenceData, i, handle, pctx, typeConf ) );
+                    } else {
+                        referenceData.propagateAssert( i, handle, pctx, typeConf, this.reteEvaluator );
+                    }
+                    this.reteEvaluator.getRuleRuntimeEventSupport().fireObjectInserted(pctx, handle, object, this.reteEvaluator);
+                }
+            } finally {
+                unlock();
+            }
+        } finally {
+            this.reteEvaluator.endOperation();
+        }
+    }
+
     public void insert(InternalFactHandle handle,
                        Object object,
                        RuleImpl rule,
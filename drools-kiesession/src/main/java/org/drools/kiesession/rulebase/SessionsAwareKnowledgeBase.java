@@ -46,10 +46,12 @@ import org.drools.core.impl.KnowledgeBaseImpl;
 import org.drools.core.impl.RuleBase;
 import org.drools.core.impl.RuleBaseFactory;
 import org.drools.core.management.DroolsManagementAgent;
+import org.drools.core.phreak.DirectSequentialEvaluator;
 import org.drools.core.reteoo.AsyncReceiveNode;
 import org.drools.core.reteoo.EntryPointNode;
 import org.drools.core.reteoo.LeftTupleNode;
 import org.drools.core.reteoo.LeftTupleSource;
+import org.drools.core.reteoo.ReferenceData;
 import org.drools.core.reteoo.Rete;
 import org.drools.core.reteoo.ReteooBuilder;
 import org.drools.core.reteoo.RuntimeComponentFactory;
@@ -805,4 +807,19 @@ public class SessionsAwareKnowledgeBase implements InternalKnowledgeBase {
     public void registerSegmentPrototype(LeftTupleSource tupleSource, SegmentMemory smem) {
         delegate.registerSegmentPrototype(tupleSource, smem);
     }
+
+    @Override
+    public void addReferenceData(String entryPointName, Collection<?> facts) {
+        delegate.addReferenceData(entryPointName, facts);
+    }
+
+    @Override
+    public Collection<ReferenceData> getReferenceData() {
+        return delegate.getReferenceData();
+    }
+
+    @Override
+    public DirectSequentialEvaluator getDirectSequentialEvaluator() {
+        return delegate.getDirectSequentialEvaluator();
+    }
 }
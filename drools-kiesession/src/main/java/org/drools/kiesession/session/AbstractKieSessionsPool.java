@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.drools.core.impl.EnvironmentFactory;
+import org.drools.core.util.ScalablePool;
 import org.kie.api.runtime.Environment;
 import org.kie.api.runtime.KieSessionConfiguration;
 import org.kie.api.runtime.KieSessionsPool;
@@ -45,6 +46,15 @@ public abstract class AbstractKieSessionsPool implements KieSessionsPool {
         pools.clear();
     }
 
+    /**
+     * Returns the usage counters of all the sessions pools, summed together
+     */
+    public ScalablePool.Metrics getMetrics() {
+        return pools.values().stream()
+                .map( StatefulSessionPool::getMetrics )
+                .reduce( ScalablePool.Metrics.EMPTY, ScalablePool.Metrics::plus );
+    }
+
     protected StatefulSessionPool getPool( KieSessionConfiguration conf, boolean stateless) {
         return getPool( null, conf, stateless);
     }
@@ -71,6 +71,7 @@ import org.drools.core.event.RuleRuntimeEventSupport;
 import org.drools.core.factmodel.traits.Thing;
 import org.drools.core.factmodel.traits.TraitableBean;
 import org.drools.core.impl.AbstractRuntime;
+import org.drools.kiesession.entrypoints.NamedEntryPoint;
 import org.drools.kiesession.entrypoints.NamedEntryPointsManager;
 import org.drools.core.impl.EnvironmentFactory;
 import org.drools.core.management.DroolsManagementAgent;
@@ -84,6 +85,7 @@ import org.drools.core.reteoo.LeftTuple;
 import org.drools.core.reteoo.ObjectTypeNode;
 import org.drools.core.reteoo.PathMemory;
 import org.drools.core.reteoo.QueryTerminalNode;
+import org.drools.core.reteoo.ReferenceData;
 import org.drools.core.reteoo.RuntimeComponentFactory;
 import org.drools.core.reteoo.SegmentMemory;
 import org.drools.core.reteoo.TerminalNode;
@@ -328,6 +330,7 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
 
         if (initInitFactHandle) {
             this.initialFactHandle = initInitialFact(null);
+            insertReferenceData();
         }
     }
 
@@ -598,6 +601,15 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
         return handle;
     }
 
+    private void insertReferenceData() {
+        for (ReferenceData referenceData : kBase.getReferenceData()) {
+            NamedEntryPoint entryPoint = (NamedEntryPoint) getEntryPoint(referenceData.getEntryPointId());
+            if (entryPoint != null) {
+                entryPoint.insertReferenceData(referenceData);
+            }
+        }
+    }
+
     public String getEntryPointId() {
         return EntryPointId.DEFAULT.getEntryPointId();
     }
@@ -860,6 +872,7 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
         }
 
         this.initialFactHandle = initInitialFact(null);
+        insertReferenceData();
     }
 
     public void reset(long handleId,
@@ -1258,6 +1271,12 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
         return this.entryPointsManager.getDefaultEntryPoint().insert(object, dynamic, rule, terminalNode);
     }
 
+    @Override
+    public List<FactHandle> insertAll(Collection<?> objects) {
+        checkAlive();
+        return this.entryPointsManager.getDefaultEntryPoint().insertAll(objects);
+    }
+
     public void retract(FactHandle handle) {
         delete(handle);
     }
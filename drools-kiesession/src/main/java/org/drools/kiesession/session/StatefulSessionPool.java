@@ -18,8 +18,11 @@ package org.drools.kiesession.session;
 
 import java.util.function.Supplier;
 
+import org.drools.core.RuleBaseConfiguration;
+import org.drools.core.phreak.SegmentUtilities;
 import org.drools.kiesession.rulebase.InternalKnowledgeBase;
 import org.drools.core.util.ScalablePool;
+import org.kie.internal.conf.SessionsPoolWarmUpOption;
 
 public class StatefulSessionPool {
 
@@ -28,7 +31,16 @@ public class StatefulSessionPool {
 
     public StatefulSessionPool( InternalKnowledgeBase kbase, int initialSize, Supplier<StatefulKnowledgeSessionImpl> supplier ) {
         this.kbase = kbase;
-        this.pool = new ScalablePool<>(initialSize, supplier, s -> s.reset(), s -> s.fromPool(null).dispose());
+        RuleBaseConfiguration conf = kbase.getConfiguration();
+        Supplier<StatefulKnowledgeSessionImpl> sessionSupplier = conf.getSessionsPoolWarmUp() == SessionsPoolWarmUpOption.SEGMENTS ?
+                () -> {
+                    StatefulKnowledgeSessionImpl session = supplier.get();
+                    // segment memories are kept when a session is reset, so they are created only once per pooled session
+                    SegmentUtilities.createRootSegmentMemories( session );
+                    return session;
+                } :
+                supplier;
+        this.pool = new ScalablePool<>(initialSize, conf.getSessionsPoolStripes(), sessionSupplier, s -> s.reset(), s -> s.fromPool(null).dispose());
     }
 
     public InternalKnowledgeBase getKieBase() {
@@ -43,6 +55,10 @@ public class StatefulSessionPool {
         pool.release( session );
     }
 
+    public ScalablePool.Metrics getMetrics() {
+        return pool.getMetrics();
+    }
+
     public void shutdown() {
         pool.shutdown();
     }
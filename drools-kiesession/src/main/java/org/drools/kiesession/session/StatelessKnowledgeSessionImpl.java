@@ -37,6 +37,7 @@ import org.drools.core.common.InternalWorkingMemory;
 import org.drools.core.impl.AbstractRuntime;
 import org.drools.core.impl.EnvironmentFactory;
 import org.drools.core.management.DroolsManagementAgent;
+import org.drools.core.phreak.DirectSequentialEvaluator;
 import org.drools.core.reteoo.RuntimeComponentFactory;
 import org.drools.core.runtime.impl.ExecutionResultImpl;
 import org.drools.kiesession.rulebase.InternalKnowledgeBase;
@@ -280,8 +281,7 @@ public class StatelessKnowledgeSessionImpl extends AbstractRuntime implements St
     public void execute(Object object) {
         StatefulKnowledgeSession ksession = newWorkingMemory();
         try {
-            ksession.insert( object );
-            ksession.fireAllRules();
+            insertAndFire( ksession, Collections.singletonList( object ) );
         } finally {
             dispose(ksession);
         }
@@ -290,10 +290,7 @@ public class StatelessKnowledgeSessionImpl extends AbstractRuntime implements St
     public void execute(Iterable objects) {
         StatefulKnowledgeSession ksession = newWorkingMemory();
         try {
-            for ( Object object : objects ) {
-                ksession.insert( object );
-            }
-            ksession.fireAllRules();
+            insertAndFire( ksession, objects );
         } finally {
             dispose(ksession);
         }
@@ -303,10 +300,7 @@ public class StatelessKnowledgeSessionImpl extends AbstractRuntime implements St
         List list = new ArrayList();
         StatefulKnowledgeSession ksession = newWorkingMemory();
         try {
-            for ( Object object : objects ) {
-                ksession.insert( object );
-            }
-            ksession.fireAllRules();
+            insertAndFire( ksession, objects );
             for (FactHandle fh : ksession.getFactHandles(filter)) {
                 list.add(((InternalFactHandle) fh).getObject());
             }
@@ -316,6 +310,26 @@ public class StatelessKnowledgeSessionImpl extends AbstractRuntime implements St
         return list;
     }
 
+    private void insertAndFire(StatefulKnowledgeSession ksession, Iterable<?> objects) {
+        DirectSequentialEvaluator evaluator = kBase.getDirectSequentialEvaluator();
+        if ( evaluator != null ) {
+            List<Object> facts = new ArrayList<>();
+            for ( Object object : objects ) {
+                facts.add( object );
+            }
+            if ( evaluator.evaluate( (InternalWorkingMemory) ksession, facts ) ) {
+                // fires what has been activated by the consequences
+                ksession.fireAllRules();
+                return;
+            }
+            objects = facts;
+        }
+        for ( Object object : objects ) {
+            ksession.insert( object );
+        }
+        ksession.fireAllRules();
+    }
+
     private void dispose(StatefulKnowledgeSession ksession) {
         ksession.dispose();
     }
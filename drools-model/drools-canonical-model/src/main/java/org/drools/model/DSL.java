@@ -233,6 +233,14 @@ public class DSL {
         return new WindowImpl(type, value, timeUnit);
     }
 
+    public static Window window( Window.Type type, long value, long hop ) {
+        return new WindowImpl(type, value, hop);
+    }
+
+    public static Window window( Window.Type type, long value, long hop, TimeUnit timeUnit ) {
+        return new WindowImpl(type, value, hop, timeUnit);
+    }
+
     public static <T> WindowReference<T> window( Window.Type type, long value, Class<T> patternType, Predicate1<T>... predicates ) {
         return new WindowReferenceImpl( type, value, patternType, getPredicateForWindow( predicates ) );
     }
@@ -249,6 +257,14 @@ public class DSL {
         return new WindowReferenceImpl( type, value, timeUnit, patternType, entryPoint, getPredicateForWindow( predicates ) );
     }
 
+    public static <T> WindowReference<T> window( Window.Type type, long value, long hop, TimeUnit timeUnit, Class<T> patternType, Predicate1<T>... predicates ) {
+        return new WindowReferenceImpl( type, value, hop, timeUnit, patternType, null, getPredicateForWindow( predicates ) );
+    }
+
+    public static <T> WindowReference<T> window( Window.Type type, long value, long hop, TimeUnit timeUnit, Class<T> patternType, EntryPoint entryPoint, Predicate1<T>... predicates ) {
+        return new WindowReferenceImpl( type, value, hop, timeUnit, patternType, entryPoint, getPredicateForWindow( predicates ) );
+    }
+
     private static <T> Predicate1<T>[] getPredicateForWindow( Predicate1<T>[] predicates ) {
         Predicate1<T>[] ps = new Predicate1[predicates.length];
         for (int i = 0; i < predicates.length; i++) {
@@ -19,9 +19,16 @@ package org.drools.model;
 
 public interface WindowDefinition {
 
-    enum Type { LENGTH, TIME }
+    enum Type { LENGTH, TIME, TUMBLING, HOPPING }
 
     Type getType();
 
     long getValue();
+
+    /**
+     * The time a hopping window advances by, equal to its size for all the other windows
+     */
+    default long getHop() {
+        return getValue();
+    }
 }
@@ -26,14 +26,20 @@ public abstract class AbstractWindow implements WindowDefinition, ModelComponent
 
     private final Type type;
     private final long value;
+    private final long hop;
 
     public AbstractWindow( Type type, long value ) {
         this(type, value, null);
     }
 
     public AbstractWindow( Type type, long value, TimeUnit timeUnit ) {
+        this(type, value, value, timeUnit);
+    }
+
+    public AbstractWindow( Type type, long value, long hop, TimeUnit timeUnit ) {
         this.type = type;
         this.value = unitToLong( value, timeUnit );
+        this.hop = unitToLong( hop, timeUnit );
     }
 
     @Override
@@ -41,6 +47,11 @@ public abstract class AbstractWindow implements WindowDefinition, ModelComponent
         return value;
     }
 
+    @Override
+    public long getHop() {
+        return hop;
+    }
+
     @Override
     public Type getType() {
         return type;
@@ -52,6 +63,6 @@ public abstract class AbstractWindow implements WindowDefinition, ModelComponent
         if ( !(o instanceof AbstractWindow) ) return false;
 
         AbstractWindow that = ( AbstractWindow ) o;
-        return type == that.type && value == that.value;
+        return type == that.type && value == that.value && hop == that.hop;
     }
 }
@@ -29,4 +29,12 @@ public class WindowImpl extends AbstractWindow implements Window {
     public WindowImpl( Type type, long value, TimeUnit timeUnit ) {
         super(type, value, timeUnit);
     }
+
+    public WindowImpl( Type type, long value, long hop ) {
+        super(type, value, hop, null);
+    }
+
+    public WindowImpl( Type type, long value, long hop, TimeUnit timeUnit ) {
+        super(type, value, hop, timeUnit);
+    }
 }
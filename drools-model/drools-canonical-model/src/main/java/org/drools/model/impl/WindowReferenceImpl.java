@@ -45,7 +45,11 @@ public class WindowReferenceImpl<T> extends AbstractWindow implements WindowRefe
     }
 
     public WindowReferenceImpl( Type type, long value, TimeUnit timeUnit, Class<T> patternType, EntryPoint entryPoint, Predicate1<T>... predicates ) {
-        super( type, value, timeUnit );
+        this( type, value, value, timeUnit, patternType, entryPoint, predicates );
+    }
+
+    public WindowReferenceImpl( Type type, long value, long hop, TimeUnit timeUnit, Class<T> patternType, EntryPoint entryPoint, Predicate1<T>... predicates ) {
+        super( type, value, hop, timeUnit );
         this.patternType = patternType;
         this.predicates = predicates;
         this.entryPoint = entryPoint;
@@ -66,6 +66,7 @@ import org.drools.core.rule.QueryElement;
 import org.drools.core.rule.QueryImpl;
 import org.drools.core.rule.RuleConditionElement;
 import org.drools.core.rule.SingleAccumulate;
+import org.drools.core.rule.HoppingTimeWindow;
 import org.drools.core.rule.SlidingLengthWindow;
 import org.drools.core.rule.SlidingTimeWindow;
 import org.drools.core.rule.TypeDeclaration;
@@ -1141,6 +1142,10 @@ public class KiePackagesBuilder {
                 return new SlidingLengthWindow( (int) window.getValue() );
             case TIME:
                 return new SlidingTimeWindow( window.getValue() );
+            case TUMBLING:
+                return new HoppingTimeWindow( window.getValue() );
+            case HOPPING:
+                return new HoppingTimeWindow( window.getValue(), window.getHop() );
         }
         throw new IllegalArgumentException( "Unknown window type: " + window.getType() );
     }
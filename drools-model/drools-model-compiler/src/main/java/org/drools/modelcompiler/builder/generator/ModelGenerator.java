@@ -54,6 +54,7 @@ import org.drools.core.definitions.InternalKnowledgePackage;
 import org.drools.core.definitions.rule.impl.RuleImpl;
 import org.drools.core.factmodel.AnnotationDefinition;
 import org.drools.core.rule.Behavior;
+import org.drools.core.rule.HoppingTimeWindow;
 import org.drools.core.time.TimeUtils;
 import org.drools.model.Rule;
 import org.drools.model.Variable;
@@ -475,6 +476,22 @@ public class ModelGenerator {
                 windowCall.addArgument( "org.drools.model.Window.Type.LENGTH" );
                 windowCall.addArgument( "" + Integer.valueOf( behaviorDescr.getParameters().get( 0 ) ) );
             }
+            if ( Behavior.BehaviorType.TUMBLING_WINDOW.matches( behaviorDescr.getSubType() ) ) {
+                windowCall.addArgument( "org.drools.model.Window.Type.TUMBLING" );
+                windowCall.addArgument( TimeUtils.parseTimeString( behaviorDescr.getParameters().get( 0 ) ) + "L" );
+            }
+            if ( Behavior.BehaviorType.HOPPING_WINDOW.matches( behaviorDescr.getSubType() ) ) {
+                long size = TimeUtils.parseTimeString( behaviorDescr.getParameters().get( 0 ) );
+                long hop = TimeUtils.parseTimeString( behaviorDescr.getParameters().get( 1 ) );
+                try {
+                    new HoppingTimeWindow( size, hop );
+                } catch (IllegalArgumentException e) {
+                    context.addCompilationError( new InvalidExpressionErrorResult( "Invalid parameters for window '" + behaviorDescr.getSubType() + "': " + e.getMessage() ) );
+                }
+                windowCall.addArgument( "org.drools.model.Window.Type.HOPPING" );
+                windowCall.addArgument( size + "L" );
+                windowCall.addArgument( hop + "L" );
+            }
             declarationOfCall.addArgument( windowCall );
         }
 
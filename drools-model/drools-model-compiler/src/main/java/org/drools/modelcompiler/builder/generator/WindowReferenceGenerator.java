@@ -26,6 +26,7 @@ import java.util.concurrent.TimeUnit;
 import com.github.javaparser.ast.expr.ClassExpr;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.IntegerLiteralExpr;
+import com.github.javaparser.ast.expr.LongLiteralExpr;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.expr.NameExpr;
 import org.drools.compiler.builder.impl.KnowledgeBuilderImpl;
@@ -105,8 +106,18 @@ public class WindowReferenceGenerator {
         final WindowDefinition.Type windowType = behavior.windowType;
         initializer.addArgument(new NameExpr(windowType.getDeclaringClass().getCanonicalName() + "." + windowType.toString()));
 
-        initializer.addArgument(new IntegerLiteralExpr(behavior.duration.getValue()));
-        final TimeUnit timeUnit = behavior.duration.getTimeUnit();
+        TimeUnit timeUnit = behavior.duration.getTimeUnit();
+        if (behavior.hop == null) {
+            initializer.addArgument(new IntegerLiteralExpr(behavior.duration.getValue()));
+        } else if (behavior.hop.getTimeUnit() == timeUnit) {
+            initializer.addArgument(new IntegerLiteralExpr(behavior.duration.getValue()));
+            initializer.addArgument(new IntegerLiteralExpr(behavior.hop.getValue()));
+        } else {
+            // size and hop expressed in different units, both converted to milliseconds
+            initializer.addArgument(new LongLiteralExpr(timeUnit.toMillis(behavior.duration.getValue()) + "L"));
+            initializer.addArgument(new LongLiteralExpr(behavior.hop.getTimeUnit().toMillis(behavior.hop.getValue()) + "L"));
+            timeUnit = TimeUnit.MILLISECONDS;
+        }
         initializer.addArgument(new NameExpr(timeUnit.getDeclaringClass().getCanonicalName() + "." + timeUnit.name()));
 
         final Class<?> initClass = DrlxParseUtil.getClassFromContext(typeResolver, pattern.getObjectType());
@@ -159,6 +170,9 @@ public class WindowReferenceGenerator {
         ParsedBehavior parsedBehavior = new ParsedBehavior();
         parsedBehavior.windowType = windowType;
         parsedBehavior.duration = duration;
+        if (windowType == Window.Type.HOPPING) {
+            parsedBehavior.hop = parseDuration(descr.getParameters().get(1));
+        }
         return parsedBehavior;
     }
 
@@ -166,6 +180,7 @@ public class WindowReferenceGenerator {
 
         Window.Type windowType;
         TemporalLiteralChunkExpr duration;
+        TemporalLiteralChunkExpr hop;
     }
 
     public static TemporalLiteralChunkExpr parseDuration(String duration) {
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.mvel;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The compiler thread of the tiered jitting mode: a single daemon thread jitting the constraints
+ * one at a time from a bounded queue, so a burst of constraints reaching their threshold together
+ * can neither flood the shared executor nor pile up an unbounded backlog of pending compilations.
+ */
+class BackgroundJitCompiler {
+
+    static final int QUEUE_CAPACITY = 512;
+
+    private BackgroundJitCompiler() { }
+
+    /**
+     * Enqueues the given jitting task.
+     *
+     * @return false if the queue is full and then the task has been discarded
+     */
+    static boolean submit(Runnable jitter) {
+        try {
+            ExecutorHolder.executor.execute( jitter );
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private static class ExecutorHolder {
+        private static final ThreadPoolExecutor executor = new ThreadPoolExecutor( 1, 1,
+                                                                                   0L, TimeUnit.MILLISECONDS,
+                                                                                   new ArrayBlockingQueue<>( QUEUE_CAPACITY ),
+                                                                                   r -> {
+                                                                                       Thread t = new Thread( r, "drools-jit-compiler" );
+                                                                                       t.setDaemon( true );
+                                                                                       return t;
+                                                                                   },
+                                                                                   new ThreadPoolExecutor.AbortPolicy() );
+    }
+}
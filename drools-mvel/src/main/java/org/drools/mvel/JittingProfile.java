@@ -0,0 +1,97 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.mvel;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The set of the constraints jitted by the runs of a kbase configured with a
+ * {@link org.kie.internal.conf.JittingProfileOption}. The expression of each constraint is appended
+ * to the profile file as soon as it is jitted, so the file is always up to date without the need of
+ * an explicit save, and the constraints it lists are jitted at their first evaluation by the next runs.
+ */
+public class JittingProfile {
+
+    private static final Logger logger = LoggerFactory.getLogger(JittingProfile.class);
+
+    private static final Map<String, JittingProfile> profiles = new ConcurrentHashMap<>();
+
+    private final Path path;
+
+    private final Set<String> expressions = ConcurrentHashMap.newKeySet();
+
+    private JittingProfile(Path path) {
+        this.path = path;
+        if (Files.exists(path)) {
+            try {
+                for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                    if (!line.isEmpty()) {
+                        expressions.add(line);
+                    }
+                }
+            } catch (IOException e) {
+                logger.warn("Unable to read the jitting profile " + path + ", all the constraints will be jitted after the jitting threshold", e);
+            }
+        }
+    }
+
+    /**
+     * Returns the profile stored in the given file, or null if no file is configured.
+     */
+    public static JittingProfile get(String path) {
+        return path == null ? null : profiles.computeIfAbsent(path, p -> new JittingProfile(Paths.get(p)));
+    }
+
+    public boolean contains(String expression) {
+        return expressions.contains(toKey(expression));
+    }
+
+    public void record(String expression) {
+        String key = toKey(expression);
+        if (expressions.add(key)) {
+            synchronized (this) {
+                try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    writer.write(key);
+                    writer.newLine();
+                } catch (IOException e) {
+                    logger.warn("Unable to record the constraint " + expression + " in the jitting profile " + path, e);
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return expressions.size();
+    }
+
+    private static String toKey(String expression) {
+        // one expression per line
+        return expression.replace('\r', ' ').replace('\n', ' ').trim();
+    }
+}
@@ -29,7 +29,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.drools.core.RuleBaseConfiguration;
 import org.drools.core.spi.ObjectType;
@@ -96,8 +95,10 @@ public class MVELConstraint extends MutableTypeConstraint implements IndexableCo
 
     private static final Logger logger = LoggerFactory.getLogger(MVELConstraint.class);
 
-    protected final transient AtomicInteger invocationCounter = new AtomicInteger(1);
+    // a plain counter: the updates lost by concurrent evaluations can only postpone the jitting
+    protected transient int invocationCounter;
     protected transient volatile boolean jitted = false;
+    private transient Boolean inJittingProfile;
 
     private Set<String> packageNames;
     protected String expression;
@@ -263,7 +264,7 @@ public class MVELConstraint extends MutableTypeConstraint implements IndexableCo
 
     protected boolean evaluate(InternalFactHandle handle, ReteEvaluator reteEvaluator, Tuple tuple) {
         if (!jitted) {
-            int jittingThreshold = TEST_JITTING ? 0 : reteEvaluator.getKnowledgeBase().getConfiguration().getJittingThreshold();
+            int jittingThreshold = TEST_JITTING ? 0 : getJittingThreshold(reteEvaluator.getKnowledgeBase().getConfiguration());
             if (conditionEvaluator == null) {
                 if (jittingThreshold == 0 && !isDynamic) { // Only for test purposes or when jitting is enforced at first evaluation
                     synchronized (this) {
@@ -276,7 +277,7 @@ public class MVELConstraint extends MutableTypeConstraint implements IndexableCo
                 }
             }
 
-            if (jittingThreshold != 0 && !isDynamic && invocationCounter.getAndIncrement() == jittingThreshold) {
+            if (jittingThreshold != 0 && !isDynamic && ++invocationCounter >= jittingThreshold) {
                 jitEvaluator(handle, reteEvaluator, tuple);
             }
         }
@@ -287,6 +288,17 @@ public class MVELConstraint extends MutableTypeConstraint implements IndexableCo
         }
     }
 
+    private int getJittingThreshold(RuleBaseConfiguration conf) {
+        if (conf.getJittingProfile() == null) {
+            return conf.getJittingThreshold();
+        }
+        if (inJittingProfile == null) {
+            inJittingProfile = JittingProfile.get(conf.getJittingProfile()).contains(expression);
+        }
+        // a constraint jitted by a previous run is jitted as soon as it is evaluated for the first time
+        return inJittingProfile && conf.getJittingThreshold() != 0 ? 1 : conf.getJittingThreshold();
+    }
+
     protected ConditionEvaluator createMvelConditionEvaluator(ReteEvaluator reteEvaluator) {
         if (compilationUnit != null) {
             MVELDialectRuntimeData data = getMVELDialectRuntimeData(reteEvaluator);
@@ -312,8 +324,20 @@ public class MVELConstraint extends MutableTypeConstraint implements IndexableCo
     }
 
     protected void jitEvaluator(InternalFactHandle handle, ReteEvaluator reteEvaluator, Tuple tuple) {
-        jitted = true;
-        ExecutorHolder.executor.execute(new ConditionJitter(this, handle, reteEvaluator, tuple));
+        synchronized (this) {
+            if (jitted) {
+                return;
+            }
+            jitted = true;
+        }
+        ConditionJitter jitter = new ConditionJitter(this, handle, reteEvaluator, tuple);
+        if (!reteEvaluator.getKnowledgeBase().getConfiguration().isTieredJitting()) {
+            ExecutorHolder.executor.execute(jitter);
+        } else if (!BackgroundJitCompiler.submit(jitter)) {
+            // the compiler queue is full: keep evaluating in interpreted mode and retry after another round of evaluations
+            invocationCounter = 0;
+            jitted = false;
+        }
     }
 
     private static class ConditionJitter implements Runnable {
@@ -330,7 +354,14 @@ public class MVELConstraint extends MutableTypeConstraint implements IndexableCo
         }
 
         public void run() {
-            mvelConstraint.conditionEvaluator = mvelConstraint.executeJitting(rightHandle, reteEvaluator, tuple, mvelConstraint.conditionEvaluator);
+            ConditionEvaluator mvelEvaluator = mvelConstraint.conditionEvaluator;
+            ConditionEvaluator jittedEvaluator = mvelConstraint.executeJitting(rightHandle, reteEvaluator, tuple, mvelEvaluator);
+            // the volatile write publishes the fully built jitted evaluator to the threads evaluating the constraint
+            mvelConstraint.conditionEvaluator = jittedEvaluator;
+            String jittingProfile = reteEvaluator.getKnowledgeBase().getConfiguration().getJittingProfile();
+            if (jittingProfile != null && jittedEvaluator != mvelEvaluator) {
+                JittingProfile.get(jittingProfile).record(mvelConstraint.expression);
+            }
             mvelConstraint = null;
             rightHandle = null;
             reteEvaluator = null;
@@ -18,6 +18,9 @@ package org.drools.ruleunits.impl.sessions;
 import org.drools.core.SessionConfiguration;
 import org.drools.core.SessionConfigurationImpl;
 import org.drools.core.time.TimerService;
+import org.drools.core.time.TimerServiceFactory;
+import org.drools.core.time.impl.TimingWheelPseudoClockScheduler;
+import org.drools.core.time.impl.TimingWheelTimerService;
 import org.drools.wiring.api.ComponentsFactory;
 
 public class RuleUnitTimerServiceFactory {
@@ -29,7 +32,9 @@ public class RuleUnitTimerServiceFactory {
                 service = newTimerService((SessionConfigurationImpl) config);
                 break;
             case PSEUDO_CLOCK:
-                service = (TimerService) config.getClockType().createInstance();
+                service = isTimingWheelEnabled((SessionConfigurationImpl) config) ?
+                        new TimingWheelPseudoClockScheduler() :
+                        (TimerService) config.getClockType().createInstance();
                 break;
             default:
                 throw new IllegalArgumentException("Unsupported clock type: " + config.getClockType());
@@ -39,10 +44,17 @@ public class RuleUnitTimerServiceFactory {
     }
 
     private static TimerService newTimerService(SessionConfigurationImpl config) {
+        if (isTimingWheelEnabled(config)) {
+            return new TimingWheelTimerService();
+        }
         String className = config.getPropertyValue("drools.timerService", "org.drools.core.time.impl.JDKTimerService");
         if (className == null) {
             return null;
         }
         return (TimerService) ComponentsFactory.createTimerService(className);
     }
+
+    private static boolean isTimingWheelEnabled(SessionConfigurationImpl config) {
+        return Boolean.parseBoolean(config.getPropertyValue(TimerServiceFactory.TIMING_WHEEL_PROPERTY, "false"));
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.serialization.protobuf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.drools.core.SessionConfiguration;
+import org.drools.core.common.InternalWorkingMemory;
+import org.drools.core.impl.RuleBaseFactory;
+import org.drools.kiesession.rulebase.InternalKnowledgeBase;
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.marshalling.MarshallingConfiguration;
+import org.kie.api.runtime.Environment;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+
+/**
+ * A marshaller writing the session in a chunked format: the session without its facts, followed by the facts of
+ * each entry point in blocks of at most blockSize facts of the same type. While restoring, the blocks are read and
+ * asserted one at a time, so the whole serialized session is never held in memory together with the restored one.
+ *
+ * With more than one decoding thread, the blocks following the one being asserted, also of other entry points, are
+ * decoded in parallel. In this case the marshalling strategies must be able to unmarshal objects concurrently.
+ */
+public class ChunkedSessionMarshaller {
+
+    public static final int DEFAULT_BLOCK_SIZE = 1000;
+
+    private final ProtobufMarshaller marshaller;
+
+    private final int blockSize;
+
+    private final int decodingThreads;
+
+    public ChunkedSessionMarshaller(KieBase kbase, MarshallingConfiguration marshallingConfig) {
+        this( kbase, marshallingConfig, DEFAULT_BLOCK_SIZE, 1 );
+    }
+
+    public ChunkedSessionMarshaller(KieBase kbase, MarshallingConfiguration marshallingConfig, int blockSize, int decodingThreads) {
+        if ( blockSize <= 0 ) {
+            throw new IllegalArgumentException( "The block size must be positive: " + blockSize );
+        }
+        this.marshaller = new ProtobufMarshaller( kbase, marshallingConfig );
+        this.blockSize = blockSize;
+        this.decodingThreads = decodingThreads;
+    }
+
+    public void marshall(OutputStream stream, KieSession ksession) throws IOException {
+        ( (InternalWorkingMemory) ksession ).flushPropagations();
+        ProtobufMarshallerWriteContext context = marshaller.getMarshallerWriteContext( stream, ksession );
+        context.setClockTime( ksession.getSessionClock().getCurrentTime() );
+        ProtobufOutputMarshaller.writeChunkedSession( context, blockSize );
+        context.close();
+    }
+
+    public KieSession unmarshall(InputStream stream,
+                                 KieSessionConfiguration config,
+                                 Environment environment) throws IOException, ClassNotFoundException {
+        if ( config == null ) {
+            config = RuleBaseFactory.newKnowledgeSessionConfiguration();
+        }
+        if ( environment == null ) {
+            environment = KieServices.get().newEnvironment();
+        }
+
+        ExecutorService decodingExecutor = decodingThreads > 1 ? Executors.newFixedThreadPool( decodingThreads ) : null;
+        ProtobufMarshallerReaderContext context = marshaller.getMarshallerReaderContext( stream, environment );
+        try {
+            int id = ( (InternalKnowledgeBase) marshaller.kbase ).nextWorkingMemoryCounter();
+            ReadSessionResult result = ProtobufInputMarshaller.readChunkedSession( context,
+                                                                                   id,
+                                                                                   environment,
+                                                                                   (SessionConfiguration) config,
+                                                                                   marshaller.getInitializer(),
+                                                                                   decodingExecutor,
+                                                                                   2 * decodingThreads );
+            if ( ( (SessionConfiguration) config ).isKeepReference() ) {
+                ( (InternalKnowledgeBase) marshaller.kbase ).addStatefulSession( result.getSession() );
+            }
+            return result.getSession();
+        } finally {
+            context.close();
+            if ( decodingExecutor != null ) {
+                decodingExecutor.shutdownNow();
+            }
+        }
+    }
+}
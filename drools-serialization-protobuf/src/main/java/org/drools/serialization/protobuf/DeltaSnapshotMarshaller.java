@@ -0,0 +1,347 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.serialization.protobuf;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.drools.core.SessionConfiguration;
+import org.drools.core.common.InternalFactHandle;
+import org.drools.core.impl.RuleBaseFactory;
+import org.drools.kiesession.rulebase.InternalKnowledgeBase;
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.event.rule.ObjectDeletedEvent;
+import org.kie.api.event.rule.ObjectInsertedEvent;
+import org.kie.api.event.rule.ObjectUpdatedEvent;
+import org.kie.api.event.rule.RuleRuntimeEventListener;
+import org.kie.api.marshalling.MarshallingConfiguration;
+import org.kie.api.marshalling.ObjectMarshallingStrategy;
+import org.kie.api.runtime.Environment;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.rule.FactHandle;
+
+/**
+ * A marshaller writing a full snapshot of a session the first time and then only the changes made since the
+ * previous save, until the configured number of deltas is reached and the next save is again a full snapshot.
+ *
+ * A delta is a regular protobuf session containing only the fact handles inserted or updated since the previous
+ * save, preceded by the ids of the fact handles deleted in the meanwhile. The rest of the session state (agenda,
+ * timers, truth maintenance system, process data) is small compared to the facts and is always written in full,
+ * so restoring a session only requires to merge the fact handles of the base snapshot and of its deltas into the
+ * last one, before reading it as usual.
+ *
+ * The changes are tracked through the events of the session, so the facts must be changed using update or modify.
+ */
+public class DeltaSnapshotMarshaller {
+
+    public static final int DEFAULT_MAX_DELTAS = 10;
+
+    private static final int DELTA_MAGIC = 0x444C5441;
+
+    private final ProtobufMarshaller marshaller;
+
+    private final int maxDeltas;
+
+    private KieSession trackedSession;
+
+    private DirtyHandlesTracker tracker;
+
+    private int deltasSinceSnapshot;
+
+    public DeltaSnapshotMarshaller(KieBase kbase, MarshallingConfiguration marshallingConfig) {
+        this( kbase, marshallingConfig, DEFAULT_MAX_DELTAS );
+    }
+
+    public DeltaSnapshotMarshaller(KieBase kbase, MarshallingConfiguration marshallingConfig, int maxDeltas) {
+        this.marshaller = new ProtobufMarshaller( kbase, marshallingConfig );
+        this.maxDeltas = maxDeltas;
+    }
+
+    /**
+     * Writes a delta of the given session if it is the one saved or restored last by this marshaller and the maximum
+     * number of deltas has not been reached, otherwise writes a full snapshot and starts tracking the session changes.
+     *
+     * @return true if a full snapshot has been written, false if a delta has been written
+     */
+    public boolean marshall(OutputStream stream, KieSession ksession) throws IOException {
+        if ( ksession != trackedSession || deltasSinceSnapshot >= maxDeltas ) {
+            track( ksession, 0 );
+            marshaller.marshall( stream, ksession );
+            return true;
+        }
+
+        Set<Long> dirtyIds = new HashSet<>();
+        Set<Long> deletedIds = new HashSet<>();
+        tracker.drainTo( dirtyIds, deletedIds );
+
+        DataOutputStream out = new DataOutputStream( stream );
+        out.writeInt( DELTA_MAGIC );
+        out.writeInt( deletedIds.size() );
+        for ( Long id : deletedIds ) {
+            out.writeLong( id );
+        }
+        out.flush();
+
+        marshaller.marshall( stream, ksession, ksession.getSessionClock().getCurrentTime(), handle -> dirtyIds.contains( handle.getId() ) );
+        deltasSinceSnapshot++;
+        return false;
+    }
+
+    /**
+     * Restores a session from a full snapshot followed by the deltas written after it, in the order they have been written.
+     * The restored session is tracked, so the next save continues the same chain of deltas.
+     */
+    public KieSession unmarshall(InputStream snapshot,
+                                 List<InputStream> deltas,
+                                 KieSessionConfiguration config,
+                                 Environment environment) throws IOException, ClassNotFoundException {
+        if ( config == null ) {
+            config = RuleBaseFactory.newKnowledgeSessionConfiguration();
+        }
+        if ( environment == null ) {
+            environment = KieServices.get().newEnvironment();
+        }
+
+        List<ParsedSession> parsedSessions = new ArrayList<>();
+        try {
+            parsedSessions.add( parse( snapshot, false, environment ) );
+            for ( InputStream delta : deltas ) {
+                parsedSessions.add( parse( delta, true, environment ) );
+            }
+
+            ParsedSession last = parsedSessions.get( parsedSessions.size() - 1 );
+            ProtobufMessages.KnowledgeSession _session = merge( parsedSessions, last );
+
+            int id = ( (InternalKnowledgeBase) marshaller.kbase ).nextWorkingMemoryCounter();
+            ReadSessionResult result = ProtobufInputMarshaller.readSession( _session,
+                                                                            last.context,
+                                                                            id,
+                                                                            environment,
+                                                                            (SessionConfiguration) config,
+                                                                            marshaller.getInitializer() );
+            if ( ( (SessionConfiguration) config ).isKeepReference() ) {
+                ( (InternalKnowledgeBase) marshaller.kbase ).addStatefulSession( result.getSession() );
+            }
+
+            track( result.getSession(), deltas.size() );
+            return result.getSession();
+        } finally {
+            for ( ParsedSession parsedSession : parsedSessions ) {
+                parsedSession.context.close();
+            }
+        }
+    }
+
+    private void track(KieSession ksession, int deltas) {
+        if ( trackedSession != null ) {
+            trackedSession.removeEventListener( tracker );
+        }
+        this.trackedSession = ksession;
+        this.tracker = new DirtyHandlesTracker();
+        this.deltasSinceSnapshot = deltas;
+        ksession.addEventListener( tracker );
+    }
+
+    private ParsedSession parse(InputStream stream, boolean delta, Environment environment) throws IOException, ClassNotFoundException {
+        Set<Long> deletedIds = Collections.emptySet();
+        if ( delta ) {
+            // not buffered, so the stream is left at the beginning of the protobuf session
+            DataInputStream in = new DataInputStream( stream );
+            if ( in.readInt() != DELTA_MAGIC ) {
+                throw new IllegalArgumentException( "The given stream doesn't contain a delta snapshot" );
+            }
+            int size = in.readInt();
+            deletedIds = new HashSet<>( size );
+            for ( int i = 0; i < size; i++ ) {
+                deletedIds.add( in.readLong() );
+            }
+        }
+        ProtobufMarshallerReaderContext context = marshaller.getMarshallerReaderContext( stream, environment );
+        return new ParsedSession( context, ProtobufInputMarshaller.loadAndParseSession( context ), deletedIds );
+    }
+
+    private static ProtobufMessages.KnowledgeSession merge(List<ParsedSession> parsedSessions, ParsedSession last) {
+        if ( parsedSessions.size() == 1 ) {
+            return last.session;
+        }
+
+        int nextStrategyIndex = 0;
+        for ( Integer index : last.context.getUsedStrategies().keySet() ) {
+            nextStrategyIndex = Math.max( nextStrategyIndex, index + 1 );
+        }
+
+        // the handles of each entry point by id, the ones of a delta replacing the ones of the former snapshots
+        Map<String, Map<Long, ProtobufMessages.FactHandle>> handles = new LinkedHashMap<>();
+        for ( ParsedSession parsedSession : parsedSessions ) {
+            for ( Map<Long, ProtobufMessages.FactHandle> epHandles : handles.values() ) {
+                epHandles.keySet().removeAll( parsedSession.deletedIds );
+            }
+
+            Map<Integer, Integer> strategyIndexes = null;
+            if ( parsedSession != last ) {
+                strategyIndexes = bindStrategies( parsedSession.context, last.context, nextStrategyIndex );
+                nextStrategyIndex += strategyIndexes.size();
+            }
+
+            for ( ProtobufMessages.EntryPoint _ep : parsedSession.session.getRuleData().getEntryPointList() ) {
+                Map<Long, ProtobufMessages.FactHandle> epHandles = handles.computeIfAbsent( _ep.getEntryPointId(), k -> new HashMap<>() );
+                for ( ProtobufMessages.FactHandle _handle : _ep.getHandleList() ) {
+                    if ( strategyIndexes != null && _handle.hasStrategyIndex() ) {
+                        _handle = _handle.toBuilder().setStrategyIndex( strategyIndexes.get( _handle.getStrategyIndex() ) ).build();
+                    }
+                    epHandles.put( _handle.getId(), _handle );
+                }
+            }
+        }
+
+        ProtobufMessages.RuleData.Builder _ruleData = last.session.getRuleData().toBuilder().clearEntryPoint();
+        for ( ProtobufMessages.EntryPoint _ep : last.session.getRuleData().getEntryPointList() ) {
+            List<ProtobufMessages.FactHandle> epHandles = new ArrayList<>( handles.get( _ep.getEntryPointId() ).values() );
+            // same order of a full snapshot
+            epHandles.sort( Comparator.comparingLong( ProtobufMessages.FactHandle::getId ) );
+            _ruleData.addEntryPoint( _ep.toBuilder().clearHandle().addAllHandle( epHandles ) );
+        }
+        return last.session.toBuilder().setRuleData( _ruleData ).build();
+    }
+
+    /**
+     * Makes the strategies of a former snapshot, with their own contexts, available in the context of the last one
+     * under new indexes, so the handles of the former snapshot can be read together with the ones of the last one.
+     */
+    private static Map<Integer, Integer> bindStrategies(ProtobufMarshallerReaderContext source,
+                                                        ProtobufMarshallerReaderContext target,
+                                                        int firstIndex) {
+        Map<Integer, Integer> indexes = new HashMap<>();
+        int index = firstIndex;
+        for ( Map.Entry<Integer, ObjectMarshallingStrategy> entry : source.getUsedStrategies().entrySet() ) {
+            ObjectMarshallingStrategy strategy = new ContextBoundStrategy( entry.getValue() );
+            target.getUsedStrategies().put( index, strategy );
+            target.getStrategyContexts().put( strategy, source.getStrategyContexts().get( entry.getValue() ) );
+            indexes.put( entry.getKey(), index++ );
+        }
+        return indexes;
+    }
+
+    private static class ParsedSession {
+        private final ProtobufMarshallerReaderContext context;
+        private final ProtobufMessages.KnowledgeSession session;
+        private final Set<Long> deletedIds;
+
+        private ParsedSession(ProtobufMarshallerReaderContext context, ProtobufMessages.KnowledgeSession session, Set<Long> deletedIds) {
+            this.context = context;
+            this.session = session;
+            this.deletedIds = deletedIds;
+        }
+    }
+
+    /**
+     * A distinct instance of a strategy, so it can be registered in a reader context with a context of its own
+     */
+    private static class ContextBoundStrategy implements ObjectMarshallingStrategy {
+        private final ObjectMarshallingStrategy delegate;
+
+        private ContextBoundStrategy(ObjectMarshallingStrategy delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public boolean accept(Object object) {
+            return delegate.accept( object );
+        }
+
+        @Override
+        public void write(ObjectOutputStream os, Object object) throws IOException {
+            delegate.write( os, object );
+        }
+
+        @Override
+        public Object read(ObjectInputStream os) throws IOException, ClassNotFoundException {
+            return delegate.read( os );
+        }
+
+        @Override
+        public byte[] marshal(Context context, ObjectOutputStream os, Object object) throws IOException {
+            return delegate.marshal( context, os, object );
+        }
+
+        @Override
+        public Object unmarshal(Context context, ObjectInputStream is, byte[] object, ClassLoader classloader) throws IOException, ClassNotFoundException {
+            return delegate.unmarshal( context, is, object, classloader );
+        }
+
+        @Override
+        public Context createContext() {
+            return delegate.createContext();
+        }
+    }
+
+    static class DirtyHandlesTracker implements RuleRuntimeEventListener {
+        private final Set<Long> dirtyIds = new HashSet<>();
+        private final Set<Long> deletedIds = new HashSet<>();
+
+        @Override
+        public synchronized void objectInserted(ObjectInsertedEvent event) {
+            markDirty( event.getFactHandle() );
+        }
+
+        @Override
+        public synchronized void objectUpdated(ObjectUpdatedEvent event) {
+            markDirty( event.getFactHandle() );
+        }
+
+        @Override
+        public synchronized void objectDeleted(ObjectDeletedEvent event) {
+            long id = ( (InternalFactHandle) event.getFactHandle() ).getId();
+            dirtyIds.remove( id );
+            deletedIds.add( id );
+        }
+
+        private void markDirty(FactHandle handle) {
+            long id = ( (InternalFactHandle) handle ).getId();
+            deletedIds.remove( id );
+            dirtyIds.add( id );
+        }
+
+        synchronized void drainTo(Set<Long> dirty, Set<Long> deleted) {
+            dirty.addAll( dirtyIds );
+            deleted.addAll( deletedIds );
+            dirtyIds.clear();
+            deletedIds.clear();
+        }
+    }
+}
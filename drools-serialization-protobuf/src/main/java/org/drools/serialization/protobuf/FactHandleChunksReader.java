@@ -0,0 +1,177 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.serialization.protobuf;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import com.google.protobuf.ExtensionRegistry;
+import org.drools.core.common.InternalFactHandle;
+import org.drools.core.common.ObjectStore;
+import org.drools.core.spi.PropagationContext;
+import org.kie.api.marshalling.ObjectMarshallingStrategy;
+import org.kie.api.runtime.rule.EntryPoint;
+
+/**
+ * Reads the blocks of fact handles written by {@link ProtobufOutputMarshaller#writeChunkedSession}. Decoding a block,
+ * that is parsing it and unmarshalling its objects, only depends on the block itself, so when an executor is
+ * available the following blocks are decoded by it while the current one is asserted into the session.
+ * The blocks are always asserted in the order they have been written, by the thread reading the session.
+ */
+class FactHandleChunksReader implements ProtobufInputMarshaller.FactHandlesReader {
+
+    private static final DecodedBlock END_OF_ENTRY_POINT = new DecodedBlock( null, null );
+
+    private final ProtobufMarshallerReaderContext context;
+    private final ExtensionRegistry registry;
+    private final Executor executor;
+    private final int maxPendingBlocks;
+
+    private final Deque<Future<DecodedBlock>> pendingBlocks = new ArrayDeque<>();
+
+    private int entryPointsToRead;
+
+    FactHandleChunksReader(ProtobufMarshallerReaderContext context,
+                           ExtensionRegistry registry,
+                           int entryPoints,
+                           Executor executor,
+                           int maxPendingBlocks) {
+        this.context = context;
+        this.registry = registry;
+        this.entryPointsToRead = entryPoints;
+        this.executor = executor;
+        this.maxPendingBlocks = executor != null ? Math.max( 1, maxPendingBlocks ) : 1;
+    }
+
+    @Override
+    public void readFactHandles(ProtobufMarshallerReaderContext context,
+                                ProtobufMessages.EntryPoint _ep,
+                                ObjectStore objectStore,
+                                List<PropagationContext> pctxs) throws IOException, ClassNotFoundException {
+        EntryPoint entryPoint = context.getWorkingMemory().getEntryPoint( _ep.getEntryPointId() );
+
+        for ( DecodedBlock block = nextBlock(); block != END_OF_ENTRY_POINT; block = nextBlock() ) {
+            if ( !_ep.getEntryPointId().equals( block.handles.getEntryPointId() ) ) {
+                throw new IllegalStateException( "Found a block of entry point " + block.handles.getEntryPointId() +
+                                                 " while reading the facts of entry point " + _ep.getEntryPointId() );
+            }
+            for ( int i = 0; i < block.handles.getHandleCount(); i++ ) {
+                ProtobufMessages.FactHandle _handle = block.handles.getHandle( i );
+                InternalFactHandle handle = ProtobufInputMarshaller.createFactHandle( context,
+                                                                                      entryPoint,
+                                                                                      _handle,
+                                                                                      block.objects[i] );
+                ProtobufInputMarshaller.restoreFactHandle( context,
+                                                           context.getWorkingMemory(),
+                                                           _handle,
+                                                           handle,
+                                                           objectStore,
+                                                           pctxs );
+            }
+        }
+    }
+
+    void cancel() {
+        for ( Future<DecodedBlock> block : pendingBlocks ) {
+            block.cancel( false );
+        }
+        pendingBlocks.clear();
+    }
+
+    private DecodedBlock nextBlock() throws IOException, ClassNotFoundException {
+        // the stream is read only by this thread, the executor just decodes the blocks already read
+        while ( pendingBlocks.size() < maxPendingBlocks && entryPointsToRead > 0 ) {
+            byte[] chunk = PersisterHelper.readChunk( context );
+            if ( chunk == null ) {
+                entryPointsToRead--;
+                FutureTask<DecodedBlock> end = new FutureTask<>( () -> END_OF_ENTRY_POINT );
+                end.run();
+                pendingBlocks.add( end );
+            } else {
+                FutureTask<DecodedBlock> decoding = new FutureTask<>( () -> decode( chunk ) );
+                if ( executor != null ) {
+                    executor.execute( decoding );
+                } else {
+                    decoding.run();
+                }
+                pendingBlocks.add( decoding );
+            }
+        }
+
+        Future<DecodedBlock> block = pendingBlocks.poll();
+        if ( block == null ) {
+            throw new IllegalStateException( "No more blocks of fact handles in the stream" );
+        }
+        try {
+            return block.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException( "Interrupted while decoding the fact handles", e );
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if ( cause instanceof IOException ) {
+                throw (IOException) cause;
+            }
+            if ( cause instanceof ClassNotFoundException ) {
+                throw (ClassNotFoundException) cause;
+            }
+            if ( cause instanceof RuntimeException ) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException( cause );
+        }
+    }
+
+    private DecodedBlock decode(byte[] chunk) throws IOException, ClassNotFoundException {
+        Map<Integer, ObjectMarshallingStrategy> usedStrategies = new HashMap<>();
+        Map<ObjectMarshallingStrategy, ObjectMarshallingStrategy.Context> strategyContexts = new HashMap<>();
+        ProtobufMessages.Header _header = PersisterHelper.parseChunkWithHeader( context, chunk, registry, usedStrategies, strategyContexts );
+        ProtobufMessages.EntryPoint _block = ProtobufMessages.EntryPoint.parseFrom( _header.getPayload(), registry );
+
+        ClassLoader classLoader = context.getKnowledgeBase() == null ? null : context.getKnowledgeBase().getRootClassLoader();
+        Object[] objects = new Object[_block.getHandleCount()];
+        for ( int i = 0; i < objects.length; i++ ) {
+            ProtobufMessages.FactHandle _handle = _block.getHandle( i );
+            if ( _handle.hasStrategyIndex() ) {
+                ObjectMarshallingStrategy strategy = usedStrategies.get( _handle.getStrategyIndex() );
+                objects[i] = strategy.unmarshal( strategyContexts.get( strategy ),
+                                                 context,
+                                                 _handle.getObject().toByteArray(),
+                                                 classLoader );
+            }
+        }
+        return new DecodedBlock( _block, objects );
+    }
+
+    private static class DecodedBlock {
+        private final ProtobufMessages.EntryPoint handles;
+        private final Object[] objects;
+
+        private DecodedBlock(ProtobufMessages.EntryPoint handles, Object[] objects) {
+            this.handles = handles;
+            this.objects = objects;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import java.security.SignatureException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 
 import com.google.protobuf.ByteString;
@@ -149,6 +150,28 @@ public class PersisterHelper extends MarshallingHelper {
     
     public static void writeToStreamWithHeader( MarshallerWriteContext context,
                                                 Message payload ) throws IOException {
+        context.write( buildHeader( context, payload ).toByteArray() );
+    }
+
+    /**
+     * Writes the payload with its header as a length delimited chunk, so more chunks can follow in the same stream
+     */
+    public static void writeChunkWithHeader( MarshallerWriteContext context,
+                                             Message payload ) throws IOException {
+        byte[] chunk = buildHeader( context, payload ).toByteArray();
+        context.writeInt( chunk.length );
+        context.write( chunk );
+    }
+
+    /**
+     * Marks the end of a sequence of chunks
+     */
+    public static void writeEndOfChunks( MarshallerWriteContext context ) throws IOException {
+        context.writeInt( 0 );
+    }
+
+    private static ProtobufMessages.Header buildHeader( MarshallerWriteContext context,
+                                                       Message payload ) throws IOException {
         ProtobufMessages.Header.Builder _header = ProtobufMessages.Header.newBuilder();
         _header.setVersion( ProtobufMessages.Version.newBuilder()
                                             .setVersionMajor( Drools.getMajorVersion() )
@@ -170,7 +193,7 @@ public class PersisterHelper extends MarshallingHelper {
         sign( _header, buff );
         _header.setPayload( ByteString.copyFrom( buff ) );
 
-        context.write( _header.build().toByteArray() );
+        return _header.build();
     }
 
     private static void writeRuntimeDefinedClasses( TraitFactory traitFactory, MarshallerWriteContext context, ProtobufMessages.Header.Builder _header) {
@@ -250,6 +273,34 @@ public class PersisterHelper extends MarshallingHelper {
         return loadStrategiesCheckSignature(context, _header);
     }
     
+    /**
+     * Reads the next chunk written by {@link #writeChunkWithHeader}, or returns null at the end of a sequence of chunks
+     */
+    public static byte[] readChunk( MarshallerReaderContext context ) throws IOException {
+        int length = context.readInt();
+        if ( length == 0 ) {
+            return null;
+        }
+        byte[] chunk = new byte[length];
+        context.readFully( chunk );
+        return chunk;
+    }
+
+    /**
+     * Parses a chunk, loading its strategies in the given maps instead of the ones of the context, so chunks
+     * with different strategy contexts can be parsed independently, also from different threads
+     */
+    public static ProtobufMessages.Header parseChunkWithHeader( MarshallerReaderContext context,
+                                                                byte[] chunk,
+                                                                ExtensionRegistry registry,
+                                                                Map<Integer, ObjectMarshallingStrategy> usedStrategies,
+                                                                Map<ObjectMarshallingStrategy, Context> strategyContexts ) throws IOException, ClassNotFoundException {
+        ProtobufMessages.Header _header = ProtobufMessages.Header.parseFrom( chunk, registry );
+        loadStrategiesIndex( context, _header, usedStrategies, strategyContexts );
+        checkSignature( _header, _header.getPayload().toByteArray() );
+        return _header;
+    }
+
     /* Method that preloads the source stream into a byte array to bypass the message size limitations in Protobuf unmarshalling.
        (Protobuf does not enforce a message size limit when unmarshalling from a byte array)
     */
@@ -266,14 +317,21 @@ public class PersisterHelper extends MarshallingHelper {
     }
 
 	private static void loadStrategiesIndex( MarshallerReaderContext context, ProtobufMessages.Header _header) throws IOException, ClassNotFoundException {
+        loadStrategiesIndex( context, _header, context.getUsedStrategies(), context.getStrategyContexts() );
+    }
+
+    private static void loadStrategiesIndex( MarshallerReaderContext context,
+                                             ProtobufMessages.Header _header,
+                                             Map<Integer, ObjectMarshallingStrategy> usedStrategies,
+                                             Map<ObjectMarshallingStrategy, Context> strategyContexts ) throws IOException, ClassNotFoundException {
         for ( ProtobufMessages.Header.StrategyIndex _entry : _header.getStrategyList() ) {
             ObjectMarshallingStrategy strategyObject = context.getResolverStrategyFactory().getStrategyObject( _entry.getName() );
             if ( strategyObject == null ) {
                 throw new IllegalStateException( "No strategy of type " + _entry.getName() + " available." );
             }
-            context.getUsedStrategies().put( _entry.getId(), strategyObject );
+            usedStrategies.put( _entry.getId(), strategyObject );
             Context ctx = strategyObject.createContext();
-            context.getStrategyContexts().put( strategyObject, ctx );
+            strategyContexts.put( strategyObject, ctx );
             if( _entry.hasData() && ctx != null ) {
 		        ClassLoader classLoader = null;
                 if (context.getClassLoader() != null ){
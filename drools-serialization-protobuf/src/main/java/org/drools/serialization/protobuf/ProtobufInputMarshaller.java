@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import com.google.protobuf.ExtensionRegistry;
@@ -71,12 +72,12 @@ import org.drools.core.spi.FactHandleFactory;
 import org.drools.core.spi.GlobalResolver;
 import org.drools.core.spi.PropagationContext;
 import org.drools.core.spi.Tuple;
+import org.drools.core.time.SessionPseudoClock;
 import org.drools.core.time.Trigger;
 import org.drools.core.time.impl.CompositeMaxDurationTrigger;
 import org.drools.core.time.impl.CronTrigger;
 import org.drools.core.time.impl.IntervalTrigger;
 import org.drools.core.time.impl.PointInTimeTrigger;
-import org.drools.core.time.impl.PseudoClockScheduler;
 import org.drools.kiesession.factory.PhreakWorkingMemoryFactory;
 import org.drools.kiesession.session.StatefulKnowledgeSessionImpl;
 import org.drools.serialization.protobuf.ProtobufMessages.FactHandle;
@@ -156,9 +157,18 @@ public class ProtobufInputMarshaller {
                                                   Environment environment,
                                                   SessionConfiguration config,
                                                   KieSessionInitializer initializer) throws IOException, ClassNotFoundException {
+        return readSession( loadAndParseSession( context ), context, id, environment, config, initializer );
+    }
 
-        ProtobufMessages.KnowledgeSession _session = loadAndParseSession( context );
-
+    /**
+     * Create a new session from an already parsed session message, whose strategies have been loaded in the given context
+     */
+    public static ReadSessionResult readSession( ProtobufMessages.KnowledgeSession _session,
+                                                 ProtobufMarshallerReaderContext context,
+                                                 int id,
+                                                 Environment environment,
+                                                 SessionConfiguration config,
+                                                 KieSessionInitializer initializer) throws IOException, ClassNotFoundException {
         StatefulKnowledgeSessionImpl session = createAndInitializeSession( context,
                                                                            id,
                                                                            environment,
@@ -176,6 +186,55 @@ public class ProtobufInputMarshaller {
                                      _session);
     }
 
+    /**
+     * Create a new session from a stream written by {@link ProtobufOutputMarshaller#writeChunkedSession}, asserting
+     * the fact handles block by block while they are read. When an executor is given, up to maxPendingBlocks blocks
+     * are read ahead and decoded by the executor while the previous ones are asserted, also across entry points.
+     */
+    public static ReadSessionResult readChunkedSession( ProtobufMarshallerReaderContext context,
+                                                        int id,
+                                                        Environment environment,
+                                                        SessionConfiguration config,
+                                                        KieSessionInitializer initializer,
+                                                        Executor decodingExecutor,
+                                                        int maxPendingBlocks) throws IOException, ClassNotFoundException {
+        ExtensionRegistry registry = PersisterHelper.buildRegistry( context, processMarshaller );
+
+        byte[] chunk = PersisterHelper.readChunk( context );
+        if ( chunk == null ) {
+            throw new IllegalStateException( "The stream doesn't contain a chunked session" );
+        }
+        ProtobufMessages.Header _header = PersisterHelper.parseChunkWithHeader( context, chunk, registry,
+                                                                               context.getUsedStrategies(),
+                                                                               context.getStrategyContexts() );
+        ProtobufMessages.KnowledgeSession _session = ProtobufMessages.KnowledgeSession.parseFrom( _header.getPayload(), registry );
+
+        StatefulKnowledgeSessionImpl session = createAndInitializeSession( context,
+                                                                           id,
+                                                                           environment,
+                                                                           config,
+                                                                           _session );
+        if (initializer != null) {
+            initializer.init( session );
+        }
+
+        FactHandleChunksReader handlesReader = new FactHandleChunksReader( context,
+                                                                           registry,
+                                                                           _session.getRuleData().getEntryPointCount(),
+                                                                           decodingExecutor,
+                                                                           maxPendingBlocks );
+        try {
+            return new ReadSessionResult( readSession( _session,
+                                                       session,
+                                                       session.getAgenda(),
+                                                       context,
+                                                       handlesReader ),
+                                          _session );
+        } finally {
+            handlesReader.cancel();
+        }
+    }
+
     private static InternalAgenda resetSession(StatefulKnowledgeSessionImpl session,
                                               ProtobufMarshallerReaderContext context,
                                               ProtobufMessages.KnowledgeSession _session) {
@@ -211,7 +270,7 @@ public class ProtobufInputMarshaller {
         return session;
     }
 
-    private static ProtobufMessages.KnowledgeSession loadAndParseSession( MarshallerReaderContext context) throws IOException,
+    static ProtobufMessages.KnowledgeSession loadAndParseSession( MarshallerReaderContext context) throws IOException,
                                                                                                          ClassNotFoundException {
         ExtensionRegistry registry = PersisterHelper.buildRegistry( context, processMarshaller );
 
@@ -225,13 +284,22 @@ public class ProtobufInputMarshaller {
                                                             InternalAgenda agenda,
                                                             ProtobufMarshallerReaderContext context) throws IOException,
                                                                                     ClassNotFoundException {
+        return readSession( _session, session, agenda, context, ProtobufInputMarshaller::readFactHandles );
+    }
+
+    private static StatefulKnowledgeSessionImpl readSession( ProtobufMessages.KnowledgeSession _session,
+                                                             StatefulKnowledgeSessionImpl session,
+                                                             InternalAgenda agenda,
+                                                             ProtobufMarshallerReaderContext context,
+                                                             FactHandlesReader handlesReader) throws IOException,
+                                                                                     ClassNotFoundException {
         GlobalResolver globalResolver = (GlobalResolver) context.env.get( EnvironmentName.GLOBALS );
         if ( globalResolver != null ) {
             session.setGlobalResolver( globalResolver );
         }
 
-        if ( session.getTimerService() instanceof PseudoClockScheduler ) {
-            PseudoClockScheduler clock = (PseudoClockScheduler) session.getTimerService();
+        if ( session.getTimerService() instanceof SessionPseudoClock ) {
+            SessionPseudoClock clock = (SessionPseudoClock) session.getTimerService();
             clock.advanceTime( _session.getTime(),
                                TimeUnit.MILLISECONDS );
         }
@@ -252,10 +320,10 @@ public class ProtobufInputMarshaller {
 
         for ( ProtobufMessages.EntryPoint _ep : _session.getRuleData().getEntryPointList() ) {
             EntryPoint wmep = context.getWorkingMemory().getEntryPoint(_ep.getEntryPointId());
-            readFactHandles( context,
-                             _ep,
-                             ((WorkingMemoryEntryPoint) wmep).getObjectStore(),
-                             pctxs );
+            handlesReader.readFactHandles( context,
+                                           _ep,
+                                           ((WorkingMemoryEntryPoint) wmep).getObjectStore(),
+                                           pctxs );
 
             context.getWorkingMemory().getFactHandleFactory().doRecycleIds( context.getHandles().keySet() );
 
@@ -368,6 +436,17 @@ public class ProtobufInputMarshaller {
         }
     }
 
+    /**
+     * Reads the fact handles of an entry point and asserts them into the session being restored
+     */
+    interface FactHandlesReader {
+        void readFactHandles( ProtobufMarshallerReaderContext context,
+                              ProtobufMessages.EntryPoint _ep,
+                              ObjectStore objectStore,
+                              List<PropagationContext> pctxs) throws IOException,
+                                                                ClassNotFoundException;
+    }
+
     public static class QueryElementContext {
         public final ProtobufMessages.FactHandle             handle;
         public final LinkedList<ProtobufMessages.FactHandle> results;
@@ -475,24 +554,38 @@ public class ProtobufInputMarshaller {
                                                         entryPoint,
                                                         _handle );
 
-            context.getHandles().put( handle.getId(),
-                                 handle );
+            restoreFactHandle( context,
+                               wm,
+                               _handle,
+                               handle,
+                               objectStore,
+                               pctxs );
+        }
 
-            if ( !_handle.getIsJustified() ) {
-                // BeliefSystem handles the Object type 
-                if ( handle.getObject() != null ) {
-                    objectStore.addHandle( handle,
-                                           handle.getObject() );
-                }
+    }
 
-                // add handle to object type node
-                assertHandleIntoOTN( context,
-                                     wm,
-                                     handle,
-                                     pctxs );
+    static void restoreFactHandle( ProtobufMarshallerReaderContext context,
+                                   InternalWorkingMemory wm,
+                                   ProtobufMessages.FactHandle _handle,
+                                   InternalFactHandle handle,
+                                   ObjectStore objectStore,
+                                   List<PropagationContext> pctxs) {
+        context.getHandles().put( handle.getId(),
+                             handle );
+
+        if ( !_handle.getIsJustified() ) {
+            // BeliefSystem handles the Object type 
+            if ( handle.getObject() != null ) {
+                objectStore.addHandle( handle,
+                                       handle.getObject() );
             }
-        }
 
+            // add handle to object type node
+            assertHandleIntoOTN( context,
+                                 wm,
+                                 handle,
+                                 pctxs );
+        }
     }
 
     private static void assertHandleIntoOTN( ProtobufMarshallerReaderContext context,
@@ -537,7 +630,19 @@ public class ProtobufInputMarshaller {
                                          (context.getKnowledgeBase() == null) ? null : context.getKnowledgeBase().getRootClassLoader() );
         }
 
+        return createFactHandle( context,
+                                 entryPoint,
+                                 _handle,
+                                 object );
+    }
 
+    /**
+     * Creates the fact handle for an object that has already been unmarshalled
+     */
+    static InternalFactHandle createFactHandle( ProtobufMarshallerReaderContext context,
+                                                EntryPoint entryPoint,
+                                                FactHandle _handle,
+                                                Object object) {
         EntryPointId confEP;
         if ( entryPoint != null ) {
             confEP = ((NamedEntryPoint) entryPoint).getEntryPoint();
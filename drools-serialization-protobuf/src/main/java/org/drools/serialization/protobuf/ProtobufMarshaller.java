@@ -21,9 +21,11 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import org.drools.core.RuleBaseConfiguration;
 import org.drools.core.SessionConfiguration;
+import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.InternalWorkingMemory;
 import org.drools.kiesession.rulebase.InternalKnowledgeBase;
 import org.drools.core.impl.RuleBaseFactory;
@@ -109,20 +111,31 @@ public class ProtobufMarshaller
     public void marshall(final OutputStream stream,
                          final KieSession ksession,
                          final long clockTime) throws IOException {
+        marshall( stream, ksession, clockTime, null );
+    }
+
+    void marshall(final OutputStream stream,
+                  final KieSession ksession,
+                  final long clockTime,
+                  final Predicate<InternalFactHandle> handleFilter) throws IOException {
         ((InternalWorkingMemory) ksession).flushPropagations();
-        ProtobufMarshallerWriteContext context = new ProtobufMarshallerWriteContext( stream,
-                                                                     (InternalKnowledgeBase) kbase,
-                                                                     (InternalWorkingMemory) ksession,
-                                                                     RuleBaseNodes.getNodeMap( (InternalKnowledgeBase) kbase ),
-                                                                     this.strategyStore,
-                                                                     this.marshallingConfig.isMarshallProcessInstances(),
-                                                                     this.marshallingConfig.isMarshallWorkItems(),
-                                                                     ksession.getEnvironment() );
+        ProtobufMarshallerWriteContext context = getMarshallerWriteContext( stream, ksession );
         context.setClockTime( clockTime );
-        ProtobufOutputMarshaller.writeSession( context );
+        ProtobufOutputMarshaller.writeSession( context, handleFilter );
         context.close();
     }
 
+    ProtobufMarshallerWriteContext getMarshallerWriteContext( final OutputStream stream, final KieSession ksession) throws IOException {
+        return new ProtobufMarshallerWriteContext( stream,
+                                                   (InternalKnowledgeBase) kbase,
+                                                   (InternalWorkingMemory) ksession,
+                                                   RuleBaseNodes.getNodeMap( (InternalKnowledgeBase) kbase ),
+                                                   this.strategyStore,
+                                                   this.marshallingConfig.isMarshallProcessInstances(),
+                                                   this.marshallingConfig.isMarshallWorkItems(),
+                                                   ksession.getEnvironment() );
+    }
+
     public MarshallingConfiguration getMarshallingConfiguration() {
         return marshallingConfig;
     }
@@ -152,7 +165,7 @@ public class ProtobufMarshaller
         return readSessionResult;
     }
 
-    private ProtobufMarshallerReaderContext getMarshallerReaderContext( final InputStream inputStream, final Environment environment) throws IOException {
+    ProtobufMarshallerReaderContext getMarshallerReaderContext( final InputStream inputStream, final Environment environment) throws IOException {
         return new ProtobufMarshallerReaderContext(inputStream,
                                            (InternalKnowledgeBase) kbase,
                                            RuleBaseNodes.getNodeMap((InternalKnowledgeBase) kbase),
@@ -25,8 +25,10 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import com.google.protobuf.ByteString;
 import org.drools.core.InitialFact;
@@ -78,12 +80,12 @@ import org.drools.core.spi.AgendaGroup;
 import org.drools.core.spi.RuleFlowGroup;
 import org.drools.core.time.JobContext;
 import org.drools.core.time.SelfRemovalJobContext;
+import org.drools.core.time.SessionPseudoClock;
 import org.drools.core.time.Trigger;
 import org.drools.core.time.impl.CompositeMaxDurationTrigger;
 import org.drools.core.time.impl.CronTrigger;
 import org.drools.core.time.impl.IntervalTrigger;
 import org.drools.core.time.impl.PointInTimeTrigger;
-import org.drools.core.time.impl.PseudoClockScheduler;
 import org.drools.core.time.impl.TimerJobInstance;
 import org.drools.core.util.FastIterator;
 import org.drools.core.util.LinkedListEntry;
@@ -116,8 +118,18 @@ public class ProtobufOutputMarshaller {
     }
 
     public static void writeSession( ProtobufMarshallerWriteContext context) throws IOException {
+        writeSession( context, null );
+    }
+
+    /**
+     * Writes the session including only the fact handles accepted by the given filter, or all of them
+     * when the filter is null. The remaining state, like agenda, timers and truth maintenance system,
+     * is always written in full.
+     */
+    public static void writeSession( ProtobufMarshallerWriteContext context,
+                                     Predicate<InternalFactHandle> handleFilter) throws IOException {
 
-        ProtobufMessages.KnowledgeSession _session = serializeSession( context );
+        ProtobufMessages.KnowledgeSession _session = serializeSession( context, handleFilter );
         
 //        System.out.println("=============================================================================");
 //        System.out.println(_session);
@@ -126,7 +138,64 @@ public class ProtobufOutputMarshaller {
                                                  _session );
     }
 
-    private static ProtobufMessages.KnowledgeSession serializeSession( MarshallerWriteContext context) throws IOException {
+    /**
+     * Writes the session in chunks: first the session without its fact handles, then the fact handles of each
+     * entry point, grouped by object type in blocks of at most blockSize handles. Each block carries its own
+     * strategies, so neither writing nor reading it requires to keep all the facts of the session in memory.
+     */
+    public static void writeChunkedSession( ProtobufMarshallerWriteContext context,
+                                            int blockSize ) throws IOException {
+        StatefulKnowledgeSessionImpl wm = (StatefulKnowledgeSessionImpl) context.getWorkingMemory();
+
+        try {
+            // the handles must be the same ones referenced by the agenda and the tms in the session chunk
+            wm.getLock().lock();
+            for (EntryPoint ep : wm.getEntryPoints()) {
+                if (ep instanceof NamedEntryPoint) {
+                    ((NamedEntryPoint)ep).lock();
+                }
+            }
+
+            ProtobufMessages.KnowledgeSession _session = serializeSession( context, handle -> false );
+            PersisterHelper.writeChunkWithHeader( context, _session );
+
+            ObjectMarshallingStrategyStore objectMarshallingStrategyStore = context.getObjectMarshallingStrategyStore();
+            for ( ProtobufMessages.EntryPoint _ep : _session.getRuleData().getEntryPointList() ) {
+                NamedEntryPoint wmep = (NamedEntryPoint) wm.getEntryPoint( _ep.getEntryPointId() );
+
+                Map<Class<?>, List<InternalFactHandle>> handlesByType = new LinkedHashMap<>();
+                for ( InternalFactHandle handle : orderFacts( wmep.getObjectStore() ) ) {
+                    Class<?> type = handle.getObject() != null ? handle.getObject().getClass() : Object.class;
+                    handlesByType.computeIfAbsent( type, k -> new ArrayList<>() ).add( handle );
+                }
+
+                for ( List<InternalFactHandle> handles : handlesByType.values() ) {
+                    for ( int start = 0; start < handles.size(); start += blockSize ) {
+                        context.getUsedStrategies().clear();
+                        context.getStrategyContext().clear();
+
+                        ProtobufMessages.EntryPoint.Builder _block = ProtobufMessages.EntryPoint.newBuilder()
+                                .setEntryPointId( _ep.getEntryPointId() );
+                        for ( InternalFactHandle handle : handles.subList( start, Math.min( start + blockSize, handles.size() ) ) ) {
+                            _block.addHandle( writeFactHandle( context, objectMarshallingStrategyStore, handle ) );
+                        }
+                        PersisterHelper.writeChunkWithHeader( context, _block.build() );
+                    }
+                }
+                PersisterHelper.writeEndOfChunks( context );
+            }
+        } finally {
+            for (EntryPoint ep : wm.getEntryPoints()) {
+                if (ep instanceof NamedEntryPoint) {
+                    ((NamedEntryPoint)ep).unlock();
+                }
+            }
+            wm.getLock().unlock();
+        }
+    }
+
+    private static ProtobufMessages.KnowledgeSession serializeSession( MarshallerWriteContext context,
+                                                                       Predicate<InternalFactHandle> handleFilter) throws IOException {
         StatefulKnowledgeSessionImpl wm = (StatefulKnowledgeSessionImpl) context.getWorkingMemory();
 
         try {
@@ -142,7 +211,7 @@ public class ProtobufOutputMarshaller {
             ProtobufMessages.RuleData.Builder _ruleData = ProtobufMessages.RuleData.newBuilder();
 
             long time = 0;
-            if ( context.getWorkingMemory().getTimerService() instanceof PseudoClockScheduler ) {
+            if ( context.getWorkingMemory().getTimerService() instanceof SessionPseudoClock ) {
                 time = context.getClockTime();
             }
             _ruleData.setLastId( wm.getFactHandleFactory().getId() );
@@ -173,7 +242,8 @@ public class ProtobufOutputMarshaller {
 
                 writeFactHandles( context,
                                   _epb,
-                                  ((NamedEntryPoint) wmep).getObjectStore() );
+                                  ((NamedEntryPoint) wmep).getObjectStore(),
+                                  handleFilter );
 
                 writeTruthMaintenanceSystem( context,
                                              wmep,
@@ -578,11 +648,15 @@ public class ProtobufOutputMarshaller {
 
     private static void writeFactHandles( MarshallerWriteContext context,
                                           ProtobufMessages.EntryPoint.Builder _epb,
-                                          ObjectStore objectStore) throws IOException {
+                                          ObjectStore objectStore,
+                                          Predicate<InternalFactHandle> handleFilter) throws IOException {
         ObjectMarshallingStrategyStore objectMarshallingStrategyStore = context.getObjectMarshallingStrategyStore();
 
         // Write out FactHandles
         for ( InternalFactHandle handle : orderFacts( objectStore ) ) {
+            if ( handleFilter != null && !handleFilter.test( handle ) ) {
+                continue;
+            }
             ProtobufMessages.FactHandle _handle = writeFactHandle( context,
                                                                    objectMarshallingStrategyStore,
                                                                    handle );
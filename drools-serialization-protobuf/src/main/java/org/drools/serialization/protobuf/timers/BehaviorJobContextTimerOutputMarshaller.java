@@ -18,6 +18,7 @@ import java.io.IOException;
 
 import org.drools.core.common.EventFactHandle;
 import org.drools.core.marshalling.MarshallerWriteContext;
+import org.drools.core.rule.HoppingTimeWindow.PaneWindowContext;
 import org.drools.serialization.protobuf.marshalling.PersisterEnums;
 import org.drools.core.rule.SlidingTimeWindow.BehaviorJobContext;
 import org.drools.core.rule.SlidingTimeWindow.SlidingTimeWindowContext;
@@ -32,10 +33,7 @@ public class BehaviorJobContextTimerOutputMarshaller implements TimersOutputMars
         // BehaviorJob, no state
         BehaviorJobContext bjobCtx = ( BehaviorJobContext ) jobCtx;
 
-        // write out SlidingTimeWindowContext
-        SlidingTimeWindowContext slCtx = ( SlidingTimeWindowContext ) bjobCtx.behaviorContext;
-
-        EventFactHandle handle = slCtx.peek();
+        EventFactHandle handle = getNextExpiringHandle( bjobCtx );
         outputCtx.writeLong( handle.getId() );
     }
 
@@ -43,10 +41,7 @@ public class BehaviorJobContextTimerOutputMarshaller implements TimersOutputMars
     public ProtobufMessages.Timers.Timer serialize(JobContext jobCtx, MarshallerWriteContext outputCtx) {
         // BehaviorJob, no state
         BehaviorJobContext bjobCtx = ( BehaviorJobContext ) jobCtx;
-        // write out SlidingTimeWindowContext
-        SlidingTimeWindowContext slCtx = ( SlidingTimeWindowContext ) bjobCtx.behaviorContext;
-
-        EventFactHandle handle = slCtx.peek();
+        EventFactHandle handle = getNextExpiringHandle( bjobCtx );
 
         return ProtobufMessages.Timers.Timer.newBuilder()
                 .setType( ProtobufMessages.Timers.TimerType.BEHAVIOR )
@@ -55,4 +50,12 @@ public class BehaviorJobContextTimerOutputMarshaller implements TimersOutputMars
                         .build() )
                 .build();
     }
-}
\ No newline at end of file
+
+    private static EventFactHandle getNextExpiringHandle( BehaviorJobContext bjobCtx ) {
+        if ( bjobCtx.behaviorContext instanceof PaneWindowContext ) {
+            // all the events of the oldest pane expire together
+            return ( (PaneWindowContext) bjobCtx.behaviorContext ).peek();
+        }
+        return ( (SlidingTimeWindowContext) bjobCtx.behaviorContext ).peek();
+    }
+}
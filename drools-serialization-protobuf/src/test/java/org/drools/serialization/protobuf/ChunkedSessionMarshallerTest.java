@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.serialization.protobuf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.mvel.compiler.Cheese;
+import org.drools.mvel.compiler.Person;
+import org.drools.serialization.protobuf.marshalling.MarshallingConfigurationImpl;
+import org.junit.Test;
+import org.kie.api.KieBase;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSession;
+import org.kie.internal.utils.KieHelper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChunkedSessionMarshallerTest {
+
+    private static final String DRL =
+            "import " + Person.class.getCanonicalName() + ";\n" +
+            "import " + Cheese.class.getCanonicalName() + ";\n" +
+            "global java.util.List list;\n" +
+            "rule R1 when\n" +
+            "  $p : Person( $likes : likes )\n" +
+            "  Cheese( type == $likes ) from entry-point \"cheeses\"\n" +
+            "then\n" +
+            "  list.add( $p.getName() );\n" +
+            "end\n" +
+            "rule R2 when\n" +
+            "  $c : Cheese( price > 10 )\n" +
+            "then\n" +
+            "  list.add( $c.getType() );\n" +
+            "end\n";
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        checkRoundTrip( 1 );
+    }
+
+    @Test
+    public void testRoundTripWithParallelDecoding() throws Exception {
+        checkRoundTrip( 3 );
+    }
+
+    private void checkRoundTrip(int decodingThreads) throws Exception {
+        KieBase kbase = new KieHelper().addContent( DRL, ResourceType.DRL ).build();
+        ChunkedSessionMarshaller marshaller = new ChunkedSessionMarshaller( kbase, new MarshallingConfigurationImpl(), 2, decodingThreads );
+
+        KieSession ksession = kbase.newKieSession();
+        ksession.insert( new Person( "Mario", "stilton" ) );
+        ksession.insert( new Person( "Mark", "brie" ) );
+        ksession.insert( new Person( "Edson", "cheddar" ) );
+        ksession.insert( new Cheese( "gorgonzola", 20 ) );
+        ksession.insert( new Cheese( "parmigiano", 5 ) );
+        ksession.getEntryPoint( "cheeses" ).insert( new Cheese( "stilton", 10 ) );
+        ksession.getEntryPoint( "cheeses" ).insert( new Cheese( "brie", 10 ) );
+        ksession.getEntryPoint( "cheeses" ).insert( new Cheese( "emmental", 10 ) );
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        marshaller.marshall( baos, ksession );
+        ksession.dispose();
+
+        KieSession restored = marshaller.unmarshall( new ByteArrayInputStream( baos.toByteArray() ), null, null );
+        try {
+            List<String> list = new ArrayList<>();
+            restored.setGlobal( "list", list );
+            assertThat( restored.getObjects() ).hasSize( 5 );
+            assertThat( restored.getEntryPoint( "cheeses" ).getObjects() ).hasSize( 3 );
+            assertThat( restored.fireAllRules() ).isEqualTo( 3 );
+            assertThat( list ).containsExactlyInAnyOrder( "Mario", "Mark", "gorgonzola" );
+        } finally {
+            restored.dispose();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.serialization.protobuf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.core.marshalling.ClassObjectMarshallingStrategyAcceptor;
+import org.drools.core.marshalling.SerializablePlaceholderResolverStrategy;
+import org.drools.mvel.compiler.Person;
+import org.drools.serialization.protobuf.marshalling.MarshallingConfigurationImpl;
+import org.junit.Test;
+import org.kie.api.KieBase;
+import org.kie.api.io.ResourceType;
+import org.kie.api.marshalling.ObjectMarshallingStrategy;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.utils.KieHelper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DeltaSnapshotMarshallerTest {
+
+    private static final String DRL =
+            "import " + Person.class.getCanonicalName() + ";\n" +
+            "global java.util.List list;\n" +
+            "rule R when\n" +
+            "  Person( age > 30, $name : name )\n" +
+            "then\n" +
+            "  list.add( $name );\n" +
+            "end\n";
+
+    @Test
+    public void testRestoreFromSnapshotAndDeltas() throws Exception {
+        KieBase kbase = new KieHelper().addContent( DRL, ResourceType.DRL ).build();
+        DeltaSnapshotMarshaller marshaller = newMarshaller( kbase, 5 );
+
+        KieSession ksession = kbase.newKieSession();
+        Person mario = new Person( "Mario", 20 );
+        FactHandle marioHandle = ksession.insert( mario );
+        FactHandle lucaHandle = ksession.insert( new Person( "Luca", 25 ) );
+        ksession.insert( new Person( "Edson", 28 ) );
+
+        List<byte[]> saved = new ArrayList<>();
+        assertThat( save( marshaller, ksession, saved ) ).isTrue();
+
+        ksession.insert( new Person( "Mark", 35 ) );
+        mario.setAge( 40 );
+        ksession.update( marioHandle, mario );
+        assertThat( save( marshaller, ksession, saved ) ).isFalse();
+
+        ksession.delete( lucaHandle );
+        assertThat( save( marshaller, ksession, saved ) ).isFalse();
+        ksession.dispose();
+
+        KieSession restored = restore( marshaller, saved );
+        try {
+            List<String> list = new ArrayList<>();
+            restored.setGlobal( "list", list );
+            assertThat( restored.getObjects() ).hasSize( 3 );
+            assertThat( restored.fireAllRules() ).isEqualTo( 2 );
+            assertThat( list ).containsExactlyInAnyOrder( "Mario", "Mark" );
+
+            // the restored session continues the same chain of deltas
+            restored.insert( new Person( "Luca", 50 ) );
+            assertThat( save( marshaller, restored, saved ) ).isFalse();
+        } finally {
+            restored.dispose();
+        }
+
+        KieSession restoredAgain = restore( newMarshaller( kbase, 5 ), saved );
+        try {
+            assertThat( restoredAgain.getObjects() ).hasSize( 4 );
+            assertThat( restoredAgain.getObjects().stream().map( p -> ( (Person) p ).getName() ) )
+                    .containsExactlyInAnyOrder( "Mario", "Mark", "Edson", "Luca" );
+        } finally {
+            restoredAgain.dispose();
+        }
+    }
+
+    @Test
+    public void testFullSnapshotAfterMaxDeltas() throws Exception {
+        KieBase kbase = new KieHelper().addContent( DRL, ResourceType.DRL ).build();
+        DeltaSnapshotMarshaller marshaller = newMarshaller( kbase, 1 );
+
+        KieSession ksession = kbase.newKieSession();
+        try {
+            List<byte[]> saved = new ArrayList<>();
+            ksession.insert( new Person( "Mario", 40 ) );
+            assertThat( save( marshaller, ksession, saved ) ).isTrue();
+            ksession.insert( new Person( "Mark", 35 ) );
+            assertThat( save( marshaller, ksession, saved ) ).isFalse();
+            ksession.insert( new Person( "Edson", 45 ) );
+            assertThat( save( marshaller, ksession, saved ) ).isTrue();
+
+            KieSession restored = restore( marshaller, saved.subList( 2, 3 ) );
+            try {
+                assertThat( restored.getObjects() ).hasSize( 3 );
+            } finally {
+                restored.dispose();
+            }
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    private static DeltaSnapshotMarshaller newMarshaller(KieBase kbase, int maxDeltas) {
+        ObjectMarshallingStrategy[] strategies = new ObjectMarshallingStrategy[] {
+                new SerializablePlaceholderResolverStrategy( ClassObjectMarshallingStrategyAcceptor.DEFAULT ) };
+        return new DeltaSnapshotMarshaller( kbase, new MarshallingConfigurationImpl( strategies, true, true ), maxDeltas );
+    }
+
+    private static boolean save(DeltaSnapshotMarshaller marshaller, KieSession ksession, List<byte[]> saved) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        boolean full = marshaller.marshall( baos, ksession );
+        saved.add( baos.toByteArray() );
+        return full;
+    }
+
+    private static KieSession restore(DeltaSnapshotMarshaller marshaller, List<byte[]> saved) throws Exception {
+        List<InputStream> deltas = new ArrayList<>();
+        for ( byte[] delta : saved.subList( 1, saved.size() ) ) {
+            deltas.add( new ByteArrayInputStream( delta ) );
+        }
+        return marshaller.unmarshall( new ByteArrayInputStream( saved.get( 0 ) ), deltas, null, null );
+    }
+}
@@ -28,6 +28,7 @@ import org.kie.api.conf.EventProcessingOption;
 import org.kie.api.conf.RemoveIdentitiesOption;
 import org.kie.api.conf.SequentialOption;
 import org.kie.api.runtime.rule.ConsequenceExceptionHandler;
+import org.kie.internal.conf.AlphaNetworkImageOption;
 import org.kie.internal.conf.AlphaRangeIndexThresholdOption;
 import org.kie.internal.conf.AlphaThresholdOption;
 import org.kie.internal.conf.CompositeKeyDepthOption;
@@ -35,12 +36,14 @@ import org.kie.internal.conf.ConsequenceExceptionHandlerOption;
 import org.kie.internal.conf.IndexLeftBetaMemoryOption;
 import org.kie.internal.conf.IndexPrecedenceOption;
 import org.kie.internal.conf.IndexRightBetaMemoryOption;
+import org.kie.internal.conf.JittingProfileOption;
 import org.kie.internal.conf.MaxThreadsOption;
 import org.kie.internal.conf.MultithreadEvaluationOption;
 import org.kie.internal.conf.PermGenThresholdOption;
 import org.kie.internal.conf.SequentialAgendaOption;
 import org.kie.internal.conf.ShareAlphaNodesOption;
 import org.kie.internal.conf.ShareBetaNodesOption;
+import org.kie.internal.conf.TieredJittingOption;
 
 import static org.junit.Assert.assertEquals;
 
@@ -501,6 +504,72 @@ public class KnowledgeBaseConfigurationTest {
                       config.getProperty( MultithreadEvaluationOption.PROPERTY_NAME ) );
     }
     
+    @Test
+    public void testTieredJittingConfiguration() {
+        // setting the option using the type safe method
+        config.setOption( TieredJittingOption.YES );
+
+        // checking the type safe getOption() method
+        assertEquals( TieredJittingOption.YES,
+                      config.getOption( TieredJittingOption.class ) );
+        // checking the string based getProperty() method
+        assertEquals( "true",
+                      config.getProperty( TieredJittingOption.PROPERTY_NAME ) );
+
+        // setting the options using the string based setProperty() method
+        config.setProperty( TieredJittingOption.PROPERTY_NAME,
+                            "false" );
+
+        // checking the type safe getOption() method
+        assertEquals( TieredJittingOption.NO,
+                      config.getOption( TieredJittingOption.class ) );
+        // checking the string based getProperty() method
+        assertEquals( "false",
+                      config.getProperty( TieredJittingOption.PROPERTY_NAME ) );
+    }
+
+    @Test
+    public void testJittingProfileConfiguration() {
+        // setting the option using the type safe method
+        config.setOption( JittingProfileOption.get( "target/jitting.profile" ) );
+
+        // checking the type safe getOption() method
+        assertEquals( JittingProfileOption.get( "target/jitting.profile" ),
+                      config.getOption( JittingProfileOption.class ) );
+        // checking the string based getProperty() method
+        assertEquals( "target/jitting.profile",
+                      config.getProperty( JittingProfileOption.PROPERTY_NAME ) );
+
+        // setting the options using the string based setProperty() method
+        config.setProperty( JittingProfileOption.PROPERTY_NAME,
+                            "" );
+
+        // checking the type safe getOption() method
+        assertEquals( JittingProfileOption.get( null ),
+                      config.getOption( JittingProfileOption.class ) );
+    }
+
+    @Test
+    public void testAlphaNetworkImageConfiguration() {
+        // setting the option using the type safe method
+        config.setOption( AlphaNetworkImageOption.get( "target/anc.image" ) );
+
+        // checking the type safe getOption() method
+        assertEquals( AlphaNetworkImageOption.get( "target/anc.image" ),
+                      config.getOption( AlphaNetworkImageOption.class ) );
+        // checking the string based getProperty() method
+        assertEquals( "target/anc.image",
+                      config.getProperty( AlphaNetworkImageOption.PROPERTY_NAME ) );
+
+        // setting the options using the string based setProperty() method
+        config.setProperty( AlphaNetworkImageOption.PROPERTY_NAME,
+                            "" );
+
+        // checking the type safe getOption() method
+        assertEquals( AlphaNetworkImageOption.get( null ),
+                      config.getOption( AlphaNetworkImageOption.class ) );
+    }
+
     @Test
     public void testRulebaseSetUpdateHandler() {
         // this test is to avoid a regression, since update handler was supposed to be disabled in Drools 5.
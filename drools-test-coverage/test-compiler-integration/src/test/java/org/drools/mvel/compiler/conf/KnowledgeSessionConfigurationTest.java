@@ -15,7 +15,13 @@
  */
 package org.drools.mvel.compiler.conf;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
 import org.drools.core.BeliefSystemType;
+import org.drools.core.SessionConfigurationImpl;
 import org.junit.Before;
 import org.junit.Test;
 import org.kie.api.KieServices;
@@ -23,6 +29,7 @@ import org.kie.api.runtime.conf.AccumulateNullPropagationOption;
 import org.kie.api.runtime.conf.BeliefSystemTypeOption;
 import org.kie.api.runtime.KieSessionConfiguration;
 import org.kie.api.runtime.conf.ClockTypeOption;
+import org.kie.internal.runtime.conf.PropagationListOption;
 
 import static org.junit.Assert.*;
 
@@ -113,4 +120,28 @@ public class KnowledgeSessionConfigurationTest {
         assertEquals("false",
                      config.getProperty(AccumulateNullPropagationOption.PROPERTY_NAME));
     }
+
+    @Test
+    public void testPropagationListOption() throws Exception {
+        // synchronized by default
+        assertEquals(PropagationListOption.SYNCHRONIZED, config.getOption(PropagationListOption.class));
+
+        config.setOption(PropagationListOption.LOCK_FREE);
+        assertEquals(PropagationListOption.LOCK_FREE, config.getOption(PropagationListOption.class));
+        assertEquals("lockfree", config.getProperty(PropagationListOption.PROPERTY_NAME));
+
+        config.setProperty(PropagationListOption.PROPERTY_NAME, "lockfree-spinning");
+        assertEquals(PropagationListOption.LOCK_FREE_SPINNING, config.getOption(PropagationListOption.class));
+
+        // the option survives the serialization of the configuration
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+            out.writeObject(config);
+        }
+        SessionConfigurationImpl deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            deserialized = (SessionConfigurationImpl) in.readObject();
+        }
+        assertEquals(PropagationListOption.LOCK_FREE_SPINNING, deserialized.getPropagationListOption());
+    }
 }
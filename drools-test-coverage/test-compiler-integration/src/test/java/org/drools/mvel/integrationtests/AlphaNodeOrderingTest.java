@@ -0,0 +1,147 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.mvel.integrationtests;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.drools.core.base.ClassObjectType;
+import org.drools.core.impl.RuleBase;
+import org.drools.core.reteoo.AlphaNode;
+import org.drools.core.reteoo.AlphaSelectivityProfile;
+import org.drools.core.reteoo.ObjectSink;
+import org.drools.core.reteoo.ObjectTypeNode;
+import org.drools.core.reteoo.ProfilingAlphaNode;
+import org.drools.mvel.compiler.Cheese;
+import org.drools.mvel.compiler.Person;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.KieUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.builder.KieModule;
+import org.kie.api.runtime.KieSession;
+import org.kie.internal.conf.AlphaNodeOrderingOption;
+import org.kie.internal.conf.AlphaSelectivityProfileOption;
+
+@RunWith(Parameterized.class)
+public class AlphaNodeOrderingTest {
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    public AlphaNodeOrderingTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        return TestParametersUtil.getKieBaseCloudConfigurations(true);
+    }
+
+    @Test
+    public void testReorderAlphaNodesBySelectivity() {
+        // the compiled alpha network evaluates the constraints without passing through the alpha nodes
+        Assume.assumeFalse(kieBaseTestConfiguration.useAlphaNetworkCompiler());
+
+        final String drl =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "import " + Cheese.class.getCanonicalName() + ";\n" +
+                "rule R1 when\n" +
+                "  Person( age > 10, name == \"Mario\" )\n" +
+                "then end\n" +
+                "rule R2 when\n" +
+                "  Cheese( price > 0, type.toUpperCase() == \"STILTON\" )\n" +
+                "then end\n";
+
+        final String profile = new File(temporaryFolder.getRoot(), "alpha.profile").getPath();
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("test", kieBaseTestConfiguration, drl);
+
+        // the profiling run counts the facts accepted and rejected by each alpha node
+        final KieBase profiledKieBase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration,
+                                                                                                  AlphaSelectivityProfileOption.get(profile));
+        assertAlphaChain(profiledKieBase, Person.class, "age", "name");
+        Assertions.assertThat(getAlphaChain(profiledKieBase, Person.class)).allMatch(ProfilingAlphaNode.class::isInstance);
+
+        final KieSession ksession = profiledKieBase.newKieSession();
+        for (int i = 0; i < 100; i++) {
+            ksession.insert(new Person(i % 20 == 0 ? "Mario" : "Person" + i, 20 + i));
+            ksession.insert(new Cheese(i % 20 == 0 ? "stilton" : "cheddar", 10 + i));
+        }
+        Assertions.assertThat(ksession.fireAllRules()).isEqualTo(10);
+        ksession.dispose();
+
+        AlphaSelectivityProfile.get(profile).save();
+
+        // the next build puts first the most selective constraint
+        final KieBase orderedKieBase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration,
+                                                                                                 AlphaSelectivityProfileOption.get(profile),
+                                                                                                 AlphaNodeOrderingOption.SELECTIVITY);
+        assertAlphaChain(orderedKieBase, Person.class, "name", "age");
+        if (!kieBaseTestConfiguration.isExecutableModel()) {
+            // a constraint on a nested value could be guarded by the former ones and then it is never moved ahead
+            assertAlphaChain(orderedKieBase, Cheese.class, "price", "type");
+        }
+
+        final KieSession orderedKsession = orderedKieBase.newKieSession();
+        orderedKsession.insert(new Person("Mario", 40));
+        orderedKsession.insert(new Person("Mario", 5));
+        orderedKsession.insert(new Person("Mark", 40));
+        orderedKsession.insert(new Cheese("stilton", 10));
+        Assertions.assertThat(orderedKsession.fireAllRules()).isEqualTo(2);
+        orderedKsession.dispose();
+    }
+
+    private static void assertAlphaChain(KieBase kbase, Class<?> type, String... constrainedProperties) {
+        List<AlphaNode> chain = getAlphaChain(kbase, type);
+        Assertions.assertThat(chain).hasSize(constrainedProperties.length);
+        for (int i = 0; i < constrainedProperties.length; i++) {
+            Assertions.assertThat(chain.get(i).getConstraint().toString()).contains(constrainedProperties[i]);
+        }
+    }
+
+    private static List<AlphaNode> getAlphaChain(KieBase kbase, Class<?> type) {
+        List<AlphaNode> chain = new ArrayList<>();
+        ObjectSink[] sinks = getObjectTypeNode(kbase, type).getObjectSinkPropagator().getSinks();
+        while (sinks.length == 1 && sinks[0] instanceof AlphaNode) {
+            AlphaNode alphaNode = (AlphaNode) sinks[0];
+            chain.add(alphaNode);
+            sinks = alphaNode.getObjectSinkPropagator().getSinks();
+        }
+        return chain;
+    }
+
+    private static ObjectTypeNode getObjectTypeNode(KieBase kbase, Class<?> nodeClass) {
+        for (ObjectTypeNode n : ((RuleBase) kbase).getRete().getObjectTypeNodes()) {
+            if (((ClassObjectType) n.getObjectType()).getClassType() == nodeClass) {
+                return n;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.mvel.integrationtests;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.impl.RuleBaseFactory;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.KieUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.builder.KieBuilder;
+import org.kie.api.builder.Message;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.conf.ClockTypeOption;
+import org.kie.api.runtime.rule.EntryPoint;
+import org.kie.api.time.SessionPseudoClock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(Parameterized.class)
+public class HoppingWindowTest {
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    public HoppingWindowTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        return TestParametersUtil.getKieBaseStreamConfigurations(true);
+    }
+
+    private KieSession ksession;
+
+    private SessionPseudoClock clock;
+
+    private String drl =
+            "package org.drools.mvel.integrationtests;\n" +
+            "\n" +
+            "import " + Tick.class.getCanonicalName() + "\n" +
+            "\n" +
+            "declare Tick\n" +
+            "    @role( event )\n" +
+            "end\n" +
+            "\n" +
+            "declare window DeclaredHoppingWindow\n" +
+            "    Tick ( name == \"hoppingDec\" ) over window:hopping( 1s, 500ms ) from entry-point EventStream\n" +
+            "end\n" +
+            "\n" +
+            "query \"TestTumblingWindow\"\n" +
+            "    Number( $eventCount : longValue ) from\n" +
+            "        accumulate (\n" +
+            "            $event : Tick ( name == \"tumbling\" ) over window:tumbling( 100ms ) from entry-point EventStream,\n" +
+            "            count($event)\n" +
+            "        )\n" +
+            "end\n" +
+            "\n" +
+            "query \"TestHoppingWindow\"\n" +
+            "    Number( $eventCount : longValue ) from\n" +
+            "        accumulate (\n" +
+            "            $event : Tick ( name == \"hopping\" ) over window:hopping( 100ms, 50ms ) from entry-point EventStream,\n" +
+            "            count($event)\n" +
+            "        )\n" +
+            "end\n" +
+            "\n" +
+            "query \"TestDeclaredHoppingWindow\"\n" +
+            "    Number( $eventCount : longValue ) from\n" +
+            "        accumulate (\n" +
+            "            $event : Tick () from window DeclaredHoppingWindow,\n" +
+            "            count($event)\n" +
+            "        )\n" +
+            "end\n";
+
+    @Before
+    public void initialization() {
+        KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, drl);
+
+        KieSessionConfiguration ksconfig = RuleBaseFactory.newKnowledgeSessionConfiguration();
+        ksconfig.setOption(ClockTypeOption.PSEUDO);
+
+        ksession = kbase.newKieSession(ksconfig, null);
+
+        clock = ksession.getSessionClock();
+    }
+
+    @After
+    public void clean() {
+        ksession.dispose();
+    }
+
+    @Test
+    public void testTumblingWindow() {
+        EntryPoint entryPoint = ksession.getEntryPoint("EventStream");
+
+        entryPoint.insert(new Tick("tumbling"));
+        clock.advanceTime(30, TimeUnit.MILLISECONDS);
+        entryPoint.insert(new Tick("tumbling"));
+        clock.advanceTime(30, TimeUnit.MILLISECONDS);
+        entryPoint.insert(new Tick("tumbling"));
+        assertThat(count("TestTumblingWindow")).isEqualTo(3);
+
+        // at 100ms the whole first window is closed at once
+        clock.advanceTime(40, TimeUnit.MILLISECONDS);
+        assertThat(count("TestTumblingWindow")).isEqualTo(0);
+
+        entryPoint.insert(new Tick("tumbling"));
+        clock.advanceTime(50, TimeUnit.MILLISECONDS);
+        entryPoint.insert(new Tick("tumbling"));
+        assertThat(count("TestTumblingWindow")).isEqualTo(2);
+
+        clock.advanceTime(50, TimeUnit.MILLISECONDS);
+        assertThat(count("TestTumblingWindow")).isEqualTo(0);
+    }
+
+    @Test
+    public void testHoppingWindow() {
+        EntryPoint entryPoint = ksession.getEntryPoint("EventStream");
+
+        entryPoint.insert(new Tick("hopping"));
+        clock.advanceTime(60, TimeUnit.MILLISECONDS);
+        entryPoint.insert(new Tick("hopping"));
+        assertThat(count("TestHoppingWindow")).isEqualTo(2);
+
+        // the pane [0, 50) leaves the window at 100ms, the pane [50, 100) at 150ms
+        clock.advanceTime(40, TimeUnit.MILLISECONDS);
+        assertThat(count("TestHoppingWindow")).isEqualTo(1);
+
+        entryPoint.insert(new Tick("hopping"));
+        assertThat(count("TestHoppingWindow")).isEqualTo(2);
+
+        clock.advanceTime(50, TimeUnit.MILLISECONDS);
+        assertThat(count("TestHoppingWindow")).isEqualTo(1);
+
+        clock.advanceTime(50, TimeUnit.MILLISECONDS);
+        assertThat(count("TestHoppingWindow")).isEqualTo(0);
+    }
+
+    @Test
+    public void testDeclaredHoppingWindow() {
+        EntryPoint entryPoint = ksession.getEntryPoint("EventStream");
+
+        entryPoint.insert(new Tick("hoppingDec"));
+        clock.advanceTime(600, TimeUnit.MILLISECONDS);
+        entryPoint.insert(new Tick("hoppingDec"));
+        entryPoint.insert(new Tick("other"));
+        assertThat(count("TestDeclaredHoppingWindow")).isEqualTo(2);
+
+        clock.advanceTime(400, TimeUnit.MILLISECONDS);
+        assertThat(count("TestDeclaredHoppingWindow")).isEqualTo(1);
+
+        clock.advanceTime(500, TimeUnit.MILLISECONDS);
+        assertThat(count("TestDeclaredHoppingWindow")).isEqualTo(0);
+    }
+
+    @Test
+    public void testInvalidHop() {
+        final String invalidDrl =
+                "package org.drools.mvel.integrationtests;\n" +
+                "\n" +
+                "import " + Tick.class.getCanonicalName() + "\n" +
+                "\n" +
+                "declare Tick\n" +
+                "    @role( event )\n" +
+                "end\n" +
+                "\n" +
+                "query \"TestInvalidHoppingWindow\"\n" +
+                "    Number( $eventCount : longValue ) from\n" +
+                "        accumulate (\n" +
+                "            $event : Tick () over window:hopping( 100ms, 30ms ),\n" +
+                "            count($event)\n" +
+                "        )\n" +
+                "end\n";
+
+        final KieBuilder kieBuilder = KieUtil.getKieBuilderFromDrls(kieBaseTestConfiguration, false, invalidDrl);
+        final List<Message> errors = kieBuilder.getResults().getMessages(Message.Level.ERROR);
+        assertThat(errors).isNotEmpty();
+    }
+
+    private long count(String query) {
+        return ((Number) ksession.getQueryResults(query).iterator().next().get("$eventCount")).longValue();
+    }
+
+    public static class Tick {
+
+        private final String name;
+
+        public Tick(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -16,12 +16,16 @@
 
 package org.drools.mvel.integrationtests;
 
+import java.io.File;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.assertj.core.api.Assertions;
+import org.drools.mvel.JittingProfile;
 import org.drools.mvel.compiler.Person;
 import org.drools.mvel.integrationtests.facts.AnEnum;
 import org.drools.mvel.integrationtests.facts.FactWithEnum;
@@ -29,13 +33,17 @@ import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
 import org.drools.testcoverage.common.util.KieBaseUtil;
 import org.drools.testcoverage.common.util.KieUtil;
 import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.kie.api.KieBase;
 import org.kie.api.builder.KieModule;
 import org.kie.api.runtime.KieSession;
 import org.kie.internal.conf.ConstraintJittingThresholdOption;
+import org.kie.internal.conf.JittingProfileOption;
+import org.kie.internal.conf.TieredJittingOption;
 
 import static org.junit.Assert.assertEquals;
 
@@ -46,6 +54,9 @@ public class JittingTest {
 
     private final KieBaseTestConfiguration kieBaseTestConfiguration;
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     public JittingTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
         this.kieBaseTestConfiguration = kieBaseTestConfiguration;
     }
@@ -352,4 +363,68 @@ public class JittingTest {
         kieSession.insert("CX");
         Assertions.assertThat(kieSession.fireAllRules()).isEqualTo(1);
     }
+
+    @Test
+    public void testTieredJitting() {
+        final String drl = "import " + Person.class.getCanonicalName() + ";\n" +
+                " rule R1 \n" +
+                " when \n" +
+                "    Person( name.toLowerCase().startsWith( \"m\" ) )\n" +
+                " then \n" +
+                " end ";
+
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("test", kieBaseTestConfiguration, drl);
+        final KieBase kieBase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration,
+                                                                                          ConstraintJittingThresholdOption.get(2), TieredJittingOption.YES);
+        final KieSession kieSession = kieBase.newKieSession();
+
+        for (int i = 0; i < 100; i++) {
+            kieSession.insert(new Person(i % 2 == 0 ? "Mario" + i : "Edson" + i, i));
+        }
+        Assertions.assertThat(kieSession.fireAllRules()).isEqualTo(50);
+        kieSession.dispose();
+    }
+
+    @Test
+    public void testJittingProfile() throws Exception {
+        final String drl = "import " + Person.class.getCanonicalName() + ";\n" +
+                " rule R1 \n" +
+                " when \n" +
+                "    Person( name.toLowerCase().startsWith( \"m\" ) )\n" +
+                " then \n" +
+                " end ";
+
+        final File profile = new File(temporaryFolder.getRoot(), "jitting.profile");
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("test", kieBaseTestConfiguration, drl);
+
+        // the first run records the jitted constraint
+        final KieBase kieBase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration,
+                                                                                          ConstraintJittingThresholdOption.get(1), JittingProfileOption.get(profile.getPath()));
+        final KieSession kieSession = kieBase.newKieSession();
+        kieSession.insert(new Person("Mario", 40));
+        kieSession.insert(new Person("Edson", 40));
+        Assertions.assertThat(kieSession.fireAllRules()).isEqualTo(1);
+        kieSession.dispose();
+
+        if (kieBaseTestConfiguration.isExecutableModel()) {
+            // the constraints of the executable model are not mvel ones and then are never jitted
+            return;
+        }
+
+        // the constraint is jitted asynchronously
+        for (int i = 0; i < 100 && profile.length() == 0; i++) {
+            Thread.sleep(100);
+        }
+        Assertions.assertThat(Files.readAllLines(profile.toPath(), StandardCharsets.UTF_8)).hasSize(1).allMatch(line -> line.contains("startsWith"));
+
+        // the next run finds the constraint in the profile, so it jits it at the first evaluation instead of waiting for the threshold
+        final KieBase warmedUpKieBase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration,
+                                                                                                  ConstraintJittingThresholdOption.get(1000), JittingProfileOption.get(profile.getPath()));
+        final KieSession warmedUpKieSession = warmedUpKieBase.newKieSession();
+        warmedUpKieSession.insert(new Person("Mark", 40));
+        Assertions.assertThat(warmedUpKieSession.fireAllRules()).isEqualTo(1);
+        warmedUpKieSession.dispose();
+
+        Assertions.assertThat(JittingProfile.get(profile.getPath()).size()).isEqualTo(1);
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.mvel.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.drools.core.impl.RuleBase;
+import org.drools.core.rule.EntryPointId;
+import org.drools.mvel.compiler.Cheese;
+import org.drools.mvel.compiler.Person;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(Parameterized.class)
+public class ReferenceDataTest {
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+
+    public ReferenceDataTest(final KieBaseTestConfiguration kieBaseTestConfiguration) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}")
+    public static Collection<Object[]> getParameters() {
+        return TestParametersUtil.getKieBaseCloudConfigurations(true);
+    }
+
+    @Test
+    public void testReferenceDataInsertedInEachSession() {
+        final String drl =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "import " + Cheese.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule R1 when\n" +
+                "  $c : Cheese( price > 5 )\n" +
+                "  $p : Person( likes == $c.type )\n" +
+                "then\n" +
+                "  list.add( $p.getName() + \":\" + $c.getType() );\n" +
+                "end\n" +
+                "rule R2 when\n" +
+                "  Cheese( type == \"brie\" )\n" +
+                "then\n" +
+                "  list.add( \"brie\" );\n" +
+                "end\n";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, drl);
+        final List<Cheese> cheeses = Arrays.asList(new Cheese("stilton", 10), new Cheese("brie", 3), new Cheese("cheddar", 8));
+        ((RuleBase) kbase).addReferenceData(EntryPointId.DEFAULT.getEntryPointId(), cheeses);
+
+        // the first session records the routes of the reference facts, the second one reuses them
+        for (final String likes : new String[] { "stilton", "cheddar" }) {
+            final KieSession ksession = kbase.newKieSession();
+            try {
+                final List<String> list = new ArrayList<>();
+                ksession.setGlobal("list", list);
+                assertThat(ksession.getObjects()).containsExactlyInAnyOrderElementsOf(cheeses);
+
+                ksession.insert(new Person("Mario", likes));
+                assertThat(ksession.fireAllRules()).isEqualTo(2);
+                assertThat(list).containsExactlyInAnyOrder("brie", "Mario:" + likes);
+            } finally {
+                ksession.dispose();
+            }
+        }
+    }
+
+    @Test
+    public void testReferenceDataOnUnknownEntryPoint() {
+        final String drl =
+                "import " + Cheese.class.getCanonicalName() + ";\n" +
+                "rule R1 when\n" +
+                "  Cheese( price > 5 )\n" +
+                "then end\n";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, drl);
+        assertThatThrownBy(() -> ((RuleBase) kbase).addReferenceData("catalog", Arrays.asList(new Cheese("stilton", 10))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
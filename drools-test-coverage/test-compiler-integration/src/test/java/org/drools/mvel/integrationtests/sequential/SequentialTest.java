@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.drools.drl.parser.DroolsParserException;
 import org.drools.kiesession.rulebase.InternalKnowledgeBase;
@@ -56,9 +57,11 @@ import org.kie.api.event.rule.RuleRuntimeEventListener;
 import org.kie.api.runtime.KieContainer;
 import org.kie.api.runtime.StatelessKieSession;
 import org.kie.internal.command.CommandFactory;
+import org.kie.internal.conf.SequentialEvaluatorOption;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(Parameterized.class)
@@ -587,4 +590,198 @@ public class SequentialTest {
 
         ksession.execute( CommandFactory.newInsertElements(Arrays.asList("test", new Message(), 3, 5)));
     }
+
+    @Test
+    public void testDirectEvaluator() throws Exception {
+        String str =
+                "package org.drools.mvel.compiler.test\n" +
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "import " + Cheese.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule R1 when\n" +
+                "    Person( $name : name, age > 30 )\n" +
+                "then\n" +
+                "    list.add( \"R1 \" + $name );\n" +
+                "end\n" +
+                "rule R2 salience 10 when\n" +
+                "    Person( $name : name, likes == \"stilton\" )\n" +
+                "then\n" +
+                "    list.add( \"R2 \" + $name );\n" +
+                "end\n" +
+                "rule R3 when\n" +
+                "    Cheese( $type : type, price < 10 )\n" +
+                "then\n" +
+                "    list.add( \"R3 \" + $type );\n" +
+                "end\n";
+
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("test", kieBaseTestConfiguration, str);
+        final KieBase kbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration,
+                                                                                        SequentialOption.YES, SequentialEvaluatorOption.DIRECT);
+        assertNotNull( ((InternalKnowledgeBase) kbase).getDirectSequentialEvaluator() );
+
+        StatelessKieSession ksession = kbase.newStatelessKieSession();
+        final List<String> list = new ArrayList<>();
+        ksession.setGlobal( "list", list );
+
+        ksession.execute( Arrays.asList( new Person( "Mario", "stilton", 40 ),
+                                         new Cheese( "brie", 5 ),
+                                         new Person( "Mark", "cheddar", 35 ),
+                                         new Person( "Edson", "stilton", 15 ) ) );
+
+        assertEquals( Arrays.asList( "R2 Mario", "R2 Edson", "R1 Mario", "R1 Mark", "R3 brie" ), list );
+
+        // the same order of the ordinary sequential evaluation
+        final KieBase networkKbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration, SequentialOption.YES);
+        assertNull( ((InternalKnowledgeBase) networkKbase).getDirectSequentialEvaluator() );
+        StatelessKieSession networkKsession = networkKbase.newStatelessKieSession();
+        final List<String> networkList = new ArrayList<>();
+        networkKsession.setGlobal( "list", networkList );
+        networkKsession.execute( Arrays.asList( new Person( "Mario", "stilton", 40 ),
+                                                new Cheese( "brie", 5 ),
+                                                new Person( "Mark", "cheddar", 35 ),
+                                                new Person( "Edson", "stilton", 15 ) ) );
+        assertEquals( list, networkList );
+    }
+
+    @Test
+    public void testDirectEvaluatorWithModify() throws Exception {
+        String str =
+                "package org.drools.mvel.compiler.test\n" +
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule R1 salience 10 when\n" +
+                "    $p : Person( $name : name, likes == \"stilton\" )\n" +
+                "then\n" +
+                "    list.add( \"R1 \" + $name );\n" +
+                "    modify( $p ) { setAge( 10 ) }\n" +
+                "end\n" +
+                "rule R2 when\n" +
+                "    Person( $name : name, age > 30 )\n" +
+                "then\n" +
+                "    list.add( \"R2 \" + $name );\n" +
+                "end\n" +
+                "rule R3 when\n" +
+                "    Person( $name : name, age < 20 )\n" +
+                "then\n" +
+                "    list.add( \"R3 \" + $name );\n" +
+                "end\n" +
+                "rule R4 when\n" +
+                "    Person( $name : name, likes == \"stilton\" )\n" +
+                "then\n" +
+                "    list.add( \"R4 \" + $name );\n" +
+                "end\n";
+
+        // Mario doesn't match R2 anymore after R1 modified him, and he isn't matched again by R1
+        assertDirectEvaluation( str, Arrays.asList( "R1 Mario", "R2 Mark", "R3 Mario", "R4 Mario" ),
+                                () -> Arrays.asList( new Person( "Mario", "stilton", 40 ), new Person( "Mark", "cheddar", 35 ) ) );
+    }
+
+    @Test
+    public void testDirectEvaluatorWithDelete() throws Exception {
+        String str =
+                "package org.drools.mvel.compiler.test\n" +
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule R1 salience 10 when\n" +
+                "    $p : Person( $name : name, likes == \"stilton\" )\n" +
+                "then\n" +
+                "    list.add( \"R1 \" + $name );\n" +
+                "    delete( $p );\n" +
+                "end\n" +
+                "rule R2 when\n" +
+                "    Person( $name : name, age > 30 )\n" +
+                "then\n" +
+                "    list.add( \"R2 \" + $name );\n" +
+                "end\n";
+
+        assertDirectEvaluation( str, Arrays.asList( "R1 Mario", "R2 Mark" ),
+                                () -> Arrays.asList( new Person( "Mario", "stilton", 40 ), new Person( "Mark", "cheddar", 35 ) ) );
+    }
+
+    @Test
+    public void testDirectEvaluatorWithInsert() throws Exception {
+        String str =
+                "package org.drools.mvel.compiler.test\n" +
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule R0 salience 20 when\n" +
+                "    Person( $name : name, age > 30 )\n" +
+                "then\n" +
+                "    list.add( \"R0 \" + $name );\n" +
+                "end\n" +
+                "rule R1 salience 10 when\n" +
+                "    Person( $name : name, likes == \"stilton\" )\n" +
+                "then\n" +
+                "    list.add( \"R1 \" + $name );\n" +
+                "    insert( new Person( \"Edson\", \"cheddar\", 50 ) );\n" +
+                "end\n" +
+                "rule R2 when\n" +
+                "    Person( $name : name, age > 30, age < 45 )\n" +
+                "then\n" +
+                "    list.add( \"R2 \" + $name );\n" +
+                "end\n" +
+                "rule R3 when\n" +
+                "    Person( $name : name, age > 45 )\n" +
+                "then\n" +
+                "    list.add( \"R3 \" + $name );\n" +
+                "end\n";
+
+        // Edson is inserted after R0 fired, so it isn't matched by R0 but only by R3
+        assertDirectEvaluation( str, Arrays.asList( "R0 Mario", "R0 Mark", "R1 Mario", "R2 Mario", "R2 Mark", "R3 Edson" ),
+                                () -> Arrays.asList( new Person( "Mario", "stilton", 40 ), new Person( "Mark", "cheddar", 35 ) ) );
+    }
+
+    private void assertDirectEvaluation(String drl, List<String> expected, Supplier<List<Object>> facts) {
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("test", kieBaseTestConfiguration, drl);
+        final KieBase kbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration,
+                                                                                        SequentialOption.YES, SequentialEvaluatorOption.DIRECT);
+        assertNotNull( ((InternalKnowledgeBase) kbase).getDirectSequentialEvaluator() );
+        StatelessKieSession ksession = kbase.newStatelessKieSession();
+        final List<String> list = new ArrayList<>();
+        ksession.setGlobal( "list", list );
+        ksession.execute( facts.get() );
+        assertEquals( expected, list );
+
+        // the same firings of the ordinary sequential evaluation
+        final KieBase networkKbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration, SequentialOption.YES);
+        StatelessKieSession networkKsession = networkKbase.newStatelessKieSession();
+        final List<String> networkList = new ArrayList<>();
+        networkKsession.setGlobal( "list", networkList );
+        networkKsession.execute( facts.get() );
+        assertEquals( expected, networkList );
+    }
+
+    @Test
+    public void testDirectEvaluatorFallback() throws Exception {
+        String str =
+                "package org.drools.mvel.compiler.test\n" +
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "import " + Cheese.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule R1 when\n" +
+                "    Person( $name : name, age > 30 )\n" +
+                "then\n" +
+                "    list.add( $name );\n" +
+                "end\n" +
+                "rule R2 when\n" +
+                "    Person( $name : name, $likes : likes )\n" +
+                "    Cheese( type == $likes )\n" +
+                "then\n" +
+                "    list.add( $likes );\n" +
+                "end\n";
+
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("test", kieBaseTestConfiguration, str);
+        final KieBase kbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration,
+                                                                                        SequentialOption.YES, SequentialEvaluatorOption.DIRECT);
+        // the join of R2 requires the full network
+        assertNull( ((InternalKnowledgeBase) kbase).getDirectSequentialEvaluator() );
+
+        StatelessKieSession ksession = kbase.newStatelessKieSession();
+        final List<String> list = new ArrayList<>();
+        ksession.setGlobal( "list", list );
+        ksession.execute( Arrays.asList( new Person( "Mario", "stilton", 40 ), new Cheese( "stilton", 10 ) ) );
+
+        assertEquals( 2, list.size() );
+        assertTrue( list.containsAll( Arrays.asList( "Mario", "stilton" ) ) );
+    }
 }
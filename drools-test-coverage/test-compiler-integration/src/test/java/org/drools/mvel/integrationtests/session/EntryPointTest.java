@@ -17,6 +17,7 @@
 package org.drools.mvel.integrationtests.session;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -28,7 +29,12 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.kie.api.KieBase;
 import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(Parameterized.class)
@@ -77,4 +83,53 @@ public class EntryPointTest {
         ksession.dispose();
         assertTrue(res.contains(10));
     }
+
+    @Test
+    public void testInsertAll() {
+        final String str = "package org.drools.mvel.compiler.test;\n" +
+                "\n" +
+                "global java.util.List list;\n" +
+                "\n" +
+                "rule \"Join\"\n" +
+                "when\n" +
+                "   $i : Integer( this > 1 )\n " +
+                "   $s : String( length == $i )\n " +
+                "then\n" +
+                "   list.add( $s );\n" +
+                "end\n" +
+                "\n" +
+                "rule \"FromEntryPoint\"\n" +
+                "when\n" +
+                "   $l : Long() from entry-point \"inX\"\n" +
+                "then\n" +
+                "   list.add( $l );\n" +
+                "end";
+
+        KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, str);
+        final KieSession ksession = kbase.newKieSession();
+
+        final List res = new ArrayList();
+        ksession.setGlobal("list", res);
+
+        final String ab = "ab";
+        final List<Object> facts = Arrays.asList(1, ab, "abc", 2, null, ab, 3, "d");
+        final List<FactHandle> handles = ksession.insertAll(facts);
+
+        assertEquals(facts.size(), handles.size());
+        assertNull(handles.get(4));
+        // the same object is inserted only once
+        assertSame(handles.get(1), handles.get(5));
+        for (int i = 0; i < facts.size(); i++) {
+            if (facts.get(i) != null) {
+                assertSame(facts.get(i), ksession.getObject(handles.get(i)));
+            }
+        }
+        assertEquals(6, ksession.getFactCount());
+
+        ksession.getEntryPoint("inX").insertAll(Arrays.asList(10L, 20L));
+
+        assertEquals(4, ksession.fireAllRules());
+        assertThat(res).containsExactlyInAnyOrder("ab", "abc", 10L, 20L);
+        ksession.dispose();
+    }
 }
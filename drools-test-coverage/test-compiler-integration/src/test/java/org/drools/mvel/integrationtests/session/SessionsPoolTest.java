@@ -30,6 +30,8 @@ import org.assertj.core.api.Assertions;
 import org.drools.core.common.EventSupport;
 import org.drools.core.event.DefaultAgendaEventListener;
 import org.drools.core.event.DefaultRuleRuntimeEventListener;
+import org.drools.core.util.ScalablePool;
+import org.drools.kiesession.session.AbstractKieSessionsPool;
 import org.drools.mvel.compiler.FactA;
 import org.drools.mvel.compiler.FactB;
 import org.drools.mvel.compiler.FactC;
@@ -53,6 +55,8 @@ import org.kie.api.runtime.KieSession;
 import org.kie.api.runtime.KieSessionsPool;
 import org.kie.api.runtime.StatelessKieSession;
 import org.kie.internal.command.CommandFactory;
+import org.kie.internal.conf.SessionsPoolStripesOption;
+import org.kie.internal.conf.SessionsPoolWarmUpOption;
 import org.kie.internal.event.rule.RuleEventListener;
 import org.kie.internal.event.rule.RuleEventManager;
 
@@ -182,6 +186,39 @@ public class SessionsPoolTest {
         } catch (IllegalStateException e) { }
     }
 
+    @Test
+    public void testPrewarmedStripedKieSessionsPool() {
+        System.setProperty( SessionsPoolWarmUpOption.PROPERTY_NAME, SessionsPoolWarmUpOption.SEGMENTS.getValue() );
+        System.setProperty( SessionsPoolStripesOption.PROPERTY_NAME, "4" );
+        try {
+            KieContainerSessionsPool pool = getKieContainer().newKieSessionsPool( 2 );
+
+            // the sessions are created together with the pool
+            ScalablePool.Metrics metrics = ( (AbstractKieSessionsPool) pool ).getMetrics();
+            assertTrue( metrics.getSize() >= 2 );
+            assertEquals( 0, metrics.getBorrows() );
+
+            for (int i = 0; i < 3; i++) {
+                KieSession ksession = pool.newKieSession();
+                try {
+                    checkKieSession( ksession );
+                } finally {
+                    ksession.dispose();
+                }
+            }
+
+            metrics = ( (AbstractKieSessionsPool) pool ).getMetrics();
+            assertEquals( 3, metrics.getBorrows() );
+            assertEquals( 0, metrics.getMisses() );
+            assertEquals( 3, metrics.getResets() );
+
+            pool.shutdown();
+        } finally {
+            System.clearProperty( SessionsPoolWarmUpOption.PROPERTY_NAME );
+            System.clearProperty( SessionsPoolStripesOption.PROPERTY_NAME );
+        }
+    }
+
     @Test
     public void testStatelessKieSessionsPool() {
         KieContainerSessionsPool pool = getKieContainer().newKieSessionsPool( 1 );
@@ -20,6 +20,10 @@ package org.kie.api.conf;
  * <p>
  * An enum to enable beta node range index option.
  * </p>
+ * <p>
+ * When enabled, join nodes are also range indexed on their comparison constraints, and the beta memories
+ * indexed on equality constraints also order the tuples of each bucket on a comparison constraint of the same node.
+ * </p>
  *
  * <pre>
  * drools.betaNodeRangeIndexEnabled = &lt;true|false&gt;
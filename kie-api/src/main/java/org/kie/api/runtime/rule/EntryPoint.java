@@ -16,7 +16,9 @@
 
 package org.kie.api.runtime.rule;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.kie.api.runtime.ObjectFilter;
 
@@ -61,6 +63,24 @@ public interface EntryPoint {
      */
     FactHandle insert(Object object);
 
+    /**
+     * Inserts all the given facts into this entry point. The implementations may take advantage of
+     * knowing all the facts upfront to reduce the overhead of inserting them one by one, so
+     * this is the preferred way of bulk loading a large number of facts.
+     *
+     * @param objects
+     *        the facts to be inserted
+     *
+     * @return the fact handles created for the given facts, in the same order
+     */
+    default List<FactHandle> insertAll(Collection<?> objects) {
+        List<FactHandle> handles = new ArrayList<>( objects.size() );
+        for ( Object object : objects ) {
+            handles.add( insert( object ) );
+        }
+        return handles;
+    }
+
     /**
      * Retracts the fact for which the given FactHandle was assigned.
      *
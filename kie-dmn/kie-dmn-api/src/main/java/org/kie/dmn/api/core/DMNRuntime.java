@@ -17,6 +17,7 @@
 package org.kie.dmn.api.core;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.kie.dmn.api.core.event.DMNRuntimeEventManager;
 import org.kie.dmn.model.api.GwtIncompatible;
@@ -65,6 +66,19 @@ public interface DMNRuntime extends DMNRuntimeEventManager {
      */
     DMNResult evaluateAll( DMNModel model, DMNContext context );
 
+    /**
+     * Evaluate all decisions for the model, given each of the contexts
+     *
+     * @param model the model to evaluate
+     * @param contexts the contexts with all the input variables, one for each evaluation
+     *
+     * @return the results of the evaluations, in the order of the contexts.
+     *         The contexts are evaluated as the results are consumed.
+     */
+    default Stream<DMNResult> evaluateAll( DMNModel model, Stream<DMNContext> contexts ) {
+        return contexts.map( context -> evaluateAll( model, context ) );
+    }
+
     /**
      * Evaluate the decision identified by the given name and
      * all dependent decisions, given the context
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.compiler;
+
+import java.util.concurrent.Executor;
+
+import org.kie.dmn.core.assembler.DMNAssemblerService;
+
+/**
+ * Evaluates the decisions of a model not depending on each other concurrently, on the given executor.
+ * The events are still notified to the listeners of the runtime by the thread invoking the evaluation, in the
+ * same order of the sequential evaluation. Without an executor the decisions are evaluated one at a time.
+ */
+public class ParallelEvaluationOption implements DMNOption {
+
+    private static final long serialVersionUID = 510l;
+
+    public static final String PROPERTY_NAME = DMNAssemblerService.ORG_KIE_DMN_PREFIX + ".runtime.parallel";
+
+    private final transient Executor executor;
+
+    public ParallelEvaluationOption(Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNResult;
+
+/**
+ * The results of the evaluation of a batch of contexts, evaluated on an executor.
+ *
+ * Each context taken from the source is evaluated by a task submitted to the executor, and at most window tasks
+ * are pending at any time: the next contexts are taken from the source only when the results are consumed, so
+ * that neither the contexts nor the results of a batch larger than the memory are ever all held together.
+ * The results are returned in the order of the contexts. The evaluation of a context returns the completion of
+ * its result, which is run by the thread consuming it: it allows to notify the listeners from that thread, one
+ * context after the other, even if the contexts were evaluated concurrently.
+ */
+class DMNBatchEvaluation implements Spliterator<DMNResult> {
+
+    private final Spliterator<DMNContext> contexts;
+    private final Function<DMNContext, Supplier<DMNResult>> evaluation;
+    private final Executor executor;
+    private final int window;
+
+    private final Deque<FutureTask<Supplier<DMNResult>>> pending = new ArrayDeque<>();
+    private boolean exhausted;
+
+    DMNBatchEvaluation(Spliterator<DMNContext> contexts, Function<DMNContext, Supplier<DMNResult>> evaluation, Executor executor, int window) {
+        this.contexts = contexts;
+        this.evaluation = evaluation;
+        this.executor = executor;
+        this.window = Math.max( 1, window );
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super DMNResult> action) {
+        while ( !exhausted && pending.size() < window ) {
+            exhausted = !contexts.tryAdvance( this::submit );
+        }
+        FutureTask<Supplier<DMNResult>> next = pending.poll();
+        if ( next == null ) {
+            return false;
+        }
+        // runs the task if no thread of the executor has started it yet
+        next.run();
+        action.accept( getResult( next ).get() );
+        return true;
+    }
+
+    private void submit(DMNContext context) {
+        FutureTask<Supplier<DMNResult>> task = new FutureTask<>( () -> evaluation.apply( context ) );
+        pending.add( task );
+        try {
+            executor.execute( task );
+        } catch ( RejectedExecutionException e ) {
+            // the task is run by the consuming thread
+        }
+    }
+
+    private static Supplier<DMNResult> getResult(FutureTask<Supplier<DMNResult>> task) {
+        try {
+            return task.get();
+        } catch ( ExecutionException e ) {
+            Throwable cause = e.getCause();
+            if ( cause instanceof RuntimeException ) {
+                throw (RuntimeException) cause;
+            }
+            if ( cause instanceof Error ) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException( cause );
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException( e );
+        }
+    }
+
+    /**
+     * Cancels the evaluations not yet consumed, when the stream of the results is closed
+     */
+    void cancel() {
+        exhausted = true;
+        for ( FutureTask<Supplier<DMNResult>> task : pending ) {
+            task.cancel( false );
+        }
+        pending.clear();
+    }
+
+    @Override
+    public Spliterator<DMNResult> trySplit() {
+        // the contexts are already evaluated concurrently
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = contexts.estimateSize();
+        return size == Long.MAX_VALUE ? size : size + pending.size();
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | ( contexts.characteristics() & ( SIZED | SUBSIZED ) );
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.kie.dmn.api.core.ast.BusinessKnowledgeModelNode;
+import org.kie.dmn.api.core.ast.DMNNode;
+import org.kie.dmn.api.core.ast.DecisionNode;
+import org.kie.dmn.api.core.event.AfterEvaluateAllEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateBKMEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateContextEntryEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateDecisionEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateDecisionServiceEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateDecisionTableEvent;
+import org.kie.dmn.api.core.event.AfterInvokeBKMEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateAllEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateBKMEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateContextEntryEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateDecisionEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateDecisionServiceEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateDecisionTableEvent;
+import org.kie.dmn.api.core.event.BeforeInvokeBKMEvent;
+import org.kie.dmn.api.core.event.DMNRuntimeEventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A listener recording the events notified while a decision, or a whole context of a batch, is evaluated by
+ * another thread, so that they can be replayed later to the actual listeners by the thread that invoked the evaluation.
+ *
+ * The recorder of a decision also keeps the position of the decisions and business knowledge models it requires,
+ * where a sequential evaluation would have notified their events: they are recorded apart, and replayed nested
+ * in the same order by the first recorder requiring them.
+ */
+class DMNRuntimeEventRecorder implements DMNRuntimeEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger( DMNRuntimeEventRecorder.class );
+
+    private final DMNNode node;
+
+    // the recorders of all the nodes of the same evaluation
+    private final Map<DMNNode, DMNRuntimeEventRecorder> recorders;
+
+    private final List<Consumer<DMNRuntimeEventListener>> events = new ArrayList<>();
+
+    /**
+     * Creates a recorder of all the events of a sequential evaluation, including the ones of the nodes it requires
+     */
+    DMNRuntimeEventRecorder() {
+        this( null, new HashMap<>() );
+    }
+
+    DMNRuntimeEventRecorder(DMNNode node, Map<DMNNode, DMNRuntimeEventRecorder> recorders) {
+        this.node = node;
+        this.recorders = recorders;
+        recorders.put( node, this );
+    }
+
+    /**
+     * Records the position of the events of a node required by the given decision, if it is the recorded one.
+     * Returns the recorder of the required node, or this recorder for the evaluations nested in the recorded one.
+     */
+    DMNRuntimeEventRecorder requirement(DMNNode decision, DMNNode requirement) {
+        if ( decision != node || !( requirement instanceof DecisionNode || requirement instanceof BusinessKnowledgeModelNode ) ) {
+            return this;
+        }
+        events.add( new Requirement( requirement ) );
+        DMNRuntimeEventRecorder recorder = recorders.get( requirement );
+        return recorder != null ? recorder : new DMNRuntimeEventRecorder( requirement, recorders );
+    }
+
+    /**
+     * Replays the recorded events to the given listeners, together with the ones of the required nodes not
+     * replayed yet
+     */
+    void replay(Collection<DMNRuntimeEventListener> listeners) {
+        recorders.remove( node );
+        for ( Consumer<DMNRuntimeEventListener> event : events ) {
+            if ( event instanceof Requirement ) {
+                DMNRuntimeEventRecorder recorder = recorders.get( ( (Requirement) event ).node );
+                if ( recorder != null ) {
+                    recorder.replay( listeners );
+                }
+                continue;
+            }
+            for ( DMNRuntimeEventListener listener : listeners ) {
+                try {
+                    event.accept( listener );
+                } catch ( Throwable t ) {
+                    logger.error( "Error notifying listener '" + listener + "'", t );
+                }
+            }
+        }
+        events.clear();
+    }
+
+    @Override
+    public void beforeEvaluateDecision(BeforeEvaluateDecisionEvent event) {
+        events.add( l -> l.beforeEvaluateDecision( event ) );
+    }
+
+    @Override
+    public void afterEvaluateDecision(AfterEvaluateDecisionEvent event) {
+        events.add( l -> l.afterEvaluateDecision( event ) );
+    }
+
+    @Override
+    public void beforeEvaluateBKM(BeforeEvaluateBKMEvent event) {
+        events.add( l -> l.beforeEvaluateBKM( event ) );
+    }
+
+    @Override
+    public void afterEvaluateBKM(AfterEvaluateBKMEvent event) {
+        events.add( l -> l.afterEvaluateBKM( event ) );
+    }
+
+    @Override
+    public void beforeEvaluateContextEntry(BeforeEvaluateContextEntryEvent event) {
+        events.add( l -> l.beforeEvaluateContextEntry( event ) );
+    }
+
+    @Override
+    public void afterEvaluateContextEntry(AfterEvaluateContextEntryEvent event) {
+        events.add( l -> l.afterEvaluateContextEntry( event ) );
+    }
+
+    @Override
+    public void beforeEvaluateDecisionTable(BeforeEvaluateDecisionTableEvent event) {
+        events.add( l -> l.beforeEvaluateDecisionTable( event ) );
+    }
+
+    @Override
+    public void afterEvaluateDecisionTable(AfterEvaluateDecisionTableEvent event) {
+        events.add( l -> l.afterEvaluateDecisionTable( event ) );
+    }
+
+    @Override
+    public void beforeEvaluateDecisionService(BeforeEvaluateDecisionServiceEvent event) {
+        events.add( l -> l.beforeEvaluateDecisionService( event ) );
+    }
+
+    @Override
+    public void afterEvaluateDecisionService(AfterEvaluateDecisionServiceEvent event) {
+        events.add( l -> l.afterEvaluateDecisionService( event ) );
+    }
+
+    @Override
+    public void beforeInvokeBKM(BeforeInvokeBKMEvent event) {
+        events.add( l -> l.beforeInvokeBKM( event ) );
+    }
+
+    @Override
+    public void afterInvokeBKM(AfterInvokeBKMEvent event) {
+        events.add( l -> l.afterInvokeBKM( event ) );
+    }
+
+    @Override
+    public void beforeEvaluateAll(BeforeEvaluateAllEvent event) {
+        events.add( l -> l.beforeEvaluateAll( event ) );
+    }
+
+    @Override
+    public void afterEvaluateAll(AfterEvaluateAllEvent event) {
+        events.add( l -> l.afterEvaluateAll( event ) );
+    }
+
+    private static class Requirement implements Consumer<DMNRuntimeEventListener> {
+
+        private final DMNNode node;
+
+        private Requirement(DMNNode node) {
+            this.node = node;
+        }
+
+        @Override
+        public void accept(DMNRuntimeEventListener listener) {
+            // replaced by the events of the required node
+        }
+    }
+}
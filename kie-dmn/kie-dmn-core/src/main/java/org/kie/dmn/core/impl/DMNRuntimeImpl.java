@@ -16,14 +16,28 @@
 
 package org.kie.dmn.core.impl;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.xml.namespace.QName;
 
@@ -54,6 +68,7 @@ import org.kie.dmn.core.ast.DecisionServiceNodeImpl;
 import org.kie.dmn.core.ast.InputDataNodeImpl;
 import org.kie.dmn.core.compiler.DMNOption;
 import org.kie.dmn.core.compiler.DMNProfile;
+import org.kie.dmn.core.compiler.ParallelEvaluationOption;
 import org.kie.dmn.core.compiler.RuntimeTypeCheckOption;
 import org.kie.dmn.core.util.Msg;
 import org.kie.dmn.core.util.MsgUtil;
@@ -74,6 +89,18 @@ public class DMNRuntimeImpl
 
     private boolean overrideRuntimeTypeCheck = false;
 
+    /**
+     * The maximum number of contexts of a batch evaluated ahead of the consumer of the results
+     */
+    private static final int BATCH_WINDOW = Runtime.getRuntime().availableProcessors() * 2;
+
+    private Executor decisionExecutor;
+
+    /**
+     * The recorder of the events of the decision being evaluated by the current thread on behalf of another one
+     */
+    private final ThreadLocal<DMNRuntimeEventRecorder> eventRecorder = new ThreadLocal<>();
+
     private DMNResultImplFactory dmnResultFactory = new DMNResultImplFactory();
 
     public DMNRuntimeImpl(DMNRuntimeKB runtimeKB) {
@@ -107,18 +134,79 @@ public class DMNRuntimeImpl
     public DMNResult evaluateAll(DMNModel model, DMNContext context) {
         Objects.requireNonNull(model, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "model"));
         Objects.requireNonNull(context, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "context"));
+        return evaluateAll(model, context, getLocalDecisions(model), performRuntimeTypeCheck(model), isParallelEvaluation());
+    }
+
+    /**
+     * Evaluates all the decisions of the model for each of the contexts. When a ParallelEvaluationOption is set
+     * the contexts are evaluated on its executor, a bounded number of them ahead of the consumer of the results;
+     * otherwise they are evaluated one at a time as the results are consumed. In both cases the listeners are
+     * notified of the events of a context by the thread consuming its result, just before it is returned.
+     */
+    @Override
+    public Stream<DMNResult> evaluateAll(DMNModel model, Stream<DMNContext> contexts) {
+        Objects.requireNonNull(model, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "model"));
+        Objects.requireNonNull(contexts, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "contexts"));
+        // the decisions and the options are resolved once for the whole batch
+        List<DecisionNode> decisions = getLocalDecisions(model);
         boolean performRuntimeTypeCheck = performRuntimeTypeCheck(model);
-        DMNResultImpl result = createResult( model, context );
-        DMNRuntimeEventManagerUtils.fireBeforeEvaluateAll( eventManager, model, result );
-        // the engine should evaluate all Decisions belonging to the "local" model namespace, not imported decision explicitly.
-        Set<DecisionNode> decisions = model.getDecisions().stream().filter(d -> d.getModelNamespace().equals(model.getNamespace())).collect(Collectors.toSet());
-        for( DecisionNode decision : decisions ) {
-            evaluateDecision(context, result, decision, performRuntimeTypeCheck);
+        Function<DMNContext, DMNResult> evaluation = context -> {
+            Objects.requireNonNull(context, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "context"));
+            return evaluateAll(model, context, decisions, performRuntimeTypeCheck, false);
+        };
+        if (!isParallelEvaluation()) {
+            return contexts.map(evaluation);
+        }
+        DMNBatchEvaluation batch = new DMNBatchEvaluation(contexts.spliterator(), context -> evaluateRecorded(evaluation, context), decisionExecutor, BATCH_WINDOW);
+        return StreamSupport.stream(batch, false).onClose(batch::cancel).onClose(contexts::close);
+    }
+
+    /**
+     * Evaluates the given context recording its events, and returns the completion of its result, replaying them
+     * to the listeners on the thread invoking it
+     */
+    private Supplier<DMNResult> evaluateRecorded(Function<DMNContext, DMNResult> evaluation, DMNContext context) {
+        DMNRuntimeEventRecorder recorder = new DMNRuntimeEventRecorder();
+        DMNRuntimeEventRecorder previous = eventRecorder.get();
+        eventRecorder.set(recorder);
+        DMNResult result;
+        try {
+            result = evaluation.apply(context);
+        } catch (RuntimeException e) {
+            return () -> {
+                recorder.replay(getListeners());
+                throw e;
+            };
+        } finally {
+            if (previous != null) {
+                eventRecorder.set(previous);
+            } else {
+                eventRecorder.remove();
+            }
         }
-        DMNRuntimeEventManagerUtils.fireAfterEvaluateAll( eventManager, model, result );
+        return () -> {
+            recorder.replay(getListeners());
+            return result;
+        };
+    }
+
+    private DMNResult evaluateAll(DMNModel model, DMNContext context, List<DecisionNode> decisions, boolean performRuntimeTypeCheck, boolean parallel) {
+        DMNResultImpl result = createResult( model, context, decisions );
+        DMNRuntimeEventManagerUtils.fireBeforeEvaluateAll( this, model, result );
+        if (!parallel || !evaluateDecisionsInParallel(context, result, decisions, performRuntimeTypeCheck)) {
+            for( DecisionNode decision : decisions ) {
+                evaluateDecision(context, result, decision, performRuntimeTypeCheck);
+            }
+        }
+        DMNRuntimeEventManagerUtils.fireAfterEvaluateAll( this, model, result );
         return result;
     }
 
+    private static List<DecisionNode> getLocalDecisions(DMNModel model) {
+        // the engine should evaluate all Decisions belonging to the "local" model namespace, not imported decision explicitly.
+        return model.getDecisions().stream().filter(d -> d.getModelNamespace().equals(model.getNamespace())).collect(Collectors.toList());
+    }
+
     @Override
     @Deprecated
     public DMNResult evaluateDecisionByName(DMNModel model, String decisionName, DMNContext context) {
@@ -146,8 +234,10 @@ public class DMNRuntimeImpl
             throw new IllegalArgumentException(MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_EMPTY, "decisionNames"));
         }
         final DMNResultImpl result = createResult( model, context );
-        for (String name : decisionNames) {
-            evaluateByNameInternal( model, context, result, name );
+        if (!isParallelEvaluation() || !evaluateDecisionsInParallel(context, result, findDecisions(decisionNames, model::getDecisionByName), performRuntimeTypeCheck(model))) {
+            for (String name : decisionNames) {
+                evaluateByNameInternal( model, context, result, name );
+            }
         }
         return result;
     }
@@ -191,8 +281,10 @@ public class DMNRuntimeImpl
             throw new IllegalArgumentException(MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_EMPTY, "decisionIds"));
         }
         final DMNResultImpl result = createResult( model, context );
-        for ( String id : decisionIds ) {
-            evaluateByIdInternal( model, context, result, id );
+        if (!isParallelEvaluation() || !evaluateDecisionsInParallel(context, result, findDecisions(decisionIds, model::getDecisionById), performRuntimeTypeCheck(model))) {
+            for ( String id : decisionIds ) {
+                evaluateByIdInternal( model, context, result, id );
+            }
         }
         return result;
     }
@@ -235,13 +327,18 @@ public class DMNRuntimeImpl
 
     @Override
     public Set<DMNRuntimeEventListener> getListeners() {
-        return this.eventManager.getListeners();
+        DMNRuntimeEventRecorder recorder = eventRecorder.get();
+        return recorder != null ? Collections.singleton( recorder ) : this.eventManager.getListeners();
     }
 
     private DMNResultImpl createResult(DMNModel model, DMNContext context) {
+        return createResult(model, context, getLocalDecisions(model));
+    }
+
+    private DMNResultImpl createResult(DMNModel model, DMNContext context, List<DecisionNode> decisions) {
         DMNResultImpl result = createResultImpl(model, context);
 
-        for (DecisionNode decision : model.getDecisions().stream().filter(d -> d.getModelNamespace().equals(model.getNamespace())).collect(Collectors.toSet())) {
+        for (DecisionNode decision : decisions) {
             result.addDecisionResult(new DMNDecisionResultImpl(decision.getId(), decision.getName()));
         }
         return result;
@@ -380,7 +477,7 @@ public class DMNRuntimeImpl
             return;
         }
         try {
-            DMNRuntimeEventManagerUtils.fireBeforeEvaluateBKM( eventManager, bkm, result );
+            DMNRuntimeEventManagerUtils.fireBeforeEvaluateBKM( this, bkm, result );
             for( DMNNode dep : bkm.getDependencies().values() ) {
                 if (typeCheck && !checkDependencyValueIsValid(dep, result)) {
                     MsgUtil.reportMessage( logger,
@@ -443,7 +540,7 @@ public class DMNRuntimeImpl
                                    getIdentifier( bkm ),
                                    t.getMessage() );
         } finally {
-            DMNRuntimeEventManagerUtils.fireAfterEvaluateBKM( eventManager, bkm, result );
+            DMNRuntimeEventManagerUtils.fireAfterEvaluateBKM( this, bkm, result );
         }
     }
 
@@ -569,71 +666,78 @@ public class DMNRuntimeImpl
         }
         BeforeEvaluateDecisionEvent beforeEvaluateDecisionEvent = null;
         try {
-            beforeEvaluateDecisionEvent = DMNRuntimeEventManagerUtils.fireBeforeEvaluateDecision(eventManager, decision, result);
-            boolean missingInput = false;
-            DMNDecisionResultImpl dr = (DMNDecisionResultImpl) result.getDecisionResultById(decisionId);
-            if (dr == null) { // an imported Decision now evaluated, requires the creation of the decision result:
-                String decisionResultName = d.getName();
-                Optional<String> importAliasFor = ((DMNModelImpl) result.getModel()).getImportAliasFor(d.getModelNamespace(), d.getModelName());
-                if (importAliasFor.isPresent()) {
-                    decisionResultName = importAliasFor.get() + "." + d.getName();
-                }
-                dr = new DMNDecisionResultImpl(decisionId, decisionResultName);
-                if (importAliasFor.isPresent()) { // otherwise is a transitive, skipped and not to be added to the results:
-                    result.addDecisionResult(dr);
-                }
+            beforeEvaluateDecisionEvent = DMNRuntimeEventManagerUtils.fireBeforeEvaluateDecision(this, decision, result);
+            DMNDecisionResultImpl dr = prepareDecision(context, result, decision, decisionId, typeCheck);
+            if( dr == null ) {
+                return false;
             }
-            dr.setEvaluationStatus(DMNDecisionResult.DecisionEvaluationStatus.EVALUATING);
-            for( DMNNode dep : decision.getDependencies().values() ) {
-                try {
-                    if (typeCheck && !checkDependencyValueIsValid(dep, result)) {
-                        missingInput = true;
-                        DMNMessage message = MsgUtil.reportMessage( logger,
-                                DMNMessage.Severity.ERROR,
-                                ((DMNBaseNode) dep).getSource(),
-                                result,
-                                null,
-                                null,
-                                Msg.ERROR_EVAL_NODE_DEP_WRONG_TYPE,
-                                getIdentifier( decision ),
-                                getDependencyIdentifier(decision, dep),
-                                MsgUtil.clipString(Objects.toString(result.getContext().get(dep.getName())), 50),
-                                ((DMNBaseNode) dep).getType()
-                                );
-                        reportFailure( dr, message, DMNDecisionResult.DecisionEvaluationStatus.SKIPPED );
-                    }
-                } catch ( Exception e ) {
-                    MsgUtil.reportMessage( logger,
-                                           DMNMessage.Severity.ERROR,
-                                           ((DMNBaseNode)dep).getSource(),
-                                           result,
-                                           e,
-                                           null,
-                                           Msg.ERROR_CHECKING_ALLOWED_VALUES,
-                                           getDependencyIdentifier(decision, dep),
-                                           e.getMessage() );
+            try {
+                EvaluatorResult er = decision.getEvaluator().evaluate( this, result );
+                return setDecisionResult( result, decision, dr, er, typeCheck );
+            } catch( Throwable t ) {
+                reportDecisionError( result, decision, dr, t );
+            }
+            return true;
+        } finally {
+            DMNRuntimeEventManagerUtils.fireAfterEvaluateDecision( this, decision, result, beforeEvaluateDecisionEvent);
+        }
+    }
+
+    /**
+     * Evaluates the dependencies of the decision, returning the result of the decision to be filled with the
+     * outcome of its evaluator, or null when the decision can't be evaluated
+     */
+    private DMNDecisionResultImpl prepareDecision(DMNContext context, DMNResultImpl result, DecisionNodeImpl decision, String decisionId, boolean typeCheck) {
+        boolean missingInput = false;
+        DMNDecisionResultImpl dr = (DMNDecisionResultImpl) result.getDecisionResultById(decisionId);
+        if (dr == null) { // an imported Decision now evaluated, requires the creation of the decision result:
+            String decisionResultName = decision.getName();
+            Optional<String> importAliasFor = ((DMNModelImpl) result.getModel()).getImportAliasFor(decision.getModelNamespace(), decision.getModelName());
+            if (importAliasFor.isPresent()) {
+                decisionResultName = importAliasFor.get() + "." + decision.getName();
+            }
+            dr = new DMNDecisionResultImpl(decisionId, decisionResultName);
+            if (importAliasFor.isPresent()) { // otherwise is a transitive, skipped and not to be added to the results:
+                result.addDecisionResult(dr);
+            }
+        }
+        dr.setEvaluationStatus(DMNDecisionResult.DecisionEvaluationStatus.EVALUATING);
+        for( DMNNode dep : decision.getDependencies().values() ) {
+            try {
+                if (typeCheck && !checkDependencyValueIsValid(dep, result)) {
+                    missingInput = true;
+                    DMNMessage message = MsgUtil.reportMessage( logger,
+                            DMNMessage.Severity.ERROR,
+                            ((DMNBaseNode) dep).getSource(),
+                            result,
+                            null,
+                            null,
+                            Msg.ERROR_EVAL_NODE_DEP_WRONG_TYPE,
+                            getIdentifier( decision ),
+                            getDependencyIdentifier(decision, dep),
+                            MsgUtil.clipString(Objects.toString(result.getContext().get(dep.getName())), 50),
+                            ((DMNBaseNode) dep).getType()
+                            );
+                    reportFailure( dr, message, DMNDecisionResult.DecisionEvaluationStatus.SKIPPED );
                 }
-                if (!isNodeValueDefined(result, decision, dep)) {
-                    boolean walkingIntoScope = walkIntoImportScope(result, decision, dep);
-                    if( dep instanceof DecisionNode ) {
-                        if (!evaluateDecision(context, result, (DecisionNode) dep, typeCheck)) {
-                            missingInput = true;
-                            DMNMessage message = MsgUtil.reportMessage( logger,
-                                                                        DMNMessage.Severity.ERROR,
-                                                                        decision.getSource(),
-                                                                        result,
-                                                                        null,
-                                                                        null,
-                                                                        Msg.UNABLE_TO_EVALUATE_DECISION_REQ_DEP,
-                                                                        getIdentifier( decision ),
-                                                                        getDependencyIdentifier(decision, dep) );
-                            reportFailure( dr, message, DMNDecisionResult.DecisionEvaluationStatus.SKIPPED );
-                        }
-                    } else if( dep instanceof BusinessKnowledgeModelNode ) {
-                        evaluateBKM(context, result, (BusinessKnowledgeModelNode) dep, typeCheck);
-                    } else if (dep instanceof DecisionServiceNode) {
-                        evaluateDecisionService(context, result, (DecisionServiceNode) dep, typeCheck);
-                    } else {
+            } catch ( Exception e ) {
+                MsgUtil.reportMessage( logger,
+                                       DMNMessage.Severity.ERROR,
+                                       ((DMNBaseNode)dep).getSource(),
+                                       result,
+                                       e,
+                                       null,
+                                       Msg.ERROR_CHECKING_ALLOWED_VALUES,
+                                       getDependencyIdentifier(decision, dep),
+                                       e.getMessage() );
+            }
+            DMNRuntimeEventRecorder recorder = eventRecorder.get();
+            // in a parallel evaluation the events of the requirements are replayed where they would have been notified
+            DMNRuntimeEventRecorder requirementRecorder = recorder != null ? recorder.requirement(decision, dep) : null;
+            if (!isNodeValueDefined(result, decision, dep)) {
+                boolean walkingIntoScope = walkIntoImportScope(result, decision, dep);
+                if( dep instanceof DecisionNode ) {
+                    if (!evaluateDecision(context, result, (DecisionNode) dep, typeCheck)) {
                         missingInput = true;
                         DMNMessage message = MsgUtil.reportMessage( logger,
                                                                     DMNMessage.Severity.ERROR,
@@ -641,95 +745,350 @@ public class DMNRuntimeImpl
                                                                     result,
                                                                     null,
                                                                     null,
-                                                                    Msg.REQ_DEP_NOT_FOUND_FOR_NODE,
-                                                                    getDependencyIdentifier(decision, dep),
-                                                                    getIdentifier( decision )
-                                                                    );
+                                                                    Msg.UNABLE_TO_EVALUATE_DECISION_REQ_DEP,
+                                                                    getIdentifier( decision ),
+                                                                    getDependencyIdentifier(decision, dep) );
                         reportFailure( dr, message, DMNDecisionResult.DecisionEvaluationStatus.SKIPPED );
                     }
-                    if (walkingIntoScope) {
-                        result.getContext().popScope();
+                } else if( dep instanceof BusinessKnowledgeModelNode ) {
+                    if (requirementRecorder != null) {
+                        eventRecorder.set(requirementRecorder);
+                    }
+                    try {
+                        evaluateBKM(context, result, (BusinessKnowledgeModelNode) dep, typeCheck);
+                    } finally {
+                        if (recorder != null) {
+                            eventRecorder.set(recorder);
+                        }
                     }
+                } else if (dep instanceof DecisionServiceNode) {
+                    evaluateDecisionService(context, result, (DecisionServiceNode) dep, typeCheck);
+                } else {
+                    missingInput = true;
+                    DMNMessage message = MsgUtil.reportMessage( logger,
+                                                                DMNMessage.Severity.ERROR,
+                                                                decision.getSource(),
+                                                                result,
+                                                                null,
+                                                                null,
+                                                                Msg.REQ_DEP_NOT_FOUND_FOR_NODE,
+                                                                getDependencyIdentifier(decision, dep),
+                                                                getIdentifier( decision )
+                                                                );
+                    reportFailure( dr, message, DMNDecisionResult.DecisionEvaluationStatus.SKIPPED );
+                }
+                if (walkingIntoScope) {
+                    result.getContext().popScope();
                 }
             }
-            if( missingInput ) {
+        }
+        if( missingInput ) {
+            return null;
+        }
+        if( decision.getEvaluator() == null ) {
+            DMNMessage message = MsgUtil.reportMessage( logger,
+                                                        DMNMessage.Severity.WARN,
+                                                        decision.getSource(),
+                                                        result,
+                                                        null,
+                                                        null,
+                                                        Msg.MISSING_EXPRESSION_FOR_DECISION,
+                                                        getIdentifier( decision ) );
+
+            reportFailure( dr, message, DMNDecisionResult.DecisionEvaluationStatus.SKIPPED );
+            return null;
+        }
+        return dr;
+    }
+
+    private boolean setDecisionResult(DMNResultImpl result, DecisionNodeImpl decision, DMNDecisionResultImpl dr, EvaluatorResult er, boolean typeCheck) {
+        if( er.getResultType() == EvaluatorResult.ResultType.SUCCESS ) {
+            Object value = er.getResult();
+            if( ! decision.getResultType().isCollection() && value instanceof Collection &&
+                ((Collection)value).size()==1 ) {
+                // spec defines that "a=[a]", i.e., singleton collections should be treated as the single element
+                // and vice-versa
+                value = ((Collection)value).toArray()[0];
+            }
+
+            try {
+                if (typeCheck && !decision.getResultType().isAssignableValue(value)) {
+                    DMNMessage message = MsgUtil.reportMessage( logger,
+                            DMNMessage.Severity.ERROR,
+                            decision.getSource(),
+                            result,
+                            null,
+                            null,
+                            Msg.ERROR_EVAL_NODE_RESULT_WRONG_TYPE,
+                            getIdentifier( decision ),
+                            decision.getResultType(),
+                            value);
+                    reportFailure( dr, message, DMNDecisionResult.DecisionEvaluationStatus.FAILED );
+                    return false;
+                }
+            } catch ( Exception e ) {
+                MsgUtil.reportMessage( logger,
+                                       DMNMessage.Severity.ERROR,
+                                       decision.getSource(),
+                                       result,
+                                       e,
+                                       null,
+                                       Msg.ERROR_CHECKING_ALLOWED_VALUES,
+                                       getIdentifier( decision ),
+                                       e.getMessage() );
                 return false;
             }
-            if( decision.getEvaluator() == null ) {
-                DMNMessage message = MsgUtil.reportMessage( logger,
-                                                            DMNMessage.Severity.WARN,
-                                                            decision.getSource(),
-                                                            result,
-                                                            null,
-                                                            null,
-                                                            Msg.MISSING_EXPRESSION_FOR_DECISION,
-                                                            getIdentifier( decision ) );
-
-                reportFailure( dr, message, DMNDecisionResult.DecisionEvaluationStatus.SKIPPED );
+
+            result.getContext().set(decision.getDecision().getVariable().getName(), value);
+            dr.setResult( value );
+            dr.setEvaluationStatus( DMNDecisionResult.DecisionEvaluationStatus.SUCCEEDED );
+        } else {
+            dr.setEvaluationStatus( DMNDecisionResult.DecisionEvaluationStatus.FAILED );
+            return false;
+        }
+        return true;
+    }
+
+    private void reportDecisionError(DMNResultImpl result, DecisionNodeImpl decision, DMNDecisionResultImpl dr, Throwable t) {
+        DMNMessage message = MsgUtil.reportMessage( logger,
+                                                    DMNMessage.Severity.ERROR,
+                                                    decision.getSource(),
+                                                    result,
+                                                    t,
+                                                    null,
+                                                    Msg.ERROR_EVAL_DECISION_NODE,
+                                                    getIdentifier( decision ),
+                                                    t.getMessage() );
+
+        reportFailure( dr, message, DMNDecisionResult.DecisionEvaluationStatus.FAILED );
+    }
+
+    private boolean isParallelEvaluation() {
+        // a decision evaluated on behalf of another thread evaluates the models it invokes sequentially
+        return decisionExecutor != null && eventRecorder.get() == null;
+    }
+
+    private static List<DecisionNode> findDecisions(String[] keys, Function<String, DecisionNode> finder) {
+        List<DecisionNode> decisions = new ArrayList<>(keys.length);
+        for (String key : keys) {
+            DecisionNode decision = finder.apply(key);
+            if (decision == null) {
+                // the missing decision is reported by the sequential evaluation
+                return null;
+            }
+            decisions.add(decision);
+        }
+        return decisions;
+    }
+
+    /**
+     * Evaluates the given decisions and their requirements, running the evaluators of the decisions not depending
+     * on each other concurrently on the decision executor. Returns false, without evaluating anything, when the
+     * decisions require the evaluation of imported ones, which is left to the sequential evaluation.
+     */
+    private boolean evaluateDecisionsInParallel(DMNContext context, DMNResultImpl result, List<DecisionNode> decisions, boolean typeCheck) {
+        if (decisions == null) {
+            return false;
+        }
+        ParallelDecisionEvaluation evaluation = new ParallelDecisionEvaluation(context, result, typeCheck);
+        for (DecisionNode decision : decisions) {
+            if (!evaluation.request((DecisionNodeImpl) decision)) {
                 return false;
             }
-            try {
-                EvaluatorResult er = decision.getEvaluator().evaluate( this, result );
-                if( er.getResultType() == EvaluatorResult.ResultType.SUCCESS ) {
-                    Object value = er.getResult();
-                    if( ! decision.getResultType().isCollection() && value instanceof Collection &&
-                        ((Collection)value).size()==1 ) {
-                        // spec defines that "a=[a]", i.e., singleton collections should be treated as the single element
-                        // and vice-versa
-                        value = ((Collection)value).toArray()[0];
+        }
+        evaluation.run();
+        return true;
+    }
+
+    /**
+     * The evaluation of a graph of decisions, where a decision is scheduled as soon as all the decisions it
+     * requires are completed.
+     *
+     * The dependencies of a decision are checked and its before event is fired by the invoking thread, then its
+     * evaluator runs on the decision executor against a copy of the result, so that it doesn't see the values set
+     * meanwhile by the other decisions. The decisions are completed by the invoking thread in the order they were
+     * scheduled, setting their outcome in the result.
+     *
+     * All the events of a decision are recorded, and they are replayed to the listeners by the invoking thread once
+     * all the decisions are completed: the ones of each requested decision are replayed in turn, nesting the ones
+     * of the decisions and business knowledge models it requires, in the same order of the sequential evaluation,
+     * regardless of the executor.
+     */
+    private class ParallelDecisionEvaluation {
+
+        private final DMNContext context;
+        private final DMNResultImpl result;
+        private final boolean typeCheck;
+
+        private final List<DecisionNodeImpl> requested = new ArrayList<>();
+        private final List<DecisionNodeImpl> decisions = new ArrayList<>();
+        private final Map<DMNNode, DMNRuntimeEventRecorder> recorders = new HashMap<>();
+        private final Set<DecisionNodeImpl> visited = new HashSet<>();
+        private final Map<DecisionNodeImpl, Integer> pendingRequirements = new HashMap<>();
+        private final Map<DecisionNodeImpl, List<DecisionNodeImpl>> dependents = new HashMap<>();
+        private final Set<DecisionNodeImpl> completed = new HashSet<>();
+        private final Deque<ScheduledDecision> scheduled = new ArrayDeque<>();
+
+        private ParallelDecisionEvaluation(DMNContext context, DMNResultImpl result, boolean typeCheck) {
+            this.context = context;
+            this.result = result;
+            this.typeCheck = typeCheck;
+        }
+
+        private boolean request(DecisionNodeImpl decision) {
+            requested.add(decision);
+            return add(decision);
+        }
+
+        private boolean add(DecisionNodeImpl decision) {
+            if (!decision.getModelNamespace().equals(result.getModel().getNamespace())) {
+                return false;
+            }
+            if (!visited.add(decision)) {
+                return true;
+            }
+            int requirements = 0;
+            for (DMNNode dep : decision.getDependencies().values()) {
+                if (dep instanceof DecisionNode) {
+                    if (!add((DecisionNodeImpl) dep)) {
+                        return false;
                     }
+                    dependents.computeIfAbsent((DecisionNodeImpl) dep, k -> new ArrayList<>()).add(decision);
+                    requirements++;
+                }
+            }
+            pendingRequirements.put(decision, requirements);
+            decisions.add(decision);
+            return true;
+        }
 
+        private void run() {
+            List<DecisionNodeImpl> ready = new ArrayList<>();
+            for (DecisionNodeImpl decision : decisions) {
+                if (pendingRequirements.get(decision) == 0) {
+                    ready.add(decision);
+                }
+            }
+            ready.forEach(this::schedule);
+            while (!scheduled.isEmpty()) {
+                complete(scheduled.poll());
+            }
+            for (DecisionNodeImpl decision : requested) {
+                // a decision required by many others is replayed only once, where it is first required
+                DMNRuntimeEventRecorder recorder = recorders.get(decision);
+                if (recorder != null) {
+                    recorder.replay(eventManager.getListeners());
+                }
+            }
+            for (DecisionNodeImpl decision : decisions) {
+                if (!completed.contains(decision)) {
+                    // only a cycle between decisions can prevent them from being scheduled
+                    evaluateDecision(context, result, decision, typeCheck);
+                }
+            }
+        }
+
+        private void schedule(DecisionNodeImpl decision) {
+            String decisionId = decision.getId();
+            DMNDecisionResult.DecisionEvaluationStatus status = Optional.ofNullable(result.getDecisionResultById(decisionId))
+                                                                        .map(DMNDecisionResult::getEvaluationStatus)
+                                                                        .orElse(DMNDecisionResult.DecisionEvaluationStatus.NOT_EVALUATED);
+            if (isNodeValueDefined(result, decision, decision) || FAILED == status || SKIPPED == status || EVALUATING == status) {
+                markCompleted(decision);
+                return;
+            }
+            DMNRuntimeEventRecorder recorder = new DMNRuntimeEventRecorder(decision, recorders);
+            BeforeEvaluateDecisionEvent beforeEvaluateDecisionEvent;
+            DMNDecisionResultImpl dr;
+            eventRecorder.set(recorder);
+            try {
+                beforeEvaluateDecisionEvent = DMNRuntimeEventManagerUtils.fireBeforeEvaluateDecision(DMNRuntimeImpl.this, decision, result);
+                dr = prepareDecision(context, result, decision, decisionId, typeCheck);
+            } finally {
+                eventRecorder.remove();
+            }
+            FutureTask<EvaluatorResult> task = null;
+            if (dr != null) {
+                DMNResultImpl snapshot = createResultImpl(result.getModel(), result.getContext());
+                task = new FutureTask<>(() -> {
+                    eventRecorder.set(recorder);
                     try {
-                        if (typeCheck && !d.getResultType().isAssignableValue(value)) {
-                            DMNMessage message = MsgUtil.reportMessage( logger,
-                                    DMNMessage.Severity.ERROR,
-                                    decision.getSource(),
-                                    result,
-                                    null,
-                                    null,
-                                    Msg.ERROR_EVAL_NODE_RESULT_WRONG_TYPE,
-                                    getIdentifier( decision ),
-                                    decision.getResultType(),
-                                    value);
-                            reportFailure( dr, message, DMNDecisionResult.DecisionEvaluationStatus.FAILED );
-                            return false;
-                        }
-                    } catch ( Exception e ) {
-                        MsgUtil.reportMessage( logger,
-                                               DMNMessage.Severity.ERROR,
-                                               decision.getSource(),
-                                               result,
-                                               e,
-                                               null,
-                                               Msg.ERROR_CHECKING_ALLOWED_VALUES,
-                                               getIdentifier( decision ),
-                                               e.getMessage() );
-                        return false;
+                        return decision.getEvaluator().evaluate(DMNRuntimeImpl.this, snapshot);
+                    } finally {
+                        eventRecorder.remove();
                     }
+                });
+                try {
+                    decisionExecutor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    // the task is run by the invoking thread when the decision is completed
+                }
+                scheduled.add(new ScheduledDecision(decision, dr, snapshot, task, recorder, beforeEvaluateDecisionEvent));
+            } else {
+                scheduled.add(new ScheduledDecision(decision, null, null, null, recorder, beforeEvaluateDecisionEvent));
+            }
+        }
 
-                    result.getContext().set(decision.getDecision().getVariable().getName(), value);
-                    dr.setResult( value );
-                    dr.setEvaluationStatus( DMNDecisionResult.DecisionEvaluationStatus.SUCCEEDED );
-                } else {
-                    dr.setEvaluationStatus( DMNDecisionResult.DecisionEvaluationStatus.FAILED );
-                    return false;
+        private void complete(ScheduledDecision s) {
+            EvaluatorResult er = null;
+            Throwable error = null;
+            if (s.task != null) {
+                // runs the task if no thread of the executor has started it yet
+                s.task.run();
+                try {
+                    er = s.task.get();
+                } catch (ExecutionException e) {
+                    error = e.getCause();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    error = e;
                 }
-            } catch( Throwable t ) {
-                DMNMessage message = MsgUtil.reportMessage( logger,
-                                                            DMNMessage.Severity.ERROR,
-                                                            decision.getSource(),
-                                                            result,
-                                                            t,
-                                                            null,
-                                                            Msg.ERROR_EVAL_DECISION_NODE,
-                                                            getIdentifier( decision ),
-                                                            t.getMessage() );
-
-                reportFailure( dr, message, DMNDecisionResult.DecisionEvaluationStatus.FAILED );
             }
-            return true;
-        } finally {
-            DMNRuntimeEventManagerUtils.fireAfterEvaluateDecision( eventManager, decision, result, beforeEvaluateDecisionEvent);
+            eventRecorder.set(s.recorder);
+            try {
+                if (s.task != null) {
+                    result.addAllUnfiltered(s.snapshot.getMessages());
+                    if (error == null) {
+                        setDecisionResult(result, s.decision, s.decisionResult, er, typeCheck);
+                    } else {
+                        reportDecisionError(result, s.decision, s.decisionResult, error);
+                    }
+                }
+            } finally {
+                DMNRuntimeEventManagerUtils.fireAfterEvaluateDecision(DMNRuntimeImpl.this, s.decision, result, s.beforeEvaluateDecisionEvent);
+                eventRecorder.remove();
+            }
+            markCompleted(s.decision);
+        }
+
+        private void markCompleted(DecisionNodeImpl decision) {
+            completed.add(decision);
+            for (DecisionNodeImpl dependent : dependents.getOrDefault(decision, Collections.emptyList())) {
+                int requirements = pendingRequirements.merge(dependent, -1, Integer::sum);
+                if (requirements == 0) {
+                    schedule(dependent);
+                }
+            }
+        }
+    }
+
+    private static class ScheduledDecision {
+
+        private final DecisionNodeImpl decision;
+        private final DMNDecisionResultImpl decisionResult;
+        private final DMNResultImpl snapshot;
+        private final FutureTask<EvaluatorResult> task;
+        private final DMNRuntimeEventRecorder recorder;
+        private final BeforeEvaluateDecisionEvent beforeEvaluateDecisionEvent;
+
+        private ScheduledDecision(DecisionNodeImpl decision, DMNDecisionResultImpl decisionResult, DMNResultImpl snapshot,
+                                  FutureTask<EvaluatorResult> task, DMNRuntimeEventRecorder recorder, BeforeEvaluateDecisionEvent beforeEvaluateDecisionEvent) {
+            this.decision = decision;
+            this.decisionResult = decisionResult;
+            this.snapshot = snapshot;
+            this.task = task;
+            this.recorder = recorder;
+            this.beforeEvaluateDecisionEvent = beforeEvaluateDecisionEvent;
         }
     }
 
@@ -769,6 +1128,8 @@ public class DMNRuntimeImpl
     public final <T extends DMNOption> void setOption(T option) {
         if (option instanceof RuntimeTypeCheckOption) {
             this.overrideRuntimeTypeCheck = ((RuntimeTypeCheckOption) option).isRuntimeTypeCheck();
+        } else if (option instanceof ParallelEvaluationOption) {
+            this.decisionExecutor = ((ParallelEvaluationOption) option).getExecutor();
         }
     }
 
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.core.ast.DecisionNode;
+import org.kie.dmn.api.core.event.AfterEvaluateAllEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateBKMEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateDecisionEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateDecisionTableEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateAllEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateBKMEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateDecisionEvent;
+import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.api.event.DefaultDMNRuntimeEventListener;
+import org.kie.dmn.core.compiler.ParallelEvaluationOption;
+import org.kie.dmn.core.impl.DMNRuntimeImpl;
+import org.kie.dmn.core.util.DMNRuntimeUtil;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DMNParallelEvaluationTest extends BaseInterpretedVsCompiledTest {
+
+    private static final String LENDING_NAMESPACE = "http://www.trisotech.com/definitions/_4e0f0b70-d31c-471c-bd52-5ca709ed362b";
+
+    private ExecutorService executor;
+
+    public DMNParallelEvaluationTest(final boolean useExecModelCompiler) {
+        super(useExecModelCompiler);
+    }
+
+    @Before
+    public void createExecutor() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testSameResultAsSequentialEvaluation() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        final DMNModel dmnModel = runtime.getModel(LENDING_NAMESPACE, "Lending1");
+        final DMNResult sequential = runtime.evaluateAll(dmnModel, createLendingContext());
+
+        ((DMNRuntimeImpl) runtime).setOption(new ParallelEvaluationOption(executor));
+        final DMNResult parallel = runtime.evaluateAll(dmnModel, createLendingContext());
+
+        assertThat(parallel.hasErrors()).as(DMNRuntimeUtil.formatMessages(parallel.getMessages())).isFalse();
+        assertThat(parallel.getContext().get("Routing")).isEqualTo("ACCEPT");
+        for (DecisionNode decision : dmnModel.getDecisions()) {
+            assertThat(parallel.getContext().get(decision.getName())).isEqualTo(sequential.getContext().get(decision.getName()));
+            assertThat(parallel.getDecisionResultByName(decision.getName()).getEvaluationStatus())
+                    .isEqualTo(sequential.getDecisionResultByName(decision.getName()).getEvaluationStatus());
+        }
+    }
+
+    @Test
+    public void testEventsInSequentialOrder() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        final DMNModel dmnModel = runtime.getModel(LENDING_NAMESPACE, "Lending1");
+        final List<String> events = new ArrayList<>();
+        runtime.addListener(new DefaultDMNRuntimeEventListener() {
+            @Override
+            public void beforeEvaluateDecision(BeforeEvaluateDecisionEvent event) {
+                events.add("before " + event.getDecision().getName());
+            }
+
+            @Override
+            public void beforeEvaluateBKM(BeforeEvaluateBKMEvent event) {
+                events.add("before BKM " + event.getBusinessKnowledgeModel().getName());
+            }
+
+            @Override
+            public void afterEvaluateDecisionTable(AfterEvaluateDecisionTableEvent event) {
+                events.add("table " + event.getDecisionTableName() + " " + event.getSelected());
+            }
+
+            @Override
+            public void afterEvaluateBKM(AfterEvaluateBKMEvent event) {
+                events.add("after BKM " + event.getBusinessKnowledgeModel().getName());
+            }
+
+            @Override
+            public void afterEvaluateDecision(AfterEvaluateDecisionEvent event) {
+                events.add("after " + event.getDecision().getName());
+            }
+        });
+
+        runtime.evaluateAll(dmnModel, createLendingContext());
+        final List<String> sequential = new ArrayList<>(events);
+        assertThat(sequential).isNotEmpty();
+
+        // the events of the required decisions are nested as in the sequential evaluation, on the invoking thread
+        ((DMNRuntimeImpl) runtime).setOption(new ParallelEvaluationOption(executor));
+        for (int i = 0; i < 10; i++) {
+            events.clear();
+            runtime.evaluateAll(dmnModel, createLendingContext());
+            assertThat(events).isEqualTo(sequential);
+        }
+
+        final List<String> sequentialByName = new ArrayList<>();
+        ((DMNRuntimeImpl) runtime).setOption(new ParallelEvaluationOption(null));
+        events.clear();
+        runtime.evaluateByName(dmnModel, createLendingContext(), "Strategy", "Routing");
+        sequentialByName.addAll(events);
+
+        ((DMNRuntimeImpl) runtime).setOption(new ParallelEvaluationOption(executor));
+        events.clear();
+        runtime.evaluateByName(dmnModel, createLendingContext(), "Strategy", "Routing");
+        assertThat(events).isEqualTo(sequentialByName);
+    }
+
+    @Test
+    public void testEvaluateByName() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        final DMNModel dmnModel = runtime.getModel(LENDING_NAMESPACE, "Lending1");
+        ((DMNRuntimeImpl) runtime).setOption(new ParallelEvaluationOption(executor));
+
+        final DMNResult dmnResult = runtime.evaluateByName(dmnModel, createLendingContext(), "Routing", "Strategy");
+
+        assertThat(dmnResult.hasErrors()).as(DMNRuntimeUtil.formatMessages(dmnResult.getMessages())).isFalse();
+        assertThat(dmnResult.getContext().get("Routing")).isEqualTo("ACCEPT");
+        assertThat(dmnResult.getContext().get("Strategy")).isEqualTo("BUREAU");
+    }
+
+    @Test
+    public void testRejectingExecutor() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        final DMNModel dmnModel = runtime.getModel(LENDING_NAMESPACE, "Lending1");
+        ((DMNRuntimeImpl) runtime).setOption(new ParallelEvaluationOption(command -> {
+            throw new RejectedExecutionException();
+        }));
+
+        final DMNResult dmnResult = runtime.evaluateAll(dmnModel, createLendingContext());
+
+        assertThat(dmnResult.hasErrors()).as(DMNRuntimeUtil.formatMessages(dmnResult.getMessages())).isFalse();
+        assertThat(dmnResult.getContext().get("Routing")).isEqualTo("ACCEPT");
+    }
+
+    @Test
+    public void testBatchEvaluation() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        final DMNModel dmnModel = runtime.getModel(LENDING_NAMESPACE, "Lending1");
+        final List<DMNResult> sequential = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            sequential.add(runtime.evaluateAll(dmnModel, createLendingContext(550 + i)));
+        }
+
+        ((DMNRuntimeImpl) runtime).setOption(new ParallelEvaluationOption(executor));
+        final List<DMNResult> batch = runtime.evaluateAll(dmnModel, IntStream.range(0, 100).mapToObj(i -> createLendingContext(550 + i)))
+                                             .collect(Collectors.toList());
+
+        assertThat(batch).hasSize(sequential.size());
+        for (int i = 0; i < batch.size(); i++) {
+            assertThat(batch.get(i).hasErrors()).as(DMNRuntimeUtil.formatMessages(batch.get(i).getMessages())).isFalse();
+            for (DecisionNode decision : dmnModel.getDecisions()) {
+                assertThat(batch.get(i).getContext().get(decision.getName())).isEqualTo(sequential.get(i).getContext().get(decision.getName()));
+            }
+        }
+    }
+
+    @Test
+    public void testBatchEventsInSequentialOrder() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        final DMNModel dmnModel = runtime.getModel(LENDING_NAMESPACE, "Lending1");
+        final List<String> events = new ArrayList<>();
+        final Set<Thread> threads = new HashSet<>();
+        runtime.addListener(new DefaultDMNRuntimeEventListener() {
+            @Override
+            public void beforeEvaluateAll(BeforeEvaluateAllEvent event) {
+                threads.add(Thread.currentThread());
+                events.add("before all " + event.getResult().getContext().get("BureauData"));
+            }
+
+            @Override
+            public void beforeEvaluateDecision(BeforeEvaluateDecisionEvent event) {
+                threads.add(Thread.currentThread());
+                events.add("before " + event.getDecision().getName());
+            }
+
+            @Override
+            public void afterEvaluateDecision(AfterEvaluateDecisionEvent event) {
+                threads.add(Thread.currentThread());
+                events.add("after " + event.getDecision().getName());
+            }
+
+            @Override
+            public void afterEvaluateAll(AfterEvaluateAllEvent event) {
+                threads.add(Thread.currentThread());
+                events.add("after all");
+            }
+        });
+
+        for (int i = 0; i < 20; i++) {
+            runtime.evaluateAll(dmnModel, createLendingContext(550 + i));
+        }
+        final List<String> sequential = new ArrayList<>(events);
+        events.clear();
+
+        // the events of each context are notified by the consuming thread, one context after the other
+        ((DMNRuntimeImpl) runtime).setOption(new ParallelEvaluationOption(executor));
+        final List<String> consumed = new ArrayList<>();
+        runtime.evaluateAll(dmnModel, IntStream.range(0, 20).mapToObj(i -> createLendingContext(550 + i)))
+               .forEach(result -> {
+                   consumed.add(events.get(events.size() - 1));
+               });
+
+        assertThat(events).isEqualTo(sequential);
+        assertThat(consumed).hasSize(20).containsOnly("after all");
+        assertThat(threads).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    public void testBatchCloseCancelsPendingEvaluations() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        final DMNModel dmnModel = runtime.getModel(LENDING_NAMESPACE, "Lending1");
+        // an executor that never runs the tasks, so they are pending until the results are consumed
+        final List<Runnable> submitted = new ArrayList<>();
+        ((DMNRuntimeImpl) runtime).setOption(new ParallelEvaluationOption(submitted::add));
+
+        final AtomicBoolean contextsClosed = new AtomicBoolean();
+        final Stream<DMNResult> results = runtime.evaluateAll(dmnModel, IntStream.range(0, 100).mapToObj(i -> createLendingContext(550 + i))
+                                                                                 .onClose(() -> contextsClosed.set(true)));
+        final Iterator<DMNResult> iterator = results.iterator();
+        assertThat(iterator.next().getContext().get("Routing")).isNotNull();
+        results.close();
+
+        assertThat(contextsClosed).isTrue();
+        assertThat(submitted.size()).isGreaterThan(1).isLessThan(100);
+        assertThat(((Future<?>) submitted.get(0)).isDone()).isTrue();
+        assertThat(((Future<?>) submitted.get(0)).isCancelled()).isFalse();
+        for (Runnable task : submitted.subList(1, submitted.size())) {
+            assertThat(((Future<?>) task).isCancelled()).isTrue();
+        }
+    }
+
+    private static DMNContext createLendingContext(int creditScore) {
+        final DMNContext context = createLendingContext();
+        ((Map<String, Object>) context.get("BureauData")).put("CreditScore", creditScore);
+        return context;
+    }
+
+    private static DMNContext createLendingContext() {
+        final DMNContext context = DMNFactory.newContext();
+        final Map<String, Object> applicant = new HashMap<>();
+        final Map<String, Object> monthly = new HashMap<>();
+        monthly.put("Income", 6000);
+        monthly.put("Expenses", 2000);
+        monthly.put("Repayments", 0);
+        applicant.put("Monthly", monthly);
+        applicant.put("Age", 35);
+        applicant.put("ExistingCustomer", true);
+        applicant.put("MaritalStatus", "M");
+        applicant.put("EmploymentStatus", "EMPLOYED");
+        final Map<String, Object> product = new HashMap<>();
+        product.put("ProductType", "STANDARD LOAN");
+        product.put("Amount", 350000);
+        product.put("Rate", new BigDecimal("0.0395"));
+        product.put("Term", 360);
+        final Map<String, Object> bureau = new HashMap<>();
+        bureau.put("CreditScore", 649);
+        bureau.put("Bankrupt", false);
+
+        context.set("ApplicantData", applicant);
+        context.set("RequestedProduct", product);
+        context.set("BureauData", bureau);
+        context.set("SupportingDocuments", "yes");
+        return context;
+    }
+}
@@ -88,6 +88,7 @@ import org.kie.dmn.feel.lang.ast.UnaryTestListNode;
 import org.kie.dmn.feel.lang.ast.UnaryTestNode;
 import org.kie.dmn.feel.lang.ast.Visitor;
 import org.kie.dmn.feel.lang.impl.MapBackedType;
+import org.kie.dmn.feel.lang.impl.VariableSlots;
 import org.kie.dmn.feel.lang.types.BuiltInType;
 import org.kie.dmn.feel.parser.feel11.ScopeHelper;
 import org.kie.dmn.feel.util.EvalHelper;
@@ -99,6 +100,25 @@ public class ASTCompilerVisitor implements Visitor<DirectCompilerResult> {
 
     ScopeHelper<Type> scopeHelper = new ScopeHelper<>();
 
+    private final VariableSlots slots;
+
+    /**
+     * The number of frames entered at runtime by the expressions enclosing the node being visited
+     */
+    private int frameDepth;
+
+    public ASTCompilerVisitor() {
+        this(null);
+    }
+
+    /**
+     * Creates a visitor compiling the references to the variables of the given slots, not enclosed in any frame
+     * entered by the expression, to reads of the slots of the global frame
+     */
+    public ASTCompilerVisitor(VariableSlots slots) {
+        this.slots = slots;
+    }
+
     @Override
     public DirectCompilerResult visit(ASTNode n) {
         throw new UnsupportedOperationException("Not yet implemented");
@@ -189,7 +209,8 @@ public class ASTCompilerVisitor implements Visitor<DirectCompilerResult> {
     public DirectCompilerResult visit(NameRefNode n) {
         String nameRef = EvalHelper.normalizeVariableName(n.getText());
         Type type = scopeHelper.resolve(nameRef).orElse(BuiltInType.UNKNOWN);
-        return DirectCompilerResult.of(FeelCtx.getValue(nameRef), type);
+        int slot = slots != null && frameDepth == 0 ? slots.indexOf(nameRef) : -1;
+        return DirectCompilerResult.of(slot >= 0 ? FeelCtx.getValue(slot, nameRef) : FeelCtx.getValue(nameRef), type);
     }
 
     @Override
@@ -317,6 +338,7 @@ public class ASTCompilerVisitor implements Visitor<DirectCompilerResult> {
 
     @Override
     public DirectCompilerResult visit(ForExpressionNode n) {
+        frameDepth++;
         DirectCompilerResult expr = n.getExpression().accept(this);
         HashSet<FieldDeclaration> fds = new HashSet<>();
 
@@ -334,6 +356,7 @@ public class ASTCompilerVisitor implements Visitor<DirectCompilerResult> {
                 .peek(r -> fds.addAll(r.getFieldDeclarations()))
                 .map(DirectCompilerResult::getExpression)
                 .collect(Collectors.toList());
+        frameDepth--;
 
         // .satisfies(expr)
         return DirectCompilerResult.of(
@@ -367,6 +390,7 @@ public class ASTCompilerVisitor implements Visitor<DirectCompilerResult> {
         }
 
         scopeHelper.pushScope();
+        frameDepth++;
 
         // openContext(feelCtx)
         MapBackedType resultType = new MapBackedType();
@@ -389,6 +413,7 @@ public class ASTCompilerVisitor implements Visitor<DirectCompilerResult> {
                                 r.resultType,
                                 DirectCompilerResult.mergeFDs(l, r)));
 
+        frameDepth--;
         scopeHelper.popScope();
 
         // .closeContext()
@@ -421,7 +446,9 @@ public class ASTCompilerVisitor implements Visitor<DirectCompilerResult> {
     @Override
     public DirectCompilerResult visit(FilterExpressionNode n) {
         DirectCompilerResult expr = n.getExpression().accept(this);
+        frameDepth++;
         DirectCompilerResult filter = n.getFilter().accept(this);
+        frameDepth--;
 
         Expressions.NamedLambda lambda = Expressions.namedLambda(filter.getExpression(), n.getFilter().getText());
         DirectCompilerResult r = DirectCompilerResult.of(
@@ -462,7 +489,9 @@ public class ASTCompilerVisitor implements Visitor<DirectCompilerResult> {
                     n, list,
                     Functions.external(paramNames, n.getBody()));
         } else {
+            frameDepth++;
             DirectCompilerResult body = n.getBody().accept(this);
+            frameDepth--;
             return Functions.declaration(n, list,
                                          body.getExpression()).withFD(body);
         }
@@ -616,6 +645,7 @@ public class ASTCompilerVisitor implements Visitor<DirectCompilerResult> {
 
     @Override
     public DirectCompilerResult visit(QuantifiedExpressionNode n) {
+        frameDepth++;
         DirectCompilerResult expr = n.getExpression().accept(this);
         HashSet<FieldDeclaration> fds = new HashSet<>();
 
@@ -633,6 +663,7 @@ public class ASTCompilerVisitor implements Visitor<DirectCompilerResult> {
                 .peek(r -> fds.addAll(r.getFieldDeclarations()))
                 .map(DirectCompilerResult::getExpression)
                 .collect(Collectors.toList());
+        frameDepth--;
 
         // .satisfies(expr)
         return DirectCompilerResult.of(
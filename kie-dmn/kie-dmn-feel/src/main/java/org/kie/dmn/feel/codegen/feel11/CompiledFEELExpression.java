@@ -20,7 +20,14 @@ import java.util.function.Function;
 
 import org.kie.dmn.feel.lang.CompiledExpression;
 import org.kie.dmn.feel.lang.EvaluationContext;
+import org.kie.dmn.feel.lang.impl.VariableSlots;
 
 public interface CompiledFEELExpression extends CompiledExpression, Function<EvaluationContext, Object> {
-    
+
+    /**
+     * Returns the slots of the input variables this expression reads by index, or null if it reads them all by name
+     */
+    default VariableSlots getVariableSlots() {
+        return null;
+    }
 }
@@ -28,6 +28,8 @@ import ch.obermuhlner.math.big.BigDecimalMath;
 import org.kie.dmn.api.feel.runtime.events.FEELEvent;
 import org.kie.dmn.feel.lang.EvaluationContext;
 import org.kie.dmn.feel.lang.ast.InfixOpNode;
+import org.kie.dmn.feel.lang.impl.EvaluationContextImpl;
+import org.kie.dmn.feel.lang.impl.VariableSlots;
 import org.kie.dmn.feel.lang.types.impl.ComparablePeriod;
 import org.kie.dmn.feel.runtime.Range;
 import org.kie.dmn.feel.runtime.UnaryTest;
@@ -174,6 +176,21 @@ public class CompiledFEELSemanticMappings {
         return value;
     }
 
+    /**
+     * Returns the value of the variable resolved at compile time to the given slot of the global frame, looking
+     * it up by name when the context has no slots or the variable is not set
+     */
+    public static Object getValue(EvaluationContext ctx, int slot, String varName) {
+        Object[] slotValues = ctx instanceof EvaluationContextImpl ? ((EvaluationContextImpl) ctx).getSlotValues() : null;
+        if (slotValues != null) {
+            Object value = slotValues[slot];
+            if (value != VariableSlots.UNDEFINED) {
+                return value;
+            }
+        }
+        return getValue(ctx, varName);
+    }
+
     private static boolean compatible(Comparable left, Comparable right) {
         Class<?> leftClass = left.getClass();
         Class<?> rightClass = right.getClass();
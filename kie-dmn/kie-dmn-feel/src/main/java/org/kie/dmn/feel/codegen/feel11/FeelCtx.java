@@ -20,6 +20,7 @@ package org.kie.dmn.feel.codegen.feel11;
 
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.expr.StringLiteralExpr;
@@ -42,6 +43,10 @@ public class FeelCtx {
         return new MethodCallExpr(compiledFeelSemanticMappingsFQN(), "getValue", new NodeList<>(FEELCTX, new StringLiteralExpr(nameRef)));
     }
 
+    public static MethodCallExpr getValue(int slot, String nameRef) {
+        return new MethodCallExpr(compiledFeelSemanticMappingsFQN(), "getValue", new NodeList<>(FEELCTX, new IntegerLiteralExpr(String.valueOf(slot)), new StringLiteralExpr(nameRef)));
+    }
+
     public static MethodCallExpr current() {
         return new MethodCallExpr(FeelCtx.FEELCTX, "current");
     }
@@ -1,5 +1,6 @@
 package org.kie.dmn.feel.codegen.feel11;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import com.github.javaparser.ast.CompilationUnit;
@@ -14,7 +15,9 @@ import org.kie.dmn.feel.lang.ast.visitor.ASTHeuristicCheckerVisitor;
 import org.kie.dmn.feel.lang.ast.visitor.ASTTemporalConstantVisitor;
 import org.kie.dmn.feel.lang.impl.CompiledExecutableExpression;
 import org.kie.dmn.feel.lang.impl.CompiledExpressionImpl;
+import org.kie.dmn.feel.lang.impl.EvaluationContextImpl;
 import org.kie.dmn.feel.lang.impl.InterpretedExecutableExpression;
+import org.kie.dmn.feel.lang.impl.VariableSlots;
 import org.kie.dmn.feel.lang.types.BuiltInType;
 import org.kie.dmn.feel.parser.feel11.ASTBuilderVisitor;
 
@@ -28,6 +31,7 @@ public class ProcessedExpression extends ProcessedFEELUnit {
 
     private final BaseNode ast;
     private final DefaultMode defaultBackend;
+    private final VariableSlots slots;
     private DirectCompilerResult compiledExpression;
 
     private final CompilerBytecodeLoader compiler = new CompilerBytecodeLoader();
@@ -41,6 +45,9 @@ public class ProcessedExpression extends ProcessedFEELUnit {
 
         super(expression, ctx, profiles);
         this.defaultBackend = defaultBackend;
+        List<String> inputVariables = new ArrayList<>(ctx.getInputVariableTypes().keySet());
+        inputVariables.addAll(ctx.getInputVariables().keySet());
+        this.slots = VariableSlots.of(inputVariables);
         ParseTree tree = getFEELParser(expression, ctx, profiles).compilation_unit();
         ASTBuilderVisitor astVisitor = new ASTBuilderVisitor(ctx.getInputVariableTypes(), ctx.getFEELFeelTypeRegistry());
         ast = tree.accept(astVisitor);
@@ -82,7 +89,7 @@ public class ProcessedExpression extends ProcessedFEELUnit {
                                 BuiltInType.UNKNOWN);
             } else {
                 try {
-                    compiledExpression = ast.accept(new ASTCompilerVisitor());
+                    compiledExpression = ast.accept(new ASTCompilerVisitor(slots));
                 } catch (FEELCompilationError e) {
                     compiledExpression = DirectCompilerResult.of(
                             CompiledFEELSupport.compiledErrorExpression(e.getMessage()),
@@ -121,6 +128,16 @@ public class ProcessedExpression extends ProcessedFEELUnit {
 
     @Override
     public Object apply(EvaluationContext evaluationContext) {
+        if (evaluationContext instanceof EvaluationContextImpl) {
+            // the compiled expression indexes the slots without checking their names
+            evaluationContext = ((EvaluationContextImpl) evaluationContext).withVariableSlots(getVariableSlots());
+        }
         return defaultResult.apply(evaluationContext);
     }
+
+    @Override
+    public VariableSlots getVariableSlots() {
+        // only the compiled expression reads the input variables by slot
+        return defaultBackend == Compiled ? slots : null;
+    }
 }
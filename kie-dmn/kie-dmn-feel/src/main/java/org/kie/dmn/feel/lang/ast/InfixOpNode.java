@@ -37,6 +37,7 @@ import org.kie.dmn.feel.lang.EvaluationContext;
 import org.kie.dmn.feel.lang.Type;
 import org.kie.dmn.feel.lang.types.BuiltInType;
 import org.kie.dmn.feel.lang.types.impl.ComparablePeriod;
+import org.kie.dmn.feel.util.DecimalArithmetic;
 import org.kie.dmn.feel.util.EvalHelper;
 
 public class InfixOpNode
@@ -275,7 +276,7 @@ public class InfixOpNode
         } else if ( left instanceof Duration && right instanceof OffsetTime ) {
             return ((OffsetTime) right).plus( (Duration) left);
         } else {
-            return math( left, right, ctx, (l, r) -> l.add( r, MathContext.DECIMAL128 ) );
+            return math( left, right, ctx, DecimalArithmetic::add );
         }
     }
 
@@ -320,7 +321,7 @@ public class InfixOpNode
         } else if ( left instanceof OffsetTime && right instanceof Duration ) {
             return ((OffsetTime) left).minus( (Duration) right);
         } else {
-            return math( left, right, ctx, (l, r) -> l.subtract( r, MathContext.DECIMAL128 )  );
+            return math( left, right, ctx, DecimalArithmetic::subtract );
         }
     }
 
@@ -340,7 +341,7 @@ public class InfixOpNode
         } else if (left instanceof ChronoPeriod && right instanceof ChronoPeriod) {
             return EvalHelper.getBigDecimalOrNull(ComparablePeriod.toTotalMonths((ChronoPeriod) left)).multiply(EvalHelper.getBigDecimalOrNull(ComparablePeriod.toTotalMonths((ChronoPeriod) right)), MathContext.DECIMAL128);
         } else {
-            return math( left, right, ctx, (l, r) -> l.multiply( r, MathContext.DECIMAL128 ) );
+            return math( left, right, ctx, DecimalArithmetic::multiply );
         }
     }
 
@@ -23,6 +23,7 @@ import java.util.function.BiPredicate;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.kie.dmn.api.feel.runtime.events.FEELEvent.Severity;
 import org.kie.dmn.feel.lang.EvaluationContext;
+import org.kie.dmn.feel.runtime.LiteralUnaryTest;
 import org.kie.dmn.feel.runtime.Range;
 import org.kie.dmn.feel.runtime.UnaryTest;
 import org.kie.dmn.feel.runtime.UnaryTestImpl;
@@ -102,19 +103,21 @@ public class UnaryTestNode
     public UnaryTest evaluate(EvaluationContext ctx) {
         switch ( operator ) {
             case LTE:
-                return new UnaryTestImpl( createCompareUnaryTest( (l, r) -> l.compareTo( r ) <= 0 ) , value.getText() );
+                return createUnaryTest( ctx, LiteralUnaryTest.Operator.LTE, createCompareUnaryTest( (l, r) -> l.compareTo( r ) <= 0 ) );
             case LT:
-                return new UnaryTestImpl( createCompareUnaryTest( (l, r) -> l.compareTo( r ) < 0 ) , value.getText() );
+                return createUnaryTest( ctx, LiteralUnaryTest.Operator.LT, createCompareUnaryTest( (l, r) -> l.compareTo( r ) < 0 ) );
             case GT:
-                return new UnaryTestImpl( createCompareUnaryTest( (l, r) -> l.compareTo( r ) > 0 ) , value.getText() );
+                return createUnaryTest( ctx, LiteralUnaryTest.Operator.GT, createCompareUnaryTest( (l, r) -> l.compareTo( r ) > 0 ) );
             case GTE:
-                return new UnaryTestImpl( createCompareUnaryTest( (l, r) -> l.compareTo( r ) >= 0 ) , value.getText() );
+                return createUnaryTest( ctx, LiteralUnaryTest.Operator.GTE, createCompareUnaryTest( (l, r) -> l.compareTo( r ) >= 0 ) );
             case EQ:
-                return new UnaryTestImpl( createIsEqualUnaryTest( ) , value.getText() );
+                return createUnaryTest( ctx, LiteralUnaryTest.Operator.EQ, createIsEqualUnaryTest( ) );
             case NE:
                 return new UnaryTestImpl( createIsNotEqualUnaryTest( ) , value.getText() );
             case IN:
-                return new UnaryTestImpl( createInUnaryTest() , value.getText() );
+                return value instanceof RangeNode ?
+                       createUnaryTest( ctx, LiteralUnaryTest.Operator.IN, createInUnaryTest() ) :
+                       new UnaryTestImpl( createInUnaryTest() , value.getText() );
             case NOT:
                 return new UnaryTestImpl( createNotUnaryTest() , value.getText() );
             case TEST:
@@ -124,6 +127,26 @@ public class UnaryTestNode
         return null;
     }
 
+    /**
+     * When the value is a literal, or a range between literals, the returned test also exposes the operator and
+     * the value, so that it can be indexed
+     */
+    private UnaryTest createUnaryTest( EvaluationContext ctx, LiteralUnaryTest.Operator literalOperator, UnaryTest test ) {
+        if ( isLiteral( value ) ) {
+            return new LiteralUnaryTest( test, value.getText(), literalOperator, value.evaluate( ctx ) );
+        }
+        return new UnaryTestImpl( test, value.getText() );
+    }
+
+    private static boolean isLiteral( BaseNode node ) {
+        if ( node instanceof RangeNode ) {
+            BaseNode start = ((RangeNode) node).getStart();
+            BaseNode end = ((RangeNode) node).getEnd();
+            return ( start instanceof NumberNode && end instanceof NumberNode ) || ( start instanceof StringNode && end instanceof StringNode );
+        }
+        return node instanceof NumberNode || node instanceof StringNode || node instanceof BooleanNode;
+    }
+
     private UnaryTest createCompareUnaryTest( BiPredicate<Comparable, Comparable> op ) {
         return (context, left) -> {
             Object right = value.evaluate( context );
@@ -39,6 +39,8 @@ public class EvaluationContextImpl implements EvaluationContext {
     private DMNRuntime dmnRuntime;
     private boolean performRuntimeTypeCheck = false;
     private ClassLoader rootClassLoader;
+    // the global frame holding the variables in slots, if any
+    private ExecutionFrameImpl slotFrame;
 
     private EvaluationContextImpl(ClassLoader cl, FEELEventListenersManager eventsManager, Deque<ExecutionFrame> stack) {
         this.eventsManager = eventsManager;
@@ -60,6 +62,16 @@ public class EvaluationContextImpl implements EvaluationContext {
         push( global );
     }
 
+    /**
+     * Creates a context whose global frame holds the variables of the given slots in an array
+     */
+    public EvaluationContextImpl(ClassLoader cl, FEELEventListenersManager eventsManager, VariableSlots slots) {
+        this(cl, eventsManager, new ArrayDeque<>());
+        push( RootExecutionFrame.INSTANCE );
+        slotFrame = new ExecutionFrameImpl(RootExecutionFrame.INSTANCE, slots);
+        push( slotFrame );
+    }
+
     @Deprecated
     public EvaluationContextImpl(FEELEventListenersManager eventsManager, DMNRuntime dmnRuntime) {
         this(dmnRuntime.getRootClassLoader(), eventsManager);
@@ -77,6 +89,7 @@ public class EvaluationContextImpl implements EvaluationContext {
         ec.rootClassLoader = this.rootClassLoader;
         ec.dmnRuntime = this.dmnRuntime;
         ec.performRuntimeTypeCheck = this.performRuntimeTypeCheck;
+        ec.slotFrame = this.slotFrame;
         return ec;
     }
 
@@ -223,4 +236,25 @@ public class EvaluationContextImpl implements EvaluationContext {
         return peek().getRootObject();
     }
 
+    /**
+     * Returns the values of the variables read by slot by the compiled expression this context was created for,
+     * or null if they have to be looked up by name
+     */
+    public Object[] getSlotValues() {
+        return slotFrame != null ? slotFrame.getSlotValues() : null;
+    }
+
+    /**
+     * Returns this context if its variables are laid out in the given slots, otherwise a copy of it where they
+     * are all looked up by name, so that an expression never reads the slots laid out for another one
+     */
+    public EvaluationContextImpl withVariableSlots(VariableSlots slots) {
+        if ( slotFrame == null || slotFrame.getVariableSlots() == slots ) {
+            return this;
+        }
+        EvaluationContextImpl ec = (EvaluationContextImpl) current();
+        ec.slotFrame = null;
+        return ec;
+    }
+
 }
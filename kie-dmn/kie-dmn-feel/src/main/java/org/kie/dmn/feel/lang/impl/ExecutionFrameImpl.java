@@ -16,8 +16,14 @@
 
 package org.kie.dmn.feel.lang.impl;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 import org.kie.dmn.feel.util.EvalHelper;
 import org.kie.dmn.feel.util.EvalHelper.PropertyValueResult;
@@ -30,14 +36,37 @@ public class ExecutionFrameImpl
     private Map<String, Object> variables;
     private Object rootObject;
 
+    private final VariableSlots slots;
+    private final Object[] slotValues;
+    private final Map<String, Object> allValues;
+
     public ExecutionFrameImpl(ExecutionFrame parentFrame) {
-        this.parentFrame = parentFrame;
-        this.variables = new HashMap<>();
+        this(parentFrame, new HashMap<>(), null);
     }
 
     public ExecutionFrameImpl(ExecutionFrame parentFrame, int size) {
+        this(parentFrame, new HashMap<>(size), null);
+    }
+
+    /**
+     * Creates a frame holding the variables of the given slots in an array, and any other variable in a map
+     */
+    public ExecutionFrameImpl(ExecutionFrame parentFrame, VariableSlots slots) {
+        this(parentFrame, new HashMap<>(), slots);
+    }
+
+    private ExecutionFrameImpl(ExecutionFrame parentFrame, Map<String, Object> variables, VariableSlots slots) {
         this.parentFrame = parentFrame;
-        this.variables = new HashMap<>(size);
+        this.variables = variables;
+        this.slots = slots;
+        if ( slots != null ) {
+            this.slotValues = new Object[slots.size()];
+            Arrays.fill( this.slotValues, VariableSlots.UNDEFINED );
+            this.allValues = new AllValues();
+        } else {
+            this.slotValues = null;
+            this.allValues = variables;
+        }
     }
 
     public ExecutionFrame getParentFrame() {
@@ -57,6 +86,12 @@ public class ExecutionFrameImpl
                 return dv.getValueResult().getOrElse(null);
             }
         }
+        if ( slots != null ) {
+            int slot = slots.indexOf( symbol );
+            if ( slot >= 0 && slotValues[slot] != VariableSlots.UNDEFINED ) {
+                return slotValues[slot];
+            }
+        }
         if ( variables.containsKey( symbol ) ) {
             return variables.get( symbol );
         }
@@ -76,6 +111,12 @@ public class ExecutionFrameImpl
                 // do nothing! it might be shaded at this level for "item" or being in the parent frame.
             }
         }
+        if ( slots != null ) {
+            int slot = slots.indexOf( symbol );
+            if ( slot >= 0 && slotValues[slot] != VariableSlots.UNDEFINED ) {
+                return true;
+            }
+        }
         if ( variables.containsKey( symbol ) ) {
             return true;
         }
@@ -87,12 +128,31 @@ public class ExecutionFrameImpl
 
     @Override
     public void setValue(String symbol, Object value) {
-        this.variables.put( EvalHelper.normalizeVariableName( symbol ), value );
+        symbol = EvalHelper.normalizeVariableName( symbol );
+        int slot = slots != null ? slots.indexOf( symbol ) : -1;
+        if ( slot >= 0 ) {
+            slotValues[slot] = value;
+        } else {
+            this.variables.put( symbol, value );
+        }
+    }
+
+    /**
+     * Returns the values of the variables of the slots of this frame, indexed by slot, with
+     * {@link VariableSlots#UNDEFINED} for the ones not set, or null if this frame has no slots or a root object
+     * that could shadow them
+     */
+    public Object[] getSlotValues() {
+        return rootObject == null ? slotValues : null;
+    }
+
+    VariableSlots getVariableSlots() {
+        return slots;
     }
 
     @Override
     public Map<String, Object> getAllValues() {
-        return this.variables;
+        return this.allValues;
     }
 
     @Override
@@ -104,4 +164,102 @@ public class ExecutionFrameImpl
     public Object getRootObject() {
         return rootObject;
     }
+
+    /**
+     * A live view of the variables of a frame with slots, holding both the ones in the slots and in the map,
+     * whose keys are normalized as the variable names of the frame
+     */
+    private class AllValues extends AbstractMap<String, Object> {
+
+        @Override
+        public Object get(Object key) {
+            if ( !(key instanceof String) ) {
+                return null;
+            }
+            String symbol = EvalHelper.normalizeVariableName( (String) key );
+            int slot = slots.indexOf( symbol );
+            if ( slot >= 0 ) {
+                Object value = slotValues[slot];
+                return value != VariableSlots.UNDEFINED ? value : null;
+            }
+            return variables.get( symbol );
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            if ( !(key instanceof String) ) {
+                return false;
+            }
+            String symbol = EvalHelper.normalizeVariableName( (String) key );
+            int slot = slots.indexOf( symbol );
+            return slot >= 0 ? slotValues[slot] != VariableSlots.UNDEFINED : variables.containsKey( symbol );
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            String symbol = EvalHelper.normalizeVariableName( key );
+            int slot = slots.indexOf( symbol );
+            if ( slot < 0 ) {
+                return variables.put( symbol, value );
+            }
+            Object previous = slotValues[slot];
+            slotValues[slot] = value;
+            return previous != VariableSlots.UNDEFINED ? previous : null;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<Entry<String, Object>>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new SlotsIterator();
+                }
+
+                @Override
+                public int size() {
+                    int size = variables.size();
+                    for ( Object value : slotValues ) {
+                        if ( value != VariableSlots.UNDEFINED ) {
+                            size++;
+                        }
+                    }
+                    return size;
+                }
+            };
+        }
+    }
+
+    private class SlotsIterator implements Iterator<Map.Entry<String, Object>> {
+
+        private final Iterator<Map.Entry<String, Object>> variablesIterator = variables.entrySet().iterator();
+        private int nextSlot = -1;
+
+        private SlotsIterator() {
+            advance();
+        }
+
+        private void advance() {
+            do {
+                nextSlot++;
+            } while ( nextSlot < slotValues.length && slotValues[nextSlot] == VariableSlots.UNDEFINED );
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextSlot < slotValues.length || variablesIterator.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if ( nextSlot < slotValues.length ) {
+                Map.Entry<String, Object> entry = new AbstractMap.SimpleImmutableEntry<>( slots.getName( nextSlot ), slotValues[nextSlot] );
+                advance();
+                return entry;
+            }
+            if ( !variablesIterator.hasNext() ) {
+                throw new NoSuchElementException();
+            }
+            return variablesIterator.next();
+        }
+    }
 }
@@ -167,7 +167,7 @@ public class FEELImpl
     @Override
     public Object evaluate(CompiledExpression expr, Map<String, Object> inputVariables) {
         CompiledFEELExpression e = (CompiledFEELExpression) expr;
-        return e.apply(newEvaluationContext(Collections.EMPTY_SET, inputVariables));
+        return e.apply(newEvaluationContext(Collections.EMPTY_SET, inputVariables, expr));
     }
     
     @Override
@@ -187,8 +187,21 @@ public class FEELImpl
      * Creates a new EvaluationContext with the supplied classloader, and the supplied parameters listeners and inputVariables
      */
     public EvaluationContextImpl newEvaluationContext(ClassLoader cl, Collection<FEELEventListener> listeners, Map<String, Object> inputVariables) {
+        return newEvaluationContext(cl, listeners, inputVariables, null);
+    }
+
+    /**
+     * Creates a new EvaluationContext for the evaluation of the given expression, whose global frame holds
+     * the variables resolved at compile time by the expression in slots, if any
+     */
+    public EvaluationContextImpl newEvaluationContext(Collection<FEELEventListener> listeners, Map<String, Object> inputVariables, CompiledExpression expr) {
+        VariableSlots slots = expr instanceof CompiledFEELExpression ? ((CompiledFEELExpression) expr).getVariableSlots() : null;
+        return newEvaluationContext(this.classLoader, listeners, inputVariables, slots);
+    }
+
+    private EvaluationContextImpl newEvaluationContext(ClassLoader cl, Collection<FEELEventListener> listeners, Map<String, Object> inputVariables, VariableSlots slots) {
         FEELEventListenersManager eventsManager = getEventsManager(listeners);
-        EvaluationContextImpl ctx = new EvaluationContextImpl(cl, eventsManager, inputVariables.size());
+        EvaluationContextImpl ctx = slots != null ? new EvaluationContextImpl(cl, eventsManager, slots) : new EvaluationContextImpl(cl, eventsManager, inputVariables.size());
         if (customFrame.isPresent()) {
             ExecutionFrameImpl globalFrame = (ExecutionFrameImpl) ctx.pop();
             ExecutionFrameImpl interveawedFrame = customFrame.get();
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.lang.impl;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.kie.dmn.feel.util.EvalHelper;
+
+/**
+ * The layout of the variables of an execution frame resolved at compile time: each variable name is assigned
+ * the index of the slot holding its value, so that compiled expressions can read it without looking it up by name.
+ */
+public final class VariableSlots {
+
+    /**
+     * The content of the slots whose variable is not set
+     */
+    public static final Object UNDEFINED = new Object();
+
+    private final String[] names;
+    private final Map<String, Integer> indexes;
+
+    private VariableSlots(String[] names, Map<String, Integer> indexes) {
+        this.names = names;
+        this.indexes = indexes;
+    }
+
+    public static VariableSlots of(Collection<String> names) {
+        Map<String, Integer> indexes = new HashMap<>();
+        for ( String name : names ) {
+            indexes.putIfAbsent( EvalHelper.normalizeVariableName( name ), indexes.size() );
+        }
+        String[] slots = new String[indexes.size()];
+        indexes.forEach( (name, index) -> slots[index] = name );
+        return new VariableSlots( slots, indexes );
+    }
+
+    /**
+     * Returns the slot of the given normalized variable name, or -1 if it has none
+     */
+    public int indexOf(String name) {
+        Integer index = indexes.get( name );
+        return index != null ? index : -1;
+    }
+
+    public String getName(int slot) {
+        return names[slot];
+    }
+
+    public int size() {
+        return names.length;
+    }
+}
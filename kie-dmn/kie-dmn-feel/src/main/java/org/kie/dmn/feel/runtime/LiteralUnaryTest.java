@@ -0,0 +1,54 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.runtime;
+
+/**
+ * A unary test comparing the tested value with a literal, like <code>"gold"</code>, <code>&lt; 18</code> or
+ * <code>[18..65)</code>. The operator and the value of the literal are known when the test is created, so that
+ * decision tables can index their input entries instead of evaluating them one by one.
+ */
+public class LiteralUnaryTest extends UnaryTestImpl {
+
+    public enum Operator {
+        EQ,
+        LT,
+        LTE,
+        GT,
+        GTE,
+        IN
+    }
+
+    private final Operator operator;
+    private final Object literal;
+
+    public LiteralUnaryTest(UnaryTest delegate, String text, Operator operator, Object literal) {
+        super( delegate, text );
+        this.operator = operator;
+        this.literal = literal;
+    }
+
+    public Operator getOperator() {
+        return operator;
+    }
+
+    /**
+     * The value of the literal, a {@link Range} for the IN operator
+     */
+    public Object getLiteral() {
+        return literal;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.runtime.decisiontables;
+
+import java.util.List;
+
+import org.kie.dmn.feel.lang.EvaluationContext;
+import org.kie.dmn.feel.runtime.UnaryTest;
+
+/**
+ * The input entry of a decision rule, satisfied when any of its unary tests is.
+ * The tests are kept so that the decision table can index them.
+ */
+public class DTInputEntry implements UnaryTest {
+
+    private final List<UnaryTest> tests;
+
+    public DTInputEntry(List<UnaryTest> tests) {
+        this.tests = tests;
+    }
+
+    public List<UnaryTest> getTests() {
+        return tests;
+    }
+
+    @Override
+    public Boolean apply(EvaluationContext ctx, Object left) {
+        for ( UnaryTest test : tests ) {
+            Boolean result = test.apply( ctx, left );
+            if ( result != null && result ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return tests.toString();
+    }
+}
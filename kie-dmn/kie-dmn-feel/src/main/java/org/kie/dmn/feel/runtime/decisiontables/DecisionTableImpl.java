@@ -18,6 +18,7 @@ package org.kie.dmn.feel.runtime.decisiontables;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -58,6 +59,7 @@ public class DecisionTableImpl implements DecisionTable {
     private List<DTDecisionRule> decisionRules;
     private HitPolicy            hitPolicy;
     private boolean              hasDefaultValues;
+    private DecisionTableIndex   index;
 
     private FEEL feel;
 
@@ -76,6 +78,7 @@ public class DecisionTableImpl implements DecisionTable {
         this.hitPolicy = hitPolicy;
         this.hasDefaultValues = outputs.stream().allMatch( o -> o.getDefaultValue() != null );
         this.feel = feel;
+        this.index = DecisionTableIndex.build( inputs, decisionRules );
     }
 
     /**
@@ -250,9 +253,21 @@ public class DecisionTableImpl implements DecisionTable {
      */
     private List<DTDecisionRule> findMatches(EvaluationContext ctx, Object[] params) {
         List<DTDecisionRule> matchingDecisionRules = new ArrayList<>();
-        for ( DTDecisionRule decisionRule : decisionRules ) {
-            if ( matches( ctx, params, decisionRule ) ) {
-                matchingDecisionRules.add( decisionRule );
+        if ( index != null ) {
+            // only the candidate rules are checked, in their order, evaluating the entries that couldn't be indexed
+            BitSet[] toEvaluate = new BitSet[params.length];
+            BitSet candidates = index.findCandidates( params, toEvaluate );
+            for ( int i = candidates.nextSetBit( 0 ); i >= 0; i = candidates.nextSetBit( i + 1 ) ) {
+                DTDecisionRule decisionRule = decisionRules.get( i );
+                if ( matches( ctx, params, decisionRule, i, toEvaluate ) ) {
+                    matchingDecisionRules.add( decisionRule );
+                }
+            }
+        } else {
+            for ( DTDecisionRule decisionRule : decisionRules ) {
+                if ( matches( ctx, params, decisionRule, -1, null ) ) {
+                    matchingDecisionRules.add( decisionRule );
+                }
             }
         }
         ctx.notifyEvt( () -> {
@@ -272,10 +287,15 @@ public class DecisionTableImpl implements DecisionTable {
      * @param ctx
      * @param params
      * @param rule
+     * @param position the position of the rule in the table
+     * @param toEvaluate when the table is indexed, the positions of the rules whose entry has to be evaluated, by input
      * @return
      */
-    private boolean matches(EvaluationContext ctx, Object[] params, DTDecisionRule rule) {
+    private boolean matches(EvaluationContext ctx, Object[] params, DTDecisionRule rule, int position, BitSet[] toEvaluate) {
         for( int i = 0; i < params.length; i++ ) {
+            if ( toEvaluate != null && !toEvaluate[i].get( position ) ) {
+                continue;
+            }
             CompiledExpression compiledInput = inputs.get(i).getCompiledInput();
             if ( compiledInput instanceof CompiledFEELExpression) {
                 ctx.setValue("?", ((CompiledFEELExpression) compiledInput).apply(ctx));
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.runtime.decisiontables;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.kie.dmn.feel.lang.ast.DashNode;
+import org.kie.dmn.feel.runtime.LiteralUnaryTest;
+import org.kie.dmn.feel.runtime.Range;
+import org.kie.dmn.feel.runtime.UnaryTest;
+
+/**
+ * An index of the input entries of a decision table, finding the rules that can match the actual inputs without
+ * evaluating all of their input entries.
+ *
+ * For each input the entries comparing the input with literals are indexed: the equalities in a map from the
+ * literal to the rules, the numeric comparisons and ranges in a list of intervals sorted by their lower endpoint,
+ * the "-" entries in a bitset of the rules matching any input. The candidate rules are found intersecting the
+ * bitsets of all the inputs, and only the entries of the candidates that could not be indexed are left to be
+ * evaluated with FEEL.
+ */
+final class DecisionTableIndex {
+
+    private final int rulesCount;
+    private final ColumnIndex[] columns;
+
+    private DecisionTableIndex(int rulesCount, ColumnIndex[] columns) {
+        this.rulesCount = rulesCount;
+        this.columns = columns;
+    }
+
+    /**
+     * Returns the index of the given rules, or null when none of their input entries can be indexed
+     */
+    static DecisionTableIndex build(List<DTInputClause> inputs, List<DTDecisionRule> rules) {
+        ColumnIndex[] columns = new ColumnIndex[inputs.size()];
+        boolean indexed = false;
+        for ( int i = 0; i < columns.length; i++ ) {
+            columns[i] = new ColumnIndex( i, inputs.get( i ).isCollection(), rules );
+            indexed |= columns[i].isIndexed();
+        }
+        return indexed ? new DecisionTableIndex( rules.size(), columns ) : null;
+    }
+
+    /**
+     * Returns the positions of the rules that can match the given inputs. For each input, the positions of the
+     * candidate rules whose entry still has to be evaluated are set in toEvaluate.
+     */
+    BitSet findCandidates(Object[] inputs, BitSet[] toEvaluate) {
+        BitSet candidates = new BitSet( rulesCount );
+        candidates.set( 0, rulesCount );
+        for ( int i = 0; i < columns.length; i++ ) {
+            toEvaluate[i] = columns[i].filter( inputs[i], candidates );
+        }
+        return candidates;
+    }
+
+    private static final class ColumnIndex {
+
+        private final BitSet wildcards = new BitSet();
+        private final BitSet unindexed = new BitSet();
+        private final Map<Object, BitSet> equalities = new HashMap<>();
+        private final Interval[] intervals;
+        private final BitSet[] intervalRules;
+        private boolean hasRanges;
+
+        private ColumnIndex(int column, boolean collection, List<DTDecisionRule> rules) {
+            Map<Interval, BitSet> byInterval = new HashMap<>();
+            for ( int row = 0; row < rules.size(); row++ ) {
+                List<UnaryTest> entries = rules.get( row ).getInputEntry();
+                List<UnaryTest> tests = column < entries.size() ? getTests( entries.get( column ) ) : null;
+                if ( tests == null ) {
+                    unindexed.set( row );
+                } else if ( tests.stream().anyMatch( DashNode.DashUnaryTest.class::isInstance ) ) {
+                    wildcards.set( row );
+                } else if ( collection || tests.isEmpty() || !tests.stream().allMatch( ColumnIndex::canIndex ) ) {
+                    // the entry of a collection input is satisfied by any of its elements, so it is left to FEEL
+                    unindexed.set( row );
+                } else {
+                    for ( UnaryTest test : tests ) {
+                        index( row, (LiteralUnaryTest) test, byInterval );
+                    }
+                }
+            }
+
+            List<Interval> sorted = new ArrayList<>( byInterval.keySet() );
+            sorted.sort( Comparator.comparing( (Interval interval) -> interval.low, Comparator.nullsFirst( Comparator.naturalOrder() ) ) );
+            this.intervals = sorted.toArray( new Interval[sorted.size()] );
+            this.intervalRules = new BitSet[intervals.length];
+            for ( int i = 0; i < intervals.length; i++ ) {
+                intervalRules[i] = byInterval.get( intervals[i] );
+            }
+        }
+
+        private static List<UnaryTest> getTests(UnaryTest entry) {
+            if ( entry instanceof DTInputEntry ) {
+                return ( (DTInputEntry) entry ).getTests();
+            }
+            return entry != null ? Collections.singletonList( entry ) : null;
+        }
+
+        private static boolean canIndex(UnaryTest test) {
+            if ( !( test instanceof LiteralUnaryTest ) ) {
+                return false;
+            }
+            Object literal = ( (LiteralUnaryTest) test ).getLiteral();
+            switch ( ( (LiteralUnaryTest) test ).getOperator() ) {
+                case EQ:
+                    return literal instanceof String || literal instanceof Boolean || literal instanceof BigDecimal;
+                case IN:
+                    return literal instanceof Range &&
+                           ( (Range) literal ).getLowEndPoint() instanceof BigDecimal &&
+                           ( (Range) literal ).getHighEndPoint() instanceof BigDecimal;
+                default:
+                    return literal instanceof BigDecimal;
+            }
+        }
+
+        private void index(int row, LiteralUnaryTest test, Map<Interval, BitSet> byInterval) {
+            Interval interval;
+            switch ( test.getOperator() ) {
+                case EQ:
+                    equalities.computeIfAbsent( toKey( test.getLiteral() ), k -> new BitSet() ).set( row );
+                    return;
+                case LT:
+                    interval = new Interval( null, false, (BigDecimal) test.getLiteral(), false );
+                    break;
+                case LTE:
+                    interval = new Interval( null, false, (BigDecimal) test.getLiteral(), true );
+                    break;
+                case GT:
+                    interval = new Interval( (BigDecimal) test.getLiteral(), false, null, false );
+                    break;
+                case GTE:
+                    interval = new Interval( (BigDecimal) test.getLiteral(), true, null, false );
+                    break;
+                default:
+                    Range range = (Range) test.getLiteral();
+                    interval = new Interval( (BigDecimal) range.getLowEndPoint(), range.getLowBoundary() == Range.RangeBoundary.CLOSED,
+                                             (BigDecimal) range.getHighEndPoint(), range.getHighBoundary() == Range.RangeBoundary.CLOSED );
+                    hasRanges = true;
+            }
+            byInterval.computeIfAbsent( interval, k -> new BitSet() ).set( row );
+        }
+
+        private boolean isIndexed() {
+            return !equalities.isEmpty() || intervals.length > 0;
+        }
+
+        /**
+         * Removes from the candidates the rules whose entry can't be satisfied by the given input, returning the
+         * remaining candidates whose entry has to be evaluated
+         */
+        private BitSet filter(Object input, BitSet candidates) {
+            if ( !isIndexable( input ) ) {
+                BitSet toEvaluate = (BitSet) candidates.clone();
+                toEvaluate.andNot( wildcards );
+                return toEvaluate;
+            }
+
+            BitSet matching = (BitSet) wildcards.clone();
+            matching.or( unindexed );
+            if ( input != null ) {
+                BitSet equal = equalities.get( toKey( input ) );
+                if ( equal != null ) {
+                    matching.or( equal );
+                }
+                if ( input instanceof BigDecimal ) {
+                    BigDecimal value = (BigDecimal) input;
+                    for ( int i = 0; i < intervals.length && intervals[i].startsBeforeOrAt( value ); i++ ) {
+                        if ( intervals[i].includes( value ) ) {
+                            matching.or( intervalRules[i] );
+                        }
+                    }
+                }
+            }
+            candidates.and( matching );
+
+            BitSet toEvaluate = (BitSet) unindexed.clone();
+            toEvaluate.and( candidates );
+            return toEvaluate;
+        }
+
+        private boolean isIndexable(Object input) {
+            if ( input == null || input instanceof BigDecimal ) {
+                // a null input doesn't satisfy any literal comparison
+                return true;
+            }
+            // a range reports an error when compared with a value of another type, so it is left to FEEL
+            return ( input instanceof String || input instanceof Boolean ) && !hasRanges;
+        }
+
+        private static Object toKey(Object value) {
+            // FEEL numbers are equal when their values are, regardless of the scale
+            return value instanceof BigDecimal ? ( (BigDecimal) value ).stripTrailingZeros() : value;
+        }
+    }
+
+    private static final class Interval {
+
+        private final BigDecimal low;
+        private final boolean lowClosed;
+        private final BigDecimal high;
+        private final boolean highClosed;
+
+        private Interval(BigDecimal low, boolean lowClosed, BigDecimal high, boolean highClosed) {
+            this.low = low != null ? low.stripTrailingZeros() : null;
+            this.lowClosed = lowClosed;
+            this.high = high != null ? high.stripTrailingZeros() : null;
+            this.highClosed = highClosed;
+        }
+
+        private boolean startsBeforeOrAt(BigDecimal value) {
+            return low == null || low.compareTo( value ) <= 0;
+        }
+
+        private boolean includes(BigDecimal value) {
+            if ( low != null ) {
+                int c = low.compareTo( value );
+                if ( c > 0 || ( c == 0 && !lowClosed ) ) {
+                    return false;
+                }
+            }
+            if ( high != null ) {
+                int c = high.compareTo( value );
+                return c > 0 || ( c == 0 && highClosed );
+            }
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if ( this == o ) {
+                return true;
+            }
+            if ( !( o instanceof Interval ) ) {
+                return false;
+            }
+            Interval other = (Interval) o;
+            return lowClosed == other.lowClosed && highClosed == other.highClosed &&
+                   Objects.equals( low, other.low ) && Objects.equals( high, other.high );
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode( new Object[] { low, lowClosed, high, highClosed } );
+        }
+    }
+}
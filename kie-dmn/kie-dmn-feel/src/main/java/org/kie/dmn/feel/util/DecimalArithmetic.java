@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.util;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * The FEEL arithmetic on numbers, with the semantics of {@link MathContext#DECIMAL128}.
+ *
+ * The operands holding at most 18 digits are backed by a scaled long in the {@link BigDecimal}: the exact result
+ * of their sum, difference or product is computed on the longs without any rounding, and it is returned as is when
+ * its precision is within the 34 digits of DECIMAL128, as rounding it would then leave both its value and its scale
+ * unchanged. Only the results requiring more digits are computed again with DECIMAL128.
+ */
+public final class DecimalArithmetic {
+
+    private static final int DECIMAL128_DIGITS = MathContext.DECIMAL128.getPrecision();
+
+    /**
+     * The maximum number of digits of a value backed by a long
+     */
+    private static final int LONG_DIGITS = 18;
+
+    private DecimalArithmetic() {
+        // utility class
+    }
+
+    public static BigDecimal add(BigDecimal left, BigDecimal right) {
+        if ( isAligned( left, right ) ) {
+            BigDecimal result = left.add( right );
+            if ( result.precision() <= DECIMAL128_DIGITS ) {
+                return result;
+            }
+        }
+        return left.add( right, MathContext.DECIMAL128 );
+    }
+
+    public static BigDecimal subtract(BigDecimal left, BigDecimal right) {
+        if ( isAligned( left, right ) ) {
+            BigDecimal result = left.subtract( right );
+            if ( result.precision() <= DECIMAL128_DIGITS ) {
+                return result;
+            }
+        }
+        return left.subtract( right, MathContext.DECIMAL128 );
+    }
+
+    public static BigDecimal multiply(BigDecimal left, BigDecimal right) {
+        if ( left.precision() + right.precision() <= DECIMAL128_DIGITS ) {
+            // the product has at most the sum of the digits of the operands
+            return left.multiply( right );
+        }
+        return left.multiply( right, MathContext.DECIMAL128 );
+    }
+
+    /**
+     * Returns true if the operands fit in a long and their scales are close enough for their exact sum to have
+     * at most a few more digits than DECIMAL128, so that computing it first is always cheap
+     */
+    private static boolean isAligned(BigDecimal left, BigDecimal right) {
+        return left.precision() <= LONG_DIGITS && right.precision() <= LONG_DIGITS
+                && Math.abs( (long) left.scale() - right.scale() ) <= LONG_DIGITS;
+    }
+}
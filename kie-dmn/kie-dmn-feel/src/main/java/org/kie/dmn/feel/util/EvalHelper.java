@@ -159,7 +159,8 @@ public class EvalHelper {
         if ( !BigDecimal.class.isAssignableFrom( value.getClass() ) ) {
             if ( value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte ||
                  value instanceof AtomicLong || value instanceof AtomicInteger ) {
-                value = new BigDecimal( ((Number) value).longValue(), MathContext.DECIMAL128 );
+                // a long never has more digits than DECIMAL128, and the small values are cached
+                value = BigDecimal.valueOf( ((Number) value).longValue() );
             } else if ( value instanceof BigInteger ) {
                 value = new BigDecimal( (BigInteger) value, MathContext.DECIMAL128 );
             } else if ( value instanceof String ) {
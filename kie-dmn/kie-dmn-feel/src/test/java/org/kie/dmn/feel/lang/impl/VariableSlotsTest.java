@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.lang.impl;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.kie.dmn.feel.lang.CompiledExpression;
+import org.kie.dmn.feel.lang.CompilerContext;
+import org.kie.dmn.feel.lang.types.BuiltInType;
+import org.kie.dmn.feel.parser.feel11.profiles.DoCompileFEELProfile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VariableSlotsTest {
+
+    private final FEELImpl feel = new FEELImpl( Collections.singletonList( new DoCompileFEELProfile() ) );
+
+    @Test
+    public void testCompiledExpressionReadsTheSlots() {
+        CompiledExpression expr = compile( "a + 1", "a" );
+        EvaluationContextImpl ctx = feel.newEvaluationContext( Collections.emptySet(), Collections.singletonMap( "a", 1 ), expr );
+        assertThat( ((EvaluationContextImpl) ctx.current()).getSlotValues() ).isSameAs( ctx.getSlotValues() );
+
+        // a frame entered after the global one is not visible to the references resolved to the slots at compile time,
+        // so the lookup by name would return the value shadowing the one of the slot
+        ExecutionFrameImpl shadowing = new ExecutionFrameImpl( ctx.peek() );
+        shadowing.setValue( "a", 10 );
+        ctx.push( shadowing );
+        assertThat( feel.evaluate( expr, ctx ) ).isEqualTo( BigDecimal.valueOf( 2 ) );
+    }
+
+    @Test
+    public void testSlotsOfAnotherExpressionAreNotRead() {
+        CompiledExpression exprA = compile( "a + 1", "a" );
+        CompiledExpression exprB = compile( "b + 1", "b" );
+        Map<String, Object> inputs = new HashMap<>();
+        inputs.put( "a", 1 );
+        inputs.put( "b", 5 );
+        EvaluationContextImpl ctx = feel.newEvaluationContext( Collections.emptySet(), inputs, exprA );
+
+        // the slot of b in its own layout holds a in the one of the context
+        assertThat( feel.evaluate( exprB, ctx ) ).isEqualTo( BigDecimal.valueOf( 6 ) );
+        assertThat( feel.evaluate( exprA, ctx ) ).isEqualTo( BigDecimal.valueOf( 2 ) );
+    }
+
+    @Test
+    public void testAllValuesNormalizeTheNames() {
+        ExecutionFrameImpl frame = new ExecutionFrameImpl( RootExecutionFrame.INSTANCE, VariableSlots.of( Collections.singletonList( "my variable" ) ) );
+        Map<String, Object> values = frame.getAllValues();
+        values.put( "my   variable", 1 );
+        values.put( "other   variable", 2 );
+
+        assertThat( values ).hasSize( 2 ).containsEntry( "my variable", 1 ).containsEntry( "other variable", 2 );
+        assertThat( values.get( "my   variable" ) ).isEqualTo( 1 );
+        assertThat( frame.getValue( "my variable" ) ).isEqualTo( 1 );
+        assertThat( frame.getValue( "other variable" ) ).isEqualTo( 2 );
+        assertThat( frame.getAllValues() ).isSameAs( values );
+    }
+
+    private CompiledExpression compile(String expression, String variable) {
+        CompilerContext ctx = feel.newCompilerContext();
+        ctx.addInputVariableType( variable, BuiltInType.NUMBER );
+        return feel.compile( expression, ctx );
+    }
+}
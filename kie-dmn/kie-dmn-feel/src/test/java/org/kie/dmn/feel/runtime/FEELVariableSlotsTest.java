@@ -0,0 +1,106 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.runtime;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+
+import org.junit.runners.Parameterized;
+import org.kie.dmn.feel.lang.Type;
+import org.kie.dmn.feel.lang.types.BuiltInType;
+
+/**
+ * The references to the input variables are read by slot from the global frame in the compiled expressions,
+ * but the variables entered by the expression must still shadow them.
+ */
+public class FEELVariableSlotsTest
+        extends BaseFEELCompilerTest {
+
+    @Parameterized.Parameters(name = "{4}: {0} ({1} | {2}) = {3}")
+    public static Collection<Object[]> data() {
+        final Object[][] cases = new Object[][] {
+                { "a + b",
+                  new HashMap<String, Type>() {{
+                      put( "a", BuiltInType.NUMBER );
+                      put( "b", BuiltInType.NUMBER );
+                  }},
+                  new HashMap<String, Object>() {{
+                      put( "a", 1 );
+                      put( "b", 2 );
+                  }},
+                  BigDecimal.valueOf( 3 ) },
+
+                { "my   variable * 2",
+                  Collections.singletonMap( "my variable", BuiltInType.NUMBER ),
+                  Collections.singletonMap( "my variable", 21 ),
+                  BigDecimal.valueOf( 42 ) },
+
+                { "a = null",
+                  Collections.singletonMap( "a", BuiltInType.NUMBER ),
+                  Collections.singletonMap( "a", null ),
+                  Boolean.TRUE },
+
+                { "for a in [1, 2] return a + b",
+                  new HashMap<String, Type>() {{
+                      put( "a", BuiltInType.NUMBER );
+                      put( "b", BuiltInType.NUMBER );
+                  }},
+                  new HashMap<String, Object>() {{
+                      put( "a", 10 );
+                      put( "b", 100 );
+                  }},
+                  Arrays.asList( BigDecimal.valueOf( 101 ), BigDecimal.valueOf( 102 ) ) },
+
+                { "{ a : 5, c : a + b }.c",
+                  new HashMap<String, Type>() {{
+                      put( "a", BuiltInType.NUMBER );
+                      put( "b", BuiltInType.NUMBER );
+                  }},
+                  new HashMap<String, Object>() {{
+                      put( "a", 10 );
+                      put( "b", 100 );
+                  }},
+                  BigDecimal.valueOf( 105 ) },
+
+                { "list[a > 1]",
+                  new HashMap<String, Type>() {{
+                      put( "a", BuiltInType.NUMBER );
+                      put( "list", BuiltInType.LIST );
+                  }},
+                  new HashMap<String, Object>() {{
+                      put( "a", 0 );
+                      put( "list", Arrays.asList( Collections.singletonMap( "a", BigDecimal.ONE ), Collections.singletonMap( "a", BigDecimal.valueOf( 2 ) ) ) );
+                  }},
+                  Arrays.asList( Collections.singletonMap( "a", BigDecimal.valueOf( 2 ) ) ) },
+
+                { "{ f : function(a) a * b, r : f(3) }.r",
+                  new HashMap<String, Type>() {{
+                      put( "a", BuiltInType.NUMBER );
+                      put( "b", BuiltInType.NUMBER );
+                  }},
+                  new HashMap<String, Object>() {{
+                      put( "a", 10 );
+                      put( "b", 2 );
+                  }},
+                  BigDecimal.valueOf( 6 ) },
+        };
+        return enrichWith5thParameter(cases);
+    }
+}
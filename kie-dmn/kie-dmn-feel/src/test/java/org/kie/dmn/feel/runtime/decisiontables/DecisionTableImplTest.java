@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.runtime.decisiontables;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.kie.dmn.feel.FEEL;
+import org.kie.dmn.feel.lang.impl.EvaluationContextImpl;
+import org.kie.dmn.feel.lang.impl.FEELImpl;
+import org.kie.dmn.feel.runtime.UnaryTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DecisionTableImplTest {
+
+    private final FEEL feel = FEEL.newInstance();
+
+    @Test
+    public void testIndexedEntries() {
+        DecisionTableImpl dt = createDecisionTable( "< 18", "-", "minor",
+                                                    "[18..65)", "\"gold\",\"silver\"", "premium",
+                                                    "[18..65)", "-", "adult",
+                                                    ">= 65", "not(\"none\")", "senior",
+                                                    "65", "\"gold\"", "gold at 65" );
+
+        assertThat( evaluate( dt, new BigDecimal( "10" ), "gold" ) ).isEqualTo( Arrays.asList( "minor" ) );
+        assertThat( evaluate( dt, new BigDecimal( "18" ), "silver" ) ).isEqualTo( Arrays.asList( "premium", "adult" ) );
+        assertThat( evaluate( dt, new BigDecimal( "18" ), "bronze" ) ).isEqualTo( Arrays.asList( "adult" ) );
+        assertThat( evaluate( dt, new BigDecimal( "65.00" ), "gold" ) ).isEqualTo( Arrays.asList( "senior", "gold at 65" ) );
+        assertThat( evaluate( dt, new BigDecimal( "70" ), "none" ) ).isNull();
+        assertThat( evaluate( dt, null, "gold" ) ).isNull();
+    }
+
+    @Test
+    public void testIndexedEntriesWithoutCompatibleInput() {
+        DecisionTableImpl dt = createDecisionTable( "< 18", "\"gold\"", "minor",
+                                                    ">= 18", "-", "adult" );
+
+        // strings are never less than numbers, and booleans are never equal to strings
+        assertThat( evaluate( dt, "10", "gold" ) ).isNull();
+        assertThat( evaluate( dt, new BigDecimal( "10" ), true ) ).isNull();
+        assertThat( evaluate( dt, new BigDecimal( "20" ), true ) ).isEqualTo( Arrays.asList( "adult" ) );
+    }
+
+    private List<Object> evaluate(DecisionTableImpl dt, Object age, Object category) {
+        Map<String, Object> values = new HashMap<>();
+        values.put( "age", age );
+        values.put( "category", category );
+        EvaluationContextImpl ctx = ( (FEELImpl) feel ).newEvaluationContext( Collections.emptyList(), values );
+        return (List<Object>) dt.evaluate( ctx, new Object[]{age, category} ).getOrElse( null );
+    }
+
+    /**
+     * Creates a RULE ORDER decision table on the inputs age and category, with a row every three cells
+     */
+    private DecisionTableImpl createDecisionTable(String... cells) {
+        List<DTInputClause> inputs = Arrays.asList( new DTInputClause( "age", null, Collections.emptyList(), null, false ),
+                                                    new DTInputClause( "category", null, Collections.emptyList(), null, false ) );
+        List<DTOutputClause> outputs = Collections.singletonList( new DTOutputClause( "result", Collections.emptyList() ) );
+        List<DTDecisionRule> rules = new ArrayList<>();
+        for ( int i = 0; i < cells.length; i += 3 ) {
+            DTDecisionRule rule = new DTDecisionRule( i / 3 );
+            rule.getInputEntry().add( new DTInputEntry( unaryTests( cells[i] ) ) );
+            rule.getInputEntry().add( new DTInputEntry( unaryTests( cells[i + 1] ) ) );
+            rule.getOutputEntry().add( feel.compile( "\"" + cells[i + 2] + "\"", feel.newCompilerContext() ) );
+            rules.add( rule );
+        }
+        return new DecisionTableImpl( "test", Arrays.asList( "age", "category" ), inputs, outputs, rules, HitPolicy.RULE_ORDER, feel );
+    }
+
+    private List<UnaryTest> unaryTests(String text) {
+        return feel.evaluateUnaryTests( text );
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The results must be the same as with DECIMAL128, both in value and in scale.
+ */
+public class DecimalArithmeticTest {
+
+    private static final String[] VALUES = {
+            "0", "0.00", "0E+3", "1", "-1", "10", "0.1", "1.50", "-2.5", "3E+2", "123456789012345678", "-123456789012345678",
+            "9223372036854775807", "-9223372036854775808", "0.000000000000000001", "99999999999999999.9",
+            "1234567890123456789012345678901234", "12345678901234567890123456789012345678", "1E-40", "1E+40",
+            "0.333333333333333333333333333333333", "7E-18", "5E+18"
+    };
+
+    @Test
+    public void testSameAsDecimal128() {
+        List<BigDecimal> values = new ArrayList<>();
+        for ( String value : VALUES ) {
+            values.add( new BigDecimal( value ) );
+        }
+        Random random = new Random( 0 );
+        for ( int i = 0; i < 200; i++ ) {
+            values.add( new BigDecimal( BigInteger.valueOf( random.nextLong() >> random.nextInt( 64 ) ), random.nextInt( 40 ) - 20 ) );
+        }
+
+        for ( BigDecimal l : values ) {
+            for ( BigDecimal r : values ) {
+                assertSame( l.add( r, MathContext.DECIMAL128 ), DecimalArithmetic.add( l, r ) );
+                assertSame( l.subtract( r, MathContext.DECIMAL128 ), DecimalArithmetic.subtract( l, r ) );
+                assertSame( l.multiply( r, MathContext.DECIMAL128 ), DecimalArithmetic.multiply( l, r ) );
+            }
+        }
+    }
+
+    @Test
+    public void testRoundedBeyondDecimal128() {
+        BigDecimal max = BigDecimal.valueOf( Long.MAX_VALUE );
+        assertSame( new BigDecimal( "85070591730234615847396907784232501249" ).round( MathContext.DECIMAL128 ),
+                    DecimalArithmetic.multiply( max, max ) );
+        assertSame( new BigDecimal( "1.000000000000000000000000000000000" ),
+                    DecimalArithmetic.add( BigDecimal.ONE, new BigDecimal( "1E-40" ) ) );
+    }
+
+    private static void assertSame(BigDecimal expected, BigDecimal actual) {
+        // equals() also compares the scale
+        assertEquals( expected, actual );
+    }
+}
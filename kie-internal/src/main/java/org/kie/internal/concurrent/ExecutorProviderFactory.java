@@ -16,16 +16,37 @@
 
 package org.kie.internal.concurrent;
 
+import java.util.ServiceLoader;
+
 import org.kie.api.concurrent.KieExecutors;
 import org.kie.api.internal.utils.KieService;
 
 public class ExecutorProviderFactory {
 
+    /**
+     * System property allowing to select, by its fully qualified class name, one of the available
+     * {@link KieExecutors} implementations instead of the one with the highest priority.
+     */
+    public static final String EXECUTOR_PROVIDER_PROPERTY = "drools.executorProvider";
+
     private static class ExecutorProviderHolder {
-        private static final KieExecutors executorProvider = KieService.load(KieExecutors.class);
+        private static final KieExecutors executorProvider = loadExecutorProvider();
     }
 
     public static KieExecutors getExecutorProvider() {
         return ExecutorProviderHolder.executorProvider;
     }
+
+    private static KieExecutors loadExecutorProvider() {
+        String providerClass = System.getProperty( EXECUTOR_PROVIDER_PROPERTY );
+        if ( providerClass == null ) {
+            return KieService.load(KieExecutors.class);
+        }
+        for ( KieExecutors impl : ServiceLoader.load(KieExecutors.class) ) {
+            if ( impl.getClass().getName().equals( providerClass ) ) {
+                return impl;
+            }
+        }
+        throw new RuntimeException( "Unable to find a KieExecutors implementation of class " + providerClass );
+    }
 }
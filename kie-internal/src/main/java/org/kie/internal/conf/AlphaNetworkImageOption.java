@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.conf;
+
+import org.kie.api.conf.SingleValueKieBaseOption;
+
+/**
+ * An option to define the image file where the classes generated by the in memory alpha
+ * network compiler are stored. When the alpha network of the kbase is the same one of the
+ * run that wrote the image, the stored classes are loaded from it instead of compiling them again.
+ *
+ * drools.alphaNetworkImage = &lt;path of the image file&gt;
+ */
+public class AlphaNetworkImageOption implements SingleValueKieBaseOption {
+
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name for the alpha network image option
+     */
+    public static final String PROPERTY_NAME = "drools.alphaNetworkImage";
+
+    /**
+     * The path of the image file
+     */
+    private final String path;
+
+    /**
+     * Private constructor to enforce the use of the factory method
+     * @param path
+     */
+    private AlphaNetworkImageOption( String path ) {
+        this.path = path;
+    }
+
+    /**
+     * This is a factory method for this Alpha Network Image configuration.
+     *
+     * @param path the path of the image file
+     *
+     * @return the actual type safe Alpha Network Image configuration.
+     */
+    public static AlphaNetworkImageOption get( String path ) {
+        return new AlphaNetworkImageOption( path );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    /**
+     * Returns the path of the image file
+     *
+     * @return
+     */
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public int hashCode() {
+        return path == null ? 0 : path.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj ) { return true; }
+        if ( obj == null ) { return false; }
+        if ( getClass() != obj.getClass() ) { return false; }
+        AlphaNetworkImageOption other = (AlphaNetworkImageOption) obj;
+        return path == null ? other.path == null : path.equals( other.path );
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.conf;
+
+import org.kie.api.conf.SingleValueKieBaseOption;
+
+/**
+ * An Enum for Alpha Node Ordering option.
+ *
+ * drools.alphaNodeOrdering = &lt;pattern|selectivity&gt;
+ *
+ * When building the alpha nodes of a pattern keeps the order in which the constraints
+ * are written in the pattern (default) or moves first the constraints rejecting more facts
+ * according to the {@link AlphaSelectivityProfileOption} recorded by a previous run.
+ *
+ * DEFAULT = pattern
+ */
+public enum AlphaNodeOrderingOption implements SingleValueKieBaseOption {
+
+    PATTERN_ORDER("pattern"),
+    SELECTIVITY("selectivity");
+
+    /**
+     * The property name for the alpha node ordering option
+     */
+    public static final String PROPERTY_NAME = "drools.alphaNodeOrdering";
+
+    private String             string;
+
+    AlphaNodeOrderingOption(String mode) {
+        this.string = mode;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public String getValue() {
+        return string;
+    }
+
+    public String toString() {
+        return "AlphaNodeOrderingOption( "+string+ " )";
+    }
+
+    public String toExternalForm() {
+        return this.string;
+    }
+
+    public static AlphaNodeOrderingOption determineAlphaNodeOrdering(String mode) {
+        if ( PATTERN_ORDER.getValue().equalsIgnoreCase( mode ) ) {
+            return PATTERN_ORDER;
+        } else if ( SELECTIVITY.getValue().equalsIgnoreCase( mode ) ) {
+            return SELECTIVITY;
+        }
+        throw new IllegalArgumentException( "Illegal enum value '" + mode + "' for AlphaNodeOrdering" );
+    }
+
+}
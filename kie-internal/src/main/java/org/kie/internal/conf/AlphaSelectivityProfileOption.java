@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.conf;
+
+import org.kie.api.conf.SingleValueKieBaseOption;
+
+/**
+ * An option to define the file where the number of facts accepted and rejected by each
+ * alpha node are recorded. When this option is set the alpha nodes count the result of the
+ * evaluation of their constraints, and the counts already stored in this file by a previous
+ * run are used to order the alpha nodes when the {@link AlphaNodeOrderingOption} is selectivity.
+ *
+ * drools.alphaSelectivityProfile = &lt;path of the profile file&gt;
+ */
+public class AlphaSelectivityProfileOption implements SingleValueKieBaseOption {
+
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name for the alpha selectivity profile option
+     */
+    public static final String PROPERTY_NAME = "drools.alphaSelectivityProfile";
+
+    /**
+     * The path of the profile file
+     */
+    private final String path;
+
+    /**
+     * Private constructor to enforce the use of the factory method
+     * @param path
+     */
+    private AlphaSelectivityProfileOption( String path ) {
+        this.path = path;
+    }
+
+    /**
+     * This is a factory method for this Alpha Selectivity Profile configuration.
+     *
+     * @param path the path of the profile file
+     *
+     * @return the actual type safe Alpha Selectivity Profile configuration.
+     */
+    public static AlphaSelectivityProfileOption get( String path ) {
+        return new AlphaSelectivityProfileOption( path );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    /**
+     * Returns the path of the profile file
+     *
+     * @return
+     */
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public int hashCode() {
+        return path == null ? 0 : path.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj ) { return true; }
+        if ( obj == null ) { return false; }
+        if ( getClass() != obj.getClass() ) { return false; }
+        AlphaSelectivityProfileOption other = (AlphaSelectivityProfileOption) obj;
+        return path == null ? other.path == null : path.equals( other.path );
+    }
+}
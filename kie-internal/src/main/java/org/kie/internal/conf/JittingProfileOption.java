@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.conf;
+
+import org.kie.api.conf.SingleValueKieBaseOption;
+
+/**
+ * An option to define the file where the constraints jitted by a run are recorded.
+ * The constraints already listed in this file by a previous run are jitted as soon
+ * as they are evaluated for the first time, without waiting for the jitting threshold.
+ *
+ * drools.jittingProfile = &lt;path of the profile file&gt;
+ */
+public class JittingProfileOption implements SingleValueKieBaseOption {
+
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name for the jitting profile option
+     */
+    public static final String PROPERTY_NAME = "drools.jittingProfile";
+
+    /**
+     * The path of the profile file
+     */
+    private final String path;
+
+    /**
+     * Private constructor to enforce the use of the factory method
+     * @param path
+     */
+    private JittingProfileOption( String path ) {
+        this.path = path;
+    }
+
+    /**
+     * This is a factory method for this Jitting Profile configuration.
+     *
+     * @param path the path of the profile file
+     *
+     * @return the actual type safe Jitting Profile configuration.
+     */
+    public static JittingProfileOption get( String path ) {
+        return new JittingProfileOption( path );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    /**
+     * Returns the path of the profile file
+     *
+     * @return
+     */
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public int hashCode() {
+        return path == null ? 0 : path.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj ) { return true; }
+        if ( obj == null ) { return false; }
+        if ( getClass() != obj.getClass() ) { return false; }
+        JittingProfileOption other = (JittingProfileOption) obj;
+        return path == null ? other.path == null : path.equals( other.path );
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.conf;
+
+import org.kie.api.conf.SingleValueKieBaseOption;
+
+/**
+ * An Enum for the evaluator used by the stateless sessions of a sequential kbase.
+ *
+ * drools.sequential.evaluator = &lt;network|direct&gt;
+ *
+ * network: the facts are evaluated through the whole network and the matches are fired from the agenda (default)
+ * direct: when all the rules of the kbase are join free, the facts are only evaluated through the alpha network
+ * and the matching rules are fired directly, in salience order, without staging tuples in the beta network nor
+ * scheduling them on the agenda. Kbases with any rule requiring the full network silently use the network evaluator
+ *
+ * DEFAULT = network
+ */
+public enum SequentialEvaluatorOption implements SingleValueKieBaseOption {
+
+    NETWORK("network"),
+    DIRECT("direct");
+
+    /**
+     * The property name for the sequential evaluator option
+     */
+    public static final String PROPERTY_NAME = "drools.sequential.evaluator";
+
+    private String             string;
+
+    SequentialEvaluatorOption(String mode) {
+        this.string = mode;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public String getValue() {
+        return string;
+    }
+
+    public String toString() {
+        return "SequentialEvaluatorOption( "+string+ " )";
+    }
+
+    public String toExternalForm() {
+        return this.string;
+    }
+
+    public static SequentialEvaluatorOption determineSequentialEvaluator(String mode) {
+        if ( NETWORK.getValue().equalsIgnoreCase( mode ) ) {
+            return NETWORK;
+        } else if ( DIRECT.getValue().equalsIgnoreCase( mode ) ) {
+            return DIRECT;
+        }
+        throw new IllegalArgumentException( "Illegal enum value '" + mode + "' for SequentialEvaluator" );
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.conf;
+
+import org.kie.api.conf.SingleValueKieBaseOption;
+
+/**
+ * A class for the sessions pool stripes configuration.
+ *
+ * drools.sessionsPoolStripes = &lt;1...n&gt;
+ *
+ * The free sessions of a pool are kept in this number of lists, each one preferably used by the threads
+ * hashed to it, so that the threads borrowing and releasing sessions at the same time don't contend the
+ * same list and a thread tends to get back the session it released last.
+ *
+ * DEFAULT = 1
+ */
+public class SessionsPoolStripesOption implements SingleValueKieBaseOption {
+
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name for the sessions pool stripes
+     */
+    public static final String PROPERTY_NAME = "drools.sessionsPoolStripes";
+
+    /**
+     * number of stripes
+     */
+    private final int stripes;
+
+    /**
+     * Private constructor to enforce the use of the factory method
+     * @param stripes
+     */
+    private SessionsPoolStripesOption( int stripes ) {
+        this.stripes = stripes;
+    }
+
+    /**
+     * This is a factory method for this sessions pool stripes configuration.
+     * The factory method is a best practice for the case where the
+     * actual object construction is changed in the future.
+     *
+     * @param stripes the number of free lists of each sessions pool
+     *
+     * @return the actual type safe sessions pool stripes configuration.
+     */
+    public static SessionsPoolStripesOption get( int stripes ) {
+        return new SessionsPoolStripesOption( stripes );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    /**
+     * Returns the number of free lists of each sessions pool
+     *
+     * @return
+     */
+    public int getStripes() {
+        return stripes;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + stripes;
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj ) { return true; }
+        if ( obj == null ) { return false; }
+        if ( getClass() != obj.getClass() ) { return false; }
+        SessionsPoolStripesOption other = (SessionsPoolStripesOption) obj;
+        return stripes == other.stripes;
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.conf;
+
+import org.kie.api.conf.SingleValueKieBaseOption;
+
+/**
+ * An Enum for the sessions pool warm up option.
+ *
+ * drools.sessionsPoolWarmUp = &lt;lazy|sessions|segments&gt;
+ *
+ * lazy: the sessions of a pool are created when the pool for a given session is first used (default)
+ * sessions: the pools of the KieContainer's sessions are filled with their initial size sessions as soon as
+ * the KieContainer's sessions pool is created
+ * segments: as sessions, but the segment memories of the pooled sessions are also created upfront,
+ * so that the first facts inserted into a borrowed session don't pay for their initialization
+ *
+ * DEFAULT = lazy
+ */
+public enum SessionsPoolWarmUpOption implements SingleValueKieBaseOption {
+
+    LAZY("lazy"),
+    SESSIONS("sessions"),
+    SEGMENTS("segments");
+
+    /**
+     * The property name for the sessions pool warm up option
+     */
+    public static final String PROPERTY_NAME = "drools.sessionsPoolWarmUp";
+
+    private String             string;
+
+    SessionsPoolWarmUpOption(String mode) {
+        this.string = mode;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public String getValue() {
+        return string;
+    }
+
+    public boolean isPrewarm() {
+        return this != LAZY;
+    }
+
+    public String toString() {
+        return "SessionsPoolWarmUpOption( "+string+ " )";
+    }
+
+    public String toExternalForm() {
+        return this.string;
+    }
+
+    public static SessionsPoolWarmUpOption determineSessionsPoolWarmUp(String mode) {
+        if ( LAZY.getValue().equalsIgnoreCase( mode ) ) {
+            return LAZY;
+        } else if ( SESSIONS.getValue().equalsIgnoreCase( mode ) ) {
+            return SESSIONS;
+        } else if ( SEGMENTS.getValue().equalsIgnoreCase( mode ) ) {
+            return SEGMENTS;
+        }
+        throw new IllegalArgumentException( "Illegal enum value '" + mode + "' for SessionsPoolWarmUp" );
+    }
+
+}
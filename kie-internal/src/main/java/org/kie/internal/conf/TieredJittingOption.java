@@ -0,0 +1,60 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.conf;
+
+import org.kie.api.conf.SingleValueKieBaseOption;
+
+/**
+ * An Enum for tiered jitting option.
+ *
+ * drools.tieredJitting = &lt;true|false&gt;
+ *
+ * When enabled the constraints reaching the jitting threshold are compiled by a single
+ * dedicated background thread with a bounded queue instead of the shared executor.
+ * When the queue is full the constraint keeps being evaluated in interpreted mode and
+ * is submitted again after another round of evaluations.
+ *
+ * DEFAULT = false
+ */
+public enum TieredJittingOption implements SingleValueKieBaseOption {
+
+    YES(true),
+    NO(false);
+
+    /**
+     * The property name for the tiered jitting option
+     */
+    public static final String PROPERTY_NAME = "drools.tieredJitting";
+
+    private boolean value;
+
+    TieredJittingOption( final boolean value ) {
+        this.value = value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isTieredJitting() {
+        return this.value;
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.runtime.conf;
+
+import org.kie.api.runtime.conf.SingleValueKieSessionOption;
+
+/**
+ * An option to store the fact handles of the entry points of an identity based session in a compact
+ * open addressing array instead of an identity map. It reduces the memory used by very large working
+ * memories, but iterating the facts of a given class requires a full scan of the store.
+ * It has no effect on sessions with equality assert behaviour or on knowledge bases with mutability enabled,
+ * which both need the facts grouped by class.
+ *
+ * drools.compactObjectStore = &lt;true|false&gt;
+ *
+ * DEFAULT = false
+ */
+public enum CompactObjectStoreOption implements SingleValueKieSessionOption {
+
+    YES(true),
+    NO(false);
+
+    /**
+     * The property name for the compact object store configuration
+     */
+    public static final String PROPERTY_NAME = "drools.compactObjectStore";
+
+    private final boolean compactObjectStore;
+
+    CompactObjectStoreOption(final boolean compactObjectStore) {
+        this.compactObjectStore = compactObjectStore;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isCompactObjectStore() {
+        return compactObjectStore;
+    }
+}
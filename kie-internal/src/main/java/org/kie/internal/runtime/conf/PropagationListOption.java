@@ -0,0 +1,78 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.runtime.conf;
+
+import org.kie.api.runtime.conf.SingleValueKieSessionOption;
+
+/**
+ * An enum to configure the queue used by a thread safe session to collect the propagations
+ * (inserts, updates, deletes, ...) coming from threads other than the one firing the rules.
+ *
+ * The "SYNCHRONIZED" list guards every enqueue and drain with a lock. The "LOCK_FREE" list is a
+ * multi-producer/single-consumer queue where producers never block each other and the engine drains
+ * all the pending propagations in one batch. The "LOCK_FREE_SPINNING" variant also makes an idle
+ * fireUntilHalt spin for a short while before parking, reducing the wake up latency of a busy session.
+ *
+ * drools.propagationList = &lt;synchronized|lockfree|lockfree-spinning&gt;
+ *
+ * DEFAULT = synchronized
+ */
+public enum PropagationListOption implements SingleValueKieSessionOption {
+
+    SYNCHRONIZED("synchronized"),
+    LOCK_FREE("lockfree"),
+    LOCK_FREE_SPINNING("lockfree-spinning");
+
+    /**
+     * The property name for the propagation list configuration
+     */
+    public static final String PROPERTY_NAME = "drools.propagationList";
+
+    private final String option;
+
+    PropagationListOption(String option) {
+        this.option = option;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public String getAsString() {
+        return option;
+    }
+
+    public boolean isLockFree() {
+        return this != SYNCHRONIZED;
+    }
+
+    public String toString() {
+        return "PropagationListOption( " + option + " )";
+    }
+
+    public static PropagationListOption determinePropagationListOption(String option) {
+        for (PropagationListOption value : values()) {
+            if ( value.getAsString().equalsIgnoreCase( option ) ) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException( "Illegal enum value '" + option + "' for PropagationListOption" );
+    }
+}